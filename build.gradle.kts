@@ -1,6 +1,8 @@
 plugins {
     id("java-library")
+    id("java-test-fixtures")
     id("maven-publish")
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "biznuvo"
@@ -15,8 +17,33 @@ dependencies {
 
     testImplementation("javax.inject:javax.inject:1")
     testImplementation("org.testng:testng:5.14.10")
+
+    jmhImplementation(testFixtures(project))
+}
+
+// the tests in src/test run against the in-process stub driver of src/testFixtures
+tasks.test {
+    useTestNG()
 }
 
+// the benchmarks in src/jmh run against the in-process stub driver of src/testFixtures: ./gradlew jmh
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    warmup.set("1s")
+    iterations.set(5)
+    timeOnIteration.set("1s")
+    fork.set(1)
+    // the allocations per operation are reported as gc.alloc.rate.norm, see AllocationBenchmark
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+}
+
+// the stub driver of src/testFixtures is not published
+val javaComponent = components["java"] as AdhocComponentWithVariants
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesApiElements"]) { skip() }
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesRuntimeElements"]) { skip() }
+
 publishing {
     repositories {
         maven {
@@ -0,0 +1,121 @@
+package jdbcspy.bench;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jdbcspy.ClientProperties;
+import jdbcspy.proxy.listener.ExecutionListener;
+import jdbcspy.proxy.util.Utils;
+
+/**
+ * The allocations of a steady state executeQuery of an open prepared statement, read with the gc profiler of the jmh
+ * task as gc.alloc.rate.norm in bytes per operation.
+ * <p>
+ * The listeners none runs without execution listeners, default with the execution listeners of the example in
+ * dbinit.xml.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class AllocationBenchmark {
+
+    /**
+     * raw, proxy or wrapper
+     */
+    @Param({ "raw", "proxy", "wrapper" })
+    public String mode;
+    /**
+     * none or default
+     */
+    @Param({ "none", "default" })
+    public String listeners;
+
+    /**
+     * the connection
+     */
+    private ConnectionState mConnection;
+    /**
+     * the statement
+     */
+    private PreparedStatement mStmt;
+    /**
+     * the listeners added to the configured ones
+     */
+    private final List<ExecutionListener> mListeners = new ArrayList<>();
+
+    /**
+     * Add the listeners and prepare the statement.
+     *
+     * @throws SQLException on error
+     */
+    @Setup(Level.Trial)
+    public void open() throws SQLException {
+        if ("default".equals(listeners)) {
+            final ExecutionListener time = ListenerBenchmark.create("jdbcspy.proxy.listener.impl.ExecutionTimeListener", ExecutionListener.class);
+            Utils.setProperty(time, "longExecutionThreshold", "180");
+            final ExecutionListener last = ListenerBenchmark.create("jdbcspy.proxy.listener.impl.ExecutionLastStatementListener", ExecutionListener.class);
+            Utils.setProperty(last, "lastStatementMaxHistory", "3");
+            Utils.setProperty(last, "lastStatementExecutionThreshold", "500");
+
+            mListeners.add(time);
+            mListeners.add(last);
+            mListeners.add(ListenerBenchmark.create("jdbcspy.proxy.listener.impl.ExecutionStatisticListener", ExecutionListener.class));
+            mListeners.add(ListenerBenchmark.create("jdbcspy.proxy.listener.impl.SpecialStatementListener", ExecutionListener.class));
+            ClientProperties.getListener().addAll(mListeners);
+        }
+
+        mConnection = new ConnectionState();
+        mConnection.mode = mode;
+        mConnection.rows = 1;
+        mConnection.columns = 6;
+        mConnection.open();
+
+        mStmt = mConnection.connection.prepareStatement(ConnectionState.SQL);
+        mStmt.setInt(1, 42);
+        mStmt.setString(2, "name");
+    }
+
+    /**
+     * Close everything and remove the listeners.
+     *
+     * @throws SQLException on error
+     */
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        mStmt.close();
+        mConnection.close();
+        ClientProperties.getListener().removeAll(mListeners);
+        mListeners.clear();
+    }
+
+    /**
+     * Execute the prepared statement and read its row.
+     *
+     * @param bh the blackhole
+     * @throws SQLException on error
+     */
+    @Benchmark
+    public void executeQuery(final Blackhole bh) throws SQLException {
+        try (ResultSet rs = mStmt.executeQuery()) {
+            while (rs.next()) {
+                bh.consume(rs.getInt(1));
+            }
+        }
+    }
+}
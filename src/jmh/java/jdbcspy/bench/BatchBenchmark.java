@@ -0,0 +1,40 @@
+package jdbcspy.bench;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A batch of inserts: prepare, bind and add each row, execute the batch and close.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class BatchBenchmark {
+
+    /**
+     * the rows per batch
+     */
+    @Param({ "1", "100" })
+    public int batchSize;
+
+    @Benchmark
+    public int[] executeBatch(final ConnectionState state) throws SQLException {
+        try (PreparedStatement stmt = state.connection.prepareStatement("insert into stub (c1, c2) values (?, ?)")) {
+            for (int i = 0; i < batchSize; i++) {
+                stmt.setInt(1, i);
+                stmt.setString(2, "name");
+                stmt.addBatch();
+            }
+            return stmt.executeBatch();
+        }
+    }
+}
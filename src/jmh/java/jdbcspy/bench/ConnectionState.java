@@ -0,0 +1,74 @@
+package jdbcspy.bench;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import jdbcspy.ClientProperties;
+import jdbcspy.proxy.ConnectionFactory;
+import jdbcspy.stub.StubDriver;
+
+/**
+ * A connection of the stub driver, either used directly or through the proxy.
+ * <p>
+ * The mode raw uses the stub connection, proxy the dynamic proxies and wrapper the delegating wrappers.
+ */
+@State(Scope.Thread)
+public class ConnectionState {
+
+    /**
+     * the sql of the benchmarks
+     */
+    public static final String SQL = "select c1, c2, c3, c4, c5, c6 from stub where c1 = ? and c2 = ?";
+
+    /**
+     * raw, proxy or wrapper
+     */
+    @Param({ "raw", "proxy", "wrapper" })
+    public String mode;
+    /**
+     * the rows of each result set
+     */
+    @Param({ "10" })
+    public int rows;
+    /**
+     * the columns of each result set
+     */
+    @Param({ "6" })
+    public int columns;
+
+    /**
+     * the connection
+     */
+    public Connection connection;
+
+    /**
+     * Open the connection.
+     */
+    @Setup(Level.Trial)
+    public void open() {
+        ClientProperties.setProperty(ClientProperties.Field.DB_DELEGATING_WRAPPERS.getFieldName(), "wrapper".equals(mode));
+        final Connection raw = StubDriver.connect(rows, columns);
+        connection = switch (mode) {
+            case "raw" -> raw;
+            case "proxy", "wrapper" -> new ConnectionFactory().getProxyConnection(raw);
+            default -> throw new IllegalArgumentException("unknown mode " + mode);
+        };
+    }
+
+    /**
+     * Close the connection.
+     *
+     * @throws SQLException on error
+     */
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        connection.close();
+    }
+}
@@ -0,0 +1,78 @@
+package jdbcspy.bench;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The round trip of a query: prepare, bind, execute, iterate over all rows and columns and close; and the same with a
+ * plain statement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExecuteQueryBenchmark {
+
+    /**
+     * Prepare and execute a query and read all values.
+     *
+     * @param state the connection
+     * @param bh    the blackhole
+     * @throws SQLException on error
+     */
+    @Benchmark
+    public void executeQuery(final ConnectionState state, final Blackhole bh) throws SQLException {
+        try (PreparedStatement stmt = state.connection.prepareStatement(ConnectionState.SQL)) {
+            stmt.setInt(1, 42);
+            stmt.setString(2, "name");
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    for (int i = 1; i <= state.columns; i++) {
+                        bh.consume(rs.getObject(i));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Create a plain statement and execute a query and read all values.
+     *
+     * @param state the connection
+     * @param bh    the blackhole
+     * @throws SQLException on error
+     */
+    @Benchmark
+    public void statementQuery(final ConnectionState state, final Blackhole bh) throws SQLException {
+        try (Statement stmt = state.connection.createStatement(); ResultSet rs = stmt.executeQuery("select c1, c2, c3, c4, c5, c6 from stub where c1 = 42")) {
+            while (rs.next()) {
+                for (int i = 1; i <= state.columns; i++) {
+                    bh.consume(rs.getObject(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Execute an update.
+     *
+     * @param state the connection
+     * @return the update count
+     * @throws SQLException on error
+     */
+    @Benchmark
+    public int executeUpdate(final ConnectionState state) throws SQLException {
+        try (PreparedStatement stmt = state.connection.prepareStatement("update stub set c2 = ? where c1 = ?")) {
+            stmt.setString(1, "name");
+            stmt.setInt(2, 42);
+            return stmt.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package jdbcspy.bench;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import jdbcspy.proxy.ConnectionStatistics;
+import jdbcspy.proxy.StatementStatistics;
+import jdbcspy.proxy.listener.CloseEvent;
+import jdbcspy.proxy.listener.ConnectionEvent;
+import jdbcspy.proxy.listener.ConnectionListener;
+import jdbcspy.proxy.listener.ExecutionEvent;
+import jdbcspy.proxy.listener.ExecutionFailedEvent;
+import jdbcspy.proxy.listener.ExecutionFailedListener;
+import jdbcspy.proxy.listener.ExecutionListener;
+
+/**
+ * The built-in listeners in isolation, each one called with the events of an executed proxy statement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ListenerBenchmark {
+
+    /**
+     * Create a listener.
+     *
+     * @param name the class name
+     * @param type the listener type
+     * @param <T>  the listener type
+     * @return the listener
+     */
+    static <T> T create(final String name, final Class<T> type) {
+        try {
+            return type.cast(Class.forName(name).getDeclaredConstructor().newInstance());
+        }
+        catch (final ReflectiveOperationException e) {
+            throw new IllegalArgumentException("cannot create the listener " + name, e);
+        }
+    }
+
+    @Benchmark
+    public void execution(final ExecutionState state) {
+        state.mListener.startExecution(state.mExecutionEvent);
+        state.mListener.endExecution(state.mExecutionEvent);
+    }
+
+    @Benchmark
+    public void closeStatement(final ExecutionState state) {
+        state.mListener.closeStatement(state.mCloseEvent);
+    }
+
+    @Benchmark
+    public void connection(final ConnectionListenerState state) {
+        state.mListener.openConnection(state.mEvent);
+        state.mListener.closeConnection(state.mEvent);
+    }
+
+    @Benchmark
+    public void executionFailed(final FailedState state) {
+        state.mListener.executionFailed(state.mEvent);
+    }
+
+    /**
+     * An executed proxy statement.
+     */
+    @State(Scope.Thread)
+    public static class StatementState {
+
+        /**
+         * the connection
+         */
+        private ConnectionState mConnection;
+        /**
+         * the statement
+         */
+        private PreparedStatement mStmt;
+        /**
+         * the statistics of the statement
+         */
+        StatementStatistics mStatistics;
+
+        /**
+         * Execute the statement.
+         *
+         * @throws SQLException on error
+         */
+        @Setup(Level.Trial)
+        public void open() throws SQLException {
+            mConnection = new ConnectionState();
+            mConnection.mode = "proxy";
+            mConnection.rows = 10;
+            mConnection.columns = 6;
+            mConnection.open();
+
+            mStmt = mConnection.connection.prepareStatement(ConnectionState.SQL);
+            mStmt.setInt(1, 42);
+            mStmt.setString(2, "name");
+            try (ResultSet rs = mStmt.executeQuery()) {
+                while (rs.next()) {
+                    rs.getObject(1);
+                }
+            }
+            mStatistics = (StatementStatistics) mStmt;
+        }
+
+        /**
+         * Close everything.
+         *
+         * @throws SQLException on error
+         */
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            mStmt.close();
+            mConnection.close();
+        }
+
+        /**
+         * Get the statistics of the connection.
+         *
+         * @return the statistics
+         */
+        ConnectionStatistics getConnectionStatistics() {
+            return (ConnectionStatistics) mConnection.connection;
+        }
+    }
+
+    /**
+     * An execution listener.
+     */
+    @State(Scope.Thread)
+    public static class ExecutionState extends StatementState {
+
+        /**
+         * the listener class
+         */
+        @Param({
+                "jdbcspy.proxy.listener.impl.ExecutionStatisticListener",
+                "jdbcspy.proxy.listener.impl.ExecutionTimeListener",
+                "jdbcspy.proxy.listener.impl.ExecutionLastStatementListener",
+                "jdbcspy.proxy.listener.impl.ExecutionRepeatCountListener",
+                "jdbcspy.proxy.listener.impl.ExecutionResourceListener",
+                "jdbcspy.proxy.listener.impl.SpecialStatementListener"
+        })
+        public String listener;
+
+        /**
+         * the listener
+         */
+        ExecutionListener mListener;
+        /**
+         * the execution event
+         */
+        ExecutionEvent mExecutionEvent;
+        /**
+         * the close event
+         */
+        CloseEvent mCloseEvent;
+
+        /**
+         * Create the listener and the events.
+         */
+        @Setup(Level.Trial)
+        public void create() {
+            mListener = ListenerBenchmark.create(listener, ExecutionListener.class);
+            mExecutionEvent = new ExecutionEvent(mStatistics);
+            mCloseEvent = new CloseEvent(mStatistics);
+        }
+    }
+
+    /**
+     * A connection listener.
+     */
+    @State(Scope.Thread)
+    public static class ConnectionListenerState extends StatementState {
+
+        /**
+         * the listener class
+         */
+        @Param({
+                "jdbcspy.proxy.listener.impl.ConnectionStatisticListener",
+                "jdbcspy.proxy.listener.impl.ConnectionDumpListener"
+        })
+        public String listener;
+
+        /**
+         * the listener
+         */
+        ConnectionListener mListener;
+        /**
+         * the connection event
+         */
+        ConnectionEvent mEvent;
+
+        /**
+         * Create the listener and the event.
+         */
+        @Setup(Level.Trial)
+        public void create() {
+            mListener = ListenerBenchmark.create(listener, ConnectionListener.class);
+            mEvent = new ConnectionEvent(getConnectionStatistics());
+        }
+    }
+
+    /**
+     * A failed execution listener.
+     */
+    @State(Scope.Thread)
+    public static class FailedState extends StatementState {
+
+        /**
+         * the listener class
+         */
+        @Param({ "jdbcspy.proxy.listener.impl.ExecutionFailedHistoryListener" })
+        public String listener;
+
+        /**
+         * the listener
+         */
+        ExecutionFailedListener mListener;
+        /**
+         * the failed event
+         */
+        ExecutionFailedEvent mEvent;
+
+        /**
+         * Create the listener and the event.
+         */
+        @Setup(Level.Trial)
+        public void create() {
+            mListener = ListenerBenchmark.create(listener, ExecutionFailedListener.class);
+            mEvent = new ExecutionFailedEvent(mStatistics, new SQLException("deadlock detected", "40001"));
+        }
+    }
+}
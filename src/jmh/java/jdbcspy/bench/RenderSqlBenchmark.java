@@ -0,0 +1,109 @@
+package jdbcspy.bench;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import jdbcspy.proxy.StatementStatistics;
+import jdbcspy.proxy.handler.PreparedStatementInvocationHandler;
+
+/**
+ * The rendering of a prepared statement with its bind values by {@link PreparedStatementInvocationHandler#getSQL}.
+ * The rendered sql is cached until a parameter changes, so render binds a new value before each call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RenderSqlBenchmark {
+
+    /**
+     * proxy or wrapper
+     */
+    @Param({ "proxy", "wrapper" })
+    public String mode;
+    /**
+     * the number of placeholders
+     */
+    @Param({ "2", "20" })
+    public int parameters;
+
+    /**
+     * the connection
+     */
+    private ConnectionState mConnection;
+    /**
+     * the statement
+     */
+    private PreparedStatement mStmt;
+    /**
+     * the statistics of the statement
+     */
+    private StatementStatistics mStatistics;
+    /**
+     * the value of the next bind
+     */
+    private int mValue;
+
+    /**
+     * Prepare the statement and bind all parameters.
+     *
+     * @throws SQLException on error
+     */
+    @Setup(Level.Trial)
+    public void open() throws SQLException {
+        mConnection = new ConnectionState();
+        mConnection.mode = mode;
+        mConnection.rows = 1;
+        mConnection.columns = 1;
+        mConnection.open();
+
+        final StringBuilder sql = new StringBuilder("select c1 from stub where c1 in (?");
+        for (int i = 1; i < parameters; i++) {
+            sql.append(", ?");
+        }
+        sql.append(")");
+        mStmt = mConnection.connection.prepareStatement(sql.toString());
+        for (int i = 1; i <= parameters; i++) {
+            mStmt.setString(i, "value" + i);
+        }
+        mStatistics = (StatementStatistics) mStmt;
+    }
+
+    /**
+     * Close everything.
+     *
+     * @throws SQLException on error
+     */
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        mStmt.close();
+        mConnection.close();
+    }
+
+    @Benchmark
+    public String render() throws SQLException {
+        mStmt.setInt(1, mValue++);
+        return mStatistics.getSQL();
+    }
+
+    @Benchmark
+    public String renderCached() {
+        return mStatistics.getSQL();
+    }
+
+    @Benchmark
+    public void bind() throws SQLException {
+        mStmt.setInt(1, mValue++);
+    }
+}
@@ -0,0 +1,117 @@
+package jdbcspy.bench;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The cost of reading a single column of a result set positioned on a row and of moving to the next row.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ResultSetBenchmark {
+
+    /**
+     * raw, proxy or wrapper
+     */
+    @Param({ "raw", "proxy", "wrapper" })
+    public String mode;
+
+    /**
+     * the connection
+     */
+    private ConnectionState mConnection;
+    /**
+     * the statement
+     */
+    private PreparedStatement mStmt;
+    /**
+     * the result set positioned on the first row
+     */
+    private ResultSet mResultSet;
+
+    /**
+     * Open a result set with enough rows for a whole trial.
+     *
+     * @throws SQLException on error
+     */
+    @Setup(Level.Trial)
+    public void open() throws SQLException {
+        mConnection = new ConnectionState();
+        mConnection.mode = mode;
+        mConnection.rows = Integer.MAX_VALUE;
+        mConnection.columns = 6;
+        mConnection.open();
+
+        mStmt = mConnection.connection.prepareStatement(ConnectionState.SQL);
+        mResultSet = mStmt.executeQuery();
+        mResultSet.next();
+    }
+
+    /**
+     * Close everything.
+     *
+     * @throws SQLException on error
+     */
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        mResultSet.close();
+        mStmt.close();
+        mConnection.close();
+    }
+
+    @Benchmark
+    public int getInt() throws SQLException {
+        return mResultSet.getInt(1);
+    }
+
+    @Benchmark
+    public String getString() throws SQLException {
+        return mResultSet.getString(2);
+    }
+
+    @Benchmark
+    public String getStringByLabel() throws SQLException {
+        return mResultSet.getString("C2");
+    }
+
+    @Benchmark
+    public long getLong() throws SQLException {
+        return mResultSet.getLong(3);
+    }
+
+    @Benchmark
+    public BigDecimal getBigDecimal() throws SQLException {
+        return mResultSet.getBigDecimal(4);
+    }
+
+    @Benchmark
+    public Timestamp getTimestamp() throws SQLException {
+        return mResultSet.getTimestamp(5);
+    }
+
+    @Benchmark
+    public Object getObject() throws SQLException {
+        return mResultSet.getObject(6);
+    }
+
+    @Benchmark
+    public boolean next() throws SQLException {
+        return mResultSet.next();
+    }
+}
@@ -0,0 +1,53 @@
+package jdbcspy.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import jdbcspy.ClientProperties;
+import jdbcspy.proxy.util.Utils;
+
+/**
+ * The capture of the call site with {@link Utils#getExecClass}, called below a stack of the given depth.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class UtilsBenchmark {
+
+    /**
+     * the TraceDepth
+     */
+    @Param({ "1", "3", "10" })
+    public int traceDepth;
+    /**
+     * the additional frames above the call
+     */
+    @Param({ "0", "50" })
+    public int stackDepth;
+
+    /**
+     * Set the trace depth.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        ClientProperties.setProperty(ClientProperties.Field.DB_TRACE_DEPTH.getFieldName(), traceDepth);
+    }
+
+    @Benchmark
+    public String getExecClass() {
+        return call(stackDepth);
+    }
+
+    private String call(final int depth) {
+        return depth == 0 ? Utils.getExecClass(this) : call(depth - 1);
+    }
+}
@@ -0,0 +1,94 @@
+package jdbcspy.proxy.handler;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import jdbcspy.stub.StubConfig;
+import jdbcspy.stub.StubDriver;
+
+/**
+ * The delegation of an interface method to the underlying statement through {@link MethodInvoker#invoke} compared to
+ * {@link Method#invoke} with the unwrapping of the {@link InvocationTargetException}, on success and when the driver
+ * throws a {@link SQLException}. It lives in the package of the invoker, which is package private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MethodInvokerBenchmark {
+
+    /**
+     * does every execution of the driver fail
+     */
+    @Param({ "false", "true" })
+    public boolean fail;
+
+    /**
+     * the interface method
+     */
+    private Method mMethod;
+    /**
+     * the underlying statement
+     */
+    private PreparedStatement uStatement;
+
+    /**
+     * Resolve the method and prepare the statement.
+     *
+     * @throws Throwable on error
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Throwable {
+        mMethod = PreparedStatement.class.getMethod("executeUpdate");
+        uStatement = StubDriver.connect(StubConfig.parse(fail ? "failEvery=1" : "", null)).prepareStatement("update stub set c1 = ?");
+        // resolve the method handle outside the measurement
+        methodInvoker();
+    }
+
+    /**
+     * Call through Method.invoke and unwrap the exception of the driver as the handlers did before.
+     *
+     * @return the update count or the exception
+     * @throws Throwable on an unexpected error
+     */
+    @Benchmark
+    public Object reflection() throws Throwable {
+        try {
+            return mMethod.invoke(uStatement, (Object[]) null);
+        }
+        catch (final InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException) {
+                return e.getCause();
+            }
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Call through the cached method handle, the exception of the driver arrives unwrapped.
+     *
+     * @return the update count or the exception
+     * @throws Throwable on an unexpected error
+     */
+    @Benchmark
+    public Object methodInvoker() throws Throwable {
+        try {
+            return MethodInvoker.invoke(mMethod, uStatement, null);
+        }
+        catch (final SQLException e) {
+            return e;
+        }
+    }
+}
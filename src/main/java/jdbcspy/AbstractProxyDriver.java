@@ -156,6 +156,10 @@ public class AbstractProxyDriver implements Driver {
 
     @Override
     public Connection connect(final String url, final Properties info) throws SQLException {
+        if (!acceptsURL(url)) {
+            // the url of another driver
+            return null;
+        }
         final Connection c = uDriver.connect(url.substring(6), info);
         return connFac.getProxyConnection(c);
     }
@@ -5,6 +5,7 @@ import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,9 +19,11 @@ import org.apache.logging.log4j.Logger;
 import org.xml.sax.Attributes;
 import org.xml.sax.helpers.DefaultHandler;
 
+import jdbcspy.proxy.listener.AsyncExecutionListener;
 import jdbcspy.proxy.listener.ConnectionListener;
 import jdbcspy.proxy.listener.ExecutionFailedListener;
 import jdbcspy.proxy.listener.ExecutionListener;
+import jdbcspy.proxy.util.PatternRegistry;
 import jdbcspy.proxy.util.Utils;
 
 /**
@@ -65,16 +68,28 @@ public final class ClientProperties {
     /**
      * the instance
      */
-    private static ClientProperties instance;
+    private static volatile ClientProperties instance;
+    /**
+     * the instance while it is initialized, only accessed while holding the class lock
+     */
+    private static ClientProperties initializing;
 
     /**
-     * the values
+     * the values, only changed while holding the class lock
      */
     private final Map<String, Object> values;
+    /**
+     * the published snapshot of the values
+     */
+    private volatile Snapshot mSnapshot;
     /**
      * the listener list
      */
     private final List<ExecutionListener> mListener = new ArrayList<>();
+    /**
+     * the listeners called by the statements, created at first use
+     */
+    private volatile List<ExecutionListener> mDispatchListener;
     /**
      * the listener list
      */
@@ -204,20 +219,47 @@ public final class ClientProperties {
             throw new IllegalStateException("something's wrong here with dbinit.xml");
         }
 
+        publish();
         mTrace.info("initialized {}", values);
     }
 
     /**
-     * Get the instance.
+     * Get the instance. It is published only after dbproxy.xml and the system properties are applied.
      *
      * @return instance
      */
     private static ClientProperties getInstance() {
-        if (instance == null) {
-            instance = new ClientProperties();
-            instance.init();
+        ClientProperties p = instance;
+        if (p == null) {
+            synchronized (ClientProperties.class) {
+                p = instance;
+                if (p == null) {
+                    // a listener created by init calls back on the initializing thread
+                    p = initializing;
+                }
+                if (p == null) {
+                    p = new ClientProperties();
+                    initializing = p;
+                    try {
+                        p.init();
+                    }
+                    finally {
+                        initializing = null;
+                    }
+                    instance = p;
+                }
+            }
         }
-        return instance;
+        return p;
+    }
+
+    /**
+     * Get the current configuration snapshot. The snapshot never changes, a changed property publishes a new one.
+     *
+     * @return the snapshot
+     */
+    public static Snapshot snapshot() {
+        return getInstance().mSnapshot;
     }
 
     /**
@@ -227,7 +269,7 @@ public final class ClientProperties {
      * @return the value
      */
     public static Object getProperty(final String flag) {
-        return getInstance().values.get(flag);
+        return snapshot().mValues.get(flag);
     }
 
     /**
@@ -276,7 +318,7 @@ public final class ClientProperties {
      * @return boolean
      */
     public static boolean isInitiallyEnabled() {
-        return (Boolean) getInstance().values.get(Field.DB_ENABLE_PROXY_INITIALLY.getFieldName());
+        return snapshot().isEnableProxyInitially();
     }
 
     /**
@@ -290,45 +332,94 @@ public final class ClientProperties {
             if (!mBoolValues.contains(property)) {
                 throw new IllegalArgumentException("the boolean property " + property + " does not exist.");
             }
-            getInstance().values.put(property, value);
+            put(property, value);
             return;
         }
         if (value instanceof Long) {
             if (!mLongValues.contains(property)) {
                 throw new IllegalArgumentException("the long property " + property + " does not exist.");
             }
-            getInstance().values.put(property, value);
+            put(property, value);
             return;
         }
         if (value instanceof Integer) {
             if (!mIntValues.contains(property)) {
                 throw new IllegalArgumentException("the int property " + property + " does not exist.");
             }
-            getInstance().values.put(property, value);
+            put(property, value);
             return;
         }
         if (value instanceof String) {
             if (!mStringValues.contains(property)) {
                 throw new IllegalArgumentException("the string property " + property + " does not exist.");
             }
-            getInstance().values.put(property, value);
+            put(property, value);
             return;
         }
         if (value instanceof List) {
             if (!mListValues.contains(property)) {
                 throw new IllegalArgumentException("the list property " + property + " does not exist.");
             }
-            getInstance().values.put(property, value);
+            put(property, value);
             return;
         }
 
         throw new IllegalArgumentException("the argument " + value + " is illegal");
     }
 
+    /**
+     * Change a value and publish a new snapshot.
+     *
+     * @param property the property name
+     * @param value    the value
+     */
+    private static void put(final String property, final Object value) {
+        final ClientProperties p = getInstance();
+        synchronized (ClientProperties.class) {
+            p.values.put(property, value);
+            p.publish();
+        }
+        PatternRegistry.invalidate(property);
+    }
+
+    /**
+     * Publish a snapshot of the current values.
+     */
+    private void publish() {
+        mSnapshot = new Snapshot(values);
+    }
+
     public static List<ExecutionListener> getListener() {
         return getInstance().mListener;
     }
 
+    /**
+     * Get the listeners to be called by the statements. If AsyncListenerDispatch is enabled, this is a single listener
+     * dispatching the events to the configured listeners on a separate thread.
+     *
+     * @return the listeners
+     */
+    public static List<ExecutionListener> getDispatchListener() {
+        final ClientProperties p = getInstance();
+        List<ExecutionListener> listener = p.mDispatchListener;
+        if (listener == null) {
+            synchronized (ClientProperties.class) {
+                listener = p.mDispatchListener;
+                if (listener == null) {
+                    if (Field.DB_ASYNC_LISTENER_DISPATCH.getBooleanValue() && !p.mListener.isEmpty()) {
+                        final boolean block = "block".equalsIgnoreCase(Field.DB_ASYNC_LISTENER_OVERFLOW_POLICY.getStringValue());
+                        listener = List.of(new AsyncExecutionListener(p.mListener, Field.DB_ASYNC_LISTENER_BUFFER_SIZE.getIntValue(), block));
+                    }
+                    else {
+                        listener = p.mListener;
+                    }
+                    p.mDispatchListener = listener;
+                }
+            }
+        }
+        return listener;
+    }
+
     public static List<ExecutionFailedListener> getFailedListener() {
         return getInstance().mFailedListener;
     }
@@ -383,6 +474,7 @@ public final class ClientProperties {
         }
 
         readSystemProperties();
+        publish();
     }
 
     /**
@@ -390,7 +482,7 @@ public final class ClientProperties {
      */
     @Override
     public String toString() {
-        return values.toString();
+        return mSnapshot.toString();
     }
 
     private void readSystemProperties() {
@@ -436,6 +528,297 @@ public final class ClientProperties {
         }
     }
 
+    /**
+     * An immutable snapshot of the configuration. The values read on every statement, row or column are kept in
+     * primitive fields.
+     */
+    public static final class Snapshot {
+
+        /**
+         * all values
+         */
+        private final Map<String, Object> mValues;
+        /**
+         * enable the proxy
+         */
+        private final boolean mEnableProxyInitially;
+        /**
+         * throw warnings
+         */
+        private final boolean mThrowWarnings;
+        /**
+         * the threshold for the next method in ms
+         */
+        private final long mResultSetNextTimeThreshold;
+        /**
+         * time about every nth next call
+         */
+        private final int mResultSetNextSampleRate;
+        /**
+         * the threshold for the resultset iteration in ms
+         */
+        private final long mResultSetTotalTimeThreshold;
+        /**
+         * the size threshold for the resultset iteration
+         */
+        private final long mResultSetTotalSizeThreshold;
+        /**
+         * the threshold for the statement execution in ms
+         */
+        private final long mStmtExecuteTimeThreshold;
+        /**
+         * the threshold for the statement in ms
+         */
+        private final long mStmtTotalTimeThreshold;
+        /**
+         * the size threshold for the statement
+         */
+        private final long mStmtTotalSizeThreshold;
+        /**
+         * the threshold for the connection in ms
+         */
+        private final long mConnTotalTimeThreshold;
+        /**
+         * the size threshold for the connection
+         */
+        private final long mConnTotalSizeThreshold;
+        /**
+         * maximum number of characters to be displayed of sql string
+         */
+        private final int mDisplaySqlStringMaxlen;
+        /**
+         * remove hints
+         */
+        private final boolean mRemoveHints;
+        /**
+         * ignore not closed objects
+         */
+        private final boolean mIgnoreNotClosedObjects;
+        /**
+         * enable size evaluation
+         */
+        private final boolean mEnableSizeEvaluation;
+        /**
+         * use the delegating wrapper classes
+         */
+        private final boolean mDelegatingWrappers;
+        /**
+         * the trace depth
+         */
+        private final int mTraceDepth;
+        /**
+         * verbose
+         */
+        private final boolean mVerbose;
+        /**
+         * trace about one in n executions
+         */
+        private final int mStmtSampleRate;
+        /**
+         * apply the sample rate per statement fingerprint
+         */
+        private final boolean mStmtSampleByFingerprint;
+        /**
+         * trace unsampled executions above the execute threshold
+         */
+        private final boolean mStmtSampleOverThreshold;
+        /**
+         * measure the time and memory spent in the proxy
+         */
+        private final boolean mMeasureOverhead;
+        /**
+         * the overhead budget in percent of the execution time
+         */
+        private final long mOverheadBudgetPercent;
+        /**
+         * the overhead budget per execution in us
+         */
+        private final long mOverheadBudgetMicros;
+        /**
+         * StmtDebugClassExp or StmtDebugSQLExp contain an expression
+         */
+        private final boolean mTraceStatements;
+        /**
+         * register the resources with the resource monitor
+         */
+        private final boolean mLeakDetection;
+        /**
+         * mark the call sites opening statements and result sets
+         */
+        private final boolean mCaptureOpenSite;
+
+        private Snapshot(final Map<String, Object> values) {
+            mValues = Collections.unmodifiableMap(new LinkedHashMap<>(values));
+            mEnableProxyInitially = booleanValue(Field.DB_ENABLE_PROXY_INITIALLY);
+            mThrowWarnings = booleanValue(Field.DB_THROW_WARNINGS);
+            mResultSetNextTimeThreshold = longValue(Field.DB_RESULTSET_NEXT_TIME_THRESHOLD);
+            mResultSetNextSampleRate = (int) longValue(Field.DB_RESULTSET_NEXT_SAMPLE_RATE);
+            mResultSetTotalTimeThreshold = longValue(Field.DB_RESULTSET_TOTAL_TIME_THRESHOLD);
+            mResultSetTotalSizeThreshold = longValue(Field.DB_RESULTSET_TOTAL_SIZE_THRESHOLD);
+            mStmtExecuteTimeThreshold = longValue(Field.DB_STMT_EXECUTE_TIME_THRESHOLD);
+            mStmtTotalTimeThreshold = longValue(Field.DB_STMT_TOTAL_TIME_THRESHOLD);
+            mStmtTotalSizeThreshold = longValue(Field.DB_STMT_TOTAL_SIZE_THRESHOLD);
+            mConnTotalTimeThreshold = longValue(Field.DB_CONN_TOTAL_TIME_THRESHOLD);
+            mConnTotalSizeThreshold = longValue(Field.DB_CONN_TOTAL_SIZE_THRESHOLD);
+            mDisplaySqlStringMaxlen = (int) longValue(Field.DB_DISPLAY_SQL_STRING_MAXLEN);
+            mRemoveHints = booleanValue(Field.DB_REMOVE_HINTS);
+            mIgnoreNotClosedObjects = booleanValue(Field.DB_IGNORE_NOT_CLOSED_OBJECTS);
+            mEnableSizeEvaluation = booleanValue(Field.DB_ENABLE_SIZE_EVALUATION);
+            mDelegatingWrappers = booleanValue(Field.DB_DELEGATING_WRAPPERS);
+            mTraceDepth = (int) longValue(Field.DB_TRACE_DEPTH);
+            mVerbose = booleanValue(Field.VERBOSE);
+            mStmtSampleRate = (int) longValue(Field.DB_STMT_SAMPLE_RATE);
+            mStmtSampleByFingerprint = booleanValue(Field.DB_STMT_SAMPLE_BY_FINGERPRINT);
+            mStmtSampleOverThreshold = booleanValue(Field.DB_STMT_SAMPLE_OVER_THRESHOLD);
+            mOverheadBudgetPercent = longValue(Field.DB_OVERHEAD_BUDGET_PERCENT);
+            mOverheadBudgetMicros = longValue(Field.DB_OVERHEAD_BUDGET_MICROS);
+            // the governor needs the measurements
+            mMeasureOverhead = booleanValue(Field.DB_MEASURE_OVERHEAD) || mOverheadBudgetPercent > 0 || mOverheadBudgetMicros > 0;
+            mTraceStatements = hasExpression(Field.DB_STMT_DEBUG_CLASS_EXP) || hasExpression(Field.DB_STMT_DEBUG_SQL_EXP);
+            mLeakDetection = booleanValue(Field.DB_LEAK_DETECTION);
+            // the leak reports and the not closed warnings name the open site
+            mCaptureOpenSite = mLeakDetection || !mIgnoreNotClosedObjects;
+        }
+
+        private long longValue(final Field field) {
+            final Object value = mValues.get(field.getFieldName());
+            return value instanceof Number ? ((Number) value).longValue() : 0;
+        }
+
+        private boolean booleanValue(final Field field) {
+            return Boolean.TRUE.equals(mValues.get(field.getFieldName()));
+        }
+
+        private boolean hasExpression(final Field field) {
+            final Object value = mValues.get(field.getFieldName());
+            if (value instanceof List) {
+                for (final Object o : (List<?>) value) {
+                    if (o != null && !o.toString().isBlank()) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return value != null && !value.toString().isBlank();
+        }
+
+        public boolean isEnableProxyInitially() {
+            return mEnableProxyInitially;
+        }
+
+        public boolean isThrowWarnings() {
+            return mThrowWarnings;
+        }
+
+        public long getResultSetNextTimeThreshold() {
+            return mResultSetNextTimeThreshold;
+        }
+
+        public int getResultSetNextSampleRate() {
+            return mResultSetNextSampleRate;
+        }
+
+        public long getResultSetTotalTimeThreshold() {
+            return mResultSetTotalTimeThreshold;
+        }
+
+        public long getResultSetTotalSizeThreshold() {
+            return mResultSetTotalSizeThreshold;
+        }
+
+        public long getStmtExecuteTimeThreshold() {
+            return mStmtExecuteTimeThreshold;
+        }
+
+        public long getStmtTotalTimeThreshold() {
+            return mStmtTotalTimeThreshold;
+        }
+
+        public long getStmtTotalSizeThreshold() {
+            return mStmtTotalSizeThreshold;
+        }
+
+        public long getConnTotalTimeThreshold() {
+            return mConnTotalTimeThreshold;
+        }
+
+        public long getConnTotalSizeThreshold() {
+            return mConnTotalSizeThreshold;
+        }
+
+        public int getDisplaySqlStringMaxlen() {
+            return mDisplaySqlStringMaxlen;
+        }
+
+        public boolean isRemoveHints() {
+            return mRemoveHints;
+        }
+
+        public boolean isIgnoreNotClosedObjects() {
+            return mIgnoreNotClosedObjects;
+        }
+
+        public boolean isEnableSizeEvaluation() {
+            return mEnableSizeEvaluation;
+        }
+
+        public boolean isDelegatingWrappers() {
+            return mDelegatingWrappers;
+        }
+
+        public int getTraceDepth() {
+            return mTraceDepth;
+        }
+
+        public boolean isVerbose() {
+            return mVerbose;
+        }
+
+        public int getStmtSampleRate() {
+            return mStmtSampleRate;
+        }
+
+        public boolean isStmtSampleByFingerprint() {
+            return mStmtSampleByFingerprint;
+        }
+
+        public boolean isStmtSampleOverThreshold() {
+            return mStmtSampleOverThreshold;
+        }
+
+        public boolean isMeasureOverhead() {
+            return mMeasureOverhead;
+        }
+
+        public long getOverheadBudgetPercent() {
+            return mOverheadBudgetPercent;
+        }
+
+        public long getOverheadBudgetMicros() {
+            return mOverheadBudgetMicros;
+        }
+
+        public boolean isTraceStatements() {
+            return mTraceStatements;
+        }
+
+        public boolean isLeakDetection() {
+            return mLeakDetection;
+        }
+
+        public boolean isCaptureOpenSite() {
+            return mCaptureOpenSite;
+        }
+
+        /**
+         * @see java.lang.Object
+         */
+        @Override
+        public String toString() {
+            return mValues.toString();
+        }
+    }
+
     public enum Field {
         /**
          * enable the proxy
@@ -456,11 +839,16 @@ public final class ClientProperties {
         DB_ORACLE_DRIVER_CLASS("Oracle_DriverClass", String.class),
         DB_POSTGRESQL_DRIVER_CLASS("PostgreSql_DriverClass", String.class),
         DB_REDSHIFT_DRIVER_CLASS("Redshift_DriverClass", String.class),
+        DB_STUB_DRIVER_CLASS("Stub_DriverClass", String.class),
 
         /**
          * the threshold for the next method
          */
         DB_RESULTSET_NEXT_TIME_THRESHOLD("ResultSetNextTimeThreshold", Long.class),
+        /**
+         * time about every nth next call, 1 times every call
+         */
+        DB_RESULTSET_NEXT_SAMPLE_RATE("ResultSetNextSampleRate", Integer.class),
         /**
          * the threshold for the resultset iteration
          */
@@ -474,6 +862,18 @@ public final class ClientProperties {
         DB_STMT_TOTAL_SIZE_THRESHOLD("StmtTotalSizeThreshold", Long.class),
         DB_CONN_TOTAL_TIME_THRESHOLD("ConnTotalTimeThreshold", Long.class),
         DB_CONN_TOTAL_SIZE_THRESHOLD("ConnTotalSizeThreshold", Long.class),
+        /**
+         * trace about one in n statement executions, 1 traces all
+         */
+        DB_STMT_SAMPLE_RATE("StmtSampleRate", Integer.class),
+        /**
+         * trace the first and then every nth execution of each statement fingerprint instead of random executions
+         */
+        DB_STMT_SAMPLE_BY_FINGERPRINT("StmtSampleByFingerprint", Boolean.class),
+        /**
+         * trace unsampled executions that exceed StmtExecuteTimeThreshold
+         */
+        DB_STMT_SAMPLE_OVER_THRESHOLD("StmtSampleOverThreshold", Boolean.class),
         /**
          * maximum number of characters to be displayed of sql string
          */
@@ -490,6 +890,10 @@ public final class ClientProperties {
          * enable size evaluation
          */
         DB_ENABLE_SIZE_EVALUATION("EnableSizeEvaluation", Boolean.class),
+        /**
+         * use the delegating wrapper classes instead of the reflective proxies
+         */
+        DB_DELEGATING_WRAPPERS("DelegatingWrappers", Boolean.class),
 
         /**
          * debug beans
@@ -523,9 +927,61 @@ public final class ClientProperties {
          */
         DB_DUMP_INTERVAL("DumpInterval", Long.class),
 
+        /**
+         * register the connections, statements and result sets with the resource monitor, which reports the leaked ones
+         * and the ones open longer than their MonitorXxxTimeThreshold
+         */
+        DB_LEAK_DETECTION("LeakDetection", Boolean.class),
         DB_MONITOR_RESULTSET_TIME_THRESHOLD("MonitorResultSetTimeThreshold", Long.class),
         DB_MONITOR_RESULTSET_FREQUENCY("MonitorResultSetFrequency", Long.class),
         DB_MONITOR_RESULTSET_LEAK_LOG_ALWAYS("MonitorResultSetLeakLogAlways", Boolean.class),
+        /**
+         * report statements open longer than this threshold in ms, 0 disables the report
+         */
+        DB_MONITOR_STATEMENT_TIME_THRESHOLD("MonitorStatementTimeThreshold", Long.class),
+        /**
+         * report connections open longer than this threshold in ms, 0 disables the report
+         */
+        DB_MONITOR_CONNECTION_TIME_THRESHOLD("MonitorConnectionTimeThreshold", Long.class),
+
+        /**
+         * measure the time and memory spent in the proxy, reported in the statistics dump
+         */
+        DB_MEASURE_OVERHEAD("MeasureOverhead", Boolean.class),
+        /**
+         * reduce the instrumentation if the overhead exceeds this percentage of the execution time, 0 disables the budget
+         */
+        DB_OVERHEAD_BUDGET_PERCENT("OverheadBudgetPercent", Integer.class),
+        /**
+         * reduce the instrumentation if the overhead exceeds this time per execution in us, 0 disables the budget
+         */
+        DB_OVERHEAD_BUDGET_MICROS("OverheadBudgetMicros", Long.class),
+
+        /**
+         * call the execution listeners on a separate thread, read at first use
+         */
+        DB_ASYNC_LISTENER_DISPATCH("AsyncListenerDispatch", Boolean.class),
+        /**
+         * the number of events buffered for the listener thread
+         */
+        DB_ASYNC_LISTENER_BUFFER_SIZE("AsyncListenerBufferSize", Integer.class),
+        /**
+         * drop (and count) or block if the buffer is full
+         */
+        DB_ASYNC_LISTENER_OVERFLOW_POLICY("AsyncListenerOverflowPolicy", String.class),
+
+        /**
+         * serve the metrics in the Prometheus text format on this port, 0 disables the endpoint
+         */
+        DB_METRICS_PORT("MetricsPort", Integer.class),
+        /**
+         * the address the metrics endpoint is bound to
+         */
+        DB_METRICS_ADDRESS("MetricsAddress", String.class),
+        /**
+         * the path of the metrics endpoint
+         */
+        DB_METRICS_PATH("MetricsPath", String.class),
 
         /**
          * dump interval in s
@@ -18,6 +18,7 @@ import jdbcspy.proxy.listener.ConnectionEvent;
 import jdbcspy.proxy.listener.ConnectionListener;
 import jdbcspy.proxy.listener.ExecutionFailedListener;
 import jdbcspy.proxy.listener.ExecutionListener;
+import jdbcspy.proxy.wrapper.ConnectionWrapper;
 
 /**
  * Title: ConnectionFactory
@@ -81,6 +82,8 @@ public class ConnectionFactory {
                 }
             }
         }
+
+        MetricsServer.start();
     }
 
     /**
@@ -108,6 +111,16 @@ public class ConnectionFactory {
                 strb.append("\n");
             }
         }
+        final String overhead = Overhead.dump();
+        if (overhead != null) {
+            strb.append(overhead);
+            strb.append("\n");
+        }
+        final String governor = Governor.dump();
+        if (governor != null) {
+            strb.append(governor);
+            strb.append("\n");
+        }
         return strb.toString();
     }
 
@@ -130,8 +143,17 @@ public class ConnectionFactory {
             connHandler.addConnectionListener(listener);
         }
 
-        final Connection c = (ProxyConnection) Proxy.newProxyInstance(
-                ProxyConnection.class.getClassLoader(), new Class[] { ProxyConnection.class }, connHandler);
+        final ClientProperties.Snapshot config = ClientProperties.snapshot();
+        final Connection c;
+        if (config.isDelegatingWrappers()) {
+            c = new ConnectionWrapper(conn, connHandler);
+        }
+        else {
+            c = (ProxyConnection) Proxy.newProxyInstance(ProxyConnection.class.getClassLoader(), new Class[] { ProxyConnection.class }, connHandler);
+        }
+        if (config.isLeakDetection()) {
+            connHandler.setResource(ResourceMonitor.register(c, ResourceMonitor.Kind.CONNECTION, null, connHandler.getCaller()));
+        }
 
         final ConnectionEvent event = new ConnectionEvent(connHandler);
         for (final ConnectionListener listener : ClientProperties.getConnectionListener()) {
@@ -0,0 +1,230 @@
+package jdbcspy.proxy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import jdbcspy.ClientProperties;
+import jdbcspy.proxy.util.TimingWheel;
+import jdbcspy.proxy.util.Utils;
+
+/**
+ * The governor keeping the overhead of the proxy within the configured budget.
+ * <p>
+ * Once a second the overhead measured by {@link Overhead} is compared with the execution time of the statements in the
+ * same interval. If it exceeds OverheadBudgetPercent of the execution time or OverheadBudgetMicros per execution, the
+ * instrumentation is reduced by one level: first the caller capture, then the sql rendering, then the timing of the
+ * result set rows and finally the listener notification. A level is restored when the overhead has fallen below half
+ * of the budget. With both budgets at 0 everything is instrumented.
+ */
+public final class Governor {
+
+    /**
+     * the pseudo property to read the state with dbproxy get
+     */
+    public static final String PROPERTY = "OverheadGovernor";
+    /**
+     * the logger object for tracing
+     */
+    private static final Logger mTrace = LogManager.getLogger(Governor.class.getName());
+    /**
+     * the evaluation interval in ms
+     */
+    private static final long INTERVAL_MILLIS = 1000;
+
+    /**
+     * the current level
+     */
+    private static volatile Level level = Level.FULL;
+    /**
+     * the overhead of the last interval in ns
+     */
+    private static volatile long lastOverheadNanos;
+    /**
+     * the execution time of the last interval in ns
+     */
+    private static volatile long lastExecutionNanos;
+    /**
+     * the executions of the last interval
+     */
+    private static volatile long lastExecutions;
+    /**
+     * the totals at the end of the last interval, only used by the timer thread
+     */
+    private static long totalOverheadNanos;
+    private static long totalExecutionMicros;
+    private static long totalExecutions;
+
+    static {
+        schedule();
+    }
+
+    private Governor() {
+    }
+
+    private static void schedule() {
+        TimingWheel.getInstance().schedule(Governor::evaluate, INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Get the current level.
+     *
+     * @return the level
+     */
+    public static Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Shall the caller of a call be captured?
+     *
+     * @return boolean
+     */
+    public static boolean isCaptureCaller() {
+        return level.ordinal() < Level.NO_CALLER.ordinal();
+    }
+
+    /**
+     * Shall the sql be rendered with its parameters?
+     *
+     * @return boolean
+     */
+    public static boolean isRenderSql() {
+        return level.ordinal() < Level.NO_RENDERING.ordinal();
+    }
+
+    /**
+     * Shall the next calls of the result sets be timed?
+     *
+     * @return boolean
+     */
+    public static boolean isTimeRows() {
+        return level.ordinal() < Level.NO_ROW_TIMING.ordinal();
+    }
+
+    /**
+     * Shall the execution listeners be notified?
+     *
+     * @return boolean
+     */
+    public static boolean isNotifyListeners() {
+        return level.ordinal() < Level.NO_LISTENERS.ordinal();
+    }
+
+    /**
+     * Compare the overhead of the last interval with the budget and adjust the level.
+     */
+    static void evaluate() {
+        try {
+            final long overhead = Overhead.getTotalNanos();
+            final long executionMicros = StatementSampler.getExecutionTimes().getSum();
+            final long executions = StatementSampler.getExecutionTimes().getCount();
+
+            final long dOverhead = overhead - totalOverheadNanos;
+            final long dExecution = (executionMicros - totalExecutionMicros) * 1000;
+            final long dExecutions = executions - totalExecutions;
+            totalOverheadNanos = overhead;
+            totalExecutionMicros = executionMicros;
+            totalExecutions = executions;
+            lastOverheadNanos = dOverhead;
+            lastExecutionNanos = dExecution;
+            lastExecutions = dExecutions;
+
+            final ClientProperties.Snapshot config = ClientProperties.snapshot();
+            final long percent = config.getOverheadBudgetPercent();
+            final long micros = config.getOverheadBudgetMicros();
+
+            final Level current = level;
+            Level next = current;
+            if (percent <= 0 && micros <= 0) {
+                next = Level.FULL;
+            }
+            else if (dExecutions == 0) {
+                // idle
+                next = current.up();
+            }
+            else if (percent > 0 && dOverhead * 100 > percent * dExecution || micros > 0 && dOverhead > micros * 1000 * dExecutions) {
+                next = current.down();
+            }
+            else if ((percent <= 0 || dOverhead * 200 < percent * dExecution) && (micros <= 0 || dOverhead * 2 < micros * 1000 * dExecutions)) {
+                next = current.up();
+            }
+
+            if (next != current) {
+                level = next;
+                mTrace.info("the instrumentation level changed from {} to {}, {}", current, next, describeInterval());
+            }
+        }
+        catch (final RuntimeException e) {
+            mTrace.warn("evaluating the overhead failed", e);
+        }
+        finally {
+            schedule();
+        }
+    }
+
+    private static String describeInterval() {
+        final long executions = lastExecutions;
+        final long execution = lastExecutionNanos;
+        final long overhead = lastOverheadNanos;
+        return "overhead " + Utils.getMicroTimeString(overhead / 1000) + " in the last interval, " + (execution > 0 ? Utils.NUMBER_FORMATTER.format(
+                100.0 * overhead / execution) + "% of " : "no ") + "execution time, " + (executions > 0 ? overhead / 1000 / executions : 0) + "us per execution";
+    }
+
+    /**
+     * Describe the state of the governor.
+     *
+     * @return String
+     */
+    public static String describe() {
+        return "level=" + level + "; " + describeInterval();
+    }
+
+    /**
+     * Render the state, null if no budget is configured.
+     *
+     * @return String
+     */
+    public static String dump() {
+        final ClientProperties.Snapshot config = ClientProperties.snapshot();
+        if (config.getOverheadBudgetPercent() <= 0 && config.getOverheadBudgetMicros() <= 0) {
+            return null;
+        }
+        return "[Governor[\n  " + describe() + "\n]]";
+    }
+
+    /**
+     * The instrumentation levels, each one drops the instrumentation of the previous one and more.
+     */
+    public enum Level {
+        /**
+         * everything is instrumented
+         */
+        FULL,
+        /**
+         * no caller capture
+         */
+        NO_CALLER,
+        /**
+         * no sql rendering
+         */
+        NO_RENDERING,
+        /**
+         * no timing of the result set rows
+         */
+        NO_ROW_TIMING,
+        /**
+         * no listener notification
+         */
+        NO_LISTENERS;
+
+        Level down() {
+            return this == NO_LISTENERS ? this : values()[ordinal() + 1];
+        }
+
+        Level up() {
+            return this == FULL ? this : values()[ordinal() - 1];
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package jdbcspy.proxy;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import jdbcspy.ClientProperties;
+import jdbcspy.proxy.listener.impl.ConnectionStatisticListener;
+import jdbcspy.proxy.listener.impl.ExecutionStatisticListener;
+import jdbcspy.proxy.listener.impl.MetricsListener;
+import jdbcspy.proxy.util.Histogram;
+import jdbcspy.proxy.util.PrometheusWriter;
+
+/**
+ * The endpoint serving the metrics in the Prometheus text exposition format.
+ * <p>
+ * It is started by the first connection factory if MetricsPort is set. The page is streamed from the counters of the
+ * proxy and of the configured ExecutionStatisticListener, ConnectionStatisticListener and MetricsListener, so a scrape
+ * neither blocks the statements nor builds the page in memory.
+ */
+public final class MetricsServer {
+
+    /**
+     * the logger object for tracing
+     */
+    private static final Logger mTrace = LogManager.getLogger(MetricsServer.class.getName());
+    /**
+     * the content type of the text exposition format
+     */
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    /**
+     * the bucket bounds of the rows
+     */
+    private static final long[] ROW_BOUNDS = { 0, 1, 10, 100, 1_000, 10_000, 100_000, 1_000_000 };
+    /**
+     * the bucket bounds of the result sizes in bytes
+     */
+    private static final long[] SIZE_BOUNDS = { 1_024, 10_240, 102_400, 1_048_576, 10_485_760, 104_857_600 };
+    /**
+     * the le labels of the time buckets in s
+     */
+    private static final String[] TIME_LE = le(MetricsListener.BOUNDS_MICROS, 6);
+    /**
+     * the le labels of the row buckets
+     */
+    private static final String[] ROW_LE = le(ROW_BOUNDS, 0);
+    /**
+     * the le labels of the size buckets
+     */
+    private static final String[] SIZE_LE = le(SIZE_BOUNDS, 0);
+    /**
+     * the kind labels of the resources
+     */
+    private static final String[] KIND_LABELS = kindLabels();
+
+    /**
+     * the server, null if not started
+     */
+    private static HttpServer server;
+
+    private MetricsServer() {
+    }
+
+    private static String[] le(final long[] bounds, final int scale) {
+        final String[] le = new String[bounds.length];
+        for (int i = 0; i < bounds.length; i++) {
+            le[i] = BigDecimal.valueOf(bounds[i], scale).stripTrailingZeros().toPlainString();
+        }
+        return le;
+    }
+
+    private static String[] kindLabels() {
+        final ResourceMonitor.Kind[] kinds = ResourceMonitor.Kind.values();
+        final String[] labels = new String[kinds.length];
+        for (int i = 0; i < kinds.length; i++) {
+            labels[i] = kinds[i].name().toLowerCase(Locale.ROOT);
+        }
+        return labels;
+    }
+
+    /**
+     * Start the endpoint if MetricsPort is set and it is not running yet.
+     */
+    public static synchronized void start() {
+        final int port = ClientProperties.Field.DB_METRICS_PORT.getIntValue();
+        if (port <= 0 || server != null) {
+            return;
+        }
+
+        final String address = ClientProperties.Field.DB_METRICS_ADDRESS.getStringValue();
+        final String path = ClientProperties.Field.DB_METRICS_PATH.getStringValue();
+        try {
+            final HttpServer s = HttpServer.create(new InetSocketAddress(address, port), 0);
+            s.createContext(path, MetricsServer::handle);
+            s.setExecutor(Executors.newSingleThreadExecutor(r -> {
+                final Thread t = new Thread(r, "jdbcspy-metrics");
+                t.setDaemon(true);
+                return t;
+            }));
+
+            // the dispatcher thread inherits the daemon flag of the starting thread
+            final Thread starter = new Thread(s::start, "jdbcspy-metrics-start");
+            starter.setDaemon(true);
+            starter.start();
+            starter.join();
+
+            server = s;
+            mTrace.info("serving the metrics on http://{}:{}{}", address, s.getAddress().getPort(), path);
+        }
+        catch (final IOException | RuntimeException e) {
+            mTrace.error("starting the metrics endpoint on {}:{} failed", address, port, e);
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stop the endpoint.
+     */
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    /**
+     * Get the address of the endpoint.
+     *
+     * @return the address, null if not started
+     */
+    public static synchronized InetSocketAddress getAddress() {
+        return server != null ? server.getAddress() : null;
+    }
+
+    private static void handle(final HttpExchange exchange) throws IOException {
+        try {
+            final String method = exchange.getRequestMethod();
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if ("HEAD".equals(method)) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+
+            // chunked
+            exchange.sendResponseHeaders(200, 0);
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8))) {
+                write(out);
+            }
+        }
+        catch (final RuntimeException e) {
+            mTrace.warn("rendering the metrics failed", e);
+        }
+        finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Write the metrics in the Prometheus text exposition format.
+     *
+     * @param out the output
+     * @throws IOException on error
+     */
+    public static void write(final Writer out) throws IOException {
+        final PrometheusWriter w = new PrometheusWriter(out);
+        final long[] counts = new long[MetricsListener.BOUNDS_MICROS.length];
+
+        histogram(w, "jdbcspy_execution_seconds", "The execution time of all statement executions.", StatementSampler.getExecutionTimes(),
+                MetricsListener.BOUNDS_MICROS, TIME_LE, 1e-6, counts);
+        w.header("jdbcspy_executions_sampled_total", "counter", "The executions traced in full.");
+        w.sample("jdbcspy_executions_sampled_total").value(StatementSampler.getSampledCount());
+        w.header("jdbcspy_executions_skipped_total", "counter", "The executions not sampled for full tracing.");
+        w.sample("jdbcspy_executions_skipped_total").value(StatementSampler.getSkippedCount());
+
+        final ResourceMonitor.Kind[] kinds = ResourceMonitor.Kind.values();
+        w.header("jdbcspy_open", "gauge", "The open connections, statements and result sets.");
+        for (int i = 0; i < kinds.length; i++) {
+            w.sample("jdbcspy_open").label("kind", KIND_LABELS[i]).value(ResourceMonitor.getOpenCount(kinds[i]));
+        }
+        w.header("jdbcspy_leaks_total", "counter", "The connections, statements and result sets that became unreachable without being closed.");
+        for (int i = 0; i < kinds.length; i++) {
+            w.sample("jdbcspy_leaks_total").label("kind", KIND_LABELS[i]).value(ResourceMonitor.getLeakCount(kinds[i]));
+        }
+
+        if (ClientProperties.snapshot().isMeasureOverhead()) {
+            w.header("jdbcspy_overhead_seconds_total", "counter", "The time spent in the proxy.");
+            w.sample("jdbcspy_overhead_seconds_total").value(Overhead.getTotalNanos() * 1e-9);
+        }
+        w.header("jdbcspy_instrumentation_level", "gauge", "The instrumentation level of the overhead governor, 0 is full instrumentation.");
+        w.sample("jdbcspy_instrumentation_level").value(Governor.getLevel().ordinal());
+
+        final ConnectionStatisticListener connections = find(ClientProperties.getConnectionListener(), ConnectionStatisticListener.class);
+        if (connections != null) {
+            w.header("jdbcspy_connections_opened_total", "counter", "The opened connections.");
+            w.sample("jdbcspy_connections_opened_total").value(connections.getCount());
+            w.header("jdbcspy_connections_open_max", "gauge", "The maximum number of open connections.");
+            w.sample("jdbcspy_connections_open_max").value(connections.getMaxOpenCount());
+        }
+
+        final ExecutionStatisticListener statistics = find(ClientProperties.getListener(), ExecutionStatisticListener.class);
+        if (statistics != null) {
+            histogram(w, "jdbcspy_statement_execution_seconds", "The execution time of the closed statements.", statistics.getExecutionTimes(),
+                    MetricsListener.BOUNDS_MICROS, TIME_LE, 1e-6, counts);
+            histogram(w, "jdbcspy_statement_iteration_seconds", "The time spent reading the results of the closed statements.",
+                    statistics.getIterationTimes(), MetricsListener.BOUNDS_MICROS, TIME_LE, 1e-6, counts);
+            histogram(w, "jdbcspy_statement_rows", "The rows of the closed statements.", statistics.getRows(), ROW_BOUNDS, ROW_LE, 1, counts);
+            histogram(w, "jdbcspy_statement_result_bytes", "The result size of the closed statements.", statistics.getSizes(), SIZE_BOUNDS, SIZE_LE, 1,
+                    counts);
+        }
+
+        final MetricsListener metrics = find(ClientProperties.getListener(), MetricsListener.class);
+        if (metrics != null) {
+            writeSeries(w, metrics.getSeries());
+        }
+
+        final MetricsListener failures = find(ClientProperties.getFailedListener(), MetricsListener.class);
+        if (failures != null) {
+            w.header("jdbcspy_failures_total", "counter", "The failed executions by SQLState.");
+            for (final Map.Entry<String, LongAdder> e : failures.getFailures().entrySet()) {
+                w.sample("jdbcspy_failures_total").label("sqlstate", e.getKey()).value(e.getValue().sum());
+            }
+        }
+        out.flush();
+    }
+
+    private static void writeSeries(final PrometheusWriter w, final List<MetricsListener.Series> series) throws IOException {
+        w.header("jdbcspy_fingerprint_executions_total", "counter", "The sampled executions by url and statement fingerprint.");
+        for (final MetricsListener.Series s : series) {
+            w.sample("jdbcspy_fingerprint_executions_total").label("url", s.getURL()).label("fingerprint", s.getFingerprintLabel()).value(s.getExecutions());
+        }
+
+        w.header("jdbcspy_fingerprint_execution_seconds", "histogram", "The execution time of the closed statements by url and statement fingerprint.");
+        for (final MetricsListener.Series s : series) {
+            long count = 0;
+            for (int i = 0; i < TIME_LE.length; i++) {
+                count += s.getBucketCount(i);
+                w.sample("jdbcspy_fingerprint_execution_seconds_bucket").label("url", s.getURL()).label("fingerprint", s.getFingerprintLabel())
+                        .label("le", TIME_LE[i]).value(count);
+            }
+            final long total = Math.max(count, s.getStatements());
+            w.sample("jdbcspy_fingerprint_execution_seconds_bucket").label("url", s.getURL()).label("fingerprint", s.getFingerprintLabel())
+                    .label("le", "+Inf").value(total);
+            w.sample("jdbcspy_fingerprint_execution_seconds_sum").label("url", s.getURL()).label("fingerprint", s.getFingerprintLabel())
+                    .value(s.getTimeMicros() * 1e-6);
+            w.sample("jdbcspy_fingerprint_execution_seconds_count").label("url", s.getURL()).label("fingerprint", s.getFingerprintLabel()).value(total);
+        }
+
+        w.header("jdbcspy_fingerprint_rows_total", "counter", "The rows of the closed statements by url and statement fingerprint.");
+        for (final MetricsListener.Series s : series) {
+            w.sample("jdbcspy_fingerprint_rows_total").label("url", s.getURL()).label("fingerprint", s.getFingerprintLabel()).value(s.getRows());
+        }
+
+        w.header("jdbcspy_fingerprint_result_bytes_total", "counter", "The result size of the closed statements by url and statement fingerprint.");
+        for (final MetricsListener.Series s : series) {
+            w.sample("jdbcspy_fingerprint_result_bytes_total").label("url", s.getURL()).label("fingerprint", s.getFingerprintLabel()).value(s.getSize());
+        }
+    }
+
+    private static void histogram(final PrometheusWriter w, final String name, final String help, final Histogram h, final long[] bounds,
+            final String[] le, final double scale, final long[] counts) throws IOException {
+        final String bucket = name + "_bucket";
+        w.header(name, "histogram", help);
+        h.getCumulativeCounts(bounds, counts);
+        for (int i = 0; i < bounds.length; i++) {
+            w.sample(bucket).label("le", le[i]).value(counts[i]);
+        }
+        // values recorded during the scrape must not make the buckets inconsistent
+        final long count = Math.max(h.getCount(), counts[bounds.length - 1]);
+        w.sample(bucket).label("le", "+Inf").value(count);
+        w.sample(name + "_sum").value(h.getSum() * scale);
+        w.sample(name + "_count").value(count);
+    }
+
+    private static <T> T find(final List<?> listener, final Class<T> type) {
+        for (final Object l : listener) {
+            if (type.isInstance(l)) {
+                return type.cast(l);
+            }
+        }
+        return null;
+    }
+}
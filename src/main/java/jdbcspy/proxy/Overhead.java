@@ -0,0 +1,265 @@
+package jdbcspy.proxy;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import jdbcspy.ClientProperties;
+import jdbcspy.proxy.util.Utils;
+
+/**
+ * The accounting of the time and memory the proxy spends on its own.
+ * <p>
+ * A phase is measured from {@link #start()} to {@link #record}, the allocated bytes are read from the thread MXBean if
+ * the JVM supports it. Nothing is measured unless MeasureOverhead or an overhead budget is set. The dispatch phase is the complete time a
+ * handler spends outside of the underlying JDBC call and includes the other phases of the handler.
+ */
+public final class Overhead {
+
+    /**
+     * the logger object for tracing
+     */
+    private static final Logger mTrace = LogManager.getLogger(Overhead.class.getName());
+    /**
+     * the number of phases
+     */
+    private static final int PHASE_COUNT = Phase.values().length;
+    /**
+     * the thread bean to read the allocated bytes, null if not supported
+     */
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+    /**
+     * the number of measurements per handler and phase
+     */
+    private static final LongAdder[] COUNTS = adders();
+    /**
+     * the time in ns per handler and phase
+     */
+    private static final LongAdder[] NANOS = adders();
+    /**
+     * the allocated bytes per handler and phase
+     */
+    private static final LongAdder[] BYTES = adders();
+
+    private Overhead() {
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+                final com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+                if (bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+                    return bean;
+                }
+            }
+        }
+        catch (final RuntimeException | LinkageError e) {
+            mTrace.debug("the allocated bytes are not measured", e);
+        }
+        return null;
+    }
+
+    private static LongAdder[] adders() {
+        final LongAdder[] a = new LongAdder[Source.values().length * PHASE_COUNT];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = new LongAdder();
+        }
+        return a;
+    }
+
+    private static int index(final Source source, final Phase phase) {
+        return source.ordinal() * PHASE_COUNT + phase.ordinal();
+    }
+
+    /**
+     * Start a measurement.
+     *
+     * @return the start time, 0 if the overhead is not measured
+     */
+    public static long start() {
+        return ClientProperties.snapshot().isMeasureOverhead() ? System.nanoTime() | 1 : 0;
+    }
+
+    /**
+     * Get the bytes allocated by the current thread so far.
+     *
+     * @param start the start time of the measurement
+     * @return the allocated bytes, 0 if the measurement has not been started or is not supported
+     */
+    public static long allocated(final long start) {
+        return start != 0 && THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    /**
+     * Record a measured phase.
+     *
+     * @param source         the handler
+     * @param phase          the phase
+     * @param start          the start time
+     * @param startAllocated the allocated bytes at the start
+     */
+    public static void record(final Source source, final Phase phase, final long start, final long startAllocated) {
+        if (start != 0) {
+            add(source, phase, System.nanoTime() - start, allocated(start) - startAllocated);
+        }
+    }
+
+    /**
+     * Add a phase measured by the caller.
+     *
+     * @param source the handler
+     * @param phase  the phase
+     * @param nanos  the time in ns
+     * @param bytes  the allocated bytes
+     */
+    public static void add(final Source source, final Phase phase, final long nanos, final long bytes) {
+        final int i = index(source, phase);
+        COUNTS[i].increment();
+        NANOS[i].add(nanos);
+        BYTES[i].add(bytes);
+    }
+
+    /**
+     * Get the number of measurements of a phase.
+     *
+     * @param source the handler
+     * @param phase  the phase
+     * @return long
+     */
+    public static long getCount(final Source source, final Phase phase) {
+        return COUNTS[index(source, phase)].sum();
+    }
+
+    /**
+     * Get the time spent in a phase.
+     *
+     * @param source the handler
+     * @param phase  the phase
+     * @return the time in ns
+     */
+    public static long getNanos(final Source source, final Phase phase) {
+        return NANOS[index(source, phase)].sum();
+    }
+
+    /**
+     * Get the bytes allocated in a phase.
+     *
+     * @param source the handler
+     * @param phase  the phase
+     * @return the allocated bytes
+     */
+    public static long getBytes(final Source source, final Phase phase) {
+        return BYTES[index(source, phase)].sum();
+    }
+
+    /**
+     * Get the total time spent in the proxy. The result set phases are not part of a dispatch phase and are added.
+     *
+     * @return the time in ns
+     */
+    public static long getTotalNanos() {
+        long nanos = getNanos(Source.CONNECTION, Phase.DISPATCH) + getNanos(Source.STATEMENT, Phase.DISPATCH);
+        for (final Phase phase : Phase.values()) {
+            nanos += getNanos(Source.RESULT_SET, phase);
+        }
+        return nanos;
+    }
+
+    /**
+     * Render the measurements.
+     *
+     * @return the measurements, null if nothing has been measured
+     */
+    public static String dump() {
+        final StringBuilder strb = new StringBuilder("[Overhead[\n");
+        boolean empty = true;
+        for (final Source source : Source.values()) {
+            for (final Phase phase : Phase.values()) {
+                final long count = getCount(source, phase);
+                if (count == 0) {
+                    continue;
+                }
+                empty = false;
+                final long nanos = getNanos(source, phase);
+                final long bytes = getBytes(source, phase);
+                strb.append("  ").append(source).append(' ').append(phase).append(": #=").append(count);
+                strb.append("; time=").append(Utils.getMicroTimeString(nanos / 1000)).append("; avg=").append(nanos / count).append("ns");
+                if (THREADS != null) {
+                    strb.append("; allocated=").append(Utils.getSizeString(bytes)).append("; avg=").append(bytes / count).append("byte");
+                }
+                strb.append("\n");
+            }
+        }
+        strb.append("]]");
+        return empty ? null : strb.toString();
+    }
+
+    /**
+     * The handler spending the time.
+     */
+    public enum Source {
+        CONNECTION("conn"),
+        STATEMENT("stmt"),
+        RESULT_SET("rs");
+
+        /**
+         * the name in the dump
+         */
+        private final String mName;
+
+        Source(final String name) {
+            mName = name;
+        }
+
+        @Override
+        public String toString() {
+            return mName;
+        }
+    }
+
+    /**
+     * The phase of the proxy work.
+     */
+    public enum Phase {
+        /**
+         * all work of the handler outside of the underlying call
+         */
+        DISPATCH("dispatch"),
+        /**
+         * capturing the call site
+         */
+        CALLER("caller"),
+        /**
+         * notifying the listeners
+         */
+        LISTENERS("listeners"),
+        /**
+         * rendering the sql and log messages
+         */
+        RENDERING("rendering"),
+        /**
+         * writing the log
+         */
+        LOGGING("logging"),
+        /**
+         * estimating the size of the values
+         */
+        SIZING("sizing");
+
+        /**
+         * the name in the dump
+         */
+        private final String mName;
+
+        Phase(final String name) {
+            mName = name;
+        }
+
+        @Override
+        public String toString() {
+            return mName;
+        }
+    }
+}
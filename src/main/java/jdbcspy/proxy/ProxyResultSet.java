@@ -17,4 +17,9 @@ public interface ProxyResultSet {
      */
     boolean isClosed();
 
+    /**
+     * The result set has been closed with its statement.
+     */
+    void closeImplicitly();
+
 }
@@ -19,4 +19,9 @@ public interface ProxyStatement {
 
     boolean endTx();
 
+    /**
+     * The statement has been closed with its connection.
+     */
+    void closeImplicitly();
+
 }
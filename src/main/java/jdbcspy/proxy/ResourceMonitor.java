@@ -0,0 +1,290 @@
+package jdbcspy.proxy;
+
+import java.lang.ref.Cleaner;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import jdbcspy.ClientProperties;
+import jdbcspy.proxy.util.CallSites;
+
+/**
+ * The leak detection of connections, statements and result sets.
+ * <p>
+ * Every open resource is kept in a concurrent registry and registered with a Cleaner. A resource that becomes
+ * unreachable without being closed is reported with its open call site as soon as the garbage collector finds it. A
+ * scheduler reports the resources open longer than the MonitorXxxTimeThreshold of their kind. The resources are only
+ * registered while LeakDetection is enabled.
+ */
+public final class ResourceMonitor {
+
+    /**
+     * the logger object for tracing
+     */
+    private static final Logger mTrace = LogManager.getLogger("jdbcspy.monitor");
+    /**
+     * the cleaner reporting unreachable resources
+     */
+    private static final Cleaner CLEANER = Cleaner.create();
+    /**
+     * the open resources
+     */
+    private static final Set<Resource> RESOURCES = ConcurrentHashMap.newKeySet();
+    /**
+     * the number of leaked resources per kind
+     */
+    private static final LongAdder[] LEAKS = { new LongAdder(), new LongAdder(), new LongAdder() };
+
+    static {
+        final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+                1, r -> {
+                    final var t = new Thread(r, "jdbcspy-monitor");
+                    // Set as daemon thread
+                    t.setDaemon(true);
+                    return t;
+                }
+        );
+        final var checkFrequency = ClientProperties.Field.DB_MONITOR_RESULTSET_FREQUENCY.getLongValue();
+        scheduler.scheduleWithFixedDelay(ResourceMonitor::check, checkFrequency, checkFrequency, TimeUnit.MILLISECONDS);
+    }
+
+    private ResourceMonitor() {
+    }
+
+    /**
+     * Register an open resource.
+     *
+     * @param proxy       the proxy handed out to the application
+     * @param kind        the kind of resource
+     * @param description the sql code or null
+     * @param openMethod  the call site opening the resource
+     * @return the resource, to be closed with the proxy
+     */
+    public static Resource register(final Object proxy, final Kind kind, final String description, final String openMethod) {
+        return register(proxy, kind, description, openMethod, null);
+    }
+
+    /**
+     * Register an open resource with a marked open site, rendered only if the resource is reported.
+     *
+     * @param proxy       the proxy handed out to the application
+     * @param kind        the kind of resource
+     * @param description the sql code or null
+     * @param openMethod  the call site opening the resource if it is not marked
+     * @param openSite    the marked call site opening the resource or null
+     * @return the resource, to be closed with the proxy
+     */
+    public static Resource register(final Object proxy, final Kind kind, final String description, final String openMethod, final CallSites.Mark openSite) {
+        final Resource resource = new Resource(kind, description, openMethod, openSite);
+        RESOURCES.add(resource);
+        resource.mCleanable = CLEANER.register(proxy, resource);
+        mTrace.trace("Registered {}", resource);
+        return resource;
+    }
+
+    /**
+     * Get the number of resources of a kind that became unreachable without being closed.
+     *
+     * @param kind the kind of resource
+     * @return long
+     */
+    public static long getLeakCount(final Kind kind) {
+        return LEAKS[kind.ordinal()].sum();
+    }
+
+    /**
+     * Get the number of open resources of a kind.
+     *
+     * @param kind the kind of resource
+     * @return int
+     */
+    public static int getOpenCount(final Kind kind) {
+        int count = 0;
+        for (final Resource r : RESOURCES) {
+            if (r.mKind == kind) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Report the resources open longer than their threshold.
+     */
+    static void check() {
+        try {
+            final long now = System.nanoTime();
+            final long[] thresholds = new long[Kind.values().length];
+            for (final Kind kind : Kind.values()) {
+                thresholds[kind.ordinal()] = kind.mThreshold.getLongValue();
+            }
+
+            final var logMesg = new StringBuilder();
+            final var lineSeparator = System.lineSeparator();
+            int open = 0;
+
+            for (final Resource r : RESOURCES) {
+                open++;
+                final long threshold = thresholds[r.mKind.ordinal()];
+                final long duration = (now - r.mStartNanos) / 1_000_000;
+                if (threshold > 0 && duration > threshold) {
+                    logMesg.append(r.mKind.mShortName).append(" - ").append(r.mId).append(" -- duration: ").append(duration).append("ms, opened in ")
+                            .append(r.getOpenMethod());
+                    final String sql = r.mDescription;
+                    if (sql != null) {
+                        logMesg.append(", sql: ").append(sql.trim());
+                    }
+                    logMesg.append(lineSeparator);
+                }
+            }
+
+            if (!logMesg.isEmpty()) {
+                mTrace.warn("LEAK: Potential Leaks [[\n{}]]", logMesg);
+            }
+            else if (ClientProperties.Field.DB_MONITOR_RESULTSET_LEAK_LOG_ALWAYS.getBooleanValue()) {
+                mTrace.info("LEAK: no potential leaks among {} open resources", open);
+            }
+        }
+        catch (final RuntimeException e) {
+            mTrace.warn("monitoring the open resources failed", e);
+        }
+    }
+
+    /**
+     * The kind of resource.
+     */
+    public enum Kind {
+        CONNECTION("Connection", "CONN", ClientProperties.Field.DB_MONITOR_CONNECTION_TIME_THRESHOLD),
+        STATEMENT("Statement", "STMT", ClientProperties.Field.DB_MONITOR_STATEMENT_TIME_THRESHOLD),
+        RESULT_SET("ResultSet", "RS", ClientProperties.Field.DB_MONITOR_RESULTSET_TIME_THRESHOLD);
+
+        /**
+         * the name
+         */
+        private final String mName;
+        /**
+         * the name in the leak report
+         */
+        private final String mShortName;
+        /**
+         * the threshold of the open duration
+         */
+        private final ClientProperties.Field mThreshold;
+
+        Kind(final String name, final String shortName, final ClientProperties.Field threshold) {
+            mName = name;
+            mShortName = shortName;
+            mThreshold = threshold;
+        }
+
+        @Override
+        public String toString() {
+            return mName;
+        }
+    }
+
+    /**
+     * An open resource. It must not reference the proxy, otherwise the proxy never becomes unreachable.
+     */
+    public static final class Resource implements Runnable {
+
+        /**
+         * the id generator
+         */
+        private static final AtomicLong ID_GENERATOR = new AtomicLong();
+
+        /**
+         * the id
+         */
+        private final long mId = ID_GENERATOR.incrementAndGet();
+        /**
+         * the kind of resource
+         */
+        private final Kind mKind;
+        /**
+         * the call site opening the resource if it is not marked
+         */
+        private final String mOpenMethod;
+        /**
+         * the marked call site opening the resource
+         */
+        private final CallSites.Mark mOpenSite;
+        /**
+         * the open time
+         */
+        private final long mStartNanos = System.nanoTime();
+        /**
+         * the sql code
+         */
+        private volatile String mDescription;
+        /**
+         * is closed
+         */
+        private volatile boolean mClosed;
+        /**
+         * the cleaner registration
+         */
+        private Cleaner.Cleanable mCleanable;
+
+        Resource(final Kind kind, final String description, final String openMethod, final CallSites.Mark openSite) {
+            mKind = kind;
+            mDescription = description;
+            mOpenMethod = openMethod;
+            mOpenSite = openSite;
+        }
+
+        /**
+         * Get the call site opening the resource, a marked call site is rendered on first use.
+         *
+         * @return the call site
+         */
+        public String getOpenMethod() {
+            return mOpenSite != null ? mOpenSite.toString() : mOpenMethod;
+        }
+
+        /**
+         * Set the sql code executed by the resource.
+         *
+         * @param description the sql code
+         */
+        public void setDescription(final String description) {
+            mDescription = description;
+        }
+
+        /**
+         * The resource has been closed.
+         */
+        public void close() {
+            if (!mClosed) {
+                mClosed = true;
+                RESOURCES.remove(this);
+                mCleanable.clean();
+            }
+        }
+
+        /**
+         * Called by the cleaner when the proxy became unreachable or the resource has been closed.
+         */
+        @Override
+        public void run() {
+            if (!mClosed) {
+                mClosed = true;
+                RESOURCES.remove(this);
+                LEAKS[mKind.ordinal()].increment();
+                mTrace.warn("LEAK: The {} {} opened in {} was not closed{}", mKind, mId, getOpenMethod(), mDescription != null ? ", sql: " + mDescription : "");
+            }
+        }
+
+        @Override
+        public String toString() {
+            return mKind + "[id=" + mId + ", opened in " + getOpenMethod() + (mDescription != null ? ", sql=" + mDescription : "") + "]";
+        }
+    }
+}
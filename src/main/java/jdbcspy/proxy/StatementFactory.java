@@ -6,8 +6,14 @@ import java.sql.PreparedStatement;
 import java.sql.Statement;
 
 import jdbcspy.ClientProperties;
+import jdbcspy.proxy.handler.AbstractStatementInvocationHandler;
+import jdbcspy.proxy.handler.ConnectionInvocationHandler;
 import jdbcspy.proxy.handler.PreparedStatementInvocationHandler;
 import jdbcspy.proxy.handler.StatementInvocationHandler;
+import jdbcspy.proxy.util.CallSites;
+import jdbcspy.proxy.wrapper.CallableStatementWrapper;
+import jdbcspy.proxy.wrapper.PreparedStatementWrapper;
+import jdbcspy.proxy.wrapper.StatementWrapper;
 
 /**
  * The statement factory.
@@ -40,80 +46,102 @@ public class StatementFactory {
     /**
      * Get a statement.
      *
-     * @param ps  the original statement
-     * @param sql the sql code
+     * @param ps         the original statement
+     * @param sql        the sql code
+     * @param method     the call site opening the statement if it is not marked
+     * @param site       the marked call site opening the statement or null
+     * @param connection the connection the statistics are rolled up to
      * @return Statement the proxy statement
      */
-    public Statement getStatement(final Statement ps, final String sql, final String method) {
+    public Statement getStatement(final Statement ps, final String sql, final String method, final CallSites.Mark site, final ConnectionInvocationHandler connection) {
         final StatementFactory factory = getInstance();
+        final AbstractStatementInvocationHandler handler;
+        final Statement proxy;
         if (ps instanceof CallableStatement) {
-            return factory.getCallableStatementProxy((CallableStatement) ps, sql, method);
+            handler = new PreparedStatementInvocationHandler(ps, sql, method);
+            proxy = factory.getCallableStatementProxy((CallableStatement) ps, handler);
         }
         else if (ps instanceof PreparedStatement) {
-            return factory.getPreparedStatementProxy((PreparedStatement) ps, sql, method);
+            handler = new PreparedStatementInvocationHandler(ps, sql, method);
+            proxy = factory.getPreparedStatementProxy((PreparedStatement) ps, handler);
         }
         else {
-            return factory.getStatementProxy(ps, sql, method);
+            handler = new StatementInvocationHandler(ps, sql, method);
+            proxy = factory.getStatementProxy(ps, handler);
         }
+
+        handler.setExecutionFailedListener(ClientProperties.getFailedListener());
+        handler.setExecutionListener(ClientProperties.getDispatchListener());
+        handler.setConnection(connection);
+        handler.setOpenSite(site);
+        if (ClientProperties.snapshot().isLeakDetection()) {
+            handler.setResource(ResourceMonitor.register(proxy, ResourceMonitor.Kind.STATEMENT, sql, method, site));
+        }
+
+        return proxy;
     }
 
     /**
      * Get a statement proxy.
      *
-     * @param ps  the original statement
-     * @param sql the sql code
+     * @param ps      the original statement
+     * @param handler the statement handler
      * @return the proxy statement
      */
-    private Statement getStatementProxy(final Statement ps, final String sql, final String method) {
-
-        final StatementInvocationHandler handler = new StatementInvocationHandler(ps, sql, method);
-
-        handler.setExecutionFailedListener(ClientProperties.getFailedListener());
-        handler.setExecutionListener(ClientProperties.getListener());
-
-        return (Statement) Proxy.newProxyInstance(
-                ProxyStatement.class.getClassLoader(),
-                new Class[] { Statement.class, ProxyStatement.class, StatementStatistics.class }, handler
-        );
+    private Statement getStatementProxy(final Statement ps, final AbstractStatementInvocationHandler handler) {
+        final Statement proxy;
+        if (ClientProperties.snapshot().isDelegatingWrappers()) {
+            proxy = new StatementWrapper<>(ps, handler);
+        }
+        else {
+            proxy = (Statement) Proxy.newProxyInstance(
+                    ProxyStatement.class.getClassLoader(),
+                    new Class[] { Statement.class, ProxyStatement.class, StatementStatistics.class }, handler
+            );
+        }
+        return proxy;
     }
 
     /**
      * Get a statement proxy.
      *
-     * @param ps  the original statement
-     * @param sql the sql code
+     * @param ps      the original statement
+     * @param handler the statement handler
      * @return the proxy statement
      */
-    private PreparedStatement getPreparedStatementProxy(final PreparedStatement ps, final String sql, final String method) {
-
-        final PreparedStatementInvocationHandler handler = new PreparedStatementInvocationHandler(ps, sql, method);
-
-        handler.setExecutionFailedListener(ClientProperties.getFailedListener());
-        handler.setExecutionListener(ClientProperties.getListener());
-
-        return (PreparedStatement) Proxy.newProxyInstance(
-                ProxyStatement.class.getClassLoader(),
-                new Class[] { PreparedStatement.class, ProxyStatement.class, StatementStatistics.class }, handler
-        );
+    private PreparedStatement getPreparedStatementProxy(final PreparedStatement ps, final AbstractStatementInvocationHandler handler) {
+        final PreparedStatement proxy;
+        if (ClientProperties.snapshot().isDelegatingWrappers()) {
+            proxy = new PreparedStatementWrapper<>(ps, handler);
+        }
+        else {
+            proxy = (PreparedStatement) Proxy.newProxyInstance(
+                    ProxyStatement.class.getClassLoader(),
+                    new Class[] { PreparedStatement.class, ProxyStatement.class, StatementStatistics.class }, handler
+            );
+        }
+        return proxy;
     }
 
     /**
      * Get a statement proxy.
      *
-     * @param ps  the original statement
-     * @param sql the sql code
+     * @param ps      the original statement
+     * @param handler the statement handler
      * @return the proxy statement
      */
-    private CallableStatement getCallableStatementProxy(final CallableStatement ps, final String sql, final String method) {
-        final PreparedStatementInvocationHandler handler = new PreparedStatementInvocationHandler(ps, sql, method);
-
-        handler.setExecutionFailedListener(ClientProperties.getFailedListener());
-        handler.setExecutionListener(ClientProperties.getListener());
-
-        return (CallableStatement) Proxy.newProxyInstance(
-                ProxyStatement.class.getClassLoader(),
-                new Class[] { CallableStatement.class, ProxyStatement.class, StatementStatistics.class }, handler
-        );
+    private CallableStatement getCallableStatementProxy(final CallableStatement ps, final AbstractStatementInvocationHandler handler) {
+        final CallableStatement proxy;
+        if (ClientProperties.snapshot().isDelegatingWrappers()) {
+            proxy = new CallableStatementWrapper(ps, handler);
+        }
+        else {
+            proxy = (CallableStatement) Proxy.newProxyInstance(
+                    ProxyStatement.class.getClassLoader(),
+                    new Class[] { CallableStatement.class, ProxyStatement.class, StatementStatistics.class }, handler
+            );
+        }
+        return proxy;
     }
 
 }
@@ -0,0 +1,118 @@
+package jdbcspy.proxy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdbcspy.ClientProperties;
+import jdbcspy.proxy.util.Histogram;
+import jdbcspy.proxy.util.SqlFingerprint;
+
+/**
+ * The sampling of the statement executions.
+ * <p>
+ * A sampled execution is traced in full: its caller is captured, the listeners are notified and the debug expressions
+ * are evaluated. An unsampled execution only updates the statistics of its statement and connection and the execution
+ * time histogram, unless it exceeds the StmtExecuteTimeThreshold and StmtSampleOverThreshold is set. With a
+ * StmtSampleRate of 1 every execution is sampled.
+ */
+public final class StatementSampler {
+
+    /**
+     * the maximum number of fingerprints with an own counter
+     */
+    private static final int MAX_FINGERPRINTS = 4096;
+    /**
+     * the execution counter per fingerprint
+     */
+    private static final Map<SqlFingerprint, AtomicLong> COUNTERS = new ConcurrentHashMap<>();
+    /**
+     * the number of sampled executions
+     */
+    private static final LongAdder SAMPLED = new LongAdder();
+    /**
+     * the number of unsampled executions
+     */
+    private static final LongAdder SKIPPED = new LongAdder();
+    /**
+     * the execution times of all executions in us
+     */
+    private static final Histogram EXECUTION_TIMES = new Histogram();
+
+    private StatementSampler() {
+    }
+
+    /**
+     * Decide whether an execution is sampled.
+     *
+     * @param stmt   the statement
+     * @param config the configuration
+     * @return true if the execution is traced in full
+     */
+    public static boolean sample(final StatementStatistics stmt, final ClientProperties.Snapshot config) {
+        final int rate = config.getStmtSampleRate();
+        final boolean sampled;
+        if (rate <= 1) {
+            sampled = true;
+        }
+        else if (config.isStmtSampleByFingerprint()) {
+            // the first and then every nth execution of each statement
+            sampled = counter(stmt.getFingerprint()).getAndIncrement() % rate == 0;
+        }
+        else {
+            sampled = ThreadLocalRandom.current().nextInt(rate) == 0;
+        }
+
+        (sampled ? SAMPLED : SKIPPED).increment();
+        return sampled;
+    }
+
+    private static AtomicLong counter(final SqlFingerprint fingerprint) {
+        AtomicLong counter = COUNTERS.get(fingerprint);
+        if (counter == null) {
+            if (COUNTERS.size() >= MAX_FINGERPRINTS) {
+                COUNTERS.clear();
+            }
+            counter = COUNTERS.computeIfAbsent(fingerprint, k -> new AtomicLong());
+        }
+        return counter;
+    }
+
+    /**
+     * Record the execution time of an execution, sampled or not.
+     *
+     * @param micros the execution time in us
+     */
+    public static void record(final long micros) {
+        EXECUTION_TIMES.record(micros);
+    }
+
+    /**
+     * Get the number of sampled executions.
+     *
+     * @return long
+     */
+    public static long getSampledCount() {
+        return SAMPLED.sum();
+    }
+
+    /**
+     * Get the number of unsampled executions.
+     *
+     * @return long
+     */
+    public static long getSkippedCount() {
+        return SKIPPED.sum();
+    }
+
+    /**
+     * Get the execution times of all executions in us.
+     *
+     * @return the histogram
+     */
+    public static Histogram getExecutionTimes() {
+        return EXECUTION_TIMES;
+    }
+}
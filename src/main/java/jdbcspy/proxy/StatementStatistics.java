@@ -1,5 +1,7 @@
 package jdbcspy.proxy;
 
+import jdbcspy.proxy.util.SqlFingerprint;
+
 /**
  * The StatementStatistics.
  */
@@ -19,6 +21,13 @@ public interface StatementStatistics extends Statistics {
      */
     long getExecutionTime();
 
+    /**
+     * The execution time in microseconds.
+     *
+     * @return long
+     */
+    long getExecutionTimeMicros();
+
     /**
      * The point of time when the execution starts.
      *
@@ -33,4 +42,18 @@ public interface StatementStatistics extends Statistics {
      */
     String getSQL();
 
+    /**
+     * Get the SQL code as prepared, without bind values.
+     *
+     * @return String
+     */
+    String getSQLTemplate();
+
+    /**
+     * Get the fingerprint of the SQL code, shared by all statements of the same shape.
+     *
+     * @return SqlFingerprint
+     */
+    SqlFingerprint getFingerprint();
+
 }
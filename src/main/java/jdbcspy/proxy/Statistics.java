@@ -26,6 +26,13 @@ public interface Statistics {
      */
     long getDuration();
 
+    /**
+     * The duration of the statement (execute + iteration time) in microseconds.
+     *
+     * @return long
+     */
+    long getDurationMicros();
+
     String dump();
 
 }
@@ -1,26 +1,32 @@
 package jdbcspy.proxy.handler;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLType;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import jdbcspy.ClientProperties;
+import jdbcspy.proxy.Governor;
+import jdbcspy.proxy.Overhead;
 import jdbcspy.proxy.ProxyResultSet;
-import jdbcspy.proxy.ResultSetMonitor;
+import jdbcspy.proxy.ResourceMonitor;
 import jdbcspy.proxy.ResultSetStatistics;
+import jdbcspy.proxy.StatementSampler;
 import jdbcspy.proxy.StatementStatistics;
-import jdbcspy.proxy.Statistics;
 import jdbcspy.proxy.exception.ProxyException;
 import jdbcspy.proxy.exception.ResourceNotClosedException;
 import jdbcspy.proxy.listener.CloseEvent;
@@ -29,7 +35,10 @@ import jdbcspy.proxy.listener.ExecutionFailedEvent;
 import jdbcspy.proxy.listener.ExecutionFailedListener;
 import jdbcspy.proxy.listener.ExecutionListener;
 import jdbcspy.proxy.listener.ResourceEvent;
+import jdbcspy.proxy.util.CallSites;
+import jdbcspy.proxy.util.SqlFingerprint;
 import jdbcspy.proxy.util.Utils;
+import jdbcspy.proxy.wrapper.ResultSetWrapper;
 
 /**
  * The statement handler.
@@ -52,6 +61,14 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
      * closed state
      */
     protected static final int CLOSED = 4;
+    /**
+     * the resolved action per invoked method
+     */
+    private static final Map<Method, Action> ACTIONS = new ConcurrentHashMap<>();
+    /**
+     * the number of result sets above which the unreachable ones are removed
+     */
+    private static final int MAX_RESULT_SET_COUNT = 16;
     /**
      * the logger object for tracing
      */
@@ -65,14 +82,32 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
      */
     private final String mSql;
     /**
-     * the generated result sets
+     * the generated result sets; the references are weak, otherwise the cleaner never sees a dropped result set of an
+     * open statement
+     */
+    private final List<WeakReference<ProxyResultSet>> mResultSets = new ArrayList<>();
+    /**
+     * the delegating wrapper of a result set closed by the application, reused for the next result set; its weak
+     * reference is still in the generated result sets
      */
-    private final Set<Object> mResultSets = new HashSet<>();
+    private ResultSetWrapper mRecycled;
 
     /**
-     * the open method
+     * the open method if the open site is not marked
      */
     private final String mOpenMethod;
+    /**
+     * the marked call site opening the statement, null if it is not captured
+     */
+    private CallSites.Mark mOpenSite;
+    /**
+     * the monitored resource
+     */
+    private ResourceMonitor.Resource mResource;
+    /**
+     * the connection the statistics are rolled up to
+     */
+    private ConnectionInvocationHandler mConnection;
     private final Utils utils = new Utils();
     /**
      * result set item count
@@ -87,13 +122,13 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
      */
     private int mState;
     /**
-     * just the execute time
+     * just the execute time in nanoseconds
      */
-    private long mExecTime;
+    private long mExecNanos;
     /**
-     * total duration of iteration
+     * total duration of iteration in nanoseconds
      */
-    private long mDuration;
+    private long mDurationNanos;
     /**
      * total size of iteration
      */
@@ -102,10 +137,22 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
      * the execution listener
      */
     private List<ExecutionListener> mExecListeners;
+    /**
+     * there are execution listeners to notify
+     */
+    private boolean mNotify;
     /**
      * the execution failed listener
      */
     private List<ExecutionFailedListener> mExecFailedListeners;
+    /**
+     * the execution event, reused for every execution
+     */
+    private final ExecutionEvent mExecutionEvent = new ExecutionEvent(this);
+    /**
+     * the close event
+     */
+    private final CloseEvent mCloseEvent = new CloseEvent(this);
     /**
      * get execute caller
      */
@@ -114,6 +161,18 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
      * the execution start time
      */
     private long mExecStartTime;
+    /**
+     * the execution start time of System.nanoTime
+     */
+    private long mExecStartNanos;
+    /**
+     * the fingerprint of mFingerprintSql
+     */
+    private SqlFingerprint mFingerprint;
+    /**
+     * the sql code of the fingerprint
+     */
+    private String mFingerprintSql;
 
     /**
      * Constructor.
@@ -129,8 +188,65 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
         mState = OPEN;
     }
 
+    public void setResource(final ResourceMonitor.Resource resource) {
+        mResource = resource;
+    }
+
+    /**
+     * Set the marked call site opening the statement.
+     *
+     * @param site the call site or null
+     */
+    public void setOpenSite(final CallSites.Mark site) {
+        mOpenSite = site;
+    }
+
+    /**
+     * Get the call site opening the statement, a marked call site is rendered on first use.
+     *
+     * @return the open method
+     */
+    private String getOpenMethod() {
+        return mOpenSite != null ? mOpenSite.toString() : mOpenMethod;
+    }
+
+    /**
+     * Set the connection the statistics are rolled up to.
+     *
+     * @param connection the connection handler
+     */
+    public void setConnection(final ConnectionInvocationHandler connection) {
+        mConnection = connection;
+    }
+
+    /**
+     * Get the url of the connection.
+     *
+     * @return String, null if unknown
+     */
+    public String getConnectionURL() {
+        return mConnection != null ? mConnection.getURL() : null;
+    }
+
+    /**
+     * Add the statistics of a result set. The duration and size are rolled up to the connection.
+     *
+     * @param nanos the duration in nanoseconds
+     * @param size  the size
+     * @param rows  the number of rows
+     */
+    void addStatistics(final long nanos, final long size, final int rows) {
+        mDurationNanos += nanos;
+        mSize += size;
+        mResultSetItemCount += rows;
+        if (mConnection != null) {
+            mConnection.addStatistics(nanos, size);
+        }
+    }
+
     public void setExecutionListener(final List<ExecutionListener> listener) {
         mExecListeners = listener;
+        mNotify = !listener.isEmpty();
     }
 
     public void setExecutionFailedListener(final List<ExecutionFailedListener> listener) {
@@ -144,92 +260,92 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
     public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
 
         try {
-            if ("toString".equals(method.getName())) {
+            final Action action = ACTIONS.computeIfAbsent(method, AbstractStatementInvocationHandler::classify);
+
+            if (action == Action.TO_STRING) {
                 return toString();
             }
 
             mTrace.trace("call method: {}.{}", uStatement::getClass, () -> Utils.getMethodSignature(method, args));
 
-            if ("close".equals(method.getName())) {
-                return handleClose(proxy, method, args, true);
-            }
-            else if ("checkClosed".equals(method.getName())) {
-                handleCheckClosed(proxy);
-                return null;
-            }
-            else if ("isClosed".equals(method.getName())) {
-                return mState == CLOSED;
-            }
-            else if ("getExecutionStartTime".equals(method.getName())) {
-                return getExecutionStartTime();
-            }
-            else if ("getExecutionTime".equals(method.getName())) {
-                return getExecutionTime();
-            }
-            else if ("getExecuteCaller".equals(method.getName())) {
-                return getExecuteCaller();
-            }
-            else if ("getSQL".equals(method.getName())) {
-                return getSQL();
-            }
-            else if ("getDuration".equals(method.getName())) {
-                return getDuration();
-            }
-            else if ("getSize".equals(method.getName())) {
-                return getSize();
-            }
-            else if ("getItemCount".equals(method.getName())) {
-                return getItemCount();
-            }
-            else if ("endTx".equals(method.getName())) {
-                handleClose(proxy, null, null, false);
-                return true;
-            }
-            else {
-                handle(method, args);
-            }
-
-            final boolean exe = method.getName().startsWith("execute");
-            if (exe || method.getName().startsWith("getResult")) {
-                if (exe && args != null && args.length == 1 && ((String) args[0]).startsWith("dbproxy ")) {
-                    return handleDbProxy(method.getName(), ((String) args[0]).substring(8));
+            switch (action) {
+                case CLOSE -> {
+                    return handleClose(proxy, a -> MethodInvoker.invoke(method, uStatement, a), args, true);
                 }
-                else {
-                    return handleTimedMethod(proxy, method, args);
+                case CHECK_CLOSED -> {
+                    handleCheckClosed(proxy);
+                    return null;
+                }
+                case IS_CLOSED -> {
+                    return isClosed();
+                }
+                case GET_EXECUTION_START_TIME -> {
+                    return getExecutionStartTime();
+                }
+                case GET_EXECUTION_TIME -> {
+                    return getExecutionTime();
+                }
+                case GET_EXECUTION_TIME_MICROS -> {
+                    return getExecutionTimeMicros();
+                }
+                case GET_EXECUTE_CALLER -> {
+                    return getExecuteCaller();
+                }
+                case GET_SQL -> {
+                    return getSQL();
+                }
+                case GET_SQL_TEMPLATE -> {
+                    return getSQLTemplate();
+                }
+                case GET_FINGERPRINT -> {
+                    return getFingerprint();
+                }
+                case GET_DURATION -> {
+                    return getDuration();
+                }
+                case GET_DURATION_MICROS -> {
+                    return getDurationMicros();
+                }
+                case GET_SIZE -> {
+                    return getSize();
+                }
+                case GET_ITEM_COUNT -> {
+                    return getItemCount();
+                }
+                case END_TX -> {
+                    return endTx(proxy);
+                }
+                case CLOSE_IMPLICITLY -> {
+                    closeImplicitly(proxy);
+                    return null;
+                }
+                case EXECUTE -> {
+                    return handleExecute(proxy, method.getName(), args, a -> MethodInvoker.invoke(method, uStatement, a));
+                }
+                case REGISTER_OUT_PARAMETER ->
+                    handleRegisterOutParameter(args[0], args[1] instanceof SQLType ? ((SQLType) args[1]).getName() : Utils.getTypeName((Number) args[1]));
+                case SET -> handleSet(method.getName(), args[0], args[1]);
+                case ADD_BATCH -> handleAddBatch();
+                default -> {
                 }
             }
 
             // all other calls
-            return method.invoke(uStatement, args);
-        }
-        catch (final InvocationTargetException e) {
-            mTrace.atError().withThrowable(e)
-                    .log("execution {}{} failed for {} in method {}", method.getName(), getArgs(args), getSQL(), Utils.getExecClass(proxy));
-
-            final ExecutionFailedEvent event = new ExecutionFailedEvent(toString(), e.getCause());
-
-            for (final ExecutionFailedListener listener : mExecFailedListeners) {
-                listener.executionFailed(event);
-            }
-
-            throw e.getCause();
+            return MethodInvoker.invoke(method, uStatement, args);
         }
         catch (final ProxyException e) {
-
-            final ResourceEvent event = new ResourceEvent(e, e.getOpenMethod(), Utils.getExecClass(proxy));
-
-            for (final ExecutionListener listener : mExecListeners) {
-                listener.resourceFailure(event);
-            }
-            if (ClientProperties.Field.DB_THROW_WARNINGS.getBooleanValue()) {
+            if (handleResourceFailure(proxy, e)) {
                 throw e;
             }
             return null;
         }
+        catch (final SQLException e) {
+            throw handleFailure(proxy, method.getName(), args, e);
+        }
         catch (final Exception e) {
             mTrace.atError().withThrowable(e).log("statement access failed for {}{}", method.getName(), getArgs(args));
 
-            final ExecutionFailedEvent event = new ExecutionFailedEvent(toString(), e);
+            final ExecutionFailedEvent event = new ExecutionFailedEvent(this, e);
 
             for (final ExecutionFailedListener listener : mExecFailedListeners) {
                 listener.executionFailed(event);
@@ -239,13 +355,143 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
         }
     }
 
+    /**
+     * Resolve the action of a statement method. Called once per method.
+     *
+     * @param method the method
+     * @return the action
+     */
+    private static Action classify(final Method method) {
+        final String name = method.getName();
+        final int params = method.getParameterCount();
+
+        return switch (name) {
+            case "toString" -> params == 0 ? Action.TO_STRING : Action.DELEGATE;
+            case "close" -> Action.CLOSE;
+            case "checkClosed" -> Action.CHECK_CLOSED;
+            case "isClosed" -> Action.IS_CLOSED;
+            case "getExecutionStartTime" -> Action.GET_EXECUTION_START_TIME;
+            case "getExecutionTime" -> Action.GET_EXECUTION_TIME;
+            case "getExecutionTimeMicros" -> Action.GET_EXECUTION_TIME_MICROS;
+            case "getExecuteCaller" -> Action.GET_EXECUTE_CALLER;
+            case "getSQL" -> Action.GET_SQL;
+            case "getSQLTemplate" -> Action.GET_SQL_TEMPLATE;
+            case "getFingerprint" -> Action.GET_FINGERPRINT;
+            case "getDuration" -> Action.GET_DURATION;
+            case "getDurationMicros" -> Action.GET_DURATION_MICROS;
+            case "getSize" -> Action.GET_SIZE;
+            case "getItemCount" -> Action.GET_ITEM_COUNT;
+            case "endTx" -> Action.END_TX;
+            case "closeImplicitly" -> Action.CLOSE_IMPLICITLY;
+            case "getResultSet" -> Action.EXECUTE;
+            case "addBatch" -> Action.ADD_BATCH;
+            default -> {
+                if (name.startsWith("execute")) {
+                    yield Action.EXECUTE;
+                }
+                if (name.startsWith("registerOutParameter") && params >= 2) {
+                    yield Action.REGISTER_OUT_PARAMETER;
+                }
+                if (name.startsWith("set") && params >= 2) {
+                    yield Action.SET;
+                }
+                yield Action.DELEGATE;
+            }
+        };
+    }
+
+    /**
+     * Handle an execute method or the getResultSet method.
+     *
+     * @param proxy  the proxy
+     * @param method the method name
+     * @param args   the arguments
+     * @param call   the call of the underlying statement
+     * @param <E>    the exception thrown by the underlying call
+     * @return the return value
+     * @throws E on error
+     */
+    public <E extends Throwable> Object handleExecute(final Object proxy, final String method, final Object[] args, final Invocation<E> call) throws E {
+        if (method.startsWith("execute") && args != null && args.length == 1 && ((String) args[0]).startsWith("dbproxy ")) {
+            return handleDbProxy(method, ((String) args[0]).substring(8));
+        }
+        final String sql = method.startsWith("execute") && args != null && args.length > 0 ? args[0].toString() : null;
+
+        return handleTimedMethod(proxy, method, sql, args, (a, s) -> {
+            if (s != null) {
+                a[0] = s;
+            }
+            return call.invoke(a);
+        });
+    }
+
+    /**
+     * Handle an execute method or the getResultSet method of a delegating wrapper. The sql code is passed directly and
+     * the call receives the underlying statement, so the wrappers need no argument array and no capturing lambda.
+     *
+     * @param proxy     the proxy
+     * @param method    the method name
+     * @param statement the underlying statement
+     * @param sql       the sql code of Statement.execute*(String), null for the other methods
+     * @param call      the call of the underlying statement
+     * @param <S>       the type of the underlying statement
+     * @param <E>       the exception thrown by the underlying call
+     * @return the return value
+     * @throws E on error
+     */
+    public <S extends Statement, E extends Throwable> Object handleExecute(final Object proxy, final String method, final S statement, final String sql,
+                                                                           final SqlInvocation<S, E> call) throws E {
+        if (sql != null && sql.startsWith("dbproxy ")) {
+            return handleDbProxy(method, sql.substring(8));
+        }
+        return handleTimedMethod(proxy, method, sql, statement, call);
+    }
+
+    /**
+     * Handle a failed call of the underlying statement.
+     *
+     * @param proxy  the proxy
+     * @param method the method name
+     * @param args   the arguments
+     * @param cause  the cause
+     * @param <T>    the type of the cause
+     * @return the cause to be rethrown
+     */
+    public <T extends Throwable> T handleFailure(final Object proxy, final String method, final Object[] args, final T cause) {
+        mTrace.atError().withThrowable(cause).log("execution {}{} failed for {} in method {}", method, getArgs(args), getSQL(), captureCaller(proxy));
+
+        final ExecutionFailedEvent event = new ExecutionFailedEvent(this, cause);
+
+        for (final ExecutionFailedListener listener : mExecFailedListeners) {
+            listener.executionFailed(event);
+        }
+
+        return cause;
+    }
+
+    /**
+     * Notify the listeners about a resource failure.
+     *
+     * @param proxy the proxy
+     * @param e     the resource failure
+     * @return true if the failure shall be thrown
+     */
+    private boolean handleResourceFailure(final Object proxy, final ProxyException e) {
+        final ResourceEvent event = new ResourceEvent(e, e.getOpenMethod(), Utils.getExecClass(proxy));
+
+        for (final ExecutionListener listener : mExecListeners) {
+            listener.resourceFailure(event);
+        }
+        return ClientProperties.snapshot().isThrowWarnings();
+    }
+
     private Object handleDbProxy(final String method, String cmd) {
         mTrace.info("execute dbproxy command '{}'", cmd);
 
         try {
             if (cmd.startsWith("get ")) {
                 final String key = cmd.substring(4);
-                final Object value = ClientProperties.getProperty(key);
+                final Object value = Governor.PROPERTY.equals(key) ? Governor.describe() : ClientProperties.getProperty(key);
                 mTrace.info("Proxy property {}={}", key, value);
 
                 if (value == null) {
@@ -265,10 +511,10 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
                     ClientProperties.setProperty(key, Integer.valueOf(value));
                 }
                 else if (ClientProperties.getLongKeys().contains(key)) {
-                    ClientProperties.setProperty(key, Integer.valueOf(value));
+                    ClientProperties.setProperty(key, Long.valueOf(value));
                 }
                 else if (ClientProperties.getListKeys().contains(key)) {
-                    ClientProperties.setProperty(key, value);
+                    ClientProperties.setProperty(key, new ArrayList<>(Arrays.asList(value.split(","))));
                 }
                 else {
                     mTrace.info("key {} does not exist.", key);
@@ -293,66 +539,150 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
         }
     }
 
-    protected void handle(final Method method, final Object[] args) throws SQLException {
+
+    /**
+     * Handle the registerOutParameter method.
+     *
+     * @param key      the parameter index or name
+     * @param typeName the sql type name
+     */
+    public void handleRegisterOutParameter(final Object key, final String typeName) {
+    }
+
+    /**
+     * Handle the setXXX method.
+     *
+     * @param method the method name
+     * @param key    the parameter index or name
+     * @param value  the value
+     * @throws SQLException on sql exception
+     */
+    public void handleSet(final String method, final Object key, final Object value) throws SQLException {
+    }
+
+    /**
+     * Handle the addBatch method.
+     */
+    public void handleAddBatch() {
+    }
+
+    /**
+     * Handle the endTx method.
+     *
+     * @param proxy the proxy
+     * @return true
+     */
+    public boolean endTx(final Object proxy) {
+        handleClose(proxy, null, null, false);
+        return true;
+    }
+
+    /**
+     * Handle the implicit close by the connection.
+     *
+     * @param proxy the proxy
+     */
+    public void closeImplicitly(final Object proxy) {
+        handleClose(proxy, null, null, false);
+    }
+
+    /**
+     * Handle the checkClosed method of a delegating wrapper.
+     *
+     * @param proxy the proxy
+     */
+    public void checkClosed(final Object proxy) {
+        try {
+            handleCheckClosed(proxy);
+        }
+        catch (final ProxyException e) {
+            if (handleResourceFailure(proxy, e)) {
+                // same as the reflective proxy, which cannot declare the checked exception either
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+    }
+
+    /**
+     * Is the statement closed?
+     *
+     * @return boolean
+     */
+    public boolean isClosed() {
+        return mState == CLOSED;
     }
 
     /**
      * Handle the close method.
      *
-     * @param proxy  the proxy
-     * @param method the method
-     * @param args   the arguments
+     * @param proxy       the proxy
+     * @param close       the close call of the underlying statement, null if the statement is closed implicitly
+     * @param args        the arguments
+     * @param checkClosed check that all result sets are closed
+     * @param <E>         the exception thrown by the underlying call
      * @return the return value
-     * @throws Throwable on error
+     * @throws E on error
      */
-    protected Object handleClose(final Object proxy, final Method method, final Object[] args, final boolean checkClosed) throws Throwable {
+    public <E extends Throwable> Object handleClose(final Object proxy, final Invocation<E> close, final Object[] args, final boolean checkClosed) throws E {
 
         if (mState == CLOSED) {
             return false;
         }
 
         mState = CLOSED;
+        if (mResource != null) {
+            mResource.close();
+        }
         Object ret = null;
 
         try {
-            if (method != null) {
-                ret = method.invoke(uStatement, args);
+            if (close != null) {
+                ret = close.invoke(args);
             }
 
-            synchronized (mResultSets) {
-                if (checkClosed) {
-                    for (final Object o : mResultSets) {
-                        final ProxyResultSet c = (ProxyResultSet) o;
-                        c.checkClosed();
+            if (checkClosed) {
+                synchronized (mResultSets) {
+                    for (final WeakReference<ProxyResultSet> ref : mResultSets) {
+                        final ProxyResultSet c = ref.get();
+                        if (c != null) {
+                            c.checkClosed();
+                        }
                     }
                 }
-
-                for (final Object o : mResultSets) {
-                    final Statistics c = (Statistics) o;
-                    mDuration += c.getDuration();
-                    mSize += c.getSize();
-                    mResultSetItemCount += c.getItemCount();
-                }
             }
 
         }
         finally {
             synchronized (mResultSets) {
+                // the result sets are closed with the statement
+                for (final WeakReference<ProxyResultSet> ref : mResultSets) {
+                    final ProxyResultSet c = ref.get();
+                    if (c != null) {
+                        c.closeImplicitly();
+                    }
+                }
                 mResultSets.clear();
+                mRecycled = null;
             }
 
-            final CloseEvent event = new CloseEvent(this);
-
-            for (final ExecutionListener listener : mExecListeners) {
-                listener.closeStatement(event);
+            if (mNotify && Governor.isNotifyListeners()) {
+                final long t = Overhead.start();
+                final long b = Overhead.allocated(t);
+                for (final ExecutionListener listener : mExecListeners) {
+                    listener.closeStatement(mCloseEvent);
+                }
+                Overhead.record(Overhead.Source.STATEMENT, Overhead.Phase.LISTENERS, t, b);
             }
         }
 
-        final boolean displayStmt = mDuration >= ClientProperties.Field.DB_STMT_TOTAL_TIME_THRESHOLD.getLongValue()
-                || mSize >= ClientProperties.Field.DB_STMT_TOTAL_SIZE_THRESHOLD.getLongValue();
+        final ClientProperties.Snapshot config = ClientProperties.snapshot();
+        final boolean displayStmt = mDurationNanos / 1_000_000 >= config.getStmtTotalTimeThreshold() || mSize >= config.getStmtTotalSizeThreshold();
 
         if (displayStmt) {
-            mTrace.info("{}closed statement {} in {}", method == null ? "implicitly " : "", this, Utils.getExecClass(proxy));
+            final long t = Overhead.start();
+            final long b = Overhead.allocated(t);
+            mTrace.info("{}closed statement {} in {}", close == null ? "implicitly " : "", this, Utils.getExecClass(proxy));
+            Overhead.record(Overhead.Source.STATEMENT, Overhead.Phase.LOGGING, t, b);
         }
 
         return ret;
@@ -361,31 +691,49 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
     /**
      * Handle the execute method.
      *
-     * @param proxy  the proxy
-     * @param method the method
-     * @param args   the arguments
+     * @param proxy     the proxy
+     * @param method    the method name
+     * @param directSql the sql code passed to the execute method, null if there is none
+     * @param target    the target of the call
+     * @param call      the call of the underlying statement, it receives the sql code without hints if they are removed
+     * @param <T>       the type of the target
+     * @param <E>       the exception thrown by the underlying call
      * @return Object the return object
-     * @throws Throwable on error
+     * @throws E on error
      */
-    private Object handleTimedMethod(final Object proxy, final Method method, final Object[] args) throws Throwable {
+    private <T, E extends Throwable> Object handleTimedMethod(final Object proxy, final String method, final String directSql, final T target,
+                                                              final SqlInvocation<T, E> call) throws E {
+        final long overhead = Overhead.start();
+        final long allocated = Overhead.allocated(overhead);
         Object result;
         final long start;
-        ExecutionEvent event = null;
+        final ClientProperties.Snapshot config = ClientProperties.snapshot();
+        final boolean notify = mNotify && Governor.isNotifyListeners();
+        boolean sampled = true;
+        String execSql = directSql;
 
         try {
-            if (method.getName().startsWith("execute") && args != null && args.length > 0) {
-                args[0] = (ClientProperties.Field.DB_REMOVE_HINTS.getBooleanValue() ? Utils.removeHints(args[0].toString()) : args[0].toString());
-                mDirectSql = (String) args[0];
+            if (directSql != null) {
+                execSql = config.isRemoveHints() ? Utils.removeHints(directSql) : directSql;
+                mDirectSql = execSql;
+                if (mResource != null) {
+                    mResource.setDescription(mDirectSql);
+                }
             }
 
-            mExecCaller = Utils.getExecClass(proxy);
+            sampled = StatementSampler.sample(this, config);
+
+            // without listeners the caller is only captured if a result set or the log needs it
+            mExecCaller = null;
+            if (notify && sampled) {
+                captureCaller(proxy);
+            }
             mExecStartTime = System.currentTimeMillis();
+            mExecStartNanos = System.nanoTime();
             mState = EXECUTING;
 
-            event = new ExecutionEvent(this);
-
-            for (final ExecutionListener listener : mExecListeners) {
-                listener.startExecution(event);
+            if (notify && sampled) {
+                notifyStart();
             }
         }
         catch (final RuntimeException e) {
@@ -393,30 +741,71 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
         }
 
         Object retObject;
-        start = System.currentTimeMillis();
+        final long callAllocated = Overhead.allocated(overhead);
+        start = System.nanoTime();
         long dur = 0;
+        long driverAllocated = 0;
 
         try {
-            result = method.invoke(uStatement, args);
+            result = call.invoke(target, execSql);
 
-            dur = (System.currentTimeMillis() - start);
+            dur = (System.nanoTime() - start);
+            driverAllocated = Overhead.allocated(overhead) - callAllocated;
             mState = EXECUTED;
             retObject = result;
 
             if (result instanceof ResultSet) {
-                final ResultSet proxyRs = getResultSetProxy((ResultSet) result, getSQL(), Utils.getExecClass(proxy));
+                final long t = Overhead.start();
+                final long b = Overhead.allocated(t);
+                final String sql = getDisplaySql();
+                Overhead.record(Overhead.Source.STATEMENT, Overhead.Phase.RENDERING, t, b);
+
+                // the execution site opens the result set, it is only marked if no listener has captured it
+                CallSites.Mark site = null;
+                if (mExecCaller == null) {
+                    site = config.isCaptureOpenSite() ? markCaller(proxy) : null;
+                    if (site == null) {
+                        site = mOpenSite;
+                    }
+                }
+                final String openMethod = mExecCaller != null ? mExecCaller : mOpenMethod;
+
+                ResultSetWrapper recycled = null;
+                if (config.isDelegatingWrappers()) {
+                    synchronized (mResultSets) {
+                        recycled = mRecycled;
+                        mRecycled = null;
+                    }
+                }
+
+                final ResultSetInvocationHandler handler;
+                final ResultSet proxyRs;
+                if (recycled != null) {
+                    handler = recycled.reopen((ResultSet) result);
+                    handler.reopen((ResultSet) result, sql, openMethod);
+                    proxyRs = recycled;
+                }
+                else {
+                    handler = new ResultSetInvocationHandler((ResultSet) result, sql, openMethod);
+                    handler.setStatement(this);
+                    proxyRs = getResultSetProxy((ResultSet) result, handler);
 
-                if (proxyRs instanceof ProxyResultSet) {
                     synchronized (mResultSets) {
-                        mResultSets.add(proxyRs);
+                        if (mResultSets.size() >= MAX_RESULT_SET_COUNT) {
+                            mResultSets.removeIf(ref -> ref.get() == null);
+                        }
+                        mResultSets.add(new WeakReference<>((ProxyResultSet) proxyRs));
                     }
+                }
+                handler.setOpenSite(site);
 
-                    ResultSetMonitor.registerResultSet((ProxyResultSet) proxyRs, getSQL());
+                if (config.isLeakDetection()) {
+                    handler.setResource(ResourceMonitor.register(proxyRs, ResourceMonitor.Kind.RESULT_SET, sql, openMethod, site));
                 }
 
                 retObject = proxyRs;
             }
-            else if ("executeUpdate".equals(method.getName())) {
+            else if ("executeUpdate".equals(method)) {
                 final Integer upd = (Integer) result;
                 mResultSetItemCount += upd;
             }
@@ -424,30 +813,135 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
         finally {
             mState = EXECUTED;
 
-            mDuration += dur;
-            mExecTime += dur;
+            mDurationNanos += dur;
+            mExecNanos += dur;
+            if (mConnection != null) {
+                mConnection.addStatistics(dur, 0);
+            }
+
+            StatementSampler.record(dur / 1000);
 
-            for (final ExecutionListener listener : mExecListeners) {
-                listener.endExecution(event);
+            final boolean overThreshold = dur / 1_000_000 >= config.getStmtExecuteTimeThreshold();
+            if (notify && !sampled && overThreshold && config.isStmtSampleOverThreshold()) {
+                // report the unsampled execution after the fact
+                captureCaller(proxy);
+                sampled = true;
+                notifyStart();
+            }
+
+            if (notify && sampled) {
+                final long t = Overhead.start();
+                final long b = Overhead.allocated(t);
+                for (final ExecutionListener listener : mExecListeners) {
+                    listener.endExecution(mExecutionEvent);
+                }
+                Overhead.record(Overhead.Source.STATEMENT, Overhead.Phase.LISTENERS, t, b);
             }
         }
 
-        boolean infoLevel = dur >= ClientProperties.Field.DB_STMT_EXECUTE_TIME_THRESHOLD.getLongValue();
+        boolean infoLevel = dur / 1_000_000 >= config.getStmtExecuteTimeThreshold() && (sampled || config.isStmtSampleOverThreshold());
 
-        if (!infoLevel) {
+        if (!infoLevel && sampled && config.isTraceStatements() && Governor.isRenderSql()) {
+            final long t = Overhead.start();
+            final long b = Overhead.allocated(t);
             infoLevel = (Utils.isTrace(getSQL()) != null);
+            Overhead.record(Overhead.Source.STATEMENT, Overhead.Phase.RENDERING, t, b);
         }
 
-        if (infoLevel) {
-            mTrace.info(getPrintString(method.getName(), result, dur, mExecCaller));
+        if (infoLevel || sampled && mTrace.isTraceEnabled()) {
+            final String caller = captureCaller(proxy);
+            long t = Overhead.start();
+            long b = Overhead.allocated(t);
+            final String txt = getPrintString(method, result, dur / 1000, caller);
+            Overhead.record(Overhead.Source.STATEMENT, Overhead.Phase.RENDERING, t, b);
+
+            t = Overhead.start();
+            b = Overhead.allocated(t);
+            if (infoLevel) {
+                mTrace.info(txt);
+            }
+            else {
+                mTrace.trace(txt);
+            }
+            Overhead.record(Overhead.Source.STATEMENT, Overhead.Phase.LOGGING, t, b);
         }
-        else if (mTrace.isTraceEnabled()) {
-            mTrace.trace(getPrintString(method.getName(), result, dur, mExecCaller));
+
+        if (overhead != 0) {
+            Overhead.add(Overhead.Source.STATEMENT, Overhead.Phase.DISPATCH, System.nanoTime() - overhead - dur,
+                    Overhead.allocated(overhead) - allocated - driverAllocated);
         }
 
         return retObject;
     }
 
+    /**
+     * Keep the wrapper of a result set closed by the application for the next result set, unless the statement is
+     * closed.
+     *
+     * @param wrapper the closed wrapper
+     */
+    void recycle(final ResultSetWrapper wrapper) {
+        synchronized (mResultSets) {
+            if (mState != CLOSED) {
+                mRecycled = wrapper;
+            }
+        }
+    }
+
+    /**
+     * Notify the listeners about the start of an execution.
+     */
+    private void notifyStart() {
+        final long t = Overhead.start();
+        final long b = Overhead.allocated(t);
+        for (final ExecutionListener listener : mExecListeners) {
+            listener.startExecution(mExecutionEvent);
+        }
+        Overhead.record(Overhead.Source.STATEMENT, Overhead.Phase.LISTENERS, t, b);
+    }
+
+    /**
+     * Capture the caller of the current execution if it has not been captured yet.
+     *
+     * @param proxy the proxy
+     * @return the caller
+     */
+    private String captureCaller(final Object proxy) {
+        if (mExecCaller == null && Governor.isCaptureCaller()) {
+            final long t = Overhead.start();
+            final long b = Overhead.allocated(t);
+            mExecCaller = Utils.getExecClass(proxy);
+            Overhead.record(Overhead.Source.STATEMENT, Overhead.Phase.CALLER, t, b);
+        }
+        return getExecuteCaller();
+    }
+
+    /**
+     * Mark the call site of the current execution.
+     *
+     * @param proxy the proxy
+     * @return the call site, null if the governor has dropped the caller capture
+     */
+    private CallSites.Mark markCaller(final Object proxy) {
+        if (!Governor.isCaptureCaller()) {
+            return null;
+        }
+        final long t = Overhead.start();
+        final long b = Overhead.allocated(t);
+        final CallSites.Mark site = CallSites.mark(proxy);
+        Overhead.record(Overhead.Source.STATEMENT, Overhead.Phase.CALLER, t, b);
+        return site;
+    }
+
+    /**
+     * Get the sql code for the log, without the parameters if the governor has dropped the rendering.
+     *
+     * @return the sql code
+     */
+    private String getDisplaySql() {
+        return Governor.isRenderSql() ? getSQL() : getSQLTemplate();
+    }
+
     /**
      * Get the print string.
      *
@@ -457,8 +951,8 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
      * @param methodCall the method call
      * @return String
      */
-    private String getPrintString(final String method, final Object result, final long dur, final String methodCall) {
-        final StringBuilder txt = new StringBuilder("finished " + method + " in " + Utils.getTimeString(dur) + " (" + getSQL() + ")");
+    private String getPrintString(final String method, final Object result, final long durMicros, final String methodCall) {
+        final StringBuilder txt = new StringBuilder("finished " + method + " in " + Utils.getMicroTimeString(durMicros) + " (" + getDisplaySql() + ")");
 
         if (result instanceof Boolean) {
             txt.append(": ");
@@ -507,13 +1001,14 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
     /**
      * Get a ResultSet proxy.
      *
-     * @param rs         the original ResultSet
-     * @param sql        the sql command
-     * @param openMethod the open method
+     * @param rs      the original ResultSet
+     * @param handler the result set handler
      * @return ResultSet
      */
-    private ResultSet getResultSetProxy(final ResultSet rs, final String sql, final String openMethod) {
-        final InvocationHandler handler = new ResultSetInvocationHandler(rs, sql, openMethod);
+    private ResultSet getResultSetProxy(final ResultSet rs, final ResultSetInvocationHandler handler) {
+        if (ClientProperties.snapshot().isDelegatingWrappers()) {
+            return new ResultSetWrapper(rs, handler);
+        }
 
         return (ResultSet) Proxy.newProxyInstance(
                 ProxyResultSet.class.getClassLoader(),
@@ -529,7 +1024,7 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
     @Override
     public String toString() {
         return "\"" + getSQL() + "\"" + (mState != OPEN
-                ? " (" + Utils.getTimeString(getExecutionTime()) + (mState != EXECUTING ? " + " + Utils.getTimeString(getDuration() - getExecutionTime()) : "")
+                ? " (" + Utils.getMicroTimeString(getExecutionTimeMicros()) + (mState != EXECUTING ? " + " + Utils.getMicroTimeString(getDurationMicros() - getExecutionTimeMicros()) : "")
                 + "; #=" + getItemCount() + (getSize() > 0 ? "; size=" + Utils.getSizeString(getSize()) : "") + ") "
                 : " ") + (mState != OPEN ? (mState == EXECUTING ? "executing" : "executed") + " since " + utils.MILLI_TIME_FORMATTER.format(
                 new Date(getExecutionStartTime())) + " in " + getExecuteCaller() : " not executed");
@@ -543,13 +1038,13 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
      */
     private void handleCheckClosed(final Object proxy) throws ProxyException {
 
-        if (!ClientProperties.Field.DB_IGNORE_NOT_CLOSED_OBJECTS.getBooleanValue() && mState != CLOSED) {
+        if (!ClientProperties.snapshot().isIgnoreNotClosedObjects() && mState != CLOSED) {
 
             final String txt =
-                    "The statement \"" + getSQL() + "\" opened in " + mOpenMethod + " (connection closed in " + Utils.getExecClass(proxy) + ") was not closed.";
+                    "The statement \"" + getSQL() + "\" opened in " + getOpenMethod() + " (connection closed in " + Utils.getExecClass(proxy) + ") was not closed.";
             final ResourceNotClosedException proxyExc = new ResourceNotClosedException(txt);
 
-            proxyExc.setOpenMethod(mOpenMethod);
+            proxyExc.setOpenMethod(getOpenMethod());
             throw proxyExc;
         }
     }
@@ -561,7 +1056,8 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
      */
     @Override
     public String getExecuteCaller() {
-        return mExecCaller;
+        // not captured if neither a listener nor the log needed it
+        return mExecCaller != null ? mExecCaller : getOpenMethod();
     }
 
     /**
@@ -581,30 +1077,64 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
      */
     @Override
     public long getExecutionTime() {
+        return getExecutionTimeMicros() / 1000;
+    }
+
+    /**
+     * Get the execution time in microseconds.
+     *
+     * @return long
+     */
+    @Override
+    public long getExecutionTimeMicros() {
         if (mState == EXECUTING) {
-            return (System.currentTimeMillis() - mExecStartTime);
+            return (System.nanoTime() - mExecStartNanos) / 1000;
         }
         else {
-            return mExecTime;
+            return mExecNanos / 1000;
         }
     }
 
     /**
-     * Get the SQL Code.
+     * Get the SQL Code without bind values.
      *
      * @return the sql code
      */
     @Override
-    public String getSQL() {
-        String sql;
+    public String getSQLTemplate() {
         if (mSql == null) {
-            sql = (mDirectSql != null ? mDirectSql : "");
+            return (mDirectSql != null ? mDirectSql : "");
         }
-        else {
-            sql = mSql;
+        return mSql;
+    }
+
+    /**
+     * Get the fingerprint of the SQL Code.
+     *
+     * @return the fingerprint
+     */
+    @Override
+    public SqlFingerprint getFingerprint() {
+        final String sql = getSQLTemplate();
+        SqlFingerprint f = mFingerprint;
+        if (f == null || sql != mFingerprintSql) {
+            f = SqlFingerprint.of(sql);
+            mFingerprint = f;
+            mFingerprintSql = sql;
         }
+        return f;
+    }
 
-        final int maxLen = ClientProperties.Field.DB_DISPLAY_SQL_STRING_MAXLEN.getIntValue();
+    /**
+     * Get the SQL Code.
+     *
+     * @return the sql code
+     */
+    @Override
+    public String getSQL() {
+        String sql = getSQLTemplate();
+
+        final int maxLen = ClientProperties.snapshot().getDisplaySqlStringMaxlen();
         if (maxLen > 0 && sql.length() > maxLen) {
             sql = sql.substring(0, maxLen) + "...";
         }
@@ -618,21 +1148,21 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
      */
     @Override
     public long getDuration() {
+        return getDurationMicros() / 1000;
+    }
+
+    /**
+     * Get the total duration in microseconds.
+     *
+     * @return long
+     */
+    @Override
+    public long getDurationMicros() {
         if (mState == EXECUTING) {
-            return (System.currentTimeMillis() - mExecStartTime);
-        }
-        else if (mState == EXECUTED) {
-            long l = 0;
-            synchronized (mResultSets) {
-                for (final Object mResultSet : mResultSets) {
-                    final Statistics c = (Statistics) mResultSet;
-                    l += c.getDuration();
-                }
-            }
-            return l + mDuration;
+            return (System.nanoTime() - mExecStartNanos) / 1000;
         }
 
-        return mDuration;
+        return mDurationNanos / 1000;
     }
 
     /**
@@ -642,16 +1172,6 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
      */
     @Override
     public long getSize() {
-        if (mState != CLOSED) {
-            long l = 0;
-            synchronized (mResultSets) {
-                for (final Object mResultSet : mResultSets) {
-                    final Statistics c = (Statistics) mResultSet;
-                    l += c.getSize();
-                }
-            }
-            return l + mSize;
-        }
         return mSize;
     }
 
@@ -662,16 +1182,6 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
      */
     @Override
     public int getItemCount() {
-        if (mState != CLOSED) {
-            int l = 0;
-            synchronized (mResultSets) {
-                for (final Object mResultSet : mResultSets) {
-                    final Statistics c = (Statistics) mResultSet;
-                    l += c.getItemCount();
-                }
-            }
-            return l;
-        }
         return mResultSetItemCount;
     }
 
@@ -701,4 +1211,12 @@ public abstract class AbstractStatementInvocationHandler implements InvocationHa
         return toString();
     }
 
+    /**
+     * The action taken for an invoked statement method.
+     */
+    private enum Action {
+        TO_STRING, CLOSE, CHECK_CLOSED, IS_CLOSED, GET_EXECUTION_START_TIME, GET_EXECUTION_TIME, GET_EXECUTION_TIME_MICROS,
+        GET_EXECUTE_CALLER, GET_SQL, GET_SQL_TEMPLATE, GET_FINGERPRINT, GET_DURATION, GET_DURATION_MICROS, GET_SIZE, GET_ITEM_COUNT, END_TX,
+        CLOSE_IMPLICITLY, EXECUTE, REGISTER_OUT_PARAMETER, SET, ADD_BATCH, DELEGATE
+    }
 }
@@ -1,7 +1,7 @@
 package jdbcspy.proxy.handler;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -10,6 +10,9 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
@@ -17,14 +20,17 @@ import org.apache.logging.log4j.Logger;
 
 import jdbcspy.ClientProperties;
 import jdbcspy.proxy.ConnectionStatistics;
+import jdbcspy.proxy.Governor;
+import jdbcspy.proxy.Overhead;
 import jdbcspy.proxy.ProxyStatement;
+import jdbcspy.proxy.ResourceMonitor;
 import jdbcspy.proxy.StatementFactory;
-import jdbcspy.proxy.Statistics;
 import jdbcspy.proxy.exception.ProxyException;
 import jdbcspy.proxy.listener.ConnectionEvent;
 import jdbcspy.proxy.listener.ConnectionListener;
 import jdbcspy.proxy.listener.ExecutionListener;
 import jdbcspy.proxy.listener.ResourceEvent;
+import jdbcspy.proxy.util.CallSites;
 import jdbcspy.proxy.util.Utils;
 
 /**
@@ -36,6 +42,10 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
      * the logger object for tracing
      */
     private static final Logger mTrace = LogManager.getLogger("jdbcspy.connection");
+    /**
+     * the resolved action per invoked method
+     */
+    private static final Map<Method, Action> ACTIONS = new ConcurrentHashMap<>();
 
     /**
      * max statement count
@@ -48,9 +58,10 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
     private final Connection uConnection;
 
     /**
-     * all generated statements
+     * all generated statements, weakly referenced so that a statement leaked by the application becomes unreachable
+     * while the connection is open
      */
-    private final List<ProxyStatement> mStatements = new LinkedList<>();
+    private final List<WeakReference<ProxyStatement>> mStatements = new LinkedList<>();
     /**
      * the connection listener list
      */
@@ -59,11 +70,23 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
      * the caller
      */
     private final String mCaller;
+    /**
+     * the monitored resource
+     */
+    private ResourceMonitor.Resource mResource;
     private int itemCount;
     /**
      * is closed
      */
     private int mDeletedStmts;
+    /**
+     * the total duration of the statements in nanoseconds
+     */
+    private final LongAdder mDurationNanos = new LongAdder();
+    /**
+     * the total size of the statements
+     */
+    private final LongAdder mSize = new LongAdder();
 
     private int isolationLevel;
     private String url;
@@ -98,88 +121,115 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
     public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
 
         try {
+            final Action action = ACTIONS.computeIfAbsent(method, ConnectionInvocationHandler::classify);
+
             // implement the toString method
-            if (method.getName().equals("toString")) {
+            if (action == Action.TO_STRING) {
                 return toString();
             }
 
             mTrace.trace("call {}.{}", uConnection::getClass, () -> Utils.getMethodSignature(method, args));
 
-            if ("close".equals(method.getName())) {
-                return handleClose(proxy, method, args, true);
-            }
-            else if ("getItemCount".equals(method.getName())) {
-                return getItemCount();
-            }
-            else if ("getDuration".equals(method.getName())) {
-                return getDuration();
-            }
-            else if ("getSize".equals(method.getName())) {
-                return getSize();
-            }
-            else if ("getCaller".equals(method.getName())) {
-                return getCaller();
-            }
-            else if ("getStatements".equals(method.getName())) {
-                return getStatements();
-            }
-            else if ("setTransactionIsolation".equals(method.getName())) {
-                isolationLevel = (Integer) args[0];
-            }
-            else if ("dump".equals(method.getName())) {
-                return dump();
-            }
-            else if (method.getName().startsWith("prepare")) {
-                return handlePrepare(proxy, method, args);
-            }
-            else if (method.getName().startsWith("create")) {
-                return handleCreate(proxy, method, args);
-            }
-            else if (method.getName().equals("endTx")) {
-                synchronized (mStatements) {
-                    mTrace.trace("now closing {} statements", mStatements.size());
-
-                    for (final ProxyStatement s : mStatements) {
-                        try {
-                            mTrace.trace("endtx {}", s);
-                            s.endTx();
-                        }
-                        catch (final Exception e) {
-                            mTrace.atWarn().withThrowable(e).log("fail");
-                        }
-                    }
+            switch (action) {
+                case CLOSE -> {
+                    return handleClose(proxy, a -> MethodInvoker.invoke(method, uConnection, a), args, true);
+                }
+                case GET_ITEM_COUNT -> {
+                    return getItemCount();
+                }
+                case GET_DURATION -> {
+                    return getDuration();
+                }
+                case GET_DURATION_MICROS -> {
+                    return getDurationMicros();
+                }
+                case GET_SIZE -> {
+                    return getSize();
+                }
+                case GET_CALLER -> {
+                    return getCaller();
+                }
+                case GET_STATEMENTS -> {
+                    return getStatements();
+                }
+                case SET_TRANSACTION_ISOLATION -> handleSetTransactionIsolation((Integer) args[0]);
+                case DUMP -> {
+                    return dump();
+                }
+                case PREPARE -> {
+                    return handlePrepare(proxy, method, args);
+                }
+                case CREATE -> {
+                    return handleCreate(proxy, method, args);
+                }
+                case END_TX -> {
+                    endTx(proxy);
+                    return null;
+                }
+                case GET_UNDERLYING_CONNECTION -> {
+                    return uConnection;
+                }
+                default -> {
                 }
-
-                handleClose(proxy, null, null, false);
-                return null;
-            }
-            else if (method.getName().equals("getUnderlyingConnection")) {
-                return uConnection;
             }
 
-            return method.invoke(uConnection, args);
-        }
-        catch (final InvocationTargetException e) {
-            mTrace.atError().withThrowable(e.getCause()).log("{} failed for {}", () -> Utils.getMethodSignature(method, args), () -> this);
-            throw e.getCause();
+            return MethodInvoker.invoke(method, uConnection, args);
         }
         catch (final ProxyException e) {
             final ResourceEvent event = new ResourceEvent(e, e.getOpenMethod(), Utils.getExecClass(proxy));
 
-            for (final ExecutionListener listener : ClientProperties.getListener()) {
+            for (final ExecutionListener listener : ClientProperties.getDispatchListener()) {
                 listener.resourceFailure(event);
             }
-            if (ClientProperties.Field.DB_THROW_WARNINGS.getBooleanValue()) {
+            if (ClientProperties.snapshot().isThrowWarnings()) {
                 throw e;
             }
             return null;
         }
+        catch (final SQLException e) {
+            throw handleFailure(method.getName(), args, e);
+        }
         catch (final Exception e) {
             mTrace.atError().withThrowable(e).log("unknown error in {}.{} failed for {}", uConnection.getClass(), method.getName(), this);
             throw new RuntimeException("failed " + e, e);
         }
     }
 
+    /**
+     * Resolve the action of a connection method. Called once per method.
+     *
+     * @param method the method
+     * @return the action
+     */
+    private static Action classify(final Method method) {
+        final String name = method.getName();
+        final boolean statement = Statement.class.isAssignableFrom(method.getReturnType());
+
+        return switch (name) {
+            case "toString" -> method.getParameterCount() == 0 ? Action.TO_STRING : Action.DELEGATE;
+            case "close" -> Action.CLOSE;
+            case "getItemCount" -> Action.GET_ITEM_COUNT;
+            case "getDuration" -> Action.GET_DURATION;
+            case "getDurationMicros" -> Action.GET_DURATION_MICROS;
+            case "getSize" -> Action.GET_SIZE;
+            case "getCaller" -> Action.GET_CALLER;
+            case "getStatements" -> Action.GET_STATEMENTS;
+            case "setTransactionIsolation" -> Action.SET_TRANSACTION_ISOLATION;
+            case "dump" -> Action.DUMP;
+            case "endTx" -> Action.END_TX;
+            case "getUnderlyingConnection" -> Action.GET_UNDERLYING_CONNECTION;
+            default -> {
+                if (statement && name.startsWith("prepare")) {
+                    yield Action.PREPARE;
+                }
+                if (statement && name.startsWith("create")) {
+                    yield Action.CREATE;
+                }
+                yield Action.DELEGATE;
+            }
+        };
+    }
+
     /**
      * Handle the prepare method.
      *
@@ -190,17 +240,9 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
      * @throws Throwable on error
      */
     private Object handlePrepare(final Object proxy, final Method method, final Object[] args) throws Throwable {
-        final String sql = (ClientProperties.Field.DB_REMOVE_HINTS.getBooleanValue() ? Utils.removeHints(args[0].toString()) : args[0].toString());
-
-        final Object ob = method.invoke(uConnection, args);
+        final Object ob = MethodInvoker.invoke(method, uConnection, args);
         if (ob instanceof Statement) {
-            final Statement proxyStmt = StatementFactory.getInstance().getStatement((Statement) ob, sql, Utils.getExecClass(proxy));
-
-            if (proxyStmt instanceof ProxyStatement) {
-                addStatement((ProxyStatement) proxyStmt);
-            }
-
-            return proxyStmt;
+            return handlePrepare(proxy, (Statement) ob, args[0].toString());
         }
         else {
             mTrace.error("method failed {};{}", ob, ob.getClass().getName());
@@ -209,6 +251,29 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
         return ob;
     }
 
+    /**
+     * Handle a statement returned by a prepare method.
+     *
+     * @param proxy the proxy
+     * @param stmt  the statement of the underlying connection
+     * @param sql   the sql string
+     * @return the proxy statement
+     */
+    public Statement handlePrepare(final Object proxy, final Statement stmt, final String sql) {
+        final long overhead = Overhead.start();
+        final long allocated = Overhead.allocated(overhead);
+        final String s = (ClientProperties.snapshot().isRemoveHints() ? Utils.removeHints(sql) : sql);
+
+        final Statement proxyStmt = StatementFactory.getInstance().getStatement(stmt, s, mCaller, markCaller(proxy), this);
+
+        if (proxyStmt instanceof ProxyStatement) {
+            addStatement((ProxyStatement) proxyStmt);
+        }
+
+        Overhead.record(Overhead.Source.CONNECTION, Overhead.Phase.DISPATCH, overhead, allocated);
+        return proxyStmt;
+    }
+
     /**
      * Handle Create method
      *
@@ -219,15 +284,10 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
      * @throws Throwable on error
      */
     private Object handleCreate(final Object proxy, final Method method, final Object[] args) throws Throwable {
-        final Object ob = method.invoke(uConnection, args);
+        final Object ob = MethodInvoker.invoke(method, uConnection, args);
 
         if (ob instanceof Statement) {
-            final Statement proxyStmt = StatementFactory.getInstance().getStatement((Statement) ob, null, Utils.getExecClass(proxy));
-
-            if (proxyStmt instanceof ProxyStatement) {
-                addStatement((ProxyStatement) proxyStmt);
-            }
-            return proxyStmt;
+            return handleCreate(proxy, (Statement) ob);
         }
         else {
             mTrace.error("method failed {};{}", ob, ob.getClass().getName());
@@ -236,6 +296,93 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
         return ob;
     }
 
+    /**
+     * Handle a statement returned by a create method.
+     *
+     * @param proxy the proxy
+     * @param stmt  the statement of the underlying connection
+     * @return the proxy statement
+     */
+    public Statement handleCreate(final Object proxy, final Statement stmt) {
+        final long overhead = Overhead.start();
+        final long allocated = Overhead.allocated(overhead);
+        final Statement proxyStmt = StatementFactory.getInstance().getStatement(stmt, null, mCaller, markCaller(proxy), this);
+
+        if (proxyStmt instanceof ProxyStatement) {
+            addStatement((ProxyStatement) proxyStmt);
+        }
+        Overhead.record(Overhead.Source.CONNECTION, Overhead.Phase.DISPATCH, overhead, allocated);
+        return proxyStmt;
+    }
+
+    /**
+     * Mark the caller opening a statement, only if the leak detection or the not closed warnings need it. Otherwise or
+     * if the governor has dropped the caller capture, the statement is opened in the caller opening the connection.
+     *
+     * @param proxy the proxy
+     * @return the call site or null
+     */
+    private CallSites.Mark markCaller(final Object proxy) {
+        if (!ClientProperties.snapshot().isCaptureOpenSite() || !Governor.isCaptureCaller()) {
+            return null;
+        }
+        final long t = Overhead.start();
+        final long b = Overhead.allocated(t);
+        final CallSites.Mark site = CallSites.mark(proxy);
+        Overhead.record(Overhead.Source.CONNECTION, Overhead.Phase.CALLER, t, b);
+        return site;
+    }
+
+    /**
+     * Handle the setTransactionIsolation method.
+     *
+     * @param level the isolation level
+     */
+    public void handleSetTransactionIsolation(final int level) {
+        isolationLevel = level;
+    }
+
+    /**
+     * Handle the endTx method.
+     *
+     * @param proxy the proxy
+     */
+    public void endTx(final Object proxy) {
+        synchronized (mStatements) {
+            mTrace.trace("now closing {} statements", mStatements.size());
+
+            for (final WeakReference<ProxyStatement> ref : mStatements) {
+                final ProxyStatement s = ref.get();
+                if (s == null) {
+                    continue;
+                }
+                try {
+                    mTrace.trace("endtx {}", s);
+                    s.endTx();
+                }
+                catch (final Exception e) {
+                    mTrace.atWarn().withThrowable(e).log("fail");
+                }
+            }
+        }
+
+        handleClose(proxy, null, null, false);
+    }
+
+    /**
+     * Handle a failed call of the underlying connection.
+     *
+     * @param method the method name
+     * @param args   the arguments
+     * @param cause  the cause
+     * @param <T>    the type of the cause
+     * @return the cause to be rethrown
+     */
+    public <T extends Throwable> T handleFailure(final String method, final Object[] args, final T cause) {
+        mTrace.atError().withThrowable(cause).log("{} failed for {}", () -> Utils.getMethodSignature(method, args), () -> this);
+        return cause;
+    }
+
     /**
      * Add a statement.
      *
@@ -246,12 +393,12 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
             int x = mStatements.size() - MAX_STMT_COUNT;
 
             if (x > 10) {
-                final Iterator<ProxyStatement> it = mStatements.iterator();
+                final Iterator<WeakReference<ProxyStatement>> it = mStatements.iterator();
 
                 while (it.hasNext()) {
-                    final ProxyStatement c = it.next();
+                    final ProxyStatement c = it.next().get();
 
-                    if (c.isClosed()) {
+                    if (c == null || c.isClosed()) {
                         it.remove();
                         x--;
                         mDeletedStmts++;
@@ -263,7 +410,7 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
                 }
             }
 
-            mStatements.add(stmt);
+            mStatements.add(new WeakReference<>(stmt));
             itemCount = mStatements.size();
         }
     }
@@ -271,15 +418,21 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
     /**
      * Handle the close method.
      *
-     * @param proxy  the proxy Object
-     * @param method the method
-     * @param args   the arguments
+     * @param proxy       the proxy Object
+     * @param close       the close call of the underlying connection, null if the connection is closed implicitly
+     * @param args        the arguments
+     * @param checkClosed check that all statements are closed
+     * @param <E>         the exception thrown by the underlying call
      * @return the return object
-     * @throws Throwable on error
+     * @throws E on error
      */
-    private Object handleClose(final Object proxy, final Method method, final Object[] args, final boolean checkClosed) throws Throwable {
+    public <E extends Throwable> Object handleClose(final Object proxy, final Invocation<E> close, final Object[] args, final boolean checkClosed) throws E {
         Object ret = null;
 
+        if (mResource != null) {
+            mResource.close();
+        }
+
         try {
             final ConnectionEvent event = new ConnectionEvent(this);
 
@@ -287,45 +440,56 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
                 listener.closeConnection(event);
             }
 
-            if (method != null) {
-                ret = method.invoke(uConnection, args);
+            if (close != null) {
+                ret = close.invoke(args);
             }
 
-            long duration = 0;
-            long size = 0;
+            final long duration = getDurationMicros();
+            final long size = mSize.sum();
 
-            synchronized (mStatements) {
-                for (final ProxyStatement mStatement : mStatements) {
-                    final Statistics c = (Statistics) mStatement;
-                    duration += c.getDuration();
-                    size += c.getSize();
-                }
-
-                if (checkClosed) {
-                    for (final ProxyStatement c : mStatements) {
-                        c.checkClosed();
+            if (checkClosed) {
+                synchronized (mStatements) {
+                    for (final WeakReference<ProxyStatement> ref : mStatements) {
+                        final ProxyStatement c = ref.get();
+                        if (c != null) {
+                            c.checkClosed();
+                        }
                     }
                 }
             }
 
             // print out
-            final boolean displayTime = duration >= ClientProperties.Field.DB_CONN_TOTAL_TIME_THRESHOLD.getLongValue();
-            final boolean displaySize = size >= ClientProperties.Field.DB_CONN_TOTAL_SIZE_THRESHOLD.getLongValue();
-            final boolean verbose = ClientProperties.Field.VERBOSE.getBooleanValue();
+            final ClientProperties.Snapshot config = ClientProperties.snapshot();
+            final boolean displayTime = duration / 1000 >= config.getConnTotalTimeThreshold();
+            final boolean displaySize = size >= config.getConnTotalSizeThreshold();
+            final boolean verbose = config.isVerbose();
 
             if (displayTime || displaySize) {
                 final Level l = mStatements.isEmpty() ? Level.TRACE : Level.INFO;
 
                 if (verbose) {
-                    mTrace.log(l, "{}closed connection\n{}", () -> method == null ? "implicitly " : "", this::dump);
+                    mTrace.log(l, "{}closed connection\n{}", () -> close == null ? "implicitly " : "", this::dump);
                 }
                 else {
-                    mTrace.log(l, "{}closed connection {} in {}", () -> method == null ? "implicitly " : "", () -> this, () -> Utils.getExecClass(proxy));
+                    mTrace.log(l, "{}closed connection {} in {}", () -> close == null ? "implicitly " : "", () -> this, () -> Utils.getExecClass(proxy));
                 }
             }
         }
         finally {
             synchronized (mStatements) {
+                // the statements are closed with the connection
+                for (final WeakReference<ProxyStatement> ref : mStatements) {
+                    final ProxyStatement s = ref.get();
+                    if (s == null) {
+                        continue;
+                    }
+                    try {
+                        s.closeImplicitly();
+                    }
+                    catch (final RuntimeException e) {
+                        mTrace.atWarn().withThrowable(e).log("implicit close of {} failed", s);
+                    }
+                }
                 itemCount = mStatements.size();
                 mStatements.clear();
             }
@@ -359,14 +523,17 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
      */
     @Override
     public long getDuration() {
-        long dur = 0;
-        synchronized (mStatements) {
-            for (final ProxyStatement mStatement : mStatements) {
-                final Statistics c = (Statistics) mStatement;
-                dur += c.getDuration();
-            }
-        }
-        return dur;
+        return getDurationMicros() / 1000;
+    }
+
+    /**
+     * Get the total duration in microseconds.
+     *
+     * @return long
+     */
+    @Override
+    public long getDurationMicros() {
+        return mDurationNanos.sum() / 1000;
     }
 
     /**
@@ -376,14 +543,20 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
      */
     @Override
     public long getSize() {
-        long size = 0;
-        synchronized (mStatements) {
-            for (final ProxyStatement mStatement : mStatements) {
-                final Statistics c = (Statistics) mStatement;
-                size += c.getSize();
-            }
+        return mSize.sum();
+    }
+
+    /**
+     * Add the statistics of a statement.
+     *
+     * @param nanos the duration in nanoseconds
+     * @param size  the size
+     */
+    void addStatistics(final long nanos, final long size) {
+        mDurationNanos.add(nanos);
+        if (size != 0) {
+            mSize.add(size);
         }
-        return size;
     }
 
     /**
@@ -403,7 +576,20 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
      */
     @Override
     public List<ProxyStatement> getStatements() {
-        return new ArrayList<>(mStatements);
+        final List<ProxyStatement> statements = new ArrayList<>();
+        synchronized (mStatements) {
+            for (final WeakReference<ProxyStatement> ref : mStatements) {
+                final ProxyStatement s = ref.get();
+                if (s != null) {
+                    statements.add(s);
+                }
+            }
+        }
+        return statements;
+    }
+
+    public void setResource(final ResourceMonitor.Resource resource) {
+        mResource = resource;
     }
 
     /**
@@ -416,6 +602,15 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
         return mCaller;
     }
 
+    /**
+     * The url of the connection.
+     *
+     * @return String, null if the driver does not provide it
+     */
+    public String getURL() {
+        return url;
+    }
+
     /**
      * Get the underlying connection.
      *
@@ -439,9 +634,10 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
             strb.append("1 .. ").append(mDeletedStmts).append(": ...\n");
         }
         synchronized (mStatements) {
-            for (final ProxyStatement s : mStatements) {
+            for (final WeakReference<ProxyStatement> ref : mStatements) {
+                final ProxyStatement s = ref.get();
                 strb.append(i).append(": ");
-                strb.append(s.toString());
+                strb.append(s != null ? s.toString() : "(unreachable)");
                 strb.append("\n");
                 i++;
             }
@@ -458,17 +654,23 @@ public class ConnectionInvocationHandler implements InvocationHandler, Connectio
      */
     @Override
     public String toString() {
-        synchronized (mStatements) {
-            final StringBuilder stringBuilder = new StringBuilder();
-            stringBuilder.append(
-                    "Connection[#stmt=" + getItemCount() + "; duration=" + Utils.getTimeString(getDuration()) + "; isolation=" + Utils.getIsolationLevel(
-                            isolationLevel));
-            if (url != null) {
-                stringBuilder.append("; url=" + url);
-            }
-            stringBuilder.append((getSize() > 0 ? "; size=" + Utils.getSizeString(getSize()) : "") + ", opened in " + getCaller() + "]");
-            return stringBuilder.toString();
+        final long size = mSize.sum();
+        final StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append(
+                "Connection[#stmt=" + getItemCount() + "; duration=" + Utils.getMicroTimeString(getDurationMicros()) + "; isolation=" + Utils.getIsolationLevel(
+                        isolationLevel));
+        if (url != null) {
+            stringBuilder.append("; url=" + url);
         }
+        stringBuilder.append((size > 0 ? "; size=" + Utils.getSizeString(size) : "") + ", opened in " + getCaller() + "]");
+        return stringBuilder.toString();
     }
 
+    /**
+     * The action taken for an invoked connection method.
+     */
+    private enum Action {
+        TO_STRING, CLOSE, GET_ITEM_COUNT, GET_DURATION, GET_DURATION_MICROS, GET_SIZE, GET_CALLER, GET_STATEMENTS, SET_TRANSACTION_ISOLATION,
+        DUMP, PREPARE, CREATE, END_TX, GET_UNDERLYING_CONNECTION, DELEGATE
+    }
 }
@@ -0,0 +1,21 @@
+package jdbcspy.proxy.handler;
+
+/**
+ * A call of the underlying jdbc object. Used by the reflective proxies as well as by the delegating wrappers to hand the
+ * actual driver call to the handler.
+ *
+ * @param <E> the exception thrown by the call
+ */
+@FunctionalInterface
+public interface Invocation<E extends Throwable> {
+
+    /**
+     * Invoke the underlying object.
+     *
+     * @param args the arguments
+     * @return the return value
+     * @throws E on error
+     */
+    Object invoke(Object[] args) throws E;
+
+}
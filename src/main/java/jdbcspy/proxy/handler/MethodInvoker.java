@@ -0,0 +1,56 @@
+package jdbcspy.proxy.handler;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Delegates proxied interface methods to the underlying JDBC objects through cached method handles.
+ * In contrast to Method.invoke the exceptions of the underlying object are thrown unwrapped.
+ */
+final class MethodInvoker {
+
+    /**
+     * the spreading method handle per interface method
+     */
+    private static final Map<Method, MethodHandle> HANDLES = new ConcurrentHashMap<>();
+
+    private MethodInvoker() {
+    }
+
+    /**
+     * Invoke the method on the underlying object.
+     *
+     * @param method the interface method
+     * @param target the underlying object
+     * @param args   the arguments, may be null for methods without parameters
+     * @return the return value, null for void methods
+     * @throws Throwable the exception of the underlying object
+     */
+    static Object invoke(final Method method, final Object target, final Object[] args) throws Throwable {
+        MethodHandle handle = HANDLES.get(method);
+        if (handle == null) {
+            handle = HANDLES.computeIfAbsent(method, MethodInvoker::resolve);
+        }
+        return (Object) handle.invokeExact(target, args);
+    }
+
+    /**
+     * Resolve the method handle of type (Object, Object[])Object.
+     *
+     * @param method the interface method
+     * @return the method handle
+     */
+    private static MethodHandle resolve(final Method method) {
+        try {
+            final MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+
+            return handle.asType(handle.type().generic()).asSpreader(Object[].class, method.getParameterCount());
+        }
+        catch (final IllegalAccessException e) {
+            throw new IllegalStateException("cannot access " + method, e);
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package jdbcspy.proxy.handler;
 
-import java.lang.reflect.Method;
 import java.sql.Array;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -11,7 +10,6 @@ import java.util.List;
 import java.util.Map;
 
 import jdbcspy.ClientProperties;
-import jdbcspy.proxy.util.Utils;
 
 /**
  * The statement handler.
@@ -29,6 +27,18 @@ public class PreparedStatementInvocationHandler extends AbstractStatementInvocat
     private final Map<Object, Object> mBatchBindVariables = new HashMap<>();
 
     private final String mSql;
+    /**
+     * the sql code split at the placeholders, parsed on first use
+     */
+    private String[] mSqlParts;
+    /**
+     * the sql code with bind values, null if a bind value has changed
+     */
+    private String mRenderedSql;
+    /**
+     * the maximum display length of the rendered sql code
+     */
+    private int mRenderedMaxLen;
     /**
      * the batched element size
      */
@@ -46,33 +56,33 @@ public class PreparedStatementInvocationHandler extends AbstractStatementInvocat
         mSql = theSql;
     }
 
+    /**
+     * Handle the registerOutParameter method.
+     *
+     * @param key      the parameter index or name
+     * @param typeName the sql type name
+     */
     @Override
-    protected void handle(final Method method, final Object[] args) throws SQLException {
-        if (method.getName().startsWith("registerOutParameter") && args.length >= 2) {
-            mBindVariables.put(args[0], Utils.getTypeName((Number) args[1]));
-
-        }
-        else if (method.getName().startsWith("set") && args.length >= 2) {
-            handleSet(method, args);
-        }
-        else if (method.getName().equals("addBatch")) {
-            handleAddBatch();
-        }
+    public void handleRegisterOutParameter(final Object key, final String typeName) {
+        mBindVariables.put(key, typeName);
+        mRenderedSql = null;
     }
 
     /**
      * Handle the close method.
      *
-     * @param proxy  the proxy
-     * @param method the method
-     * @param args   the arguments
+     * @param proxy       the proxy
+     * @param close       the close call of the underlying statement, null if the statement is closed implicitly
+     * @param args        the arguments
+     * @param checkClosed check that all result sets are closed
+     * @param <E>         the exception thrown by the underlying call
      * @return the return value
-     * @throws Throwable on error
+     * @throws E on error
      */
     @Override
-    protected Object handleClose(final Object proxy, final Method method, final Object[] args, final boolean checkClosed) throws Throwable {
+    public <E extends Throwable> Object handleClose(final Object proxy, final Invocation<E> close, final Object[] args, final boolean checkClosed) throws E {
 
-        final Object obj = super.handleClose(proxy, method, args, checkClosed);
+        final Object obj = super.handleClose(proxy, close, args, checkClosed);
         mResultSetItemCount += mBatchedSize;
         return obj;
     }
@@ -84,33 +94,53 @@ public class PreparedStatementInvocationHandler extends AbstractStatementInvocat
      */
     @Override
     public String getSQL() {
+        final int maxLen = ClientProperties.snapshot().getDisplaySqlStringMaxlen();
+        if (mRenderedSql != null && mRenderedMaxLen == maxLen) {
+            return mRenderedSql;
+        }
 
-        final String[] s = mSql.split("\\?");
-        final StringBuilder result = new StringBuilder();
-        int i;
-        for (i = 0; i < s.length; i++) {
+        if (mSqlParts == null) {
+            mSqlParts = split(mSql);
+        }
+
+        final StringBuilder result = new StringBuilder(mSql.length() + 16 * mSqlParts.length);
+        for (int i = 0; i < mSqlParts.length; i++) {
             if (i > 0) {
                 final Object obj = getBindValue(i);
                 if (obj != null) {
                     result.append(obj);
                 }
             }
-            result.append(s[i]);
-        }
-
-        final Object obj = getBindValue(i);
-        if (obj != null) {
-            result.append(obj);
+            result.append(mSqlParts[i]);
         }
         String sql = result.toString();
 
-        final int maxLen = ClientProperties.Field.DB_DISPLAY_SQL_STRING_MAXLEN.getIntValue();
         if (maxLen > 0 && sql.length() > maxLen) {
             sql = sql.substring(0, maxLen) + "...";
         }
+
+        mRenderedSql = sql;
+        mRenderedMaxLen = maxLen;
         return sql;
     }
 
+    /**
+     * Split the sql code at the placeholders.
+     *
+     * @param sql the sql code
+     * @return the parts before, between and after the placeholders
+     */
+    private static String[] split(final String sql) {
+        final List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = sql.indexOf('?'); i >= 0; i = sql.indexOf('?', start)) {
+            parts.add(sql.substring(start, i));
+            start = i + 1;
+        }
+        parts.add(sql.substring(start));
+        return parts.toArray(new String[0]);
+    }
+
     /**
      * Get the item count.
      *
@@ -128,7 +158,9 @@ public class PreparedStatementInvocationHandler extends AbstractStatementInvocat
     /**
      * Handle the addBatch method
      */
-    protected void handleAddBatch() {
+    @Override
+    public void handleAddBatch() {
+        mRenderedSql = null;
         mBatchedSize++;
         if (mBatchedSize > 100) {
             // heuristic: do not gather more that 100 elements
@@ -180,25 +212,28 @@ public class PreparedStatementInvocationHandler extends AbstractStatementInvocat
     /**
      * Handle the setXXX method.
      *
-     * @param method Method
-     * @param args   Object[]
+     * @param method the method name
+     * @param key    the parameter index or name
+     * @param value  the value
      * @throws SQLException on sql exception
      */
-    private void handleSet(final Method method, final Object[] args) throws SQLException {
-        mBindVariables.put(args[0], getArgName(method, args[1]));
+    @Override
+    public void handleSet(final String method, final Object key, final Object value) throws SQLException {
+        mBindVariables.put(key, getArgName(method, value));
+        mRenderedSql = null;
     }
 
     /**
      * Get the argument name.
      *
-     * @param method the method
+     * @param method the method name
      * @param arg    the argument
      * @return the printable name
      * @throws SQLException on error
      */
-    private String getArgName(final Method method, final Object arg) throws SQLException {
+    private String getArgName(final String method, final Object arg) throws SQLException {
 
-        if ("setNull".equals(method.getName())) {
+        if ("setNull".equals(method)) {
             return "NULL";
         }
         return getArgName(arg);
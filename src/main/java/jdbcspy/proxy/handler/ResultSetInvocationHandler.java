@@ -1,18 +1,22 @@
 package jdbcspy.proxy.handler;
 
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.sql.Date;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.sql.ResultSet;
-import java.sql.Time;
-import java.sql.Timestamp;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import jdbcspy.ClientProperties;
-import jdbcspy.proxy.ResultSetMonitor;
+import jdbcspy.proxy.Governor;
+import jdbcspy.proxy.Overhead;
+import jdbcspy.proxy.ResourceMonitor;
 import jdbcspy.proxy.ResultSetStatistics;
 import jdbcspy.proxy.exception.ProxyException;
 import jdbcspy.proxy.exception.ResourceNotClosedException;
@@ -20,7 +24,10 @@ import jdbcspy.proxy.listener.ExecutionFailedEvent;
 import jdbcspy.proxy.listener.ExecutionFailedListener;
 import jdbcspy.proxy.listener.ExecutionListener;
 import jdbcspy.proxy.listener.ResourceEvent;
+import jdbcspy.proxy.util.CallSites;
+import jdbcspy.proxy.util.ColumnSizes;
 import jdbcspy.proxy.util.Utils;
+import jdbcspy.proxy.wrapper.ResultSetWrapper;
 
 /**
  * The result set handler.
@@ -31,28 +38,48 @@ public class ResultSetInvocationHandler implements InvocationHandler, ResultSetS
      * the logger object for tracing
      */
     private static final Logger mTrace = LogManager.getLogger("jdbcspy.rs");
+    /**
+     * the resolved action per invoked method
+     */
+    private static final Map<Method, Action> ACTIONS = new ConcurrentHashMap<>();
     /**
      * the original result set
      */
-    private final ResultSet uResultSet;
+    private ResultSet uResultSet;
     /**
      * the sql statement
      */
-    private final String mSql;
+    private String mSql;
 
     /**
-     * the open method
+     * the open method if the open site is not marked
+     */
+    private String mOpenMethod;
+    /**
+     * the marked call site opening the result set, null if it is not captured
      */
-    private final String mOpenMethod;
+    private CallSites.Mark mOpenSite;
 
     /**
      * is closed
      */
     private boolean mIsClosed;
     /**
-     * total duration of iteration
+     * total duration of the timed next calls in nanoseconds
      */
-    private long mDuration;
+    private long mDurationNanos;
+    /**
+     * the number of next calls
+     */
+    private int mNextCount;
+    /**
+     * the number of timed next calls
+     */
+    private int mTimedCount;
+    /**
+     * the number of next calls until the next timed one
+     */
+    private int mSkip;
     /**
      * total length
      */
@@ -61,8 +88,19 @@ public class ResultSetInvocationHandler implements InvocationHandler, ResultSetS
      * the item count
      */
     private int mItemCount;
+    /**
+     * the column size estimators
+     */
+    private ColumnSizes mColumnSizes;
+    /**
+     * the statement the statistics are rolled up to
+     */
+    private AbstractStatementInvocationHandler mStatement;
 
-    private ResultSetMonitor.ResultSetTimer resultSetTimer;
+    /**
+     * the monitored resource
+     */
+    private ResourceMonitor.Resource mResource;
 
     /**
      * Constructor.
@@ -77,77 +115,92 @@ public class ResultSetInvocationHandler implements InvocationHandler, ResultSetS
         mOpenMethod = openMethod;
     }
 
+    /**
+     * Reset the handler of a closed result set for the next result set of its statement.
+     *
+     * @param rs         ResultSet
+     * @param sql        String
+     * @param openMethod the method
+     */
+    void reopen(final ResultSet rs, final String sql, final String openMethod) {
+        uResultSet = rs;
+        mSql = sql;
+        mOpenMethod = openMethod;
+        mOpenSite = null;
+        mIsClosed = false;
+        mDurationNanos = 0;
+        mNextCount = 0;
+        mTimedCount = 0;
+        mSkip = 0;
+        mSize = 0;
+        mItemCount = 0;
+        mColumnSizes = null;
+        mResource = null;
+    }
+
     /**
      * @see InvocationHandler
      */
     @Override
     public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
 
-        final String methodName = method.getName();
+        final Action action = ACTIONS.computeIfAbsent(method, ResultSetInvocationHandler::classify);
 
         try {
-            if (methodName.startsWith("get") && args != null && args.length > 0) {
-                return handleGet(method, args);
-            }
-
-            if ("next".equals(methodName)) {
-                return handleNext(method, args);
-            }
-
-            if ("close".equals(methodName)) {
-                handleClose(proxy);
-            }
-            // Checkable Interface implementation
-            else if ("checkClosed".equals(methodName)) {
-                handleCheckClosed(proxy);
-                return null;
-            }
-            else if ("isClosed".equals(method.getName())) {
-                return mIsClosed;
-            }
-
-            // ResultSetStatitics Interface implementation
-            else if ("getItemCount".equals(methodName)) {
-                return mItemCount;
-            }
-            else if ("getDuration".equals(methodName)) {
-                return mDuration;
-            }
-            else if ("getSize".equals(methodName)) {
-                return mSize;
+            switch (action) {
+                case GET -> {
+                    return handleGet(method, args);
+                }
+                case NEXT -> {
+                    return handleNext(a -> MethodInvoker.invoke(method, uResultSet, a));
+                }
+                case CLOSE -> handleClose(proxy);
+                case CLOSE_IMPLICITLY -> {
+                    closeImplicitly();
+                    return null;
+                }
+                // Checkable Interface implementation
+                case CHECK_CLOSED -> {
+                    handleCheckClosed(proxy);
+                    return null;
+                }
+                case IS_CLOSED -> {
+                    return isClosed();
+                }
+                // ResultSetStatitics Interface implementation
+                case GET_ITEM_COUNT -> {
+                    return mItemCount;
+                }
+                case GET_DURATION -> {
+                    return getDuration();
+                }
+                case GET_DURATION_MICROS -> {
+                    return getDurationMicros();
+                }
+                case GET_SIZE -> {
+                    return mSize;
+                }
+                default -> {
+                }
             }
 
             // remaining calls
-            return method.invoke(uResultSet, args);
-        }
-        catch (final InvocationTargetException e) {
-            mTrace.atError().withThrowable(e.getCause()).log("result set access failed for {} in {}", () -> mSql, () -> Utils.getMethodSignature(method, args));
-
-            final ExecutionFailedEvent event = new ExecutionFailedEvent(toString(), e.getCause());
-
-            for (final ExecutionFailedListener listener : ClientProperties.getFailedListener()) {
-                listener.executionFailed(event);
-            }
-
-            throw e.getCause();
+            return MethodInvoker.invoke(method, uResultSet, args);
         }
         catch (final ProxyException e) {
-            final ResourceEvent event = new ResourceEvent(e, e.getOpenMethod(), Utils.getExecClass(proxy));
-
-            for (final ExecutionListener listener : ClientProperties.getListener()) {
-                listener.resourceFailure(event);
-            }
-
-            if (ClientProperties.Field.DB_THROW_WARNINGS.getBooleanValue()) {
+            if (handleResourceFailure(proxy, e)) {
                 throw e;
             }
 
             return null;
         }
+        catch (final SQLException e) {
+            throw handleFailure(method.getName(), args, e);
+        }
         catch (final Exception e) {
             mTrace.atError().withThrowable(e).log("result set access failed for {} in {}", () -> mSql, () -> Utils.getMethodSignature(method, args));
 
-            final ExecutionFailedEvent event = new ExecutionFailedEvent(toString(), e);
+            final ExecutionFailedEvent event = new ExecutionFailedEvent(this, e);
 
             for (final ExecutionFailedListener listener : ClientProperties.getFailedListener()) {
                 listener.executionFailed(event);
@@ -157,31 +210,121 @@ public class ResultSetInvocationHandler implements InvocationHandler, ResultSetS
         }
     }
 
+    /**
+     * Handle a failed call of the underlying result set.
+     *
+     * @param method the method name
+     * @param args   the arguments
+     * @param cause  the cause
+     * @param <T>    the type of the cause
+     * @return the cause to be rethrown
+     */
+    public <T extends Throwable> T handleFailure(final String method, final Object[] args, final T cause) {
+        mTrace.atError().withThrowable(cause).log("result set access failed for {} in {}", () -> mSql, () -> Utils.getMethodSignature(method, args));
+
+        final ExecutionFailedEvent event = new ExecutionFailedEvent(this, cause);
+
+        for (final ExecutionFailedListener listener : ClientProperties.getFailedListener()) {
+            listener.executionFailed(event);
+        }
+
+        return cause;
+    }
+
+    /**
+     * Notify the listeners about a resource failure.
+     *
+     * @param proxy the proxy
+     * @param e     the resource failure
+     * @return true if the failure shall be thrown
+     */
+    private boolean handleResourceFailure(final Object proxy, final ProxyException e) {
+        final ResourceEvent event = new ResourceEvent(e, e.getOpenMethod(), Utils.getExecClass(proxy));
+
+        for (final ExecutionListener listener : ClientProperties.getDispatchListener()) {
+            listener.resourceFailure(event);
+        }
+
+        return ClientProperties.snapshot().isThrowWarnings();
+    }
+
+    /**
+     * Handle the checkClosed method of a delegating wrapper.
+     *
+     * @param proxy the proxy
+     */
+    public void checkClosed(final Object proxy) {
+        try {
+            handleCheckClosed(proxy);
+        }
+        catch (final ProxyException e) {
+            if (handleResourceFailure(proxy, e)) {
+                // same as the reflective proxy, which cannot declare the checked exception either
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+    }
+
+    /**
+     * Is the result set closed?
+     *
+     * @return boolean
+     */
+    public boolean isClosed() {
+        return mIsClosed;
+    }
+
     /**
      * Handle the close method.
      *
      * @param proxy the proxy
      */
-    private void handleClose(final Object proxy) {
+    public void handleClose(final Object proxy) {
         // may be null if next hasn't been called
-        final boolean displayTime = mDuration >= ClientProperties.Field.DB_RESULTSET_TOTAL_TIME_THRESHOLD.getLongValue();
-        final boolean displaySize = mSize >= ClientProperties.Field.DB_RESULTSET_TOTAL_SIZE_THRESHOLD.getLongValue();
+        final ClientProperties.Snapshot config = ClientProperties.snapshot();
+        final boolean displayTime = getDuration() >= config.getResultSetTotalTimeThreshold();
+        final boolean displaySize = mSize >= config.getResultSetTotalSizeThreshold();
 
         if (displayTime || displaySize) {
+            final long t = Overhead.start();
+            final long b = Overhead.allocated(t);
             mTrace.info(
-                    "iteration of resultset closed in {} took {}. {}", () -> Utils.getExecClass(proxy), () -> Utils.getTimeString(mDuration),
+                    "iteration of resultset closed in {} took {}. {}", () -> Utils.getExecClass(proxy), () -> Utils.getMicroTimeString(getDurationMicros()),
                     () -> mSize > 0 ? "(" + Utils.getSizeString(mSize) + ")" : ""
             );
+            Overhead.record(Overhead.Source.RESULT_SET, Overhead.Phase.LOGGING, t, b);
         }
 
-        if (resultSetTimer != null) {
-            ResultSetMonitor.unregisterResultSet(resultSetTimer);
-            resultSetTimer = null;
+        closeImplicitly();
+    }
+
+    /**
+     * Mark the result set closed, also called when its statement is closed. The monitored resource is closed, otherwise
+     * the result set would be reported as leaked once it becomes unreachable.
+     */
+    public void closeImplicitly() {
+        if (mResource != null) {
+            mResource.close();
         }
 
+        if (!mIsClosed) {
+            // replace the timed duration rolled up so far by the extrapolated one
+            addStatistics(getDurationNanos() - mDurationNanos, 0, 0);
+        }
         mIsClosed = true;
     }
 
+    /**
+     * Hand a closed delegating wrapper back to the statement, which reuses it for its next result set.
+     *
+     * @param wrapper the wrapper of this handler
+     */
+    public void recycle(final ResultSetWrapper wrapper) {
+        if (mIsClosed && mStatement != null) {
+            mStatement.recycle(wrapper);
+        }
+    }
+
     /**
      * Handle check closed.
      *
@@ -189,45 +332,95 @@ public class ResultSetInvocationHandler implements InvocationHandler, ResultSetS
      * @throws ProxyException if a resource was not closed or double closed
      */
     private void handleCheckClosed(final Object proxy) throws ProxyException {
-        if (!mIsClosed && !ClientProperties.Field.DB_IGNORE_NOT_CLOSED_OBJECTS.getBooleanValue()) {
+        if (!mIsClosed && !ClientProperties.snapshot().isIgnoreNotClosedObjects()) {
 
-            final String txt = "The ResultSet opened in " + mOpenMethod + " was not closed in " + Utils.getExecClass(proxy) + ".";
+            final String txt = "The ResultSet opened in " + getOpenMethod() + " was not closed in " + Utils.getExecClass(proxy) + ".";
 
             final ResourceNotClosedException proxyExc = new ResourceNotClosedException(txt);
-            proxyExc.setOpenMethod(mOpenMethod);
+            proxyExc.setOpenMethod(getOpenMethod());
             throw proxyExc;
         }
     }
 
     /**
-     * Handle the next method.
+     * Handle the next method. With a ResultSetNextSampleRate of N above 1 only about every Nth call is timed. The
+     * distance between two timed calls is random, so the samples do not align with the fetch size of the driver and
+     * the fetch round trips are represented in proportion. The row count stays exact.
      *
-     * @param method the method
-     * @param args   the arguments
-     * @return Object the result object
-     * @throws Throwable on error
+     * @param call the next call of the underlying result set
+     * @param <E>  the exception thrown by the underlying call
+     * @return the result of the next call
+     * @throws E on error
      */
-    private Object handleNext(final Method method, final Object[] args) throws Throwable {
+    public <E extends Throwable> boolean handleNext(final Invocation<E> call) throws E {
 
-        final long startTime = System.currentTimeMillis();
+        final int rate = ClientProperties.snapshot().getResultSetNextSampleRate();
+        mNextCount++;
+        // the rows are not timed if the governor has dropped the row timing
+        if (!Governor.isTimeRows() || rate > 1 && --mSkip > 0) {
+            final boolean b = (Boolean) call.invoke(null);
+            if (b) {
+                mItemCount++;
+                addStatistics(0, 0, 1);
+            }
+            return b;
+        }
+        if (rate > 1) {
+            mSkip = ThreadLocalRandom.current().nextInt(2 * rate - 1) + 1;
+        }
+
+        mTimedCount++;
+        final long startTime = System.nanoTime();
+        boolean b = false;
         try {
 
-            final Boolean b = (Boolean) method.invoke(uResultSet, args);
+            b = (Boolean) call.invoke(null);
             if (b) {
                 mItemCount++;
             }
             return b;
         }
         finally {
-            final long dur = (System.currentTimeMillis() - startTime);
-
-            mDuration += dur;
-            if (dur > ClientProperties.Field.DB_RESULTSET_NEXT_TIME_THRESHOLD.getLongValue()) {
-                mTrace.info("finished next in {}ms. (loop {})", dur, mItemCount);
+            final long dur = (System.nanoTime() - startTime);
+
+            mDurationNanos += dur;
+            addStatistics(dur, 0, b ? 1 : 0);
+            if (dur / 1_000_000 > ClientProperties.snapshot().getResultSetNextTimeThreshold()) {
+                final long t = Overhead.start();
+                final long bytes = Overhead.allocated(t);
+                mTrace.info("finished next in {}. (loop {})", Utils.getMicroTimeString(dur / 1000), mItemCount);
+                Overhead.record(Overhead.Source.RESULT_SET, Overhead.Phase.LOGGING, t, bytes);
             }
         }
     }
 
+    /**
+     * Resolve the action of a result set method. Called once per method.
+     *
+     * @param method the method
+     * @return the action
+     */
+    private static Action classify(final Method method) {
+        final String name = method.getName();
+
+        if (name.startsWith("get") && method.getParameterCount() > 0) {
+            return Action.GET;
+        }
+
+        return switch (name) {
+            case "next" -> Action.NEXT;
+            case "close" -> Action.CLOSE;
+            case "closeImplicitly" -> Action.CLOSE_IMPLICITLY;
+            case "checkClosed" -> Action.CHECK_CLOSED;
+            case "isClosed" -> Action.IS_CLOSED;
+            case "getItemCount" -> Action.GET_ITEM_COUNT;
+            case "getDuration" -> Action.GET_DURATION;
+            case "getDurationMicros" -> Action.GET_DURATION_MICROS;
+            case "getSize" -> Action.GET_SIZE;
+            default -> Action.DELEGATE;
+        };
+    }
+
     /**
      * Handle the get method.
      *
@@ -238,40 +431,88 @@ public class ResultSetInvocationHandler implements InvocationHandler, ResultSetS
      */
     private Object handleGet(final Method method, final Object[] args) throws Throwable {
 
-        final Object ret;
-        try {
-            ret = method.invoke(uResultSet, args);
-            if (ClientProperties.Field.DB_ENABLE_SIZE_EVALUATION.getBooleanValue()) {
-                if (ret instanceof String) {
-                    mSize += 2L * ((String) ret).length();
-                }
-                else if (ret instanceof Integer || ret instanceof Float) {
-                    mSize += 4;
-                }
-                else if (ret instanceof Boolean || ret instanceof Byte) {
-                    mSize += 1;
-                }
-                else if (ret instanceof Long || ret instanceof Date || ret instanceof Time || ret instanceof Double || ret instanceof Timestamp) {
-                    mSize += 8;
-                }
-                else if (ret instanceof Short) {
-                    mSize += 2;
-                }
-                else if (ret instanceof byte[]) {
-                    mSize += ((byte[]) ret).length;
-                }
-                else if (ret != null) {
-                    mTrace.atError().withThrowable(new RuntimeException()).log("unknown return type: {}", ret.getClass());
-                }
+        final Object ret = MethodInvoker.invoke(method, uResultSet, args);
+        handleValue(args[0], ret);
+
+        return ret;
+    }
+
+    /**
+     * Add the size of a value returned by a get method.
+     *
+     * @param column the column index or label
+     * @param ret    the returned value
+     */
+    public void handleValue(final Object column, final Object ret) {
+        if (ClientProperties.snapshot().isEnableSizeEvaluation()) {
+            final long t = Overhead.start();
+            final long b = Overhead.allocated(t);
+            addValueSize(getColumnSizes().estimate(column, ret));
+            Overhead.record(Overhead.Source.RESULT_SET, Overhead.Phase.SIZING, t, b);
+        }
+    }
+
+    /**
+     * Get the column size estimators, resolved from the meta data on first use.
+     *
+     * @return the column sizes
+     */
+    private ColumnSizes getColumnSizes() {
+        if (mColumnSizes == null) {
+            ResultSetMetaData meta = null;
+            try {
+                meta = uResultSet.getMetaData();
+            }
+            catch (final SQLException e) {
+                mTrace.debug("no result set meta data", e);
             }
+            mColumnSizes = new ColumnSizes(meta);
+        }
+        return mColumnSizes;
+    }
 
-            return ret;
+    /**
+     * Add the size of a primitive value returned by a get method of a delegating wrapper. The size is estimated from
+     * the meta data as in {@link #handleValue}, without boxing the value.
+     *
+     * @param column the column index
+     * @param size   the size of the primitive type
+     */
+    public void handleValueSize(final int column, final int size) {
+        if (ClientProperties.snapshot().isEnableSizeEvaluation()) {
+            final long t = Overhead.start();
+            final long b = Overhead.allocated(t);
+            addValueSize(getColumnSizes().estimate(column, size));
+            Overhead.record(Overhead.Source.RESULT_SET, Overhead.Phase.SIZING, t, b);
         }
-        catch (final InvocationTargetException e) {
-            throw e.getCause();
+    }
+
+    /**
+     * Add the size of a primitive value returned by a get method of a delegating wrapper.
+     *
+     * @param column the column label
+     * @param size   the size of the primitive type
+     * @see #handleValueSize(int, int)
+     */
+    public void handleValueSize(final String column, final int size) {
+        if (ClientProperties.snapshot().isEnableSizeEvaluation()) {
+            final long t = Overhead.start();
+            final long b = Overhead.allocated(t);
+            addValueSize(getColumnSizes().estimate(column, size));
+            Overhead.record(Overhead.Source.RESULT_SET, Overhead.Phase.SIZING, t, b);
         }
     }
 
+    /**
+     * Add the size of a value.
+     *
+     * @param size the size
+     */
+    private void addValueSize(final long size) {
+        mSize += size;
+        addStatistics(0, size, 0);
+    }
+
     /**
      * Get the total duration.
      *
@@ -279,7 +520,29 @@ public class ResultSetInvocationHandler implements InvocationHandler, ResultSetS
      */
     @Override
     public long getDuration() {
-        return mDuration;
+        return getDurationNanos() / 1_000_000;
+    }
+
+    /**
+     * Get the total duration in microseconds.
+     *
+     * @return long
+     */
+    @Override
+    public long getDurationMicros() {
+        return getDurationNanos() / 1000;
+    }
+
+    /**
+     * Get the total duration in nanoseconds, extrapolated from the timed next calls.
+     *
+     * @return long
+     */
+    private long getDurationNanos() {
+        if (mTimedCount == 0 || mTimedCount == mNextCount) {
+            return mDurationNanos;
+        }
+        return (long) ((double) mDurationNanos * mNextCount / mTimedCount);
     }
 
     /**
@@ -302,12 +565,58 @@ public class ResultSetInvocationHandler implements InvocationHandler, ResultSetS
         return mItemCount;
     }
 
+    /**
+     * Set the statement the statistics are rolled up to.
+     *
+     * @param statement the statement handler
+     */
+    void setStatement(final AbstractStatementInvocationHandler statement) {
+        mStatement = statement;
+    }
+
+    /**
+     * Roll up a change of the statistics to the statement.
+     *
+     * @param nanos the duration in nanoseconds
+     * @param size  the size
+     * @param rows  the number of rows
+     */
+    private void addStatistics(final long nanos, final long size, final int rows) {
+        if (mStatement != null) {
+            mStatement.addStatistics(nanos, size, rows);
+        }
+    }
+
+    /**
+     * Get the call site opening the result set, a marked call site is rendered on first use.
+     *
+     * @return the open method
+     */
+    public String getOpenMethod() {
+        return mOpenSite != null ? mOpenSite.toString() : mOpenMethod;
+    }
+
+    /**
+     * Set the marked call site opening the result set.
+     *
+     * @param site the call site or null
+     */
+    public void setOpenSite(final CallSites.Mark site) {
+        mOpenSite = site;
+    }
+
     public String dump() {
         return toString();
     }
 
-    public void setMonitor(final ResultSetMonitor.ResultSetTimer resultSetTimer) {
-        this.resultSetTimer = resultSetTimer;
+    public void setResource(final ResourceMonitor.Resource resource) {
+        mResource = resource;
     }
 
+    /**
+     * The action taken for an invoked result set method.
+     */
+    private enum Action {
+        GET, NEXT, CLOSE, CLOSE_IMPLICITLY, CHECK_CLOSED, IS_CLOSED, GET_ITEM_COUNT, GET_DURATION, GET_DURATION_MICROS, GET_SIZE, DELEGATE
+    }
 }
@@ -0,0 +1,24 @@
+package jdbcspy.proxy.handler;
+
+/**
+ * An execution of the underlying statement that receives the statement and the sql code as parameters. The delegating
+ * wrappers pass non-capturing lambdas or method references, so the hot execute path allocates neither an argument
+ * array nor a lambda per call.
+ *
+ * @param <S> the type of the underlying statement
+ * @param <E> the exception thrown by the call
+ */
+@FunctionalInterface
+public interface SqlInvocation<S, E extends Throwable> {
+
+    /**
+     * Invoke the underlying statement.
+     *
+     * @param statement the underlying statement
+     * @param sql       the sql code, null for the executions of a prepared statement
+     * @return the return value
+     * @throws E on error
+     */
+    Object invoke(S statement, String sql) throws E;
+
+}
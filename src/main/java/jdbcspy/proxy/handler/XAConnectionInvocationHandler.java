@@ -66,7 +66,7 @@ public class XAConnectionInvocationHandler implements InvocationHandler, Connect
                     return handleClose(proxy, method, args);
                 }
                 case "getConnection" -> {
-                    final Connection c = (Connection) method.invoke(mConn, args);
+                    final Connection c = (Connection) MethodInvoker.invoke(method, mConn, args);
                     final ProxyConnection pc = (ProxyConnection) connFac.getProxyConnection(c);
 
                     mConnections.add(pc);
@@ -74,7 +74,7 @@ public class XAConnectionInvocationHandler implements InvocationHandler, Connect
                     return pc;
                 }
                 case "getXAResource" -> {
-                    final XAResource xa = (XAResource) method.invoke(mConn, args);
+                    final XAResource xa = (XAResource) MethodInvoker.invoke(method, mConn, args);
                     final XAResource pc = connFac.getProxyXAResource(xa, this);
 
                     return pc;
@@ -84,11 +84,11 @@ public class XAConnectionInvocationHandler implements InvocationHandler, Connect
                 }
             }
 
-            return method.invoke(mConn, args);
+            return MethodInvoker.invoke(method, mConn, args);
         }
         catch (final Exception e) {
             mTrace.atError().withThrowable(e).log("unknown error in {}.{} failed for {}", mConn.getClass(), method.getName(), this);
-            throw e.getCause();
+            throw e;
         }
     }
 
@@ -117,6 +117,11 @@ public class XAConnectionInvocationHandler implements InvocationHandler, Connect
         return 0;
     }
 
+    @Override
+    public long getDurationMicros() {
+        return 0;
+    }
+
     @Override
     public long getSize() {
         return 0;
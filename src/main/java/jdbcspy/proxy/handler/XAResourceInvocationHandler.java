@@ -40,7 +40,7 @@ public class XAResourceInvocationHandler implements InvocationHandler {
      * @see InvocationHandler
      */
     @Override
-    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
 
         try {
             mTrace.trace("call {}.{}", uXa::getClass, () -> Utils.getMethodSignature(method, args));
@@ -49,11 +49,11 @@ public class XAResourceInvocationHandler implements InvocationHandler {
                 xaConnectionInvocationHandler.endTx();
             }
 
-            return method.invoke(uXa, args);
+            return MethodInvoker.invoke(method, uXa, args);
         }
         catch (final Exception e) {
             mTrace.atError().withThrowable(e).log("unknown error in {}.{} failed for {}", uXa.getClass(), method.getName(), this);
-            throw new RuntimeException(e.getMessage(), e);
+            throw e;
         }
     }
 
@@ -0,0 +1,281 @@
+package jdbcspy.proxy.listener;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Dispatches the execution events to the listeners on a separate thread.
+ * <p>
+ * The JDBC threads publish the events into a pre-allocated ring buffer and a single consumer thread calls the
+ * listeners in publishing order. If the buffer is full the event is either dropped and counted or the publishing thread
+ * waits for a free slot. The listeners see the live statement statistics at the time they are called, which may be
+ * later than the event.
+ * <p>
+ * With the drop policy only the starts of executions and the resource failures are dropped, and they already are when
+ * the free slots fall to a reserve. The end of an execution is dropped with its start, otherwise it is never dropped,
+ * neither is the close of a statement: a listener would keep a started execution forever. They wait for a free slot
+ * if the reserve is used up. The idle consumer thread parks until an event is published.
+ */
+public class AsyncExecutionListener implements ExecutionListener {
+
+    /**
+     * the logger object for tracing
+     */
+    private static final Logger mTrace = LogManager.getLogger(AsyncExecutionListener.class.getName());
+    /**
+     * the minimum time between two warnings about dropped events in ns
+     */
+    private static final long DROP_WARN_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
+    private static final int START = 0;
+    private static final int END = 1;
+    private static final int CLOSE = 2;
+    private static final int RESOURCE = 3;
+    private static final int CLEAR = 4;
+
+    /**
+     * the listeners
+     */
+    private final List<ExecutionListener> mListener;
+    /**
+     * block if the buffer is full, otherwise drop the event
+     */
+    private final boolean mBlock;
+    /**
+     * the index mask of the buffer
+     */
+    private final int mMask;
+    /**
+     * the number of slots kept free for the events that are not dropped
+     */
+    private final int mReserve;
+    /**
+     * the event kinds
+     */
+    private final int[] mKinds;
+    /**
+     * the events
+     */
+    private final Object[] mEvents;
+    /**
+     * the sequence number + 1 of the event published in a slot
+     */
+    private final AtomicLongArray mPublished;
+    /**
+     * the next sequence number to claim
+     */
+    private final AtomicLong mTail = new AtomicLong();
+    /**
+     * the next sequence number to consume
+     */
+    private final AtomicLong mHead = new AtomicLong();
+    /**
+     * the number of dropped events
+     */
+    private final LongAdder mDropped = new LongAdder();
+    /**
+     * the consumer thread
+     */
+    private final Thread mConsumer;
+    /**
+     * the consumer thread is parked or about to park
+     */
+    private volatile boolean mParked;
+
+    /**
+     * Constructor.
+     *
+     * @param listener the listeners
+     * @param capacity the capacity of the buffer, rounded up to a power of two
+     * @param block    block if the buffer is full, otherwise drop the event
+     */
+    public AsyncExecutionListener(final List<ExecutionListener> listener, final int capacity, final boolean block) {
+        final int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        mListener = listener;
+        mBlock = block;
+        mMask = size - 1;
+        mReserve = size / 4;
+        mKinds = new int[size];
+        mEvents = new Object[size];
+        mPublished = new AtomicLongArray(size);
+
+        mConsumer = new Thread(this::consume, "jdbcspy-listener");
+        mConsumer.setDaemon(true);
+        mConsumer.start();
+    }
+
+    /**
+     * @see ExecutionListener#startExecution
+     */
+    @Override
+    public void startExecution(final ExecutionEvent event) {
+        event.mStartDropped = !publish(START, event);
+    }
+
+    /**
+     * @see ExecutionListener#endExecution
+     */
+    @Override
+    public void endExecution(final ExecutionEvent event) {
+        if (event.mStartDropped) {
+            event.mStartDropped = false;
+            mDropped.increment();
+            return;
+        }
+        publish(END, event);
+    }
+
+    /**
+     * @see ExecutionListener#closeStatement
+     */
+    @Override
+    public void closeStatement(final CloseEvent event) {
+        publish(CLOSE, event);
+    }
+
+    /**
+     * @see ExecutionListener#resourceFailure
+     */
+    @Override
+    public void resourceFailure(final ResourceEvent event) {
+        publish(RESOURCE, event);
+    }
+
+    /**
+     * @see ExecutionListener#clearStatistics
+     */
+    @Override
+    public void clearStatistics() {
+        publish(CLEAR, null);
+    }
+
+    /**
+     * Get the number of dropped events.
+     *
+     * @return long
+     */
+    public long getDroppedCount() {
+        return mDropped.sum();
+    }
+
+    /**
+     * Get the number of events waiting to be dispatched.
+     *
+     * @return long
+     */
+    public long getPendingCount() {
+        return mTail.get() - mHead.get();
+    }
+
+    /**
+     * Publish an event.
+     *
+     * @param kind  the kind of event
+     * @param event the event
+     * @return false if the event has been dropped
+     */
+    private boolean publish(final int kind, final Object event) {
+        // the starts and resource failures may be dropped, the other events keep the listeners consistent
+        final int limit = mBlock || kind == END || kind == CLOSE || kind == CLEAR ? mMask : mMask - mReserve;
+        long seq;
+        while (true) {
+            seq = mTail.get();
+            if (seq - mHead.get() > limit) {
+                if (limit < mMask) {
+                    mDropped.increment();
+                    return false;
+                }
+                Thread.onSpinWait();
+                LockSupport.parkNanos(1000);
+            }
+            else if (mTail.compareAndSet(seq, seq + 1)) {
+                break;
+            }
+        }
+
+        final int i = (int) seq & mMask;
+        mKinds[i] = kind;
+        mEvents[i] = event;
+        // the volatile write publishes the slot to the consumer
+        mPublished.set(i, seq + 1);
+        if (mParked) {
+            LockSupport.unpark(mConsumer);
+        }
+        return true;
+    }
+
+    private void consume() {
+        long reportedDrops = 0;
+        long lastWarn = System.nanoTime() - DROP_WARN_INTERVAL;
+        int idle = 0;
+
+        while (true) {
+            final long seq = mHead.get();
+            final int i = (int) seq & mMask;
+
+            if (mPublished.get(i) != seq + 1) {
+                if (++idle < 100) {
+                    Thread.onSpinWait();
+                }
+                else {
+                    mParked = true;
+                    // check again, a publisher seeing mParked false has published before
+                    if (mPublished.get(i) != seq + 1) {
+                        // the timeout only reports the drops of the last interval
+                        LockSupport.parkNanos(this, DROP_WARN_INTERVAL);
+                    }
+                    mParked = false;
+                }
+
+                final long dropped = mDropped.sum();
+                if (dropped != reportedDrops && System.nanoTime() - lastWarn >= DROP_WARN_INTERVAL) {
+                    mTrace.warn("dropped {} execution events, the listeners are slower than the statements", dropped - reportedDrops);
+                    reportedDrops = dropped;
+                    lastWarn = System.nanoTime();
+                }
+                continue;
+            }
+            idle = 0;
+
+            final int kind = mKinds[i];
+            final Object event = mEvents[i];
+            mEvents[i] = null;
+            // free the slot
+            mHead.lazySet(seq + 1);
+
+            dispatch(kind, event);
+        }
+    }
+
+    private void dispatch(final int kind, final Object event) {
+        for (final ExecutionListener listener : mListener) {
+            try {
+                switch (kind) {
+                    case START -> listener.startExecution((ExecutionEvent) event);
+                    case END -> listener.endExecution((ExecutionEvent) event);
+                    case CLOSE -> listener.closeStatement((CloseEvent) event);
+                    case RESOURCE -> listener.resourceFailure((ResourceEvent) event);
+                    default -> listener.clearStatistics();
+                }
+            }
+            catch (final RuntimeException e) {
+                mTrace.warn("the listener {} failed", listener.getClass().getName(), e);
+            }
+        }
+    }
+
+    /**
+     * @see java.lang.Object#toString
+     */
+    @Override
+    public String toString() {
+        return "[AsyncExecutionListener[pending=" + getPendingCount() + "; dropped=" + getDroppedCount() + "]]";
+    }
+}
@@ -3,7 +3,7 @@ package jdbcspy.proxy.listener;
 import jdbcspy.proxy.StatementStatistics;
 
 /**
- * The Execution Event class.
+ * The Execution Event class. A statement passes the same event to every start and end of its executions.
  */
 public class ExecutionEvent {
 
@@ -11,6 +11,10 @@ public class ExecutionEvent {
      * the statement statistics
      */
     private final StatementStatistics mStmtStats;
+    /**
+     * the asynchronous dispatch has dropped the start of the current execution, so its end is dropped as well
+     */
+    boolean mStartDropped;
 
     /**
      * Constructor.
@@ -2,13 +2,21 @@ package jdbcspy.proxy.listener;
 
 /**
  * The Execution Event class.
+ * <p>
+ * The statement is rendered the first time a listener asks for it. A listener keeping the event beyond the call should
+ * keep the rendered statement, since the statement changes with its next execution.
  */
 public class ExecutionFailedEvent {
 
     /**
      * the statement
      */
-    private final String mStmt;
+    private final Object mStmt;
+
+    /**
+     * the rendered statement
+     */
+    private String mRendered;
 
     /**
      * the cause
@@ -18,10 +26,10 @@ public class ExecutionFailedEvent {
     /**
      * Constructor.
      *
-     * @param stmt  the statement
+     * @param stmt  the statement, rendered by its toString method
      * @param cause the cause
      */
-    public ExecutionFailedEvent(final String stmt, final Throwable cause) {
+    public ExecutionFailedEvent(final Object stmt, final Throwable cause) {
         mStmt = stmt;
         mCause = cause;
     }
@@ -32,7 +40,10 @@ public class ExecutionFailedEvent {
      * @return statistics
      */
     public String getStatement() {
-        return mStmt;
+        if (mRendered == null) {
+            mRendered = String.valueOf(mStmt);
+        }
+        return mRendered;
     }
 
     /**
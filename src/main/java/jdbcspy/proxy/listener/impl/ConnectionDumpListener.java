@@ -9,6 +9,7 @@ import org.apache.logging.log4j.Logger;
 import jdbcspy.proxy.handler.ConnectionInvocationHandler;
 import jdbcspy.proxy.listener.ConnectionEvent;
 import jdbcspy.proxy.listener.ConnectionListener;
+import jdbcspy.proxy.util.PatternRegistry;
 import jdbcspy.proxy.util.Utils;
 
 /**
@@ -21,6 +22,10 @@ public class ConnectionDumpListener implements ConnectionListener {
      */
     private static final Logger mTrace = LogManager.getLogger(ConnectionDumpListener.class.getName());
     private String dbConnDumpClassExp;
+    /**
+     * the compiled class expressions
+     */
+    private PatternRegistry.Patterns mDumpPatterns = PatternRegistry.get(List.of());
 
     /**
      * @see ConnectionListener#openConnection
@@ -34,8 +39,7 @@ public class ConnectionDumpListener implements ConnectionListener {
      */
     @Override
     public void closeConnection(final ConnectionEvent event) {
-        final List<String> debug = Arrays.asList(dbConnDumpClassExp.split(","));
-        final String regExp = Utils.isTraceClass(debug);
+        final String regExp = Utils.isTraceClass(mDumpPatterns);
 
         if (regExp != null) {
             final ConnectionInvocationHandler handler = (ConnectionInvocationHandler) event.getConnectionStatistics();
@@ -52,6 +56,7 @@ public class ConnectionDumpListener implements ConnectionListener {
 
     public void setConnDumpCloseClassExp(final String exp) {
         dbConnDumpClassExp = exp;
+        mDumpPatterns = PatternRegistry.get(Arrays.asList(exp.split(",")));
     }
 
     /**
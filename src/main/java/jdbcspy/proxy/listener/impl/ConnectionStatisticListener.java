@@ -2,9 +2,12 @@ package jdbcspy.proxy.listener.impl;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.sql.XAConnection;
 
@@ -30,34 +33,36 @@ public class ConnectionStatisticListener implements ConnectionListener {
     /**
      * the connections
      */
-    private final Set<ConnectionStatistics> mConns = new HashSet<>();
+    private final Set<ConnectionStatistics> mConns = ConcurrentHashMap.newKeySet();
 
     /**
      * the count
      */
-    private int mCount;
+    private final LongAdder mCount = new LongAdder();
+
+    /**
+     * the current count
+     */
+    private final AtomicInteger mCurrentCount = new AtomicInteger();
 
     /**
      * the max current count
      */
-    private int mMaxCurrentCount;
+    private final LongAccumulator mMaxCurrentCount = new LongAccumulator(Math::max, 0);
 
     /**
      * the max stmt count
      */
-    private int mMaxStmtCount;
+    private final LongAccumulator mMaxStmtCount = new LongAccumulator(Math::max, 0);
 
     /**
      * @see ConnectionListener#openConnection
      */
     @Override
     public void openConnection(final ConnectionEvent event) {
-        mCount++;
-        synchronized (mConns) {
-            mConns.add(event.getConnectionStatistics());
-            if (mConns.size() > mMaxCurrentCount) {
-                mMaxCurrentCount = mConns.size();
-            }
+        mCount.increment();
+        if (mConns.add(event.getConnectionStatistics())) {
+            mMaxCurrentCount.accumulate(mCurrentCount.incrementAndGet());
         }
     }
 
@@ -66,12 +71,10 @@ public class ConnectionStatisticListener implements ConnectionListener {
      */
     @Override
     public void closeConnection(final ConnectionEvent event) {
-        if (event.getConnectionStatistics().getItemCount() > mMaxStmtCount) {
-            mMaxStmtCount = event.getConnectionStatistics().getItemCount();
-        }
+        mMaxStmtCount.accumulate(event.getConnectionStatistics().getItemCount());
 
-        synchronized (mConns) {
-            mConns.remove(event.getConnectionStatistics());
+        if (mConns.remove(event.getConnectionStatistics())) {
+            mCurrentCount.decrementAndGet();
         }
     }
 
@@ -80,12 +83,38 @@ public class ConnectionStatisticListener implements ConnectionListener {
      */
     @Override
     public void clearStatistics() {
-        synchronized (mConns) {
-            mConns.clear();
-        }
-        mCount = 0;
-        mMaxCurrentCount = 0;
-        mMaxStmtCount = 0;
+        mConns.clear();
+        mCurrentCount.set(0);
+        mCount.reset();
+        mMaxCurrentCount.reset();
+        mMaxStmtCount.reset();
+    }
+
+    /**
+     * Get the number of opened connections.
+     *
+     * @return long
+     */
+    public long getCount() {
+        return mCount.sum();
+    }
+
+    /**
+     * Get the number of currently open connections.
+     *
+     * @return int
+     */
+    public int getOpenCount() {
+        return mCurrentCount.get();
+    }
+
+    /**
+     * Get the maximum number of open connections.
+     *
+     * @return long
+     */
+    public long getMaxOpenCount() {
+        return mMaxCurrentCount.get();
     }
 
     /**
@@ -94,41 +123,40 @@ public class ConnectionStatisticListener implements ConnectionListener {
     @Override
     public String toString() {
         final StringBuilder strb = new StringBuilder(
-                "[ConnectionStatisticListener[\n" + "  #conn=" + mCount + "; #max open conns=" + mMaxCurrentCount + "; #max stmts/conn=" + mMaxStmtCount);
+                "[ConnectionStatisticListener[\n" + "  #conn=" + mCount.sum() + "; #max open conns=" + mMaxCurrentCount.get() + "; #max stmts/conn=" + mMaxStmtCount.get());
 
         int i = 0;
-        synchronized (mConns) {
-            for (final Iterator<ConnectionStatistics> it = mConns.iterator(); it.hasNext(); i++) {
-                final ConnectionInvocationHandler hndlr = (ConnectionInvocationHandler) it.next();
-                final Object c = hndlr.getUnderlyingConnection();
+        for (final Iterator<ConnectionStatistics> it = mConns.iterator(); it.hasNext(); i++) {
+            final ConnectionInvocationHandler hndlr = (ConnectionInvocationHandler) it.next();
+            final Object c = hndlr.getUnderlyingConnection();
 
-                if (i == 1) {
-                    strb.append("; current:");
-                }
-                strb.append("\n  ").append(i).append(": ");
-                strb.append(hndlr);
-
-                try {
-                    if (c instanceof Connection && ((Connection) c).getAutoCommit() || c instanceof XAConnection && ((XAConnection) c).getConnection()
-                            .getAutoCommit()) {
-                        strb.append("; autocommit");
-                    }
-                    strb.append("; isolation=").append(Utils.getIsolationLevel((c instanceof Connection
-                            ? ((Connection) c).getTransactionIsolation()
-                            : ((XAConnection) c).getConnection().getTransactionIsolation())));
-                    if (c instanceof Connection && ((Connection) c).isReadOnly() || c instanceof XAConnection && ((XAConnection) c).getConnection()
-                            .isReadOnly()) {
-                        strb.append("; readonly");
-                    }
+            if (i == 1) {
+                strb.append("; current:");
+            }
+            strb.append("\n  ").append(i).append(": ");
+            strb.append(hndlr);
+
+            try {
+                if (c instanceof Connection && ((Connection) c).getAutoCommit() || c instanceof XAConnection && ((XAConnection) c).getConnection()
+                        .getAutoCommit()) {
+                    strb.append("; autocommit");
                 }
-                catch (final SQLException e) {
-                    strb.append("; no connection properties");
-                    mTrace.info("property reading failed, but ignored", e);
-                    it.remove();
+                strb.append("; isolation=").append(Utils.getIsolationLevel((c instanceof Connection
+                        ? ((Connection) c).getTransactionIsolation()
+                        : ((XAConnection) c).getConnection().getTransactionIsolation())));
+                if (c instanceof Connection && ((Connection) c).isReadOnly() || c instanceof XAConnection && ((XAConnection) c).getConnection()
+                        .isReadOnly()) {
+                    strb.append("; readonly");
                 }
             }
-            strb.append("\n");
+            catch (final SQLException e) {
+                strb.append("; no connection properties");
+                mTrace.info("property reading failed, but ignored", e);
+                it.remove();
+                mCurrentCount.decrementAndGet();
+            }
         }
+        strb.append("\n");
         strb.append("]]");
 
         return strb.toString();
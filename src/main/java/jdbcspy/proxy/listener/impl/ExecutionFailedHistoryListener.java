@@ -21,8 +21,10 @@ public class ExecutionFailedHistoryListener implements ExecutionFailedListener {
      */
     @Override
     public void executionFailed(final ExecutionFailedEvent event) {
+        // keep the statement as rendered at the time of the failure
+        final ExecutionFailedEvent failure = new ExecutionFailedEvent(event.getStatement(), event.getCause());
         synchronized (mList) {
-            mList.add(event);
+            mList.add(failure);
         }
     }
 
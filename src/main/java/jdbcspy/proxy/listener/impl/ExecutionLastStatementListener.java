@@ -9,6 +9,7 @@ import jdbcspy.proxy.StatementStatistics;
 import jdbcspy.proxy.listener.ExecutionAdapter;
 import jdbcspy.proxy.listener.ExecutionEvent;
 import jdbcspy.proxy.listener.ExecutionListener;
+import jdbcspy.proxy.util.SqlFingerprint;
 
 /**
  * The Execution Repeat checker.
@@ -52,12 +53,13 @@ public class ExecutionLastStatementListener extends ExecutionAdapter {
         }
 
         final StatementStatistics stmt = event.getStatementStatistics();
+        final SqlFingerprint fingerprint = stmt.getFingerprint();
 
         for (int i = 0; i < lastStatementMaxHistory; i++) {
             // check the statement at mCurrentPos -i
             final Entry e = mEntries[(2 * lastStatementMaxHistory + mCurrentPos - i - 1) % lastStatementMaxHistory];
 
-            if (e != null && stmt.getSQL().equals(e.event)) {
+            if (e != null && fingerprint.equals(e.fingerprint)) {
                 e.count++;
                 e.totalCount++;
 
@@ -74,6 +76,7 @@ public class ExecutionLastStatementListener extends ExecutionAdapter {
         final Entry newEntry = new Entry();
         newEntry.count = 1;
         newEntry.totalCount = 1;
+        newEntry.fingerprint = fingerprint;
         newEntry.event = stmt.getSQL();
         newEntry.method = stmt.getExecuteCaller();
         mEntries[mCurrentPos] = newEntry;
@@ -118,6 +121,10 @@ public class ExecutionLastStatementListener extends ExecutionAdapter {
      */
     private static class Entry {
 
+        /**
+         * the fingerprint of the statement
+         */
+        SqlFingerprint fingerprint;
         /**
          * the event
          */
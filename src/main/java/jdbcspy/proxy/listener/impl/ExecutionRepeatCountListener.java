@@ -13,6 +13,7 @@ import org.apache.logging.log4j.Logger;
 import jdbcspy.proxy.listener.ExecutionAdapter;
 import jdbcspy.proxy.listener.ExecutionEvent;
 import jdbcspy.proxy.listener.ExecutionListener;
+import jdbcspy.proxy.util.SqlFingerprint;
 
 /**
  * The Execution Repeat checker.
@@ -30,7 +31,7 @@ public class ExecutionRepeatCountListener extends ExecutionAdapter {
     /**
      * the time map
      */
-    private final Map<String, Integer> mMap;
+    private final Map<SqlFingerprint, Integer> mMap;
     private int repeatCountStmtSize;
     private int repeatCountThreshold;
 
@@ -41,6 +42,14 @@ public class ExecutionRepeatCountListener extends ExecutionAdapter {
         mMap = new HashMap<>();
     }
 
+    public void setRepeatCountStmtSize(final int size) {
+        repeatCountStmtSize = size;
+    }
+
+    public void setRepeatCountThreshold(final int threshold) {
+        repeatCountThreshold = threshold;
+    }
+
     /**
      * @see ExecutionListener#startExecution
      */
@@ -50,7 +59,7 @@ public class ExecutionRepeatCountListener extends ExecutionAdapter {
             return;
         }
 
-        final String stmt = event.getStatementStatistics().getSQL();
+        final SqlFingerprint stmt = event.getStatementStatistics().getFingerprint();
 
         final Integer count;
         final int size;
@@ -139,12 +148,12 @@ public class ExecutionRepeatCountListener extends ExecutionAdapter {
         }
 
         final StringBuilder strb = new StringBuilder("[ExecutionRepeatCountListener[\n");
-        final Set<Map.Entry<String, Integer>> s = new TreeSet<>((e1, e2) -> {
+        final Set<Map.Entry<SqlFingerprint, Integer>> s = new TreeSet<>((e1, e2) -> {
             final int c = e2.getValue() - e1.getValue();
             if (c != 0) {
                 return c;
             }
-            return e2.getKey().compareTo(e1.getKey());
+            return e2.getKey().getText().compareTo(e1.getKey().getText());
         });
 
         synchronized (mMap) {
@@ -152,7 +161,7 @@ public class ExecutionRepeatCountListener extends ExecutionAdapter {
         }
 
         int count = MAX_PRINT_SIZE;
-        for (final Map.Entry<String, Integer> e : s) {
+        for (final Map.Entry<SqlFingerprint, Integer> e : s) {
             strb.append("  ").append(MAX_PRINT_SIZE - count + 1).append(": #=").append(e.getValue()).append(": \"").append(e.getKey()).append("\"\n");
             count--;
             if (count <= 0) {
@@ -1,14 +1,14 @@
 package jdbcspy.proxy.listener.impl;
 
 import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.function.LongFunction;
 
 import jdbcspy.proxy.StatementStatistics;
 import jdbcspy.proxy.listener.CloseEvent;
 import jdbcspy.proxy.listener.ExecutionAdapter;
 import jdbcspy.proxy.listener.ExecutionEvent;
 import jdbcspy.proxy.listener.ExecutionListener;
+import jdbcspy.proxy.util.Histogram;
 import jdbcspy.proxy.util.Utils;
 
 /**
@@ -17,107 +17,43 @@ import jdbcspy.proxy.util.Utils;
 public class ExecutionStatisticListener extends ExecutionAdapter {
 
     /**
-     * the time map
+     * the reported percentiles
      */
-    private final Map<String, Integer> mTimeMap;
-
-    /**
-     * the length map
-     */
-    private final Map<String, Integer> mLengthMap;
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
     /**
-     * the categories
+     * the names of the reported percentiles
      */
-    private final String[] LENGTH_CAT_STRING = {
-            "{<=20}",
-            "{20-40}",
-            "{40-70}",
-            "{70-100}",
-            "{100-150}",
-            "{150-200}",
-            "{200-250}",
-            "{250-300}",
-            "{350-400}",
-            "{450-500}",
-            "{500-600}",
-            "{600-700}",
-            "{700-800}",
-            "{800-900}",
-            "{900-1k}",
-            "{1k-1200}",
-            "{1200-1500}",
-            "{1500-2k}",
-            "{2k-2500}",
-            "{2500-3k}",
-            "{3k-4k}",
-            "{4k-5k}",
-            "{5k-10k}",
-            "{>10k}"
-    };
+    private static final String[] PERCENTILE_NAMES = { "p50", "p90", "p99", "p999" };
     /**
-     * the categories
+     * the execution times in microseconds
      */
-    private final String[] TIME_CAT_STRING = {
-            "{<=3ms}",
-            "{3-5ms}",
-            "{5-10ms}",
-            "{10-100ms}",
-            "{100-500ms}",
-            "{500-1000ms}",
-            "{1-3s}",
-            "{3-5s}",
-            "{5-10s}",
-            "{10-20s}",
-            "{20-30s}",
-            "{30s-1m}",
-            "{1-3m}",
-            "{3-5m}",
-            "{5-10m}",
-            "{10-20m}",
-            "{20-30m}",
-            "{30-60m}",
-            "{1h-2h}",
-            "{2h-5h}",
-            "{5h-10h}",
-            "{10h-1d}",
-            "{>1d}"
-    };
+    private final Histogram mExecTimes = new Histogram();
     /**
-     * the init date
+     * the iteration times in microseconds
      */
-    private final Date mInitDate;
-    private final Utils utils = new Utils();
+    private final Histogram mIterationTimes = new Histogram();
     /**
-     * the total statement count
+     * the rows per statement
      */
-    private long mStmtCount;
+    private final Histogram mRows = new Histogram();
     /**
-     * the item count
+     * the result sizes per statement
      */
-    private long mItemCount;
+    private final Histogram mSizes = new Histogram();
     /**
-     * the duration
+     * the sql lengths per execution
      */
-    private long mDuration;
+    private final Histogram mLengths = new Histogram();
     /**
-     * the total size
-     */
-    private long mSize;
-    /**
-     * the max length
-     */
-    private long mMaxLength;
-    /**
-     * the total length
+     * the init date
      */
-    private long mTotalLength;
+    private final Date mInitDate;
+    private final Utils utils = new Utils();
 
     /**
      * Constructor.
      */
     public ExecutionStatisticListener() {
-        mTimeMap = new HashMap<>();
-        mLengthMap = new HashMap<>();
         mInitDate = new Date();
     }
 
@@ -126,24 +62,7 @@ public class ExecutionStatisticListener extends ExecutionAdapter {
      */
     @Override
     public void startExecution(final ExecutionEvent event) {
-        final int length = event.getStatementStatistics().getSQL().length();
-        mTotalLength += length;
-        if (length > mMaxLength) {
-            mMaxLength = length;
-        }
-        mStmtCount++;
-
-        final String cat = getLengthCategory(length);
-        synchronized (mLengthMap) {
-            final Integer cnt = mLengthMap.get(cat);
-            if (cnt == null) {
-                mLengthMap.put(cat, 1);
-            }
-            else {
-                final Integer newInt = cnt + 1;
-                mLengthMap.put(cat, newInt);
-            }
-        }
+        mLengths.record(event.getStatementStatistics().getSQL().length());
     }
 
     /**
@@ -152,22 +71,12 @@ public class ExecutionStatisticListener extends ExecutionAdapter {
     @Override
     public void closeStatement(final CloseEvent event) {
         final StatementStatistics stmt = event.getStatementStatistics();
-        mDuration += stmt.getDuration();
-        mItemCount += stmt.getItemCount();
-        mSize += stmt.getSize();
-
-        final String cat = getCategory(stmt.getDuration());
+        final long execTime = stmt.getExecutionTimeMicros();
 
-        synchronized (mTimeMap) {
-            final Integer cnt = mTimeMap.get(cat);
-            if (cnt == null) {
-                mTimeMap.put(cat, 1);
-            }
-            else {
-                final Integer newInt = cnt + 1;
-                mTimeMap.put(cat, newInt);
-            }
-        }
+        mExecTimes.record(execTime);
+        mIterationTimes.record(stmt.getDurationMicros() - execTime);
+        mRows.record(stmt.getItemCount());
+        mSizes.record(stmt.getSize());
     }
 
     /**
@@ -175,222 +84,63 @@ public class ExecutionStatisticListener extends ExecutionAdapter {
      */
     @Override
     public void clearStatistics() {
-        synchronized (mTimeMap) {
-            mTimeMap.clear();
-        }
-        synchronized (mLengthMap) {
-            mLengthMap.clear();
-        }
-        mStmtCount = 0;
-        mItemCount = 0;
-        mDuration = 0;
-        mSize = 0;
-        mMaxLength = 0;
-        mTotalLength = 0;
+        mExecTimes.reset();
+        mIterationTimes.reset();
+        mRows.reset();
+        mSizes.reset();
+        mLengths.reset();
     }
 
     /**
-     * Get the length category.
+     * Get the execution times of the closed statements in us.
      *
-     * @param length long
-     * @return String
+     * @return the histogram
      */
-    private String getLengthCategory(final int length) {
-        int idx = 0;
-        if (length <= 20) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 40) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 70) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 100) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 150) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 200) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 250) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 300) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 400) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 500) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 600) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 700) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 800) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 900) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 1000) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 1200) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 1500) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 2000) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 2500) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 3000) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 4000) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 5000) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
-        if (length <= 10000) {
-            return LENGTH_CAT_STRING[idx];
-        }
-        idx++;
+    public Histogram getExecutionTimes() {
+        return mExecTimes;
+    }
 
-        return LENGTH_CAT_STRING[idx];
+    /**
+     * Get the iteration times of the closed statements in us.
+     *
+     * @return the histogram
+     */
+    public Histogram getIterationTimes() {
+        return mIterationTimes;
     }
 
     /**
-     * Get the category.
+     * Get the rows of the closed statements.
      *
-     * @param execTime long
-     * @return String
+     * @return the histogram
      */
-    private String getCategory(final long execTime) {
-        int idx = 0;
-        if (execTime <= 3) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 5) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 10) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 100) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 500) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 1000) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 3000) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 5000) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 10000) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 20000) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 30000) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 60000) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 3 * 60000) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 5 * 60000) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 10 * 60000) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 20 * 60000) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 30 * 60000) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 60 * 60000) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 120 * 60000) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 300 * 60000) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 600 * 60000) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
-        if (execTime <= 24 * 60 * 60000) {
-            return TIME_CAT_STRING[idx];
-        }
-        idx++;
+    public Histogram getRows() {
+        return mRows;
+    }
+
+    /**
+     * Get the result sizes of the closed statements.
+     *
+     * @return the histogram
+     */
+    public Histogram getSizes() {
+        return mSizes;
+    }
 
-        return TIME_CAT_STRING[idx];
+    /**
+     * Append the percentiles of a histogram.
+     *
+     * @param strb   the string builder
+     * @param name   the name of the histogram
+     * @param h      the histogram
+     * @param format the value format
+     */
+    private static void appendPercentiles(final StringBuilder strb, final String name, final Histogram h, final LongFunction<String> format) {
+        strb.append("\n  ").append(name).append(": ");
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            strb.append(PERCENTILE_NAMES[i]).append('=').append(format.apply(h.getValueAtPercentile(PERCENTILES[i]))).append(", ");
+        }
+        strb.append("max=").append(format.apply(h.getMax())).append(';');
     }
 
     /**
@@ -398,44 +148,28 @@ public class ExecutionStatisticListener extends ExecutionAdapter {
      */
     @Override
     public String toString() {
+        final long stmtCount = mLengths.getCount();
+        final long duration = mExecTimes.getSum() + mIterationTimes.getSum();
+        final long size = mSizes.getSum();
 
         final StringBuilder map = new StringBuilder(
                 "[ExecutionStatisticListener[" + "online since " + utils.getFormattedDate(mInitDate) + " (" + Utils.getTimeString(
-                        (System.currentTimeMillis() - mInitDate.getTime())) + ")\n  #stmt=" + mStmtCount + "; #rs=" + mItemCount + (mSize > 0 ? "; size="
-                        + Utils.getSizeString(mSize) : "") + "; duration=" + Utils.getTimeString(mDuration));
-
-        if (mStmtCount != 0) {
-            map.append("; avgDuration=").append(Utils.getTimeString(mDuration / mStmtCount)).append("; maxLength=").append(mMaxLength).append("; avgLength=")
-                    .append(mTotalLength / mStmtCount).append(";\n  time=");
-
-            boolean first = true;
-            synchronized (mTimeMap) {
-                for (final String s : TIME_CAT_STRING) {
-                    final Integer count = mTimeMap.get(s);
-                    if (count != null) {
-                        if (!first) {
-                            map.append(", ");
-                        }
-                        first = false;
-                        map.append(s).append("=").append(count);
-                    }
-                }
-            }
-
-            map.append(";\n  length=");
-            first = true;
-            synchronized (mLengthMap) {
-                for (final String s : LENGTH_CAT_STRING) {
-                    final Integer count = mLengthMap.get(s);
-                    if (count != null) {
-                        if (!first) {
-                            map.append(", ");
-                        }
-                        first = false;
-                        map.append(s).append("=").append(count);
-                    }
+                        (System.currentTimeMillis() - mInitDate.getTime())) + ")\n  #stmt=" + stmtCount + "; #rs=" + mRows.getSum() + (size > 0 ? "; size="
+                        + Utils.getSizeString(size) : "") + "; duration=" + Utils.getMicroTimeString(duration));
+
+        if (stmtCount != 0) {
+            map.append("; avgDuration=").append(Utils.getMicroTimeString(duration / stmtCount)).append("; maxLength=").append(mLengths.getMax())
+                    .append("; avgLength=").append(mLengths.getMean()).append(';');
+
+            if (mExecTimes.getCount() != 0) {
+                appendPercentiles(map, "execTime", mExecTimes, Utils::getMicroTimeString);
+                appendPercentiles(map, "iterTime", mIterationTimes, Utils::getMicroTimeString);
+                appendPercentiles(map, "rows", mRows, Long::toString);
+                if (size > 0) {
+                    appendPercentiles(map, "size", mSizes, Utils::getSizeString);
                 }
             }
+            appendPercentiles(map, "length", mLengths, Long::toString);
         }
 
         map.append("\n]]\n");
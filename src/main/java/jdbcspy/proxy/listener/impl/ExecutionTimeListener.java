@@ -1,11 +1,10 @@
 package jdbcspy.proxy.listener.impl;
 
-import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -15,6 +14,7 @@ import jdbcspy.proxy.listener.CloseEvent;
 import jdbcspy.proxy.listener.ExecutionAdapter;
 import jdbcspy.proxy.listener.ExecutionEvent;
 import jdbcspy.proxy.listener.ExecutionListener;
+import jdbcspy.proxy.util.TimingWheel;
 import jdbcspy.proxy.util.Utils;
 
 /**
@@ -33,14 +33,19 @@ public class ExecutionTimeListener extends ExecutionAdapter {
     private static final int MAX_HISTORY = 15;
 
     /**
-     * the time map
+     * the default escalation steps
      */
-    private final Map<StatementStatistics, Integer> mRunningStmts = new HashMap<>();
+    private static final String DEFAULT_ESCALATION_STEPS = "1,2,3,5,10,15,20,25,30,45,60,120,180,240,300,360,480";
+
+    /**
+     * the running statements
+     */
+    private final Map<StatementStatistics, Execution> mRunningStmts = new ConcurrentHashMap<>();
 
     /**
      * the statements that are executed but not closed
      */
-    private final Map<StatementStatistics, Integer> mWaiting = new HashMap<>();
+    private final Map<StatementStatistics, Integer> mWaiting = new ConcurrentHashMap<>();
 
     private final Utils utils = new Utils();
 
@@ -48,18 +53,15 @@ public class ExecutionTimeListener extends ExecutionAdapter {
      * the history map
      */
     private final SortedSet<Entry> mHistorySet = new TreeSet<>((l1, l2) -> {
-        long c = (l2.duration - l1.duration);
-        if (c > 0) {
-            return 1;
-        }
-        if (c < 0) {
-            return -1;
-        }
-        return l1.stmt.compareTo(l2.stmt);
+        final int c = Long.compare(l2.duration, l1.duration);
+        return c != 0 ? c : l1.stmt.compareTo(l2.stmt);
     });
 
-    private Runnable r;
     private int longExecutionThreshold;
+    /**
+     * the multiples of the threshold at which a running statement is reported
+     */
+    private long[] mEscalationSteps = parseSteps(DEFAULT_ESCALATION_STEPS);
 
     public int getLongExecutionThreshold() {
         return longExecutionThreshold;
@@ -69,90 +71,64 @@ public class ExecutionTimeListener extends ExecutionAdapter {
         this.longExecutionThreshold = longExecutionThreshold;
     }
 
+    public String getEscalationSteps() {
+        final StringBuilder strb = new StringBuilder();
+        for (final long step : mEscalationSteps) {
+            strb.append(strb.length() > 0 ? "," : "").append(step);
+        }
+        return strb.toString();
+    }
+
+    /**
+     * Set the escalation steps, a comma separated ascending list of multiples of the threshold. After the last step
+     * the distance of the last two steps is repeated.
+     *
+     * @param escalationSteps the escalation steps
+     */
+    public void setEscalationSteps(final String escalationSteps) {
+        mEscalationSteps = parseSteps(escalationSteps);
+    }
+
+    private static long[] parseSteps(final String steps) {
+        final String[] s = steps.split(",");
+        final long[] l = new long[s.length];
+        for (int i = 0; i < s.length; i++) {
+            l[i] = Long.parseLong(s[i].trim());
+            if (l[i] <= 0 || (i > 0 && l[i] <= l[i - 1])) {
+                throw new IllegalArgumentException("the escalation steps " + steps + " are not positive and ascending");
+            }
+        }
+        return l;
+    }
+
+    /**
+     * Get the time in ms since the execution start at which a running statement is reported.
+     *
+     * @param loop the number of the report, starting with 1
+     * @return the time in ms
+     */
+    private long getEscalationTime(final int loop) {
+        final long[] steps = mEscalationSteps;
+        final int n = steps.length;
+        final long step;
+        if (loop <= n) {
+            step = steps[loop - 1];
+        }
+        else {
+            step = steps[n - 1] + (loop - n) * (n > 1 ? steps[n - 1] - steps[n - 2] : steps[n - 1]);
+        }
+        return step * longExecutionThreshold;
+    }
+
     /**
      * @see ExecutionListener#startExecution
      */
     @Override
     public void startExecution(final ExecutionEvent event) {
-        if (r == null) {
-            r = () -> {
-                final Set<Map.Entry<StatementStatistics, Integer>> loopSet = new TreeSet<>((e1, e2) -> {
-                    final StatementStatistics stmt1 = e1.getKey();
-                    final StatementStatistics stmt2 = e2.getKey();
-
-                    return (int) (stmt2.getExecutionStartTime() - stmt1.getExecutionStartTime());
-                });
-
-                while (true) {
-                    try {
-                        Thread.sleep(60000); // 1 min
-                        final Date now = new Date();
-
-                        loopSet.clear();
-                        synchronized (mRunningStmts) {
-                            loopSet.addAll(mRunningStmts.entrySet());
-                        }
-
-                        for (final Map.Entry<StatementStatistics, Integer> entry : loopSet) {
-
-                            final StatementStatistics stmt = entry.getKey();
-                            final int loop = entry.getValue();
-
-                            final int wait;
-                            switch (loop) {
-                                case 1:
-                                    wait = 1;
-                                    break;
-                                case 2:
-                                    wait = 2;
-                                    break;
-                                case 3:
-                                    wait = 3;
-                                    break;
-                                case 4:
-                                    wait = 5;
-                                    break;
-                                case 5:
-                                    wait = 10;
-                                    break;
-                                case 6:
-                                    wait = 15;
-                                    break;
-                                case 7:
-                                    wait = 20;
-                                    break;
-                                case 8:
-                                    wait = 25;
-                                    break;
-                                case 9:
-                                    wait = 30;
-                                    break;
-                                case 10:
-                                    wait = 45;
-                                    break;
-                                default: {
-                                    wait = (loop <= 15 ? 60 * (loop - 10) : 120 * (loop - 13));
-                                }
-                            }
-
-                            final long execTime = (now.getTime() - stmt.getExecutionStartTime());
-                            if (execTime > (long) longExecutionThreshold * wait) {
-                                entry.setValue(loop + 1);
-                                printMessage(stmt.getSQL(), loop, execTime, false, stmt.getExecuteCaller());
-                            }
-                        }
-                    }
-                    catch (final Exception e) {
-                        mTrace.warn("failed", e);
-                    }
-                }
-            };
-            final Thread t = new Thread(r, "CheckLongExecThread");
-            t.setDaemon(true);
-            t.start();
-        }
-        synchronized (mRunningStmts) {
-            mRunningStmts.put(event.getStatementStatistics(), 1);
+        final Execution exec = new Execution(event.getStatementStatistics());
+        mRunningStmts.put(exec.mStmt, exec);
+        if (longExecutionThreshold > 0) {
+            exec.schedule(getEscalationTime(1));
         }
     }
 
@@ -161,12 +137,10 @@ public class ExecutionTimeListener extends ExecutionAdapter {
      */
     @Override
     public void endExecution(final ExecutionEvent event) {
-        final Integer loop;
-        synchronized (mRunningStmts) {
-            loop = mRunningStmts.remove(event.getStatementStatistics());
-        }
-        synchronized (mWaiting) {
-            mWaiting.put(event.getStatementStatistics(), loop);
+        final Execution exec = mRunningStmts.remove(event.getStatementStatistics());
+        if (exec != null) {
+            exec.cancel();
+            mWaiting.put(exec.mStmt, exec.mLoop);
         }
     }
 
@@ -177,10 +151,7 @@ public class ExecutionTimeListener extends ExecutionAdapter {
     public void closeStatement(final CloseEvent event) {
 
         final StatementStatistics stmt = event.getStatementStatistics();
-        final Integer loop;
-        synchronized (mWaiting) {
-            loop = mWaiting.remove(stmt);
-        }
+        final Integer loop = mWaiting.remove(stmt);
         if (loop != null) {
             final Entry entry = new Entry();
 
@@ -205,12 +176,11 @@ public class ExecutionTimeListener extends ExecutionAdapter {
      */
     @Override
     public void clearStatistics() {
-        synchronized (mRunningStmts) {
-            mRunningStmts.clear();
-        }
-        synchronized (mWaiting) {
-            mWaiting.clear();
+        for (final Execution exec : mRunningStmts.values()) {
+            exec.cancel();
         }
+        mRunningStmts.clear();
+        mWaiting.clear();
         synchronized (mHistorySet) {
             mHistorySet.clear();
         }
@@ -242,30 +212,26 @@ public class ExecutionTimeListener extends ExecutionAdapter {
     @Override
     public String toString() {
         final StringBuilder strb = new StringBuilder("[ExecutionTimeListener[\n");
-        synchronized (mRunningStmts) {
-            if (!mRunningStmts.isEmpty()) {
-                strb.append("  currently executing:\n");
-                int i = 1;
-                for (final StatementStatistics stmt : mRunningStmts.keySet()) {
-
-                    strb.append("    ").append(i).append(": ");
-                    strb.append(stmt);
-                    strb.append("\n");
-                    i++;
-                }
+        if (!mRunningStmts.isEmpty()) {
+            strb.append("  currently executing:\n");
+            int i = 1;
+            for (final StatementStatistics stmt : mRunningStmts.keySet()) {
+
+                strb.append("    ").append(i).append(": ");
+                strb.append(stmt);
+                strb.append("\n");
+                i++;
             }
         }
 
-        synchronized (mWaiting) {
-            if (!mWaiting.isEmpty()) {
-                strb.append("\n  executed but waiting to be closed:\n");
-                int i = 1;
-                for (final StatementStatistics stmt : mWaiting.keySet()) {
-                    strb.append("    ").append(i).append(": ");
-                    strb.append(stmt.toString());
-                    strb.append("\n");
-                    i++;
-                }
+        if (!mWaiting.isEmpty()) {
+            strb.append("\n  executed but waiting to be closed:\n");
+            int i = 1;
+            for (final StatementStatistics stmt : mWaiting.keySet()) {
+                strb.append("    ").append(i).append(": ");
+                strb.append(stmt.toString());
+                strb.append("\n");
+                i++;
             }
         }
 
@@ -292,4 +258,53 @@ public class ExecutionTimeListener extends ExecutionAdapter {
 
     }
 
+    /**
+     * A running statement and its next escalation.
+     */
+    private final class Execution implements Runnable {
+
+        /**
+         * the statement
+         */
+        private final StatementStatistics mStmt;
+        /**
+         * the number of the next report, 1 if the statement has not been reported
+         */
+        private volatile int mLoop = 1;
+        /**
+         * the scheduled report
+         */
+        private volatile TimingWheel.Timeout mTimeout;
+
+        Execution(final StatementStatistics stmt) {
+            mStmt = stmt;
+        }
+
+        void schedule(final long delay) {
+            mTimeout = TimingWheel.getInstance().schedule(this, delay, TimeUnit.MILLISECONDS);
+        }
+
+        void cancel() {
+            final TimingWheel.Timeout timeout = mTimeout;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+
+        /**
+         * Report the running statement and schedule the next escalation.
+         */
+        @Override
+        public void run() {
+            if (mRunningStmts.get(mStmt) != this) {
+                return;
+            }
+            final int loop = mLoop;
+            final long execTime = mStmt.getExecutionTime();
+            printMessage(mStmt.getSQL(), loop, execTime, false, mStmt.getExecuteCaller());
+            mLoop = loop + 1;
+            schedule(getEscalationTime(loop + 1) - execTime);
+        }
+    }
+
 }
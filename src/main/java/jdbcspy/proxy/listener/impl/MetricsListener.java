@@ -0,0 +1,291 @@
+package jdbcspy.proxy.listener.impl;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdbcspy.proxy.StatementStatistics;
+import jdbcspy.proxy.handler.AbstractStatementInvocationHandler;
+import jdbcspy.proxy.listener.CloseEvent;
+import jdbcspy.proxy.listener.ExecutionAdapter;
+import jdbcspy.proxy.listener.ExecutionEvent;
+import jdbcspy.proxy.listener.ExecutionFailedEvent;
+import jdbcspy.proxy.listener.ExecutionFailedListener;
+import jdbcspy.proxy.listener.ExecutionListener;
+import jdbcspy.proxy.util.SqlFingerprint;
+
+/**
+ * The counters of the metrics endpoint per connection url and statement fingerprint.
+ * <p>
+ * As execution listener it counts the executions and the closed statements with their execution time, rows and size;
+ * as execution failed listener it counts the failures per SQLState. Once metricsMaxSeries series exist, further
+ * statements are counted in a single series with the fingerprint "other".
+ */
+public class MetricsListener extends ExecutionAdapter implements ExecutionFailedListener {
+
+    /**
+     * the upper bounds of the execution time buckets in us
+     */
+    public static final long[] BOUNDS_MICROS = { 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 500_000, 1_000_000,
+            2_500_000, 5_000_000, 10_000_000 };
+    /**
+     * the fingerprint label of the series collecting the statements beyond the limit
+     */
+    public static final String OTHER = "other";
+
+    /**
+     * the series per url and fingerprint
+     */
+    private final Map<String, Map<SqlFingerprint, Series>> mSeries = new ConcurrentHashMap<>();
+    /**
+     * the number of series
+     */
+    private final AtomicInteger mSeriesCount = new AtomicInteger();
+    /**
+     * the series beyond the limit
+     */
+    private final Series mOther = new Series("", null);
+    /**
+     * the failures per SQLState
+     */
+    private final Map<String, LongAdder> mFailures = new ConcurrentHashMap<>();
+    /**
+     * the maximum number of series
+     */
+    private int metricsMaxSeries = 1000;
+
+    public void setMetricsMaxSeries(final int max) {
+        metricsMaxSeries = max;
+    }
+
+    /**
+     * Get the series of a statement.
+     *
+     * @param stmt the statement
+     * @return the series
+     */
+    private Series series(final StatementStatistics stmt) {
+        final String u = stmt instanceof AbstractStatementInvocationHandler h ? h.getConnectionURL() : null;
+        final String url = u != null ? u : "";
+        final SqlFingerprint fingerprint = stmt.getFingerprint();
+
+        Map<SqlFingerprint, Series> byFingerprint = mSeries.get(url);
+        if (byFingerprint == null) {
+            if (mSeriesCount.get() >= metricsMaxSeries) {
+                return mOther;
+            }
+            byFingerprint = mSeries.computeIfAbsent(url, k -> new ConcurrentHashMap<>());
+        }
+
+        Series series = byFingerprint.get(fingerprint);
+        if (series == null) {
+            if (mSeriesCount.get() >= metricsMaxSeries) {
+                return mOther;
+            }
+            series = byFingerprint.computeIfAbsent(fingerprint, f -> {
+                mSeriesCount.incrementAndGet();
+                return new Series(url, f);
+            });
+        }
+        return series;
+    }
+
+    /**
+     * @see ExecutionListener#endExecution
+     */
+    @Override
+    public void endExecution(final ExecutionEvent event) {
+        series(event.getStatementStatistics()).mExecutions.increment();
+    }
+
+    /**
+     * @see ExecutionListener#closeStatement
+     */
+    @Override
+    public void closeStatement(final CloseEvent event) {
+        final StatementStatistics stmt = event.getStatementStatistics();
+        series(stmt).record(stmt.getExecutionTimeMicros(), stmt.getItemCount(), stmt.getSize());
+    }
+
+    /**
+     * @see ExecutionFailedListener#executionFailed
+     */
+    @Override
+    public void executionFailed(final ExecutionFailedEvent event) {
+        final String state = event.getCause() instanceof SQLException e ? e.getSQLState() : null;
+        mFailures.computeIfAbsent(state != null ? state : "", k -> new LongAdder()).increment();
+    }
+
+    /**
+     * @see ExecutionListener#clearStatistics
+     */
+    @Override
+    public void clearStatistics() {
+        mSeries.clear();
+        mSeriesCount.set(0);
+        mOther.reset();
+        mFailures.clear();
+    }
+
+    /**
+     * Get the series, the series beyond the limit last if it has counted anything.
+     *
+     * @return the series
+     */
+    public List<Series> getSeries() {
+        final List<Series> list = new ArrayList<>(mSeriesCount.get() + 1);
+        for (final Map<SqlFingerprint, Series> byFingerprint : mSeries.values()) {
+            list.addAll(byFingerprint.values());
+        }
+        if (mOther.getStatements() > 0 || mOther.getExecutions() > 0) {
+            list.add(mOther);
+        }
+        return list;
+    }
+
+    /**
+     * Get the failures per SQLState, the empty state for failures without one.
+     *
+     * @return the failures
+     */
+    public Map<String, LongAdder> getFailures() {
+        return mFailures;
+    }
+
+    /**
+     * @see java.lang.Object#toString
+     */
+    @Override
+    public String toString() {
+        long failures = 0;
+        for (final LongAdder count : mFailures.values()) {
+            failures += count.sum();
+        }
+        return "[MetricsListener[#series=" + mSeriesCount.get() + "; #failures=" + failures + "]]";
+    }
+
+    /**
+     * The counters of the statements of a url and fingerprint.
+     */
+    public static final class Series {
+
+        /**
+         * the url
+         */
+        private final String mURL;
+        /**
+         * the fingerprint, null for the series beyond the limit
+         */
+        private final SqlFingerprint mFingerprint;
+        /**
+         * the fingerprint label
+         */
+        private final String mLabel;
+        /**
+         * the executions
+         */
+        private final LongAdder mExecutions = new LongAdder();
+        /**
+         * the closed statements
+         */
+        private final LongAdder mStatements = new LongAdder();
+        /**
+         * the execution time of the closed statements in us
+         */
+        private final LongAdder mTimeMicros = new LongAdder();
+        /**
+         * the rows of the closed statements
+         */
+        private final LongAdder mRows = new LongAdder();
+        /**
+         * the size of the closed statements
+         */
+        private final LongAdder mSize = new LongAdder();
+        /**
+         * the closed statements per execution time bucket, not cumulative
+         */
+        private final AtomicLongArray mBuckets = new AtomicLongArray(BOUNDS_MICROS.length);
+
+        Series(final String url, final SqlFingerprint fingerprint) {
+            mURL = url;
+            mFingerprint = fingerprint;
+            mLabel = fingerprint != null ? Long.toHexString(fingerprint.getId()) : OTHER;
+        }
+
+        void record(final long micros, final int rows, final long size) {
+            mStatements.increment();
+            mTimeMicros.add(micros);
+            mRows.add(rows);
+            mSize.add(size);
+            for (int i = 0; i < BOUNDS_MICROS.length; i++) {
+                if (micros <= BOUNDS_MICROS[i]) {
+                    mBuckets.incrementAndGet(i);
+                    break;
+                }
+            }
+        }
+
+        void reset() {
+            mExecutions.reset();
+            mStatements.reset();
+            mTimeMicros.reset();
+            mRows.reset();
+            mSize.reset();
+            for (int i = 0; i < BOUNDS_MICROS.length; i++) {
+                mBuckets.set(i, 0);
+            }
+        }
+
+        public SqlFingerprint getFingerprint() {
+            return mFingerprint;
+        }
+
+        public String getURL() {
+            return mURL;
+        }
+
+        /**
+         * Get the fingerprint label, the hexadecimal fingerprint id or {@link #OTHER}.
+         *
+         * @return String
+         */
+        public String getFingerprintLabel() {
+            return mLabel;
+        }
+
+        public long getExecutions() {
+            return mExecutions.sum();
+        }
+
+        public long getStatements() {
+            return mStatements.sum();
+        }
+
+        public long getTimeMicros() {
+            return mTimeMicros.sum();
+        }
+
+        public long getRows() {
+            return mRows.sum();
+        }
+
+        public long getSize() {
+            return mSize.sum();
+        }
+
+        /**
+         * Get the closed statements with an execution time in a bucket and above the previous bucket.
+         *
+         * @param index the index of the bucket in {@link #BOUNDS_MICROS}
+         * @return long
+         */
+        public long getBucketCount(final int index) {
+            return mBuckets.get(index);
+        }
+    }
+}
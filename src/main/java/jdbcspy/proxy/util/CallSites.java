@@ -0,0 +1,275 @@
+package jdbcspy.proxy.util;
+
+import java.io.Serial;
+import java.lang.StackWalker.StackFrame;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jdbcspy.ClientProperties;
+
+/**
+ * Captures the application call site of a JDBC call.
+ * <p>
+ * The stack is walked lazily with a StackWalker and only as deep as TraceDepth requires. Frames of the proxy and
+ * classes matching TraceClassIgnoreRegExp are skipped without building stack trace elements. The rendered
+ * "Class.method:line|..." string is cached per call site.
+ * <p>
+ * A call site that is rarely needed, like the site opening a resource, is only marked. The mark records the frames
+ * without walking them and renders the call site when it is needed first.
+ */
+public final class CallSites {
+
+    /**
+     * the maximum number of cached call sites
+     */
+    private static final int MAX_CACHED_SITES = 4096;
+    /**
+     * the package of the proxy classes
+     */
+    private static final String PROXY_PACKAGE = "jdbcspy.proxy";
+    /**
+     * the stack walker
+     */
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    /**
+     * the rendered call sites
+     */
+    private static final Map<Site, String> SITES = new ConcurrentHashMap<>();
+
+    private CallSites() {
+    }
+
+    /**
+     * Get the call site of the current thread.
+     *
+     * @param proxy the proxy object
+     * @return the call site "Class.method:line|..." with up to TraceDepth frames
+     */
+    public static String get(final Object proxy) {
+        final int depth = Math.max(1, ClientProperties.snapshot().getTraceDepth());
+        final PatternRegistry.Patterns ignored = PatternRegistry.get(ClientProperties.Field.DB_TRACE_CLASS_IGNORE_REGEXP);
+        final String proxyClass = proxy.getClass().getName();
+
+        final Site site = WALKER.walk(frames -> capture(frames.iterator(), proxyClass, depth, ignored));
+
+        String s = SITES.get(site);
+        if (s == null) {
+            if (SITES.size() >= MAX_CACHED_SITES) {
+                SITES.clear();
+            }
+            s = SITES.computeIfAbsent(site, Site::render);
+        }
+        return s;
+    }
+
+    /**
+     * Mark the call site of the current thread. The stack is neither walked nor rendered until the call site is needed.
+     *
+     * @param proxy the proxy object
+     * @return the mark
+     */
+    public static Mark mark(final Object proxy) {
+        return new Mark(proxy.getClass().getName());
+    }
+
+    /**
+     * Collect the frames of the call site.
+     *
+     * @param frames     the stack frames
+     * @param proxyClass the class name of the proxy
+     * @param depth      the number of frames to collect
+     * @param ignored    the ignored classes
+     * @return the call site
+     */
+    private static Site capture(final Iterator<StackFrame> frames, final String proxyClass, final int depth, final PatternRegistry.Patterns ignored) {
+        final StackFrame[] site = new StackFrame[depth];
+        int n = 0;
+        String previous = "";
+
+        while (n < depth && frames.hasNext()) {
+            final StackFrame frame = frames.next();
+            final String cls = frame.getClassName();
+            final boolean closedByProxy = previous.startsWith(PROXY_PACKAGE) && "close".equals(frame.getMethodName());
+            previous = cls;
+
+            if (cls.startsWith(PROXY_PACKAGE) || cls.equals(proxyClass) || closedByProxy || ignored.find(cls, null) != null) {
+                continue;
+            }
+            site[n++] = frame;
+        }
+
+        return new Site(site, n);
+    }
+
+    /**
+     * A marked call site. Only the frames are recorded, the call site is rendered on first use.
+     */
+    public static final class Mark {
+
+        /**
+         * the recorded frames, released after rendering
+         */
+        private Frames mFrames;
+        /**
+         * the class name of the proxy
+         */
+        private final String mProxyClass;
+        /**
+         * the rendered call site
+         */
+        private volatile String mSite;
+
+        Mark(final String proxyClass) {
+            mFrames = new Frames();
+            mProxyClass = proxyClass;
+        }
+
+        /**
+         * Render the call site.
+         *
+         * @return the call site "Class.method:line|..." with up to TraceDepth frames
+         */
+        @Override
+        public String toString() {
+            String s = mSite;
+            if (s == null) {
+                synchronized (this) {
+                    s = mSite;
+                    if (s == null) {
+                        s = render(mFrames.getStackTrace());
+                        mSite = s;
+                        mFrames = null;
+                    }
+                }
+            }
+            return s;
+        }
+
+        /**
+         * Render the frames of the call site, skipped as in {@link CallSites#get}.
+         *
+         * @param frames the recorded frames
+         * @return the call site
+         */
+        private String render(final StackTraceElement[] frames) {
+            final int depth = Math.max(1, ClientProperties.snapshot().getTraceDepth());
+            final PatternRegistry.Patterns ignored = PatternRegistry.get(ClientProperties.Field.DB_TRACE_CLASS_IGNORE_REGEXP);
+            final StringBuilder s = new StringBuilder();
+            int n = 0;
+            String previous = "";
+
+            for (int i = 0; n < depth && i < frames.length; i++) {
+                final StackTraceElement frame = frames[i];
+                final String cls = frame.getClassName();
+                final boolean closedByProxy = previous.startsWith(PROXY_PACKAGE) && "close".equals(frame.getMethodName());
+                previous = cls;
+
+                if (cls.startsWith(PROXY_PACKAGE) || cls.equals(mProxyClass) || closedByProxy || ignored.find(cls, null) != null) {
+                    continue;
+                }
+                if (n++ > 0) {
+                    s.append('|');
+                }
+                s.append(cls, cls.lastIndexOf('.') + 1, cls.length()).append('.').append(frame.getMethodName()).append(':').append(frame.getLineNumber());
+            }
+            return s.toString();
+        }
+    }
+
+    /**
+     * The frames of a marked call site. They are recorded by the native fill in of the stack trace, the stack trace
+     * elements are only created by getStackTrace.
+     */
+    private static final class Frames extends Throwable {
+
+        /**
+         * the serial version uid
+         */
+        @Serial private static final long serialVersionUID = 1L;
+
+        Frames() {
+            super(null, null, false, true);
+        }
+    }
+
+    /**
+     * A call site, identified by class, method and bytecode index of its frames.
+     */
+    private static final class Site {
+
+        /**
+         * the class names
+         */
+        private final String[] mClasses;
+        /**
+         * the method names
+         */
+        private final String[] mMethods;
+        /**
+         * the bytecode indexes
+         */
+        private final int[] mBcis;
+        /**
+         * the hash code
+         */
+        private final int mHash;
+        /**
+         * the frames, released after rendering
+         */
+        private StackFrame[] mFrames;
+
+        Site(final StackFrame[] frames, final int n) {
+            mClasses = new String[n];
+            mMethods = new String[n];
+            mBcis = new int[n];
+
+            int h = n;
+            for (int i = 0; i < n; i++) {
+                mClasses[i] = frames[i].getClassName();
+                mMethods[i] = frames[i].getMethodName();
+                mBcis[i] = frames[i].getByteCodeIndex();
+                h = 31 * (31 * (31 * h + mClasses[i].hashCode()) + mMethods[i].hashCode()) + mBcis[i];
+            }
+            mHash = h;
+            mFrames = frames;
+        }
+
+        /**
+         * Render the call site. The line numbers are only looked up for new call sites.
+         *
+         * @return the call site "Class.method:line|..."
+         */
+        String render() {
+            final StringBuilder s = new StringBuilder();
+            for (int i = 0; i < mClasses.length; i++) {
+                if (i > 0) {
+                    s.append('|');
+                }
+                final String cls = mClasses[i];
+                s.append(cls, cls.lastIndexOf('.') + 1, cls.length()).append('.').append(mMethods[i]).append(':').append(mFrames[i].getLineNumber());
+            }
+            mFrames = null;
+            return s.toString();
+        }
+
+        @Override
+        public int hashCode() {
+            return mHash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Site)) {
+                return false;
+            }
+            final Site other = (Site) o;
+            return mHash == other.mHash && Arrays.equals(mBcis, other.mBcis) && Arrays.equals(mMethods, other.mMethods) && Arrays.equals(mClasses,
+                    other.mClasses);
+        }
+    }
+}
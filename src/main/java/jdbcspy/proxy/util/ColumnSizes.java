@@ -0,0 +1,260 @@
+package jdbcspy.proxy.util;
+
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.temporal.Temporal;
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The size estimators of the columns of a result set.
+ * <p>
+ * The estimator of a column is resolved once from the type and precision in the ResultSetMetaData. Fixed size types are
+ * counted without looking at the value, character and binary columns by the length of the value and streams by the
+ * declared precision. Columns of other types and columns without meta data are estimated from the value.
+ */
+public final class ColumnSizes {
+
+    /**
+     * the logger object for tracing
+     */
+    private static final Logger mTrace = LogManager.getLogger(ColumnSizes.class.getName());
+    /**
+     * declared precisions above are treated as unknown
+     */
+    private static final int MAX_DECLARED_SIZE = 1 << 24;
+    /**
+     * the estimated size of a decimal of unknown precision
+     */
+    private static final int DEFAULT_DECIMAL_SIZE = 8;
+
+    /**
+     * the estimator per column, index 0 is column 1
+     */
+    private final Kind[] mKinds;
+    /**
+     * the fixed or declared size per column
+     */
+    private final int[] mSizes;
+    /**
+     * the column index per column label
+     */
+    private final Map<String, Integer> mLabels = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    /**
+     * Constructor.
+     *
+     * @param meta the meta data, may be null
+     */
+    public ColumnSizes(final ResultSetMetaData meta) {
+        int count = 0;
+        try {
+            count = meta == null ? 0 : meta.getColumnCount();
+        }
+        catch (final SQLException e) {
+            mTrace.debug("no result set meta data, sizes are estimated from the values", e);
+        }
+
+        mKinds = new Kind[count];
+        mSizes = new int[count];
+        for (int i = 0; i < count; i++) {
+            try {
+                mLabels.putIfAbsent(meta.getColumnLabel(i + 1), i + 1);
+                resolve(i, meta.getColumnType(i + 1), meta.getPrecision(i + 1));
+            }
+            catch (final SQLException | RuntimeException e) {
+                mTrace.debug("no meta data for column {}", i + 1, e);
+                mKinds[i] = Kind.VALUE;
+            }
+        }
+    }
+
+    /**
+     * Resolve the estimator of a column.
+     *
+     * @param i         the column index, starting with 0
+     * @param type      the sql type
+     * @param precision the precision
+     */
+    private void resolve(final int i, final int type, final int precision) {
+        final int declared = precision > 0 && precision < MAX_DECLARED_SIZE ? precision : 0;
+        mSizes[i] = declared;
+
+        switch (type) {
+            case Types.BIT, Types.BOOLEAN, Types.TINYINT -> fixed(i, 1);
+            case Types.SMALLINT -> fixed(i, 2);
+            case Types.INTEGER, Types.REAL -> fixed(i, 4);
+            case Types.BIGINT, Types.FLOAT, Types.DOUBLE, Types.DATE, Types.TIME, Types.TIMESTAMP -> fixed(i, 8);
+            case Types.TIME_WITH_TIMEZONE, Types.TIMESTAMP_WITH_TIMEZONE -> fixed(i, 12);
+            case Types.NUMERIC, Types.DECIMAL -> fixed(i, declared > 0 ? declared / 2 + 2 : DEFAULT_DECIMAL_SIZE);
+            case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR, Types.CLOB, Types.NCLOB,
+                    Types.SQLXML -> mKinds[i] = Kind.CHARS;
+            case Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.BLOB -> mKinds[i] = Kind.BYTES;
+            default -> mKinds[i] = Kind.VALUE;
+        }
+    }
+
+    private void fixed(final int i, final int size) {
+        mKinds[i] = Kind.FIXED;
+        mSizes[i] = size;
+    }
+
+    /**
+     * Estimate the size of a value.
+     *
+     * @param column the column index or label
+     * @param value  the value returned by a get method
+     * @return the estimated size in bytes
+     */
+    public long estimate(final Object column, final Object value) {
+        if (value == null) {
+            return 0;
+        }
+
+        final int i;
+        if (column instanceof Integer) {
+            i = (Integer) column - 1;
+        }
+        else if (column instanceof String) {
+            i = index((String) column);
+        }
+        else {
+            i = -1;
+        }
+
+        if (i < 0 || i >= mKinds.length) {
+            return estimate(value, 0);
+        }
+
+        return switch (mKinds[i]) {
+            case FIXED -> mSizes[i];
+            case CHARS -> value instanceof String ? 2L * ((String) value).length() : estimate(value, 2 * mSizes[i]);
+            case BYTES -> value instanceof byte[] ? ((byte[]) value).length : estimate(value, mSizes[i]);
+            case VALUE -> estimate(value, mSizes[i]);
+        };
+    }
+
+    /**
+     * Estimate the size of a primitive value, without boxing it. A fixed size column is counted by its meta data as in
+     * {@link #estimate(Object, Object)}, any other column by the size of the primitive type.
+     *
+     * @param column the column index
+     * @param size   the size of the primitive type
+     * @return the estimated size in bytes
+     */
+    public long estimate(final int column, final int size) {
+        return fixedSize(column - 1, size);
+    }
+
+    /**
+     * Estimate the size of a primitive value, without boxing it.
+     *
+     * @param column the column label
+     * @param size   the size of the primitive type
+     * @return the estimated size in bytes
+     * @see #estimate(int, int)
+     */
+    public long estimate(final String column, final int size) {
+        return fixedSize(index(column), size);
+    }
+
+    /**
+     * Get the fixed size of a column.
+     *
+     * @param i    the column index, starting with 0
+     * @param size the size if the column has no fixed size
+     * @return the size
+     */
+    private long fixedSize(final int i, final int size) {
+        return i >= 0 && i < mKinds.length && mKinds[i] == Kind.FIXED ? mSizes[i] : size;
+    }
+
+    /**
+     * Get the index of a column label.
+     *
+     * @param label the column label
+     * @return the column index starting with 0, -1 if unknown
+     */
+    private int index(final String label) {
+        final Integer index = mLabels.get(label);
+        return index == null ? -1 : index - 1;
+    }
+
+    /**
+     * Estimate the size of a value by its type.
+     *
+     * @param value    the value
+     * @param declared the size used for streams and unknown types
+     * @return the estimated size in bytes
+     */
+    private static long estimate(final Object value, final long declared) {
+        if (value instanceof String) {
+            return 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).unscaledValue().bitLength() / 8 + 1 + Integer.BYTES;
+        }
+        if (value instanceof Integer || value instanceof Float) {
+            return 4;
+        }
+        if (value instanceof Short) {
+            return 2;
+        }
+        if (value instanceof Boolean || value instanceof Byte) {
+            return 1;
+        }
+        if (value instanceof Number || value instanceof Date || value instanceof Temporal) {
+            return 8;
+        }
+        if (value instanceof UUID) {
+            return 16;
+        }
+        try {
+            if (value instanceof Blob) {
+                return ((Blob) value).length();
+            }
+            if (value instanceof Clob) {
+                return 2 * ((Clob) value).length();
+            }
+        }
+        catch (final SQLException e) {
+            mTrace.debug("the lob length is not available", e);
+        }
+        // streams, arrays and other objects
+        return declared;
+    }
+
+    /**
+     * The estimator of a column.
+     */
+    private enum Kind {
+        /**
+         * a fixed size
+         */
+        FIXED,
+        /**
+         * the length of a character value
+         */
+        CHARS,
+        /**
+         * the length of a binary value
+         */
+        BYTES,
+        /**
+         * estimated from the value
+         */
+        VALUE
+    }
+}
@@ -0,0 +1,238 @@
+package jdbcspy.proxy.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A log-linear histogram of non-negative long values.
+ * <p>
+ * Values below 32 are counted exactly. Above that every power of two is split into 16 linear sub-buckets, so a
+ * recorded value is reported with a relative error below 1/16. The bucket index is computed in constant time and
+ * histograms with the same layout can be merged by adding their buckets. The buckets are striped LongAdder cells, so
+ * concurrent recording neither loses updates nor contends on a lock.
+ */
+public final class Histogram {
+
+    /**
+     * the number of bits of the linear sub-buckets
+     */
+    private static final int SUB_BITS = 4;
+    /**
+     * the number of linear sub-buckets per power of two
+     */
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    /**
+     * the number of buckets to cover all positive long values
+     */
+    private static final int BUCKET_COUNT = (63 - SUB_BITS) * SUB_COUNT + 2 * SUB_COUNT;
+
+    /**
+     * the bucket counts, created on first use
+     */
+    private final AtomicReferenceArray<LongAdder> mCounts = new AtomicReferenceArray<>(BUCKET_COUNT);
+    /**
+     * the total count
+     */
+    private final LongAdder mTotalCount = new LongAdder();
+    /**
+     * the sum of all values
+     */
+    private final LongAdder mSum = new LongAdder();
+    /**
+     * the maximum value
+     */
+    private final LongAccumulator mMax = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Get the bucket index of a value.
+     *
+     * @param value the value
+     * @return the index
+     */
+    static int index(final long value) {
+        if (value < 2 * SUB_COUNT) {
+            return (int) Math.max(0, value);
+        }
+        final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return shift * SUB_COUNT + (int) (value >>> shift);
+    }
+
+    /**
+     * Get the highest value counted in a bucket.
+     *
+     * @param index the index
+     * @return the highest value
+     */
+    static long highestValue(final int index) {
+        if (index < 2 * SUB_COUNT) {
+            return index;
+        }
+        final int shift = index / SUB_COUNT - 1;
+        final long top = index - (long) shift * SUB_COUNT;
+        return ((top + 1) << shift) - 1;
+    }
+
+    /**
+     * Record a value. Negative values are counted as 0.
+     *
+     * @param value the value
+     */
+    public void record(final long value) {
+        final long v = Math.max(0, value);
+        bucket(index(v)).increment();
+        mTotalCount.increment();
+        mSum.add(v);
+        mMax.accumulate(v);
+    }
+
+    /**
+     * Get the counter of a bucket.
+     *
+     * @param index the index
+     * @return the counter
+     */
+    private LongAdder bucket(final int index) {
+        LongAdder count = mCounts.get(index);
+        if (count == null) {
+            mCounts.compareAndSet(index, null, new LongAdder());
+            count = mCounts.get(index);
+        }
+        return count;
+    }
+
+    /**
+     * Get a snapshot of the bucket counts.
+     *
+     * @return the counts
+     */
+    private long[] getCounts() {
+        final long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            final LongAdder count = mCounts.get(i);
+            if (count != null) {
+                counts[i] = count.sum();
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Add the values of another histogram.
+     *
+     * @param other the other histogram
+     */
+    public void add(final Histogram other) {
+        final long[] counts = other.getCounts();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                bucket(i).add(counts[i]);
+            }
+        }
+        mTotalCount.add(other.mTotalCount.sum());
+        mSum.add(other.mSum.sum());
+        mMax.accumulate(other.mMax.get());
+    }
+
+    /**
+     * Remove all values. Values recorded concurrently may be partially kept.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            final LongAdder count = mCounts.get(i);
+            if (count != null) {
+                count.reset();
+            }
+        }
+        mTotalCount.reset();
+        mSum.reset();
+        mMax.reset();
+    }
+
+    /**
+     * Get the number of recorded values.
+     *
+     * @return long
+     */
+    public long getCount() {
+        return mTotalCount.sum();
+    }
+
+    /**
+     * Get the sum of the recorded values.
+     *
+     * @return long
+     */
+    public long getSum() {
+        return mSum.sum();
+    }
+
+    /**
+     * Get the maximum recorded value.
+     *
+     * @return long
+     */
+    public long getMax() {
+        return mMax.get();
+    }
+
+    /**
+     * Get the mean of the recorded values.
+     *
+     * @return long
+     */
+    public long getMean() {
+        final long count = mTotalCount.sum();
+        return count == 0 ? 0 : mSum.sum() / count;
+    }
+
+    /**
+     * Get the number of recorded values at or below each bound. A value in the same bucket as a bound is counted as
+     * below it, so the counts are exact within the relative error of the histogram.
+     *
+     * @param bounds the ascending bounds
+     * @param counts the counts per bound, filled by this method
+     */
+    public void getCumulativeCounts(final long[] bounds, final long[] counts) {
+        long count = 0;
+        int i = 0;
+        for (int b = 0; b < bounds.length; b++) {
+            final int last = Math.min(index(Math.max(0, bounds[b])), BUCKET_COUNT - 1);
+            for (; i <= last; i++) {
+                final LongAdder bucket = mCounts.get(i);
+                if (bucket != null) {
+                    count += bucket.sum();
+                }
+            }
+            counts[b] = count;
+        }
+    }
+
+    /**
+     * Get the value below or at which the given percentage of the recorded values are.
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the highest value of the bucket holding the percentile, at most the maximum
+     */
+    public long getValueAtPercentile(final double percentile) {
+        final long[] counts = getCounts();
+        long total = 0;
+        for (final long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        final long max = mMax.get();
+        final long rank = Math.max(1, (long) Math.ceil(Math.min(100, percentile) / 100 * total));
+        long count = 0;
+        for (int i = 0; i < counts.length; i++) {
+            count += counts[i];
+            if (count >= rank) {
+                return Math.min(highestValue(i), max);
+            }
+        }
+        return max;
+    }
+}
@@ -0,0 +1,210 @@
+package jdbcspy.proxy.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import jdbcspy.ClientProperties;
+
+/**
+ * The registry of the compiled regular expressions of the configuration.
+ * <p>
+ * The expressions of a property are compiled once and recompiled when the property is changed by
+ * ClientProperties.setProperty. The expressions of a list are combined into a single alternation, so a non-matching
+ * input is rejected by one automaton.
+ */
+public final class PatternRegistry {
+
+    /**
+     * the maximum number of cached lists and of memoized class decisions per list
+     */
+    private static final int MAX_ENTRIES = 4096;
+    /**
+     * the logger object for tracing
+     */
+    private static final Logger mTrace = LogManager.getLogger(PatternRegistry.class.getName());
+    /**
+     * the compiled patterns per property name
+     */
+    private static final Map<String, Patterns> PROPERTIES = new ConcurrentHashMap<>();
+    /**
+     * the compiled patterns of ad hoc expression lists
+     */
+    private static final Map<List<String>, Patterns> LISTS = new ConcurrentHashMap<>();
+
+    private PatternRegistry() {
+    }
+
+    /**
+     * Get the compiled patterns of a String or List property.
+     *
+     * @param field the field
+     * @return the patterns
+     */
+    public static Patterns get(final ClientProperties.Field field) {
+        final Object value = field.getValue();
+        Patterns p = PROPERTIES.get(field.getFieldName());
+        if (p == null || p.mSource != value) {
+            p = new Patterns(value, toList(value));
+            PROPERTIES.put(field.getFieldName(), p);
+        }
+        return p;
+    }
+
+    /**
+     * Get the compiled patterns of a list of expressions.
+     *
+     * @param regExps the regular expressions
+     * @return the patterns
+     */
+    public static Patterns get(final List<String> regExps) {
+        Patterns p = LISTS.get(regExps);
+        if (p == null) {
+            if (LISTS.size() >= MAX_ENTRIES) {
+                LISTS.clear();
+            }
+            final List<String> l = List.copyOf(regExps);
+            p = LISTS.computeIfAbsent(l, k -> new Patterns(k, k));
+        }
+        return p;
+    }
+
+    /**
+     * Drop the compiled patterns of a property.
+     *
+     * @param property the property name
+     */
+    public static void invalidate(final String property) {
+        PROPERTIES.remove(property);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> toList(final Object value) {
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        if (value instanceof List) {
+            return new ArrayList<>((List<String>) value);
+        }
+        return Collections.singletonList(value.toString());
+    }
+
+    /**
+     * A compiled list of regular expressions.
+     */
+    public static final class Patterns {
+
+        /**
+         * no match, the map values must not be null
+         */
+        private static final String NONE = new String();
+        /**
+         * the configured value the patterns are compiled from
+         */
+        private final Object mSource;
+        /**
+         * the regular expressions
+         */
+        private final String[] mRegExps;
+        /**
+         * the compiled regular expressions
+         */
+        private final Pattern[] mPatterns;
+        /**
+         * the alternation of all expressions, null if not combinable
+         */
+        private final Pattern mCombined;
+        /**
+         * the memoized decisions per class name and method name
+         */
+        private final Map<String, Map<String, String>> mDecisions = new ConcurrentHashMap<>();
+
+        private Patterns(final Object source, final List<String> regExps) {
+            mSource = source;
+            final List<String> l = new ArrayList<>();
+            for (final String regExp : regExps) {
+                if (regExp != null && !regExp.isEmpty()) {
+                    l.add(regExp);
+                }
+            }
+            mRegExps = l.toArray(new String[0]);
+            mPatterns = new Pattern[mRegExps.length];
+
+            boolean combinable = mRegExps.length > 1;
+            final StringBuilder alternation = new StringBuilder();
+            for (int i = 0; i < mRegExps.length; i++) {
+                mPatterns[i] = Pattern.compile(mRegExps[i]);
+                // back references would be renumbered in the alternation
+                combinable &= !mRegExps[i].matches(".*\\\\([1-9]|k<).*");
+                alternation.append(i > 0 ? "|" : "").append("(?:").append(mRegExps[i]).append(')');
+            }
+            mCombined = combinable ? Pattern.compile(alternation.toString()) : null;
+        }
+
+        /**
+         * Are there no expressions?
+         *
+         * @return boolean
+         */
+        public boolean isEmpty() {
+            return mRegExps.length == 0;
+        }
+
+        /**
+         * Find the expression matching the input.
+         *
+         * @param input the input
+         * @return the first matching expression or null
+         */
+        public String find(final CharSequence input) {
+            if (mRegExps.length == 0 || (mCombined != null && !mCombined.matcher(input).matches())) {
+                return null;
+            }
+            for (int i = 0; i < mPatterns.length; i++) {
+                if (mPatterns[i].matcher(input).matches()) {
+                    return mRegExps[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Find the expression matching "className.methodName", memoized per class and method.
+         *
+         * @param className  the class name
+         * @param methodName the method name, null to match the class name only
+         * @return the first matching expression or null
+         */
+        public String find(final String className, final String methodName) {
+            if (mRegExps.length == 0) {
+                return null;
+            }
+
+            Map<String, String> methods = mDecisions.get(className);
+            if (methods == null) {
+                if (mDecisions.size() >= MAX_ENTRIES) {
+                    mDecisions.clear();
+                }
+                methods = mDecisions.computeIfAbsent(className, k -> new ConcurrentHashMap<>());
+            }
+
+            final String key = methodName == null ? "" : methodName;
+            String regExp = methods.get(key);
+            if (regExp == null) {
+                regExp = find(methodName == null ? className : className + "." + methodName);
+                if (regExp == null) {
+                    mTrace.trace("{} does not match {}", () -> methodName == null ? className : className + "." + methodName, () -> String.join(",", mRegExps));
+                    regExp = NONE;
+                }
+                methods.put(key, regExp);
+            }
+            return regExp == NONE ? null : regExp;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package jdbcspy.proxy.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes samples in the Prometheus text exposition format directly to a writer, without building the page in memory.
+ * <p>
+ * A sample is written by {@link #sample}, any number of {@link #label} calls and one {@link #value} call.
+ */
+public final class PrometheusWriter {
+
+    /**
+     * the output
+     */
+    private final Writer mOut;
+    /**
+     * has the current sample labels
+     */
+    private boolean mLabels;
+
+    /**
+     * Constructor.
+     *
+     * @param out the output
+     */
+    public PrometheusWriter(final Writer out) {
+        mOut = out;
+    }
+
+    /**
+     * Write the help and type lines of a metric.
+     *
+     * @param name the metric name
+     * @param type counter, gauge, histogram or summary
+     * @param help the description
+     * @throws IOException on error
+     */
+    public void header(final String name, final String type, final String help) throws IOException {
+        mOut.write("# HELP ");
+        mOut.write(name);
+        mOut.write(' ');
+        mOut.write(help);
+        mOut.write("\n# TYPE ");
+        mOut.write(name);
+        mOut.write(' ');
+        mOut.write(type);
+        mOut.write('\n');
+    }
+
+    /**
+     * Start a sample.
+     *
+     * @param name the sample name
+     * @return this
+     * @throws IOException on error
+     */
+    public PrometheusWriter sample(final String name) throws IOException {
+        mOut.write(name);
+        mLabels = false;
+        return this;
+    }
+
+    /**
+     * Add a label to the current sample.
+     *
+     * @param name  the label name
+     * @param value the label value, null is written as empty value
+     * @return this
+     * @throws IOException on error
+     */
+    public PrometheusWriter label(final String name, final String value) throws IOException {
+        mOut.write(mLabels ? ',' : '{');
+        mOut.write(name);
+        mOut.write("=\"");
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                final char c = value.charAt(i);
+                switch (c) {
+                    case '\\' -> mOut.write("\\\\");
+                    case '"' -> mOut.write("\\\"");
+                    case '\n' -> mOut.write("\\n");
+                    default -> mOut.write(c);
+                }
+            }
+        }
+        mOut.write('"');
+        mLabels = true;
+        return this;
+    }
+
+    /**
+     * Finish the current sample with a value.
+     *
+     * @param value the value
+     * @throws IOException on error
+     */
+    public void value(final long value) throws IOException {
+        end();
+        mOut.write(Long.toString(value));
+        mOut.write('\n');
+    }
+
+    /**
+     * Finish the current sample with a value.
+     *
+     * @param value the value
+     * @throws IOException on error
+     */
+    public void value(final double value) throws IOException {
+        end();
+        mOut.write(Double.toString(value));
+        mOut.write('\n');
+    }
+
+    private void end() throws IOException {
+        if (mLabels) {
+            mOut.write('}');
+        }
+        mOut.write(' ');
+    }
+}
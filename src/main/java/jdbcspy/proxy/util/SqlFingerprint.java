@@ -0,0 +1,240 @@
+package jdbcspy.proxy.util;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * The normalized shape of a sql statement.
+ * <p>
+ * Literals and bind placeholders ({@code ?}, {@code :1}, {@code :name}, {@code $1}) are replaced by {@code ?}, lists of
+ * placeholders such as IN-lists are collapsed to {@code (?+)}, comments are removed, whitespace is dropped around
+ * operators and punctuation, and keywords and identifiers are lower cased. Statements that only differ in their literals
+ * share the same fingerprint and the same stable id.
+ */
+public final class SqlFingerprint {
+
+    /**
+     * the maximum number of cached fingerprints
+     */
+    private static final int MAX_CACHED = 4096;
+    /**
+     * the fingerprints per sql code
+     */
+    private static final Map<String, SqlFingerprint> CACHE = new ConcurrentHashMap<>();
+    /**
+     * a parenthesized list of placeholders
+     */
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\?(?:,\\?)*\\)");
+    /**
+     * the fingerprint of the empty statement
+     */
+    private static final SqlFingerprint EMPTY = new SqlFingerprint("");
+
+    /**
+     * the stable id
+     */
+    private final long mId;
+    /**
+     * the normalized sql code
+     */
+    private final String mText;
+
+    private SqlFingerprint(final String text) {
+        mText = text;
+        mId = hash(text);
+    }
+
+    /**
+     * Get the fingerprint of a sql statement.
+     *
+     * @param sql the sql code
+     * @return the fingerprint
+     */
+    public static SqlFingerprint of(final String sql) {
+        if (sql == null || sql.isEmpty()) {
+            return EMPTY;
+        }
+
+        SqlFingerprint f = CACHE.get(sql);
+        if (f == null) {
+            if (CACHE.size() >= MAX_CACHED) {
+                CACHE.clear();
+            }
+            f = new SqlFingerprint(normalize(sql));
+            CACHE.put(sql, f);
+        }
+        return f;
+    }
+
+    /**
+     * Normalize the sql code.
+     *
+     * @param sql the sql code
+     * @return the normalized sql code
+     */
+    public static String normalize(final String sql) {
+        final int len = sql.length();
+        final StringBuilder s = new StringBuilder(len);
+        boolean space = false;
+        int i = 0;
+
+        while (i < len) {
+            final char c = sql.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                space = s.length() > 0;
+                i++;
+                continue;
+            }
+            if (c == '-' && i + 1 < len && sql.charAt(i + 1) == '-') {
+                // line comment
+                while (i < len && sql.charAt(i) != '\n') {
+                    i++;
+                }
+                space = s.length() > 0;
+                continue;
+            }
+            if (c == '/' && i + 1 < len && sql.charAt(i + 1) == '*') {
+                // block comment
+                final int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? len : end + 2;
+                space = s.length() > 0;
+                continue;
+            }
+
+            if (space) {
+                // whitespace is only kept between words, so "a = ?" and "a=?" are equal
+                if (isWord(s.charAt(s.length() - 1)) && isWord(c)) {
+                    s.append(' ');
+                }
+                space = false;
+            }
+
+            if (c == '\'') {
+                // string literal, '' is an escaped quote
+                i++;
+                while (i < len) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < len && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                s.append('?');
+                i++;
+            }
+            else if (c == '"' || c == '`') {
+                // quoted identifier
+                final int end = sql.indexOf(c, i + 1);
+                final int stop = end < 0 ? len : end + 1;
+                s.append(sql, i, stop);
+                i = stop;
+            }
+            else if (Character.isDigit(c) || (c == '.' && i + 1 < len && Character.isDigit(sql.charAt(i + 1)))) {
+                // numeric literal
+                i++;
+                while (i < len && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.'
+                        || ((sql.charAt(i) == '+' || sql.charAt(i) == '-') && (sql.charAt(i - 1) == 'e' || sql.charAt(i - 1) == 'E')))) {
+                    i++;
+                }
+                s.append('?');
+            }
+            else if ((c == ':' || c == '$') && i + 1 < len && isPlaceholderStart(sql.charAt(i + 1)) && (i == 0 || sql.charAt(i - 1) != ':')) {
+                // vendor placeholder :1, :name or $1
+                i++;
+                while (i < len && isIdentifierPart(sql.charAt(i))) {
+                    i++;
+                }
+                s.append('?');
+            }
+            else if (isIdentifierPart(c)) {
+                final int start = i;
+                while (i < len && isIdentifierPart(sql.charAt(i))) {
+                    i++;
+                }
+                s.append(sql.substring(start, i).toLowerCase(Locale.ROOT));
+            }
+            else {
+                s.append(c);
+                i++;
+            }
+        }
+
+        return s.indexOf("(") < 0 ? s.toString() : PLACEHOLDER_LIST.matcher(s).replaceAll("(?+)");
+    }
+
+    private static boolean isWord(final char c) {
+        return isIdentifierPart(c) || c == '?' || c == '*' || c == '\'' || c == '"' || c == '`' || c == ':' || c == '.';
+    }
+
+    private static boolean isPlaceholderStart(final char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private static boolean isIdentifierPart(final char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '#';
+    }
+
+    /**
+     * The 64 bit FNV-1a hash.
+     *
+     * @param text the text
+     * @return the hash
+     */
+    private static long hash(final String text) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < text.length(); i++) {
+            h ^= text.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /**
+     * Get the stable id. Equal fingerprints have equal ids, also across restarts.
+     *
+     * @return the id
+     */
+    public long getId() {
+        return mId;
+    }
+
+    /**
+     * Get the normalized sql code.
+     *
+     * @return the normalized sql code
+     */
+    public String getText() {
+        return mText;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(mId);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SqlFingerprint)) {
+            return false;
+        }
+        final SqlFingerprint other = (SqlFingerprint) o;
+        return mId == other.mId && mText.equals(other.mText);
+    }
+
+    /**
+     * @see java.lang.Object#toString
+     */
+    @Override
+    public String toString() {
+        return mText;
+    }
+}
@@ -0,0 +1,283 @@
+package jdbcspy.proxy.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A hashed timing wheel for deadlines that are usually cancelled before they expire.
+ * <p>
+ * Scheduling and cancelling a deadline are constant time operations that only enqueue the timeout. A single daemon
+ * thread moves new timeouts into the bucket of their deadline, unlinks cancelled ones and runs the expired ones once per
+ * tick. The tasks run on that thread and should return quickly.
+ */
+public final class TimingWheel {
+
+    /**
+     * the logger object for tracing
+     */
+    private static final Logger mTrace = LogManager.getLogger(TimingWheel.class.getName());
+    /**
+     * the default tick duration in ms
+     */
+    private static final long DEFAULT_TICK_MILLIS = 100;
+    /**
+     * the default number of buckets
+     */
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+
+    /**
+     * the tick duration in ns
+     */
+    private final long mTickNanos;
+    /**
+     * the buckets, the size is a power of two
+     */
+    private final Bucket[] mWheel;
+    /**
+     * the new timeouts
+     */
+    private final Queue<Timeout> mPending = new ConcurrentLinkedQueue<>();
+    /**
+     * the cancelled timeouts
+     */
+    private final Queue<Timeout> mCancelled = new ConcurrentLinkedQueue<>();
+    /**
+     * the start time of the wheel
+     */
+    private final long mStartNanos = System.nanoTime();
+    /**
+     * the current tick, only used by the worker thread
+     */
+    private long mTick;
+
+    /**
+     * Constructor.
+     *
+     * @param tickMillis the tick duration in ms
+     * @param wheelSize  the number of buckets, rounded up to a power of two
+     * @param name       the name of the worker thread
+     */
+    public TimingWheel(final long tickMillis, final int wheelSize, final String name) {
+        mTickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMillis));
+        mWheel = new Bucket[Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1];
+        for (int i = 0; i < mWheel.length; i++) {
+            mWheel[i] = new Bucket();
+        }
+
+        final Thread t = new Thread(this::work, name);
+        t.setDaemon(true);
+        t.start();
+    }
+
+    /**
+     * Get the timing wheel shared by all listeners.
+     *
+     * @return the timing wheel
+     */
+    public static TimingWheel getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Schedule a task.
+     *
+     * @param task  the task
+     * @param delay the delay
+     * @param unit  the unit of the delay
+     * @return the timeout to cancel the task
+     */
+    public Timeout schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        final Timeout timeout = new Timeout(this, task, System.nanoTime() + unit.toNanos(Math.max(0, delay)));
+        mPending.add(timeout);
+        return timeout;
+    }
+
+    private void work() {
+        while (true) {
+            final long deadline = mStartNanos + (mTick + 1) * mTickNanos;
+            long sleep;
+            while ((sleep = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(this, sleep);
+            }
+
+            try {
+                removeCancelled();
+                transferPending();
+                mWheel[(int) (mTick & (mWheel.length - 1))].expire(System.nanoTime());
+            }
+            catch (final RuntimeException e) {
+                mTrace.warn("failed", e);
+            }
+            mTick++;
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = mPending.poll()) != null) {
+            if (timeout.mState.get() != Timeout.INIT) {
+                continue;
+            }
+            // never schedule into a bucket that has already been expired
+            final long tick = Math.max(mTick, (timeout.mDeadline - mStartNanos) / mTickNanos);
+            timeout.mRounds = (tick - mTick) / mWheel.length;
+            mWheel[(int) (tick & (mWheel.length - 1))].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = mCancelled.poll()) != null) {
+            if (timeout.mBucket != null) {
+                timeout.mBucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * A scheduled task.
+     */
+    public static final class Timeout {
+
+        /**
+         * scheduled
+         */
+        private static final int INIT = 0;
+        /**
+         * cancelled
+         */
+        private static final int CANCELLED = 1;
+        /**
+         * expired
+         */
+        private static final int EXPIRED = 2;
+
+        /**
+         * the wheel
+         */
+        private final TimingWheel mWheel;
+        /**
+         * the task
+         */
+        private final Runnable mTask;
+        /**
+         * the deadline in ns
+         */
+        private final long mDeadline;
+        /**
+         * the state
+         */
+        private final AtomicInteger mState = new AtomicInteger(INIT);
+        /**
+         * the remaining rounds of the wheel, only used by the worker thread
+         */
+        private long mRounds;
+        /**
+         * the bucket and the neighbours in the bucket, only used by the worker thread
+         */
+        private Bucket mBucket;
+        private Timeout mNext;
+        private Timeout mPrev;
+
+        private Timeout(final TimingWheel wheel, final Runnable task, final long deadline) {
+            mWheel = wheel;
+            mTask = task;
+            mDeadline = deadline;
+        }
+
+        /**
+         * Cancel the task.
+         *
+         * @return false if the task has already been run or cancelled
+         */
+        public boolean cancel() {
+            if (!mState.compareAndSet(INIT, CANCELLED)) {
+                return false;
+            }
+            mWheel.mCancelled.add(this);
+            return true;
+        }
+    }
+
+    /**
+     * A doubly linked list of timeouts.
+     */
+    private static final class Bucket {
+
+        private Timeout mHead;
+        private Timeout mTail;
+
+        void add(final Timeout timeout) {
+            timeout.mBucket = this;
+            if (mHead == null) {
+                mHead = timeout;
+            }
+            else {
+                mTail.mNext = timeout;
+                timeout.mPrev = mTail;
+            }
+            mTail = timeout;
+        }
+
+        void remove(final Timeout timeout) {
+            final Timeout next = timeout.mNext;
+            if (timeout.mPrev != null) {
+                timeout.mPrev.mNext = next;
+            }
+            if (next != null) {
+                next.mPrev = timeout.mPrev;
+            }
+            if (timeout == mHead) {
+                mHead = next;
+            }
+            if (timeout == mTail) {
+                mTail = timeout.mPrev;
+            }
+            timeout.mPrev = null;
+            timeout.mNext = null;
+            timeout.mBucket = null;
+        }
+
+        void expire(final long now) {
+            Timeout timeout = mHead;
+            while (timeout != null) {
+                final Timeout next = timeout.mNext;
+                if (timeout.mRounds <= 0 && timeout.mDeadline <= now) {
+                    remove(timeout);
+                    if (timeout.mState.compareAndSet(Timeout.INIT, Timeout.EXPIRED)) {
+                        try {
+                            timeout.mTask.run();
+                        }
+                        catch (final RuntimeException e) {
+                            mTrace.warn("the timed task failed", e);
+                        }
+                    }
+                }
+                else if (timeout.mState.get() == Timeout.CANCELLED) {
+                    remove(timeout);
+                }
+                else if (timeout.mRounds > 0) {
+                    timeout.mRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    /**
+     * The holder of the shared instance.
+     */
+    private static final class Holder {
+
+        /**
+         * the shared instance
+         */
+        private static final TimingWheel INSTANCE = new TimingWheel(DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE, "jdbcspy-timer");
+    }
+}
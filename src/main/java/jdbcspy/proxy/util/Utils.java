@@ -10,12 +10,13 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import jdbcspy.ClientProperties;
-import jdbcspy.proxy.ProxyConnection;
 
 /**
  * The utils class.
@@ -30,6 +31,18 @@ public class Utils {
      * the logger object for tracing
      */
     private static final Logger mTrace = LogManager.getLogger(Utils.class.getName());
+    /**
+     * the optimizer hints
+     */
+    private static final Pattern HINTS = Pattern.compile("/\\*\\+[^/]*\\*/");
+    /**
+     * the line breaks
+     */
+    private static final Pattern LINE_BREAKS = Pattern.compile("[\n\r]");
+    /**
+     * the stack walker
+     */
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
     /**
      * the date formatter
      */
@@ -50,47 +63,7 @@ public class Utils {
      * @return String
      */
     public static String getExecClass(final Object proxy) {
-        final Throwable t = new Throwable();
-        final StackTraceElement[] e = t.getStackTrace();
-        final StringBuilder execClass = new StringBuilder();
-
-        final String ignorePath = ClientProperties.Field.DB_TRACE_CLASS_IGNORE_REGEXP.getStringValue();
-        int j = 1;
-        for (int i = 0; i < e.length; i++) {
-            final StackTraceElement el = e[i];
-            if (el.getClassName().startsWith("jdbcspy.proxy") || proxy.getClass().getName().equals(el.getClassName()) || el.getClassName()
-                    .matches(ignorePath)) {
-                continue;
-            }
-
-            if (i > 0 && e[i - 1].getClassName().startsWith(ProxyConnection.class.getPackage().getName()) && el.getMethodName().equals("close")) {
-                // this is the proxy class
-                continue;
-            }
-
-            if (j > 1) {
-                execClass.append("|");
-            }
-            execClass.append(getPrintClass(el));
-            if (j >= ClientProperties.Field.DB_TRACE_DEPTH.getIntValue()) {
-                break;
-            }
-
-            j++;
-        }
-
-        return execClass.toString();
-    }
-
-    /**
-     * Get the exec class.
-     *
-     * @param el StackTraceElement
-     * @return String
-     */
-    private static String getPrintClass(final StackTraceElement el) {
-        return (el.getClassName().indexOf('.') > 0 ? el.getClassName().substring(el.getClassName().lastIndexOf(".") + 1) : el.getClassName()) + "."
-                + el.getMethodName() + ":" + el.getLineNumber();
+        return CallSites.get(proxy);
     }
 
     /**
@@ -100,7 +73,7 @@ public class Utils {
      * @return output sql
      */
     public static String removeHints(final String sql) {
-        return sql.replaceAll("/\\*\\+[^/]*\\*/", "");
+        return sql.contains("/*+") ? HINTS.matcher(sql).replaceAll("") : sql;
     }
 
     /**
@@ -110,41 +83,37 @@ public class Utils {
      * @return boolean
      */
     public static String isTraceClass(final List<String> regExps) {
-        if (!regExps.isEmpty()) {
-            final Throwable t = new Throwable();
-            final StackTraceElement[] e = t.getStackTrace();
-
-            for (final StackTraceElement el : e) {
-                for (final Object exp : regExps) {
-                    final String regExp = (String) exp;
-
-                    if ((el.getClassName() + "." + el.getMethodName()).matches(regExp)) {
-                        return regExp;
-                    }
+        return isTraceClass(PatternRegistry.get(regExps));
+    }
 
-                    mTrace.trace("{}.{} does not match {}", el.getClassName(), el.getMethodName(), regExp);
-                }
-            }
+    /**
+     * Is the statement traceable?
+     *
+     * @param patterns the compiled regular expressions
+     * @return the reg exp that matches
+     */
+    public static String isTraceClass(final PatternRegistry.Patterns patterns) {
+        if (patterns.isEmpty()) {
+            return null;
         }
-
-        return null;
+        return STACK_WALKER.walk(frames -> frames.map(f -> patterns.find(f.getClassName(), f.getMethodName()))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null));
     }
 
     /**
      * Is the statement traceable?
      *
-     * @param regExps List of regular expressions
-     * @param sql     the sql command
+     * @param patterns the compiled regular expressions
+     * @param sql      the sql command
      * @return the reg exp that matches
      */
-    private static String isTraceSql(final List<String> regExps, final String sql) {
-        for (final Object exp : regExps) {
-            final String regExp = (String) exp;
-            if (sql.replaceAll("[\n\r]", "").matches(regExp)) {
-                return regExp;
-            }
+    private static String isTraceSql(final PatternRegistry.Patterns patterns, final String sql) {
+        if (patterns.isEmpty()) {
+            return null;
         }
-        return null;
+        return patterns.find(sql.indexOf('\n') < 0 && sql.indexOf('\r') < 0 ? sql : LINE_BREAKS.matcher(sql).replaceAll(""));
     }
 
     /**
@@ -154,14 +123,12 @@ public class Utils {
      * @return the reg Exp
      */
     public static String isTrace(final String sql) {
-        List<String> debug = ClientProperties.Field.DB_STMT_DEBUG_CLASS_EXP.getListValues();
-        final String regExp = Utils.isTraceClass(debug);
+        final String regExp = Utils.isTraceClass(PatternRegistry.get(ClientProperties.Field.DB_STMT_DEBUG_CLASS_EXP));
         if (regExp != null) {
             return regExp;
         }
         else {
-            debug = ClientProperties.Field.DB_STMT_DEBUG_SQL_EXP.getListValues();
-            return Utils.isTraceSql(debug, sql);
+            return Utils.isTraceSql(PatternRegistry.get(ClientProperties.Field.DB_STMT_DEBUG_SQL_EXP), sql);
         }
     }
 
@@ -172,14 +139,12 @@ public class Utils {
      * @return boolean
      */
     public static String isHistoryTrace(final String sql) {
-        List<String> debug = ClientProperties.Field.DB_STMT_HISTORIZE_CLASS_EXP.getListValues();
-        final String regExp = Utils.isTraceClass(debug);
+        final String regExp = Utils.isTraceClass(PatternRegistry.get(ClientProperties.Field.DB_STMT_HISTORIZE_CLASS_EXP));
         if (regExp != null) {
             return regExp;
         }
         else {
-            debug = ClientProperties.Field.DB_STMT_HISTORIZE_SQL_EXP.getListValues();
-            return Utils.isTraceSql(debug, sql);
+            return Utils.isTraceSql(PatternRegistry.get(ClientProperties.Field.DB_STMT_HISTORIZE_SQL_EXP), sql);
         }
     }
 
@@ -377,6 +342,23 @@ public class Utils {
         return (d != 0 ? d + "d " : "") + (h != 0 ? h + "h " : "") + (m != 0 ? m + "m " : "") + (s != 0 ? s + "s" : "");
     }
 
+    /**
+     * Get the time string of a duration in microseconds. Durations below 10ms are displayed with sub-millisecond
+     * precision.
+     *
+     * @param micros the duration in microseconds
+     * @return the time string
+     */
+    public static String getMicroTimeString(final long micros) {
+        if (micros < 1000) {
+            return micros + "us";
+        }
+        else if (micros < 10000) {
+            return NUMBER_FORMATTER.format(micros / 1000f) + "ms";
+        }
+        return getTimeString(micros / 1000);
+    }
+
     /**
      * Get the method signature.
      *
@@ -385,7 +367,18 @@ public class Utils {
      * @return String
      */
     public static String getMethodSignature(final Method method, final Object[] args) {
-        final StringBuilder strb = new StringBuilder((method != null ? method.getName() : "") + "(");
+        return getMethodSignature(method != null ? method.getName() : "", args);
+    }
+
+    /**
+     * Get the method signature.
+     *
+     * @param method the method name
+     * @param args   Object[]
+     * @return String
+     */
+    public static String getMethodSignature(final String method, final Object[] args) {
+        final StringBuilder strb = new StringBuilder(method + "(");
         for (int i = 0; args != null && i < args.length; i++) {
             if (i != 0) {
                 strb.append(", ");
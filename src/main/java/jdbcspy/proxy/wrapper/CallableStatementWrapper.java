@@ -0,0 +1,1311 @@
+package jdbcspy.proxy.wrapper;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+import jdbcspy.proxy.handler.AbstractStatementInvocationHandler;
+import jdbcspy.proxy.util.Utils;
+
+/**
+ * The delegating callable statement wrapper.
+ */
+public class CallableStatementWrapper extends PreparedStatementWrapper<CallableStatement> implements CallableStatement {
+
+    /**
+     * Constructor.
+     *
+     * @param theStmt the original statement
+     * @param handler the statement handler
+     */
+    public CallableStatementWrapper(final CallableStatement theStmt, final AbstractStatementInvocationHandler handler) {
+        super(theStmt, handler);
+    }
+
+    @Override
+    public void registerOutParameter(final int parameterIndex, final int sqlType) throws SQLException {
+        try {
+            mHandler.handleRegisterOutParameter(parameterIndex, Utils.getTypeName(sqlType));
+            uStatement.registerOutParameter(parameterIndex, sqlType);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "registerOutParameter", new Object[] { parameterIndex, sqlType }, e);
+        }
+    }
+
+    @Override
+    public void registerOutParameter(final int parameterIndex, final int sqlType, final int scale) throws SQLException {
+        try {
+            mHandler.handleRegisterOutParameter(parameterIndex, Utils.getTypeName(sqlType));
+            uStatement.registerOutParameter(parameterIndex, sqlType, scale);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "registerOutParameter", new Object[] { parameterIndex, sqlType, scale }, e);
+        }
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        try {
+            return uStatement.wasNull();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "wasNull", null, e);
+        }
+    }
+
+    @Override
+    public String getString(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getString(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getString", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getBoolean(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getBoolean", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public byte getByte(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getByte(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getByte", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public short getShort(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getShort(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getShort", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public int getInt(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getInt(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getInt", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public long getLong(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getLong(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getLong", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public float getFloat(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getFloat(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getFloat", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public double getDouble(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getDouble(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getDouble", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(final int parameterIndex, final int scale) throws SQLException {
+        try {
+            return uStatement.getBigDecimal(parameterIndex, scale);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getBigDecimal", new Object[] { parameterIndex, scale }, e);
+        }
+    }
+
+    @Override
+    public byte[] getBytes(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getBytes(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getBytes", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public Date getDate(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getDate(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getDate", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public Time getTime(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getTime(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getTime", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getTimestamp(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getTimestamp", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public Object getObject(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getObject(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getObject", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getBigDecimal(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getBigDecimal", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public Object getObject(final int parameterIndex, final Map<String, Class<?>> map) throws SQLException {
+        try {
+            return uStatement.getObject(parameterIndex, map);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getObject", new Object[] { parameterIndex, map }, e);
+        }
+    }
+
+    @Override
+    public Ref getRef(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getRef(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getRef", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public Blob getBlob(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getBlob(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getBlob", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public Clob getClob(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getClob(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getClob", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public Array getArray(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getArray(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getArray", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public Date getDate(final int parameterIndex, final Calendar cal) throws SQLException {
+        try {
+            return uStatement.getDate(parameterIndex, cal);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getDate", new Object[] { parameterIndex, cal }, e);
+        }
+    }
+
+    @Override
+    public Time getTime(final int parameterIndex, final Calendar cal) throws SQLException {
+        try {
+            return uStatement.getTime(parameterIndex, cal);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getTime", new Object[] { parameterIndex, cal }, e);
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(final int parameterIndex, final Calendar cal) throws SQLException {
+        try {
+            return uStatement.getTimestamp(parameterIndex, cal);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getTimestamp", new Object[] { parameterIndex, cal }, e);
+        }
+    }
+
+    @Override
+    public void registerOutParameter(final int parameterIndex, final int sqlType, final String typeName) throws SQLException {
+        try {
+            mHandler.handleRegisterOutParameter(parameterIndex, Utils.getTypeName(sqlType));
+            uStatement.registerOutParameter(parameterIndex, sqlType, typeName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "registerOutParameter", new Object[] { parameterIndex, sqlType, typeName }, e);
+        }
+    }
+
+    @Override
+    public void registerOutParameter(final String parameterName, final int sqlType) throws SQLException {
+        try {
+            mHandler.handleRegisterOutParameter(parameterName, Utils.getTypeName(sqlType));
+            uStatement.registerOutParameter(parameterName, sqlType);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "registerOutParameter", new Object[] { parameterName, sqlType }, e);
+        }
+    }
+
+    @Override
+    public void registerOutParameter(final String parameterName, final int sqlType, final int scale) throws SQLException {
+        try {
+            mHandler.handleRegisterOutParameter(parameterName, Utils.getTypeName(sqlType));
+            uStatement.registerOutParameter(parameterName, sqlType, scale);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "registerOutParameter", new Object[] { parameterName, sqlType, scale }, e);
+        }
+    }
+
+    @Override
+    public void registerOutParameter(final String parameterName, final int sqlType, final String typeName) throws SQLException {
+        try {
+            mHandler.handleRegisterOutParameter(parameterName, Utils.getTypeName(sqlType));
+            uStatement.registerOutParameter(parameterName, sqlType, typeName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "registerOutParameter", new Object[] { parameterName, sqlType, typeName }, e);
+        }
+    }
+
+    @Override
+    public URL getURL(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getURL(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getURL", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public void setURL(final String parameterName, final URL val) throws SQLException {
+        try {
+            mHandler.handleSet("setURL", parameterName, val);
+            uStatement.setURL(parameterName, val);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setURL", new Object[] { parameterName, val }, e);
+        }
+    }
+
+    @Override
+    public void setNull(final String parameterName, final int sqlType) throws SQLException {
+        try {
+            mHandler.handleSet("setNull", parameterName, sqlType);
+            uStatement.setNull(parameterName, sqlType);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setNull", new Object[] { parameterName, sqlType }, e);
+        }
+    }
+
+    @Override
+    public void setBoolean(final String parameterName, final boolean x) throws SQLException {
+        try {
+            mHandler.handleSet("setBoolean", parameterName, x);
+            uStatement.setBoolean(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBoolean", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setByte(final String parameterName, final byte x) throws SQLException {
+        try {
+            mHandler.handleSet("setByte", parameterName, x);
+            uStatement.setByte(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setByte", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setShort(final String parameterName, final short x) throws SQLException {
+        try {
+            mHandler.handleSet("setShort", parameterName, x);
+            uStatement.setShort(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setShort", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setInt(final String parameterName, final int x) throws SQLException {
+        try {
+            mHandler.handleSet("setInt", parameterName, x);
+            uStatement.setInt(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setInt", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setLong(final String parameterName, final long x) throws SQLException {
+        try {
+            mHandler.handleSet("setLong", parameterName, x);
+            uStatement.setLong(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setLong", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setFloat(final String parameterName, final float x) throws SQLException {
+        try {
+            mHandler.handleSet("setFloat", parameterName, x);
+            uStatement.setFloat(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setFloat", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setDouble(final String parameterName, final double x) throws SQLException {
+        try {
+            mHandler.handleSet("setDouble", parameterName, x);
+            uStatement.setDouble(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setDouble", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setBigDecimal(final String parameterName, final BigDecimal x) throws SQLException {
+        try {
+            mHandler.handleSet("setBigDecimal", parameterName, x);
+            uStatement.setBigDecimal(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBigDecimal", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setString(final String parameterName, final String x) throws SQLException {
+        try {
+            mHandler.handleSet("setString", parameterName, x);
+            uStatement.setString(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setString", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setBytes(final String parameterName, final byte[] x) throws SQLException {
+        try {
+            mHandler.handleSet("setBytes", parameterName, x);
+            uStatement.setBytes(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBytes", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setDate(final String parameterName, final Date x) throws SQLException {
+        try {
+            mHandler.handleSet("setDate", parameterName, x);
+            uStatement.setDate(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setDate", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setTime(final String parameterName, final Time x) throws SQLException {
+        try {
+            mHandler.handleSet("setTime", parameterName, x);
+            uStatement.setTime(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setTime", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setTimestamp(final String parameterName, final Timestamp x) throws SQLException {
+        try {
+            mHandler.handleSet("setTimestamp", parameterName, x);
+            uStatement.setTimestamp(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setTimestamp", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setAsciiStream(final String parameterName, final InputStream x, final int length) throws SQLException {
+        try {
+            mHandler.handleSet("setAsciiStream", parameterName, x);
+            uStatement.setAsciiStream(parameterName, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setAsciiStream", new Object[] { parameterName, x, length }, e);
+        }
+    }
+
+    @Override
+    public void setBinaryStream(final String parameterName, final InputStream x, final int length) throws SQLException {
+        try {
+            mHandler.handleSet("setBinaryStream", parameterName, x);
+            uStatement.setBinaryStream(parameterName, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBinaryStream", new Object[] { parameterName, x, length }, e);
+        }
+    }
+
+    @Override
+    public void setObject(final String parameterName, final Object x, final int targetSqlType, final int scale) throws SQLException {
+        try {
+            mHandler.handleSet("setObject", parameterName, x);
+            uStatement.setObject(parameterName, x, targetSqlType, scale);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setObject", new Object[] { parameterName, x, targetSqlType, scale }, e);
+        }
+    }
+
+    @Override
+    public void setObject(final String parameterName, final Object x, final int targetSqlType) throws SQLException {
+        try {
+            mHandler.handleSet("setObject", parameterName, x);
+            uStatement.setObject(parameterName, x, targetSqlType);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setObject", new Object[] { parameterName, x, targetSqlType }, e);
+        }
+    }
+
+    @Override
+    public void setObject(final String parameterName, final Object x) throws SQLException {
+        try {
+            mHandler.handleSet("setObject", parameterName, x);
+            uStatement.setObject(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setObject", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setCharacterStream(final String parameterName, final Reader reader, final int length) throws SQLException {
+        try {
+            mHandler.handleSet("setCharacterStream", parameterName, reader);
+            uStatement.setCharacterStream(parameterName, reader, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setCharacterStream", new Object[] { parameterName, reader, length }, e);
+        }
+    }
+
+    @Override
+    public void setDate(final String parameterName, final Date x, final Calendar cal) throws SQLException {
+        try {
+            mHandler.handleSet("setDate", parameterName, x);
+            uStatement.setDate(parameterName, x, cal);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setDate", new Object[] { parameterName, x, cal }, e);
+        }
+    }
+
+    @Override
+    public void setTime(final String parameterName, final Time x, final Calendar cal) throws SQLException {
+        try {
+            mHandler.handleSet("setTime", parameterName, x);
+            uStatement.setTime(parameterName, x, cal);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setTime", new Object[] { parameterName, x, cal }, e);
+        }
+    }
+
+    @Override
+    public void setTimestamp(final String parameterName, final Timestamp x, final Calendar cal) throws SQLException {
+        try {
+            mHandler.handleSet("setTimestamp", parameterName, x);
+            uStatement.setTimestamp(parameterName, x, cal);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setTimestamp", new Object[] { parameterName, x, cal }, e);
+        }
+    }
+
+    @Override
+    public void setNull(final String parameterName, final int sqlType, final String typeName) throws SQLException {
+        try {
+            mHandler.handleSet("setNull", parameterName, sqlType);
+            uStatement.setNull(parameterName, sqlType, typeName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setNull", new Object[] { parameterName, sqlType, typeName }, e);
+        }
+    }
+
+    @Override
+    public String getString(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getString(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getString", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getBoolean(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getBoolean", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public byte getByte(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getByte(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getByte", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public short getShort(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getShort(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getShort", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public int getInt(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getInt(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getInt", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public long getLong(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getLong(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getLong", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public float getFloat(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getFloat(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getFloat", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public double getDouble(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getDouble(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getDouble", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public byte[] getBytes(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getBytes(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getBytes", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public Date getDate(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getDate(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getDate", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public Time getTime(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getTime(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getTime", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getTimestamp(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getTimestamp", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public Object getObject(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getObject(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getObject", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getBigDecimal(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getBigDecimal", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public Object getObject(final String parameterName, final Map<String, Class<?>> map) throws SQLException {
+        try {
+            return uStatement.getObject(parameterName, map);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getObject", new Object[] { parameterName, map }, e);
+        }
+    }
+
+    @Override
+    public Ref getRef(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getRef(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getRef", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public Blob getBlob(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getBlob(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getBlob", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public Clob getClob(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getClob(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getClob", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public Array getArray(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getArray(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getArray", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public Date getDate(final String parameterName, final Calendar cal) throws SQLException {
+        try {
+            return uStatement.getDate(parameterName, cal);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getDate", new Object[] { parameterName, cal }, e);
+        }
+    }
+
+    @Override
+    public Time getTime(final String parameterName, final Calendar cal) throws SQLException {
+        try {
+            return uStatement.getTime(parameterName, cal);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getTime", new Object[] { parameterName, cal }, e);
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(final String parameterName, final Calendar cal) throws SQLException {
+        try {
+            return uStatement.getTimestamp(parameterName, cal);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getTimestamp", new Object[] { parameterName, cal }, e);
+        }
+    }
+
+    @Override
+    public URL getURL(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getURL(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getURL", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public RowId getRowId(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getRowId(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getRowId", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public RowId getRowId(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getRowId(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getRowId", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public void setRowId(final String parameterName, final RowId x) throws SQLException {
+        try {
+            mHandler.handleSet("setRowId", parameterName, x);
+            uStatement.setRowId(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setRowId", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setNString(final String parameterName, final String value) throws SQLException {
+        try {
+            mHandler.handleSet("setNString", parameterName, value);
+            uStatement.setNString(parameterName, value);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setNString", new Object[] { parameterName, value }, e);
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(final String parameterName, final Reader value, final long length) throws SQLException {
+        try {
+            mHandler.handleSet("setNCharacterStream", parameterName, value);
+            uStatement.setNCharacterStream(parameterName, value, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setNCharacterStream", new Object[] { parameterName, value, length }, e);
+        }
+    }
+
+    @Override
+    public void setNClob(final String parameterName, final NClob value) throws SQLException {
+        try {
+            mHandler.handleSet("setNClob", parameterName, value);
+            uStatement.setNClob(parameterName, value);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setNClob", new Object[] { parameterName, value }, e);
+        }
+    }
+
+    @Override
+    public void setClob(final String parameterName, final Reader reader, final long length) throws SQLException {
+        try {
+            mHandler.handleSet("setClob", parameterName, reader);
+            uStatement.setClob(parameterName, reader, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setClob", new Object[] { parameterName, reader, length }, e);
+        }
+    }
+
+    @Override
+    public void setBlob(final String parameterName, final InputStream inputStream, final long length) throws SQLException {
+        try {
+            mHandler.handleSet("setBlob", parameterName, inputStream);
+            uStatement.setBlob(parameterName, inputStream, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBlob", new Object[] { parameterName, inputStream, length }, e);
+        }
+    }
+
+    @Override
+    public void setNClob(final String parameterName, final Reader reader, final long length) throws SQLException {
+        try {
+            mHandler.handleSet("setNClob", parameterName, reader);
+            uStatement.setNClob(parameterName, reader, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setNClob", new Object[] { parameterName, reader, length }, e);
+        }
+    }
+
+    @Override
+    public NClob getNClob(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getNClob(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getNClob", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public NClob getNClob(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getNClob(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getNClob", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public void setSQLXML(final String parameterName, final SQLXML xmlObject) throws SQLException {
+        try {
+            mHandler.handleSet("setSQLXML", parameterName, xmlObject);
+            uStatement.setSQLXML(parameterName, xmlObject);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setSQLXML", new Object[] { parameterName, xmlObject }, e);
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getSQLXML(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getSQLXML", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getSQLXML(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getSQLXML", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public String getNString(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getNString(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getNString", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public String getNString(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getNString(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getNString", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getNCharacterStream(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getNCharacterStream", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getNCharacterStream(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getNCharacterStream", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(final int parameterIndex) throws SQLException {
+        try {
+            return uStatement.getCharacterStream(parameterIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getCharacterStream", new Object[] { parameterIndex }, e);
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(final String parameterName) throws SQLException {
+        try {
+            return uStatement.getCharacterStream(parameterName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getCharacterStream", new Object[] { parameterName }, e);
+        }
+    }
+
+    @Override
+    public void setBlob(final String parameterName, final Blob x) throws SQLException {
+        try {
+            mHandler.handleSet("setBlob", parameterName, x);
+            uStatement.setBlob(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBlob", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setClob(final String parameterName, final Clob x) throws SQLException {
+        try {
+            mHandler.handleSet("setClob", parameterName, x);
+            uStatement.setClob(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setClob", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setAsciiStream(final String parameterName, final InputStream x, final long length) throws SQLException {
+        try {
+            mHandler.handleSet("setAsciiStream", parameterName, x);
+            uStatement.setAsciiStream(parameterName, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setAsciiStream", new Object[] { parameterName, x, length }, e);
+        }
+    }
+
+    @Override
+    public void setBinaryStream(final String parameterName, final InputStream x, final long length) throws SQLException {
+        try {
+            mHandler.handleSet("setBinaryStream", parameterName, x);
+            uStatement.setBinaryStream(parameterName, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBinaryStream", new Object[] { parameterName, x, length }, e);
+        }
+    }
+
+    @Override
+    public void setCharacterStream(final String parameterName, final Reader reader, final long length) throws SQLException {
+        try {
+            mHandler.handleSet("setCharacterStream", parameterName, reader);
+            uStatement.setCharacterStream(parameterName, reader, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setCharacterStream", new Object[] { parameterName, reader, length }, e);
+        }
+    }
+
+    @Override
+    public void setAsciiStream(final String parameterName, final InputStream x) throws SQLException {
+        try {
+            mHandler.handleSet("setAsciiStream", parameterName, x);
+            uStatement.setAsciiStream(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setAsciiStream", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setBinaryStream(final String parameterName, final InputStream x) throws SQLException {
+        try {
+            mHandler.handleSet("setBinaryStream", parameterName, x);
+            uStatement.setBinaryStream(parameterName, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBinaryStream", new Object[] { parameterName, x }, e);
+        }
+    }
+
+    @Override
+    public void setCharacterStream(final String parameterName, final Reader reader) throws SQLException {
+        try {
+            mHandler.handleSet("setCharacterStream", parameterName, reader);
+            uStatement.setCharacterStream(parameterName, reader);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setCharacterStream", new Object[] { parameterName, reader }, e);
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(final String parameterName, final Reader value) throws SQLException {
+        try {
+            mHandler.handleSet("setNCharacterStream", parameterName, value);
+            uStatement.setNCharacterStream(parameterName, value);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setNCharacterStream", new Object[] { parameterName, value }, e);
+        }
+    }
+
+    @Override
+    public void setClob(final String parameterName, final Reader reader) throws SQLException {
+        try {
+            mHandler.handleSet("setClob", parameterName, reader);
+            uStatement.setClob(parameterName, reader);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setClob", new Object[] { parameterName, reader }, e);
+        }
+    }
+
+    @Override
+    public void setBlob(final String parameterName, final InputStream inputStream) throws SQLException {
+        try {
+            mHandler.handleSet("setBlob", parameterName, inputStream);
+            uStatement.setBlob(parameterName, inputStream);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBlob", new Object[] { parameterName, inputStream }, e);
+        }
+    }
+
+    @Override
+    public void setNClob(final String parameterName, final Reader reader) throws SQLException {
+        try {
+            mHandler.handleSet("setNClob", parameterName, reader);
+            uStatement.setNClob(parameterName, reader);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setNClob", new Object[] { parameterName, reader }, e);
+        }
+    }
+
+    @Override
+    public <T> T getObject(final int parameterIndex, final Class<T> type) throws SQLException {
+        try {
+            return uStatement.getObject(parameterIndex, type);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getObject", new Object[] { parameterIndex, type }, e);
+        }
+    }
+
+    @Override
+    public <T> T getObject(final String parameterName, final Class<T> type) throws SQLException {
+        try {
+            return uStatement.getObject(parameterName, type);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getObject", new Object[] { parameterName, type }, e);
+        }
+    }
+
+    @Override
+    public void setObject(final String parameterName, final Object x, final SQLType targetSqlType, final int scaleOrLength) throws SQLException {
+        try {
+            mHandler.handleSet("setObject", parameterName, x);
+            uStatement.setObject(parameterName, x, targetSqlType, scaleOrLength);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setObject", new Object[] { parameterName, x, targetSqlType, scaleOrLength }, e);
+        }
+    }
+
+    @Override
+    public void setObject(final String parameterName, final Object x, final SQLType targetSqlType) throws SQLException {
+        try {
+            mHandler.handleSet("setObject", parameterName, x);
+            uStatement.setObject(parameterName, x, targetSqlType);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setObject", new Object[] { parameterName, x, targetSqlType }, e);
+        }
+    }
+
+    @Override
+    public void registerOutParameter(final int parameterIndex, final SQLType sqlType) throws SQLException {
+        try {
+            mHandler.handleRegisterOutParameter(parameterIndex, sqlType.getName());
+            uStatement.registerOutParameter(parameterIndex, sqlType);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "registerOutParameter", new Object[] { parameterIndex, sqlType }, e);
+        }
+    }
+
+    @Override
+    public void registerOutParameter(final int parameterIndex, final SQLType sqlType, final int scale) throws SQLException {
+        try {
+            mHandler.handleRegisterOutParameter(parameterIndex, sqlType.getName());
+            uStatement.registerOutParameter(parameterIndex, sqlType, scale);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "registerOutParameter", new Object[] { parameterIndex, sqlType, scale }, e);
+        }
+    }
+
+    @Override
+    public void registerOutParameter(final int parameterIndex, final SQLType sqlType, final String typeName) throws SQLException {
+        try {
+            mHandler.handleRegisterOutParameter(parameterIndex, sqlType.getName());
+            uStatement.registerOutParameter(parameterIndex, sqlType, typeName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "registerOutParameter", new Object[] { parameterIndex, sqlType, typeName }, e);
+        }
+    }
+
+    @Override
+    public void registerOutParameter(final String parameterName, final SQLType sqlType) throws SQLException {
+        try {
+            mHandler.handleRegisterOutParameter(parameterName, sqlType.getName());
+            uStatement.registerOutParameter(parameterName, sqlType);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "registerOutParameter", new Object[] { parameterName, sqlType }, e);
+        }
+    }
+
+    @Override
+    public void registerOutParameter(final String parameterName, final SQLType sqlType, final int scale) throws SQLException {
+        try {
+            mHandler.handleRegisterOutParameter(parameterName, sqlType.getName());
+            uStatement.registerOutParameter(parameterName, sqlType, scale);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "registerOutParameter", new Object[] { parameterName, sqlType, scale }, e);
+        }
+    }
+
+    @Override
+    public void registerOutParameter(final String parameterName, final SQLType sqlType, final String typeName) throws SQLException {
+        try {
+            mHandler.handleRegisterOutParameter(parameterName, sqlType.getName());
+            uStatement.registerOutParameter(parameterName, sqlType, typeName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "registerOutParameter", new Object[] { parameterName, sqlType, typeName }, e);
+        }
+    }
+
+}
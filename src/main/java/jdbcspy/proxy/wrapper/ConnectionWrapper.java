@@ -0,0 +1,743 @@
+package jdbcspy.proxy.wrapper;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.ShardingKey;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+import javax.sql.ConnectionEventListener;
+import javax.sql.StatementEventListener;
+import javax.transaction.xa.XAResource;
+
+import jdbcspy.proxy.ProxyConnection;
+import jdbcspy.proxy.ProxyStatement;
+import jdbcspy.proxy.handler.ConnectionInvocationHandler;
+
+/**
+ * The delegating connection wrapper. It calls the underlying connection directly and only calls into the
+ * {@link ConnectionInvocationHandler} where the statistics are gathered.
+ */
+public class ConnectionWrapper implements ProxyConnection {
+
+    /**
+     * the underlying connection
+     */
+    private final Connection uConnection;
+    /**
+     * the connection handler
+     */
+    private final ConnectionInvocationHandler mHandler;
+
+    /**
+     * Constructor.
+     *
+     * @param theConn the original connection
+     * @param handler the connection handler
+     */
+    public ConnectionWrapper(final Connection theConn, final ConnectionInvocationHandler handler) {
+        uConnection = theConn;
+        mHandler = handler;
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        try {
+            return mHandler.handleCreate(this, uConnection.createStatement());
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("createStatement", null, e);
+        }
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql) throws SQLException {
+        try {
+            return (PreparedStatement) mHandler.handlePrepare(this, uConnection.prepareStatement(sql), sql);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("prepareStatement", new Object[] { sql }, e);
+        }
+    }
+
+    @Override
+    public CallableStatement prepareCall(final String sql) throws SQLException {
+        try {
+            return (CallableStatement) mHandler.handlePrepare(this, uConnection.prepareCall(sql), sql);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("prepareCall", new Object[] { sql }, e);
+        }
+    }
+
+    @Override
+    public String nativeSQL(final String sql) throws SQLException {
+        try {
+            return uConnection.nativeSQL(sql);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("nativeSQL", new Object[] { sql }, e);
+        }
+    }
+
+    @Override
+    public void setAutoCommit(final boolean autoCommit) throws SQLException {
+        try {
+            uConnection.setAutoCommit(autoCommit);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("setAutoCommit", new Object[] { autoCommit }, e);
+        }
+    }
+
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+        try {
+            return uConnection.getAutoCommit();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getAutoCommit", null, e);
+        }
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        try {
+            uConnection.commit();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("commit", null, e);
+        }
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        try {
+            uConnection.rollback();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("rollback", null, e);
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            mHandler.handleClose(this, a -> {
+                uConnection.close();
+                return null;
+            }, null, true);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("close", null, e);
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        try {
+            return uConnection.isClosed();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("isClosed", null, e);
+        }
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+        try {
+            return uConnection.getMetaData();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getMetaData", null, e);
+        }
+    }
+
+    @Override
+    public void setReadOnly(final boolean readOnly) throws SQLException {
+        try {
+            uConnection.setReadOnly(readOnly);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("setReadOnly", new Object[] { readOnly }, e);
+        }
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        try {
+            return uConnection.isReadOnly();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("isReadOnly", null, e);
+        }
+    }
+
+    @Override
+    public void setCatalog(final String catalog) throws SQLException {
+        try {
+            uConnection.setCatalog(catalog);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("setCatalog", new Object[] { catalog }, e);
+        }
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+        try {
+            return uConnection.getCatalog();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getCatalog", null, e);
+        }
+    }
+
+    @Override
+    public void setTransactionIsolation(final int level) throws SQLException {
+        try {
+            mHandler.handleSetTransactionIsolation(level);
+            uConnection.setTransactionIsolation(level);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("setTransactionIsolation", new Object[] { level }, e);
+        }
+    }
+
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+        try {
+            return uConnection.getTransactionIsolation();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getTransactionIsolation", null, e);
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        try {
+            return uConnection.getWarnings();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getWarnings", null, e);
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        try {
+            uConnection.clearWarnings();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("clearWarnings", null, e);
+        }
+    }
+
+    @Override
+    public Statement createStatement(final int resultSetType, final int resultSetConcurrency) throws SQLException {
+        try {
+            return mHandler.handleCreate(this, uConnection.createStatement(resultSetType, resultSetConcurrency));
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("createStatement", new Object[] { resultSetType, resultSetConcurrency }, e);
+        }
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql, final int resultSetType, final int resultSetConcurrency) throws SQLException {
+        try {
+            return (PreparedStatement) mHandler.handlePrepare(this, uConnection.prepareStatement(sql, resultSetType, resultSetConcurrency), sql);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("prepareStatement", new Object[] { sql, resultSetType, resultSetConcurrency }, e);
+        }
+    }
+
+    @Override
+    public CallableStatement prepareCall(final String sql, final int resultSetType, final int resultSetConcurrency) throws SQLException {
+        try {
+            return (CallableStatement) mHandler.handlePrepare(this, uConnection.prepareCall(sql, resultSetType, resultSetConcurrency), sql);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("prepareCall", new Object[] { sql, resultSetType, resultSetConcurrency }, e);
+        }
+    }
+
+    @Override
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+        try {
+            return uConnection.getTypeMap();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getTypeMap", null, e);
+        }
+    }
+
+    @Override
+    public void setTypeMap(final Map<String, Class<?>> map) throws SQLException {
+        try {
+            uConnection.setTypeMap(map);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("setTypeMap", new Object[] { map }, e);
+        }
+    }
+
+    @Override
+    public void setHoldability(final int holdability) throws SQLException {
+        try {
+            uConnection.setHoldability(holdability);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("setHoldability", new Object[] { holdability }, e);
+        }
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        try {
+            return uConnection.getHoldability();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getHoldability", null, e);
+        }
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        try {
+            return uConnection.setSavepoint();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("setSavepoint", null, e);
+        }
+    }
+
+    @Override
+    public Savepoint setSavepoint(final String name) throws SQLException {
+        try {
+            return uConnection.setSavepoint(name);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("setSavepoint", new Object[] { name }, e);
+        }
+    }
+
+    @Override
+    public void rollback(final Savepoint savepoint) throws SQLException {
+        try {
+            uConnection.rollback(savepoint);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("rollback", new Object[] { savepoint }, e);
+        }
+    }
+
+    @Override
+    public void releaseSavepoint(final Savepoint savepoint) throws SQLException {
+        try {
+            uConnection.releaseSavepoint(savepoint);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("releaseSavepoint", new Object[] { savepoint }, e);
+        }
+    }
+
+    @Override
+    public Statement createStatement(final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability) throws SQLException {
+        try {
+            return mHandler.handleCreate(this, uConnection.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability));
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("createStatement", new Object[] { resultSetType, resultSetConcurrency, resultSetHoldability }, e);
+        }
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql, final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability) throws SQLException {
+        try {
+            return (PreparedStatement) mHandler.handlePrepare(this, uConnection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability), sql);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("prepareStatement", new Object[] { sql, resultSetType, resultSetConcurrency, resultSetHoldability }, e);
+        }
+    }
+
+    @Override
+    public CallableStatement prepareCall(final String sql, final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability) throws SQLException {
+        try {
+            return (CallableStatement) mHandler.handlePrepare(this, uConnection.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability), sql);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("prepareCall", new Object[] { sql, resultSetType, resultSetConcurrency, resultSetHoldability }, e);
+        }
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql, final int autoGeneratedKeys) throws SQLException {
+        try {
+            return (PreparedStatement) mHandler.handlePrepare(this, uConnection.prepareStatement(sql, autoGeneratedKeys), sql);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("prepareStatement", new Object[] { sql, autoGeneratedKeys }, e);
+        }
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql, final int[] columnIndexes) throws SQLException {
+        try {
+            return (PreparedStatement) mHandler.handlePrepare(this, uConnection.prepareStatement(sql, columnIndexes), sql);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("prepareStatement", new Object[] { sql, columnIndexes }, e);
+        }
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql, final String[] columnNames) throws SQLException {
+        try {
+            return (PreparedStatement) mHandler.handlePrepare(this, uConnection.prepareStatement(sql, columnNames), sql);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("prepareStatement", new Object[] { sql, columnNames }, e);
+        }
+    }
+
+    @Override
+    public Clob createClob() throws SQLException {
+        try {
+            return uConnection.createClob();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("createClob", null, e);
+        }
+    }
+
+    @Override
+    public Blob createBlob() throws SQLException {
+        try {
+            return uConnection.createBlob();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("createBlob", null, e);
+        }
+    }
+
+    @Override
+    public NClob createNClob() throws SQLException {
+        try {
+            return uConnection.createNClob();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("createNClob", null, e);
+        }
+    }
+
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+        try {
+            return uConnection.createSQLXML();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("createSQLXML", null, e);
+        }
+    }
+
+    @Override
+    public boolean isValid(final int timeout) throws SQLException {
+        try {
+            return uConnection.isValid(timeout);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("isValid", new Object[] { timeout }, e);
+        }
+    }
+
+    @Override
+    public void setClientInfo(final String name, final String value) throws SQLClientInfoException {
+        try {
+            uConnection.setClientInfo(name, value);
+        }
+        catch (final SQLClientInfoException e) {
+            throw mHandler.handleFailure("setClientInfo", new Object[] { name, value }, e);
+        }
+    }
+
+    @Override
+    public void setClientInfo(final Properties properties) throws SQLClientInfoException {
+        try {
+            uConnection.setClientInfo(properties);
+        }
+        catch (final SQLClientInfoException e) {
+            throw mHandler.handleFailure("setClientInfo", new Object[] { properties }, e);
+        }
+    }
+
+    @Override
+    public String getClientInfo(final String name) throws SQLException {
+        try {
+            return uConnection.getClientInfo(name);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getClientInfo", new Object[] { name }, e);
+        }
+    }
+
+    @Override
+    public Properties getClientInfo() throws SQLException {
+        try {
+            return uConnection.getClientInfo();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getClientInfo", null, e);
+        }
+    }
+
+    @Override
+    public Array createArrayOf(final String typeName, final Object[] elements) throws SQLException {
+        try {
+            return uConnection.createArrayOf(typeName, elements);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("createArrayOf", new Object[] { typeName, elements }, e);
+        }
+    }
+
+    @Override
+    public Struct createStruct(final String typeName, final Object[] attributes) throws SQLException {
+        try {
+            return uConnection.createStruct(typeName, attributes);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("createStruct", new Object[] { typeName, attributes }, e);
+        }
+    }
+
+    @Override
+    public void setSchema(final String schema) throws SQLException {
+        try {
+            uConnection.setSchema(schema);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("setSchema", new Object[] { schema }, e);
+        }
+    }
+
+    @Override
+    public String getSchema() throws SQLException {
+        try {
+            return uConnection.getSchema();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getSchema", null, e);
+        }
+    }
+
+    @Override
+    public void abort(final Executor executor) throws SQLException {
+        try {
+            uConnection.abort(executor);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("abort", new Object[] { executor }, e);
+        }
+    }
+
+    @Override
+    public void setNetworkTimeout(final Executor executor, final int milliseconds) throws SQLException {
+        try {
+            uConnection.setNetworkTimeout(executor, milliseconds);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("setNetworkTimeout", new Object[] { executor, milliseconds }, e);
+        }
+    }
+
+    @Override
+    public int getNetworkTimeout() throws SQLException {
+        try {
+            return uConnection.getNetworkTimeout();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getNetworkTimeout", null, e);
+        }
+    }
+
+    @Override
+    public void beginRequest() throws SQLException {
+        try {
+            uConnection.beginRequest();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("beginRequest", null, e);
+        }
+    }
+
+    @Override
+    public void endRequest() throws SQLException {
+        try {
+            uConnection.endRequest();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("endRequest", null, e);
+        }
+    }
+
+    @Override
+    public boolean setShardingKeyIfValid(final ShardingKey shardingKey, final ShardingKey superShardingKey, final int timeout) throws SQLException {
+        try {
+            return uConnection.setShardingKeyIfValid(shardingKey, superShardingKey, timeout);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("setShardingKeyIfValid", new Object[] { shardingKey, superShardingKey, timeout }, e);
+        }
+    }
+
+    @Override
+    public boolean setShardingKeyIfValid(final ShardingKey shardingKey, final int timeout) throws SQLException {
+        try {
+            return uConnection.setShardingKeyIfValid(shardingKey, timeout);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("setShardingKeyIfValid", new Object[] { shardingKey, timeout }, e);
+        }
+    }
+
+    @Override
+    public void setShardingKey(final ShardingKey shardingKey, final ShardingKey superShardingKey) throws SQLException {
+        try {
+            uConnection.setShardingKey(shardingKey, superShardingKey);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("setShardingKey", new Object[] { shardingKey, superShardingKey }, e);
+        }
+    }
+
+    @Override
+    public void setShardingKey(final ShardingKey shardingKey) throws SQLException {
+        try {
+            uConnection.setShardingKey(shardingKey);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("setShardingKey", new Object[] { shardingKey }, e);
+        }
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        try {
+            return uConnection.unwrap(iface);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("unwrap", new Object[] { iface }, e);
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        try {
+            return uConnection.isWrapperFor(iface);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("isWrapperFor", new Object[] { iface }, e);
+        }
+    }
+
+    @Override
+    public Connection getUnderlyingConnection() {
+        return uConnection;
+    }
+
+    @Override
+    public String dump() {
+        return mHandler.dump();
+    }
+
+    @Override
+    public void endTx() {
+        mHandler.endTx(this);
+    }
+
+    @Override
+    public String getCaller() {
+        return mHandler.getCaller();
+    }
+
+    @Override
+    public List<ProxyStatement> getStatements() {
+        return mHandler.getStatements();
+    }
+
+    @Override
+    public long getSize() {
+        return mHandler.getSize();
+    }
+
+    @Override
+    public int getItemCount() {
+        return mHandler.getItemCount();
+    }
+
+    @Override
+    public long getDuration() {
+        return mHandler.getDuration();
+    }
+
+    @Override
+    public long getDurationMicros() {
+        return mHandler.getDurationMicros();
+    }
+
+    @Override
+    public XAResource getXAResource() throws SQLException {
+        throw new SQLFeatureNotSupportedException("not an XAConnection");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        throw new SQLFeatureNotSupportedException("not an XAConnection");
+    }
+
+    @Override
+    public void addConnectionEventListener(final ConnectionEventListener listener) {
+        throw new UnsupportedOperationException("not an XAConnection");
+    }
+
+    @Override
+    public void removeConnectionEventListener(final ConnectionEventListener listener) {
+        throw new UnsupportedOperationException("not an XAConnection");
+    }
+
+    @Override
+    public void addStatementEventListener(final StatementEventListener listener) {
+        throw new UnsupportedOperationException("not an XAConnection");
+    }
+
+    @Override
+    public void removeStatementEventListener(final StatementEventListener listener) {
+        throw new UnsupportedOperationException("not an XAConnection");
+    }
+
+    @Override
+    public String toString() {
+        return mHandler.toString();
+    }
+
+}
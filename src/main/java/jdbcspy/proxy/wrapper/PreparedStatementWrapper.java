@@ -0,0 +1,676 @@
+package jdbcspy.proxy.wrapper;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+import jdbcspy.proxy.handler.AbstractStatementInvocationHandler;
+
+/**
+ * The delegating prepared statement wrapper.
+ *
+ * @param <S> the type of the underlying statement
+ */
+public class PreparedStatementWrapper<S extends PreparedStatement> extends StatementWrapper<S> implements PreparedStatement {
+
+    /**
+     * Constructor.
+     *
+     * @param theStmt the original statement
+     * @param handler the statement handler
+     */
+    public PreparedStatementWrapper(final S theStmt, final AbstractStatementInvocationHandler handler) {
+        super(theStmt, handler);
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        try {
+            return (ResultSet) mHandler.handleExecute(this, "executeQuery", uStatement, null, (stmt, sql) -> stmt.executeQuery());
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "executeQuery", null, e);
+        }
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        try {
+            return (int) mHandler.handleExecute(this, "executeUpdate", uStatement, null, (stmt, sql) -> stmt.executeUpdate());
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "executeUpdate", null, e);
+        }
+    }
+
+    @Override
+    public void setNull(final int parameterIndex, final int sqlType) throws SQLException {
+        try {
+            mHandler.handleSet("setNull", parameterIndex, sqlType);
+            uStatement.setNull(parameterIndex, sqlType);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setNull", new Object[] { parameterIndex, sqlType }, e);
+        }
+    }
+
+    @Override
+    public void setBoolean(final int parameterIndex, final boolean x) throws SQLException {
+        try {
+            mHandler.handleSet("setBoolean", parameterIndex, x);
+            uStatement.setBoolean(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBoolean", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setByte(final int parameterIndex, final byte x) throws SQLException {
+        try {
+            mHandler.handleSet("setByte", parameterIndex, x);
+            uStatement.setByte(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setByte", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setShort(final int parameterIndex, final short x) throws SQLException {
+        try {
+            mHandler.handleSet("setShort", parameterIndex, x);
+            uStatement.setShort(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setShort", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setInt(final int parameterIndex, final int x) throws SQLException {
+        try {
+            mHandler.handleSet("setInt", parameterIndex, x);
+            uStatement.setInt(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setInt", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setLong(final int parameterIndex, final long x) throws SQLException {
+        try {
+            mHandler.handleSet("setLong", parameterIndex, x);
+            uStatement.setLong(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setLong", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setFloat(final int parameterIndex, final float x) throws SQLException {
+        try {
+            mHandler.handleSet("setFloat", parameterIndex, x);
+            uStatement.setFloat(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setFloat", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setDouble(final int parameterIndex, final double x) throws SQLException {
+        try {
+            mHandler.handleSet("setDouble", parameterIndex, x);
+            uStatement.setDouble(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setDouble", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setBigDecimal(final int parameterIndex, final BigDecimal x) throws SQLException {
+        try {
+            mHandler.handleSet("setBigDecimal", parameterIndex, x);
+            uStatement.setBigDecimal(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBigDecimal", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setString(final int parameterIndex, final String x) throws SQLException {
+        try {
+            mHandler.handleSet("setString", parameterIndex, x);
+            uStatement.setString(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setString", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setBytes(final int parameterIndex, final byte[] x) throws SQLException {
+        try {
+            mHandler.handleSet("setBytes", parameterIndex, x);
+            uStatement.setBytes(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBytes", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setDate(final int parameterIndex, final Date x) throws SQLException {
+        try {
+            mHandler.handleSet("setDate", parameterIndex, x);
+            uStatement.setDate(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setDate", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setTime(final int parameterIndex, final Time x) throws SQLException {
+        try {
+            mHandler.handleSet("setTime", parameterIndex, x);
+            uStatement.setTime(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setTime", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setTimestamp(final int parameterIndex, final Timestamp x) throws SQLException {
+        try {
+            mHandler.handleSet("setTimestamp", parameterIndex, x);
+            uStatement.setTimestamp(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setTimestamp", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setAsciiStream(final int parameterIndex, final InputStream x, final int length) throws SQLException {
+        try {
+            mHandler.handleSet("setAsciiStream", parameterIndex, x);
+            uStatement.setAsciiStream(parameterIndex, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setAsciiStream", new Object[] { parameterIndex, x, length }, e);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void setUnicodeStream(final int parameterIndex, final InputStream x, final int length) throws SQLException {
+        try {
+            mHandler.handleSet("setUnicodeStream", parameterIndex, x);
+            uStatement.setUnicodeStream(parameterIndex, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setUnicodeStream", new Object[] { parameterIndex, x, length }, e);
+        }
+    }
+
+    @Override
+    public void setBinaryStream(final int parameterIndex, final InputStream x, final int length) throws SQLException {
+        try {
+            mHandler.handleSet("setBinaryStream", parameterIndex, x);
+            uStatement.setBinaryStream(parameterIndex, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBinaryStream", new Object[] { parameterIndex, x, length }, e);
+        }
+    }
+
+    @Override
+    public void clearParameters() throws SQLException {
+        try {
+            uStatement.clearParameters();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "clearParameters", null, e);
+        }
+    }
+
+    @Override
+    public void setObject(final int parameterIndex, final Object x, final int targetSqlType) throws SQLException {
+        try {
+            mHandler.handleSet("setObject", parameterIndex, x);
+            uStatement.setObject(parameterIndex, x, targetSqlType);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setObject", new Object[] { parameterIndex, x, targetSqlType }, e);
+        }
+    }
+
+    @Override
+    public void setObject(final int parameterIndex, final Object x) throws SQLException {
+        try {
+            mHandler.handleSet("setObject", parameterIndex, x);
+            uStatement.setObject(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setObject", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        try {
+            return (boolean) mHandler.handleExecute(this, "execute", uStatement, null, (stmt, sql) -> stmt.execute());
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "execute", null, e);
+        }
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        try {
+            mHandler.handleAddBatch();
+            uStatement.addBatch();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "addBatch", null, e);
+        }
+    }
+
+    @Override
+    public void setCharacterStream(final int parameterIndex, final Reader reader, final int length) throws SQLException {
+        try {
+            mHandler.handleSet("setCharacterStream", parameterIndex, reader);
+            uStatement.setCharacterStream(parameterIndex, reader, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setCharacterStream", new Object[] { parameterIndex, reader, length }, e);
+        }
+    }
+
+    @Override
+    public void setRef(final int parameterIndex, final Ref x) throws SQLException {
+        try {
+            mHandler.handleSet("setRef", parameterIndex, x);
+            uStatement.setRef(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setRef", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setBlob(final int parameterIndex, final Blob x) throws SQLException {
+        try {
+            mHandler.handleSet("setBlob", parameterIndex, x);
+            uStatement.setBlob(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBlob", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setClob(final int parameterIndex, final Clob x) throws SQLException {
+        try {
+            mHandler.handleSet("setClob", parameterIndex, x);
+            uStatement.setClob(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setClob", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setArray(final int parameterIndex, final Array x) throws SQLException {
+        try {
+            mHandler.handleSet("setArray", parameterIndex, x);
+            uStatement.setArray(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setArray", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        try {
+            return uStatement.getMetaData();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getMetaData", null, e);
+        }
+    }
+
+    @Override
+    public void setDate(final int parameterIndex, final Date x, final Calendar cal) throws SQLException {
+        try {
+            mHandler.handleSet("setDate", parameterIndex, x);
+            uStatement.setDate(parameterIndex, x, cal);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setDate", new Object[] { parameterIndex, x, cal }, e);
+        }
+    }
+
+    @Override
+    public void setTime(final int parameterIndex, final Time x, final Calendar cal) throws SQLException {
+        try {
+            mHandler.handleSet("setTime", parameterIndex, x);
+            uStatement.setTime(parameterIndex, x, cal);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setTime", new Object[] { parameterIndex, x, cal }, e);
+        }
+    }
+
+    @Override
+    public void setTimestamp(final int parameterIndex, final Timestamp x, final Calendar cal) throws SQLException {
+        try {
+            mHandler.handleSet("setTimestamp", parameterIndex, x);
+            uStatement.setTimestamp(parameterIndex, x, cal);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setTimestamp", new Object[] { parameterIndex, x, cal }, e);
+        }
+    }
+
+    @Override
+    public void setNull(final int parameterIndex, final int sqlType, final String typeName) throws SQLException {
+        try {
+            mHandler.handleSet("setNull", parameterIndex, sqlType);
+            uStatement.setNull(parameterIndex, sqlType, typeName);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setNull", new Object[] { parameterIndex, sqlType, typeName }, e);
+        }
+    }
+
+    @Override
+    public void setURL(final int parameterIndex, final URL x) throws SQLException {
+        try {
+            mHandler.handleSet("setURL", parameterIndex, x);
+            uStatement.setURL(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setURL", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+        try {
+            return uStatement.getParameterMetaData();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getParameterMetaData", null, e);
+        }
+    }
+
+    @Override
+    public void setRowId(final int parameterIndex, final RowId x) throws SQLException {
+        try {
+            mHandler.handleSet("setRowId", parameterIndex, x);
+            uStatement.setRowId(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setRowId", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setNString(final int parameterIndex, final String value) throws SQLException {
+        try {
+            mHandler.handleSet("setNString", parameterIndex, value);
+            uStatement.setNString(parameterIndex, value);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setNString", new Object[] { parameterIndex, value }, e);
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(final int parameterIndex, final Reader value, final long length) throws SQLException {
+        try {
+            mHandler.handleSet("setNCharacterStream", parameterIndex, value);
+            uStatement.setNCharacterStream(parameterIndex, value, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setNCharacterStream", new Object[] { parameterIndex, value, length }, e);
+        }
+    }
+
+    @Override
+    public void setNClob(final int parameterIndex, final NClob value) throws SQLException {
+        try {
+            mHandler.handleSet("setNClob", parameterIndex, value);
+            uStatement.setNClob(parameterIndex, value);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setNClob", new Object[] { parameterIndex, value }, e);
+        }
+    }
+
+    @Override
+    public void setClob(final int parameterIndex, final Reader reader, final long length) throws SQLException {
+        try {
+            mHandler.handleSet("setClob", parameterIndex, reader);
+            uStatement.setClob(parameterIndex, reader, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setClob", new Object[] { parameterIndex, reader, length }, e);
+        }
+    }
+
+    @Override
+    public void setBlob(final int parameterIndex, final InputStream inputStream, final long length) throws SQLException {
+        try {
+            mHandler.handleSet("setBlob", parameterIndex, inputStream);
+            uStatement.setBlob(parameterIndex, inputStream, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBlob", new Object[] { parameterIndex, inputStream, length }, e);
+        }
+    }
+
+    @Override
+    public void setNClob(final int parameterIndex, final Reader reader, final long length) throws SQLException {
+        try {
+            mHandler.handleSet("setNClob", parameterIndex, reader);
+            uStatement.setNClob(parameterIndex, reader, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setNClob", new Object[] { parameterIndex, reader, length }, e);
+        }
+    }
+
+    @Override
+    public void setSQLXML(final int parameterIndex, final SQLXML xmlObject) throws SQLException {
+        try {
+            mHandler.handleSet("setSQLXML", parameterIndex, xmlObject);
+            uStatement.setSQLXML(parameterIndex, xmlObject);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setSQLXML", new Object[] { parameterIndex, xmlObject }, e);
+        }
+    }
+
+    @Override
+    public void setObject(final int parameterIndex, final Object x, final int targetSqlType, final int scaleOrLength) throws SQLException {
+        try {
+            mHandler.handleSet("setObject", parameterIndex, x);
+            uStatement.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setObject", new Object[] { parameterIndex, x, targetSqlType, scaleOrLength }, e);
+        }
+    }
+
+    @Override
+    public void setAsciiStream(final int parameterIndex, final InputStream x, final long length) throws SQLException {
+        try {
+            mHandler.handleSet("setAsciiStream", parameterIndex, x);
+            uStatement.setAsciiStream(parameterIndex, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setAsciiStream", new Object[] { parameterIndex, x, length }, e);
+        }
+    }
+
+    @Override
+    public void setBinaryStream(final int parameterIndex, final InputStream x, final long length) throws SQLException {
+        try {
+            mHandler.handleSet("setBinaryStream", parameterIndex, x);
+            uStatement.setBinaryStream(parameterIndex, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBinaryStream", new Object[] { parameterIndex, x, length }, e);
+        }
+    }
+
+    @Override
+    public void setCharacterStream(final int parameterIndex, final Reader reader, final long length) throws SQLException {
+        try {
+            mHandler.handleSet("setCharacterStream", parameterIndex, reader);
+            uStatement.setCharacterStream(parameterIndex, reader, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setCharacterStream", new Object[] { parameterIndex, reader, length }, e);
+        }
+    }
+
+    @Override
+    public void setAsciiStream(final int parameterIndex, final InputStream x) throws SQLException {
+        try {
+            mHandler.handleSet("setAsciiStream", parameterIndex, x);
+            uStatement.setAsciiStream(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setAsciiStream", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setBinaryStream(final int parameterIndex, final InputStream x) throws SQLException {
+        try {
+            mHandler.handleSet("setBinaryStream", parameterIndex, x);
+            uStatement.setBinaryStream(parameterIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBinaryStream", new Object[] { parameterIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void setCharacterStream(final int parameterIndex, final Reader reader) throws SQLException {
+        try {
+            mHandler.handleSet("setCharacterStream", parameterIndex, reader);
+            uStatement.setCharacterStream(parameterIndex, reader);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setCharacterStream", new Object[] { parameterIndex, reader }, e);
+        }
+    }
+
+    @Override
+    public void setNCharacterStream(final int parameterIndex, final Reader value) throws SQLException {
+        try {
+            mHandler.handleSet("setNCharacterStream", parameterIndex, value);
+            uStatement.setNCharacterStream(parameterIndex, value);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setNCharacterStream", new Object[] { parameterIndex, value }, e);
+        }
+    }
+
+    @Override
+    public void setClob(final int parameterIndex, final Reader reader) throws SQLException {
+        try {
+            mHandler.handleSet("setClob", parameterIndex, reader);
+            uStatement.setClob(parameterIndex, reader);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setClob", new Object[] { parameterIndex, reader }, e);
+        }
+    }
+
+    @Override
+    public void setBlob(final int parameterIndex, final InputStream inputStream) throws SQLException {
+        try {
+            mHandler.handleSet("setBlob", parameterIndex, inputStream);
+            uStatement.setBlob(parameterIndex, inputStream);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setBlob", new Object[] { parameterIndex, inputStream }, e);
+        }
+    }
+
+    @Override
+    public void setNClob(final int parameterIndex, final Reader reader) throws SQLException {
+        try {
+            mHandler.handleSet("setNClob", parameterIndex, reader);
+            uStatement.setNClob(parameterIndex, reader);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setNClob", new Object[] { parameterIndex, reader }, e);
+        }
+    }
+
+    @Override
+    public void setObject(final int parameterIndex, final Object x, final SQLType targetSqlType, final int scaleOrLength) throws SQLException {
+        try {
+            mHandler.handleSet("setObject", parameterIndex, x);
+            uStatement.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setObject", new Object[] { parameterIndex, x, targetSqlType, scaleOrLength }, e);
+        }
+    }
+
+    @Override
+    public void setObject(final int parameterIndex, final Object x, final SQLType targetSqlType) throws SQLException {
+        try {
+            mHandler.handleSet("setObject", parameterIndex, x);
+            uStatement.setObject(parameterIndex, x, targetSqlType);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setObject", new Object[] { parameterIndex, x, targetSqlType }, e);
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        try {
+            return (long) mHandler.handleExecute(this, "executeLargeUpdate", uStatement, null, (stmt, sql) -> stmt.executeLargeUpdate());
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "executeLargeUpdate", null, e);
+        }
+    }
+
+}
@@ -0,0 +1,2200 @@
+package jdbcspy.proxy.wrapper;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+import jdbcspy.proxy.ProxyResultSet;
+import jdbcspy.proxy.ResultSetStatistics;
+import jdbcspy.proxy.handler.Invocation;
+import jdbcspy.proxy.handler.ResultSetInvocationHandler;
+
+/**
+ * The delegating result set wrapper. It calls the underlying result set directly and only calls into the
+ * {@link ResultSetInvocationHandler} where the statistics are gathered.
+ */
+public class ResultSetWrapper implements ResultSet, ProxyResultSet, ResultSetStatistics {
+
+    /**
+     * the underlying result set
+     */
+    private ResultSet uResultSet;
+    /**
+     * the result set handler
+     */
+    private final ResultSetInvocationHandler mHandler;
+    /**
+     * the next call of the underlying result set
+     */
+    private final Invocation<SQLException> mNextCall;
+
+    /**
+     * Constructor.
+     *
+     * @param rs      the original result set
+     * @param handler the result set handler
+     */
+    public ResultSetWrapper(final ResultSet rs, final ResultSetInvocationHandler handler) {
+        uResultSet = rs;
+        mHandler = handler;
+        mNextCall = a -> uResultSet.next();
+    }
+
+    /**
+     * Wrap the next result set of the statement, the wrapper has been closed by the application.
+     *
+     * @param rs the original result set
+     * @return the result set handler to be reset
+     */
+    public ResultSetInvocationHandler reopen(final ResultSet rs) {
+        uResultSet = rs;
+        return mHandler;
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        try {
+            return mHandler.handleNext(mNextCall);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("next", null, e);
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            mHandler.handleClose(this);
+            uResultSet.close();
+            mHandler.recycle(this);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("close", null, e);
+        }
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        try {
+            return uResultSet.wasNull();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("wasNull", null, e);
+        }
+    }
+
+    @Override
+    public String getString(final int columnIndex) throws SQLException {
+        try {
+            final String ret = uResultSet.getString(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getString", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        try {
+            final boolean ret = uResultSet.getBoolean(columnIndex);
+            mHandler.handleValueSize(columnIndex, 1);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getBoolean", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public byte getByte(final int columnIndex) throws SQLException {
+        try {
+            final byte ret = uResultSet.getByte(columnIndex);
+            mHandler.handleValueSize(columnIndex, Byte.BYTES);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getByte", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public short getShort(final int columnIndex) throws SQLException {
+        try {
+            final short ret = uResultSet.getShort(columnIndex);
+            mHandler.handleValueSize(columnIndex, Short.BYTES);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getShort", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        try {
+            final int ret = uResultSet.getInt(columnIndex);
+            mHandler.handleValueSize(columnIndex, Integer.BYTES);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getInt", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        try {
+            final long ret = uResultSet.getLong(columnIndex);
+            mHandler.handleValueSize(columnIndex, Long.BYTES);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getLong", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public float getFloat(final int columnIndex) throws SQLException {
+        try {
+            final float ret = uResultSet.getFloat(columnIndex);
+            mHandler.handleValueSize(columnIndex, Float.BYTES);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getFloat", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        try {
+            final double ret = uResultSet.getDouble(columnIndex);
+            mHandler.handleValueSize(columnIndex, Double.BYTES);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getDouble", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(final int columnIndex, final int scale) throws SQLException {
+        try {
+            final BigDecimal ret = uResultSet.getBigDecimal(columnIndex, scale);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getBigDecimal", new Object[] { columnIndex, scale }, e);
+        }
+    }
+
+    @Override
+    public byte[] getBytes(final int columnIndex) throws SQLException {
+        try {
+            final byte[] ret = uResultSet.getBytes(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getBytes", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public Date getDate(final int columnIndex) throws SQLException {
+        try {
+            final Date ret = uResultSet.getDate(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getDate", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public Time getTime(final int columnIndex) throws SQLException {
+        try {
+            final Time ret = uResultSet.getTime(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getTime", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(final int columnIndex) throws SQLException {
+        try {
+            final Timestamp ret = uResultSet.getTimestamp(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getTimestamp", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public InputStream getAsciiStream(final int columnIndex) throws SQLException {
+        try {
+            final InputStream ret = uResultSet.getAsciiStream(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getAsciiStream", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(final int columnIndex) throws SQLException {
+        try {
+            final InputStream ret = uResultSet.getUnicodeStream(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getUnicodeStream", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public InputStream getBinaryStream(final int columnIndex) throws SQLException {
+        try {
+            final InputStream ret = uResultSet.getBinaryStream(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getBinaryStream", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public String getString(final String columnLabel) throws SQLException {
+        try {
+            final String ret = uResultSet.getString(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getString", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(final String columnLabel) throws SQLException {
+        try {
+            final boolean ret = uResultSet.getBoolean(columnLabel);
+            mHandler.handleValueSize(columnLabel, 1);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getBoolean", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public byte getByte(final String columnLabel) throws SQLException {
+        try {
+            final byte ret = uResultSet.getByte(columnLabel);
+            mHandler.handleValueSize(columnLabel, Byte.BYTES);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getByte", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public short getShort(final String columnLabel) throws SQLException {
+        try {
+            final short ret = uResultSet.getShort(columnLabel);
+            mHandler.handleValueSize(columnLabel, Short.BYTES);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getShort", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public int getInt(final String columnLabel) throws SQLException {
+        try {
+            final int ret = uResultSet.getInt(columnLabel);
+            mHandler.handleValueSize(columnLabel, Integer.BYTES);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getInt", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public long getLong(final String columnLabel) throws SQLException {
+        try {
+            final long ret = uResultSet.getLong(columnLabel);
+            mHandler.handleValueSize(columnLabel, Long.BYTES);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getLong", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public float getFloat(final String columnLabel) throws SQLException {
+        try {
+            final float ret = uResultSet.getFloat(columnLabel);
+            mHandler.handleValueSize(columnLabel, Float.BYTES);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getFloat", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public double getDouble(final String columnLabel) throws SQLException {
+        try {
+            final double ret = uResultSet.getDouble(columnLabel);
+            mHandler.handleValueSize(columnLabel, Double.BYTES);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getDouble", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(final String columnLabel, final int scale) throws SQLException {
+        try {
+            final BigDecimal ret = uResultSet.getBigDecimal(columnLabel, scale);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getBigDecimal", new Object[] { columnLabel, scale }, e);
+        }
+    }
+
+    @Override
+    public byte[] getBytes(final String columnLabel) throws SQLException {
+        try {
+            final byte[] ret = uResultSet.getBytes(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getBytes", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public Date getDate(final String columnLabel) throws SQLException {
+        try {
+            final Date ret = uResultSet.getDate(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getDate", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public Time getTime(final String columnLabel) throws SQLException {
+        try {
+            final Time ret = uResultSet.getTime(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getTime", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(final String columnLabel) throws SQLException {
+        try {
+            final Timestamp ret = uResultSet.getTimestamp(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getTimestamp", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public InputStream getAsciiStream(final String columnLabel) throws SQLException {
+        try {
+            final InputStream ret = uResultSet.getAsciiStream(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getAsciiStream", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(final String columnLabel) throws SQLException {
+        try {
+            final InputStream ret = uResultSet.getUnicodeStream(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getUnicodeStream", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public InputStream getBinaryStream(final String columnLabel) throws SQLException {
+        try {
+            final InputStream ret = uResultSet.getBinaryStream(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getBinaryStream", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        try {
+            return uResultSet.getWarnings();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getWarnings", null, e);
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        try {
+            uResultSet.clearWarnings();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("clearWarnings", null, e);
+        }
+    }
+
+    @Override
+    public String getCursorName() throws SQLException {
+        try {
+            return uResultSet.getCursorName();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getCursorName", null, e);
+        }
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        try {
+            return uResultSet.getMetaData();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getMetaData", null, e);
+        }
+    }
+
+    @Override
+    public Object getObject(final int columnIndex) throws SQLException {
+        try {
+            final Object ret = uResultSet.getObject(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getObject", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public Object getObject(final String columnLabel) throws SQLException {
+        try {
+            final Object ret = uResultSet.getObject(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getObject", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public int findColumn(final String columnLabel) throws SQLException {
+        try {
+            return uResultSet.findColumn(columnLabel);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("findColumn", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        try {
+            final Reader ret = uResultSet.getCharacterStream(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getCharacterStream", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public Reader getCharacterStream(final String columnLabel) throws SQLException {
+        try {
+            final Reader ret = uResultSet.getCharacterStream(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getCharacterStream", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
+        try {
+            final BigDecimal ret = uResultSet.getBigDecimal(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getBigDecimal", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final String columnLabel) throws SQLException {
+        try {
+            final BigDecimal ret = uResultSet.getBigDecimal(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getBigDecimal", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        try {
+            return uResultSet.isBeforeFirst();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("isBeforeFirst", null, e);
+        }
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        try {
+            return uResultSet.isAfterLast();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("isAfterLast", null, e);
+        }
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        try {
+            return uResultSet.isFirst();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("isFirst", null, e);
+        }
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        try {
+            return uResultSet.isLast();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("isLast", null, e);
+        }
+    }
+
+    @Override
+    public void beforeFirst() throws SQLException {
+        try {
+            uResultSet.beforeFirst();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("beforeFirst", null, e);
+        }
+    }
+
+    @Override
+    public void afterLast() throws SQLException {
+        try {
+            uResultSet.afterLast();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("afterLast", null, e);
+        }
+    }
+
+    @Override
+    public boolean first() throws SQLException {
+        try {
+            return uResultSet.first();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("first", null, e);
+        }
+    }
+
+    @Override
+    public boolean last() throws SQLException {
+        try {
+            return uResultSet.last();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("last", null, e);
+        }
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        try {
+            return uResultSet.getRow();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getRow", null, e);
+        }
+    }
+
+    @Override
+    public boolean absolute(final int row) throws SQLException {
+        try {
+            return uResultSet.absolute(row);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("absolute", new Object[] { row }, e);
+        }
+    }
+
+    @Override
+    public boolean relative(final int rows) throws SQLException {
+        try {
+            return uResultSet.relative(rows);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("relative", new Object[] { rows }, e);
+        }
+    }
+
+    @Override
+    public boolean previous() throws SQLException {
+        try {
+            return uResultSet.previous();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("previous", null, e);
+        }
+    }
+
+    @Override
+    public void setFetchDirection(final int direction) throws SQLException {
+        try {
+            uResultSet.setFetchDirection(direction);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("setFetchDirection", new Object[] { direction }, e);
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        try {
+            return uResultSet.getFetchDirection();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getFetchDirection", null, e);
+        }
+    }
+
+    @Override
+    public void setFetchSize(final int rows) throws SQLException {
+        try {
+            uResultSet.setFetchSize(rows);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("setFetchSize", new Object[] { rows }, e);
+        }
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        try {
+            return uResultSet.getFetchSize();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getFetchSize", null, e);
+        }
+    }
+
+    @Override
+    public int getType() throws SQLException {
+        try {
+            return uResultSet.getType();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getType", null, e);
+        }
+    }
+
+    @Override
+    public int getConcurrency() throws SQLException {
+        try {
+            return uResultSet.getConcurrency();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getConcurrency", null, e);
+        }
+    }
+
+    @Override
+    public boolean rowUpdated() throws SQLException {
+        try {
+            return uResultSet.rowUpdated();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("rowUpdated", null, e);
+        }
+    }
+
+    @Override
+    public boolean rowInserted() throws SQLException {
+        try {
+            return uResultSet.rowInserted();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("rowInserted", null, e);
+        }
+    }
+
+    @Override
+    public boolean rowDeleted() throws SQLException {
+        try {
+            return uResultSet.rowDeleted();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("rowDeleted", null, e);
+        }
+    }
+
+    @Override
+    public void updateNull(final int columnIndex) throws SQLException {
+        try {
+            uResultSet.updateNull(columnIndex);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateNull", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public void updateBoolean(final int columnIndex, final boolean x) throws SQLException {
+        try {
+            uResultSet.updateBoolean(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBoolean", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateByte(final int columnIndex, final byte x) throws SQLException {
+        try {
+            uResultSet.updateByte(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateByte", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateShort(final int columnIndex, final short x) throws SQLException {
+        try {
+            uResultSet.updateShort(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateShort", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateInt(final int columnIndex, final int x) throws SQLException {
+        try {
+            uResultSet.updateInt(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateInt", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateLong(final int columnIndex, final long x) throws SQLException {
+        try {
+            uResultSet.updateLong(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateLong", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateFloat(final int columnIndex, final float x) throws SQLException {
+        try {
+            uResultSet.updateFloat(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateFloat", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateDouble(final int columnIndex, final double x) throws SQLException {
+        try {
+            uResultSet.updateDouble(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateDouble", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateBigDecimal(final int columnIndex, final BigDecimal x) throws SQLException {
+        try {
+            uResultSet.updateBigDecimal(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBigDecimal", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateString(final int columnIndex, final String x) throws SQLException {
+        try {
+            uResultSet.updateString(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateString", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateBytes(final int columnIndex, final byte[] x) throws SQLException {
+        try {
+            uResultSet.updateBytes(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBytes", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateDate(final int columnIndex, final Date x) throws SQLException {
+        try {
+            uResultSet.updateDate(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateDate", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateTime(final int columnIndex, final Time x) throws SQLException {
+        try {
+            uResultSet.updateTime(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateTime", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateTimestamp(final int columnIndex, final Timestamp x) throws SQLException {
+        try {
+            uResultSet.updateTimestamp(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateTimestamp", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(final int columnIndex, final InputStream x, final int length) throws SQLException {
+        try {
+            uResultSet.updateAsciiStream(columnIndex, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateAsciiStream", new Object[] { columnIndex, x, length }, e);
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(final int columnIndex, final InputStream x, final int length) throws SQLException {
+        try {
+            uResultSet.updateBinaryStream(columnIndex, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBinaryStream", new Object[] { columnIndex, x, length }, e);
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(final int columnIndex, final Reader x, final int length) throws SQLException {
+        try {
+            uResultSet.updateCharacterStream(columnIndex, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateCharacterStream", new Object[] { columnIndex, x, length }, e);
+        }
+    }
+
+    @Override
+    public void updateObject(final int columnIndex, final Object x, final int scaleOrLength) throws SQLException {
+        try {
+            uResultSet.updateObject(columnIndex, x, scaleOrLength);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateObject", new Object[] { columnIndex, x, scaleOrLength }, e);
+        }
+    }
+
+    @Override
+    public void updateObject(final int columnIndex, final Object x) throws SQLException {
+        try {
+            uResultSet.updateObject(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateObject", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateNull(final String columnLabel) throws SQLException {
+        try {
+            uResultSet.updateNull(columnLabel);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateNull", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public void updateBoolean(final String columnLabel, final boolean x) throws SQLException {
+        try {
+            uResultSet.updateBoolean(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBoolean", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateByte(final String columnLabel, final byte x) throws SQLException {
+        try {
+            uResultSet.updateByte(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateByte", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateShort(final String columnLabel, final short x) throws SQLException {
+        try {
+            uResultSet.updateShort(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateShort", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateInt(final String columnLabel, final int x) throws SQLException {
+        try {
+            uResultSet.updateInt(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateInt", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateLong(final String columnLabel, final long x) throws SQLException {
+        try {
+            uResultSet.updateLong(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateLong", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateFloat(final String columnLabel, final float x) throws SQLException {
+        try {
+            uResultSet.updateFloat(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateFloat", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateDouble(final String columnLabel, final double x) throws SQLException {
+        try {
+            uResultSet.updateDouble(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateDouble", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateBigDecimal(final String columnLabel, final BigDecimal x) throws SQLException {
+        try {
+            uResultSet.updateBigDecimal(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBigDecimal", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateString(final String columnLabel, final String x) throws SQLException {
+        try {
+            uResultSet.updateString(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateString", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateBytes(final String columnLabel, final byte[] x) throws SQLException {
+        try {
+            uResultSet.updateBytes(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBytes", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateDate(final String columnLabel, final Date x) throws SQLException {
+        try {
+            uResultSet.updateDate(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateDate", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateTime(final String columnLabel, final Time x) throws SQLException {
+        try {
+            uResultSet.updateTime(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateTime", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateTimestamp(final String columnLabel, final Timestamp x) throws SQLException {
+        try {
+            uResultSet.updateTimestamp(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateTimestamp", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(final String columnLabel, final InputStream x, final int length) throws SQLException {
+        try {
+            uResultSet.updateAsciiStream(columnLabel, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateAsciiStream", new Object[] { columnLabel, x, length }, e);
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(final String columnLabel, final InputStream x, final int length) throws SQLException {
+        try {
+            uResultSet.updateBinaryStream(columnLabel, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBinaryStream", new Object[] { columnLabel, x, length }, e);
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(final String columnLabel, final Reader reader, final int length) throws SQLException {
+        try {
+            uResultSet.updateCharacterStream(columnLabel, reader, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateCharacterStream", new Object[] { columnLabel, reader, length }, e);
+        }
+    }
+
+    @Override
+    public void updateObject(final String columnLabel, final Object x, final int scaleOrLength) throws SQLException {
+        try {
+            uResultSet.updateObject(columnLabel, x, scaleOrLength);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateObject", new Object[] { columnLabel, x, scaleOrLength }, e);
+        }
+    }
+
+    @Override
+    public void updateObject(final String columnLabel, final Object x) throws SQLException {
+        try {
+            uResultSet.updateObject(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateObject", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void insertRow() throws SQLException {
+        try {
+            uResultSet.insertRow();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("insertRow", null, e);
+        }
+    }
+
+    @Override
+    public void updateRow() throws SQLException {
+        try {
+            uResultSet.updateRow();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateRow", null, e);
+        }
+    }
+
+    @Override
+    public void deleteRow() throws SQLException {
+        try {
+            uResultSet.deleteRow();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("deleteRow", null, e);
+        }
+    }
+
+    @Override
+    public void refreshRow() throws SQLException {
+        try {
+            uResultSet.refreshRow();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("refreshRow", null, e);
+        }
+    }
+
+    @Override
+    public void cancelRowUpdates() throws SQLException {
+        try {
+            uResultSet.cancelRowUpdates();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("cancelRowUpdates", null, e);
+        }
+    }
+
+    @Override
+    public void moveToInsertRow() throws SQLException {
+        try {
+            uResultSet.moveToInsertRow();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("moveToInsertRow", null, e);
+        }
+    }
+
+    @Override
+    public void moveToCurrentRow() throws SQLException {
+        try {
+            uResultSet.moveToCurrentRow();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("moveToCurrentRow", null, e);
+        }
+    }
+
+    @Override
+    public Statement getStatement() throws SQLException {
+        try {
+            return uResultSet.getStatement();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getStatement", null, e);
+        }
+    }
+
+    @Override
+    public Object getObject(final int columnIndex, final Map<String, Class<?>> map) throws SQLException {
+        try {
+            final Object ret = uResultSet.getObject(columnIndex, map);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getObject", new Object[] { columnIndex, map }, e);
+        }
+    }
+
+    @Override
+    public Ref getRef(final int columnIndex) throws SQLException {
+        try {
+            final Ref ret = uResultSet.getRef(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getRef", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public Blob getBlob(final int columnIndex) throws SQLException {
+        try {
+            final Blob ret = uResultSet.getBlob(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getBlob", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public Clob getClob(final int columnIndex) throws SQLException {
+        try {
+            final Clob ret = uResultSet.getClob(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getClob", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public Array getArray(final int columnIndex) throws SQLException {
+        try {
+            final Array ret = uResultSet.getArray(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getArray", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public Object getObject(final String columnLabel, final Map<String, Class<?>> map) throws SQLException {
+        try {
+            final Object ret = uResultSet.getObject(columnLabel, map);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getObject", new Object[] { columnLabel, map }, e);
+        }
+    }
+
+    @Override
+    public Ref getRef(final String columnLabel) throws SQLException {
+        try {
+            final Ref ret = uResultSet.getRef(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getRef", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public Blob getBlob(final String columnLabel) throws SQLException {
+        try {
+            final Blob ret = uResultSet.getBlob(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getBlob", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public Clob getClob(final String columnLabel) throws SQLException {
+        try {
+            final Clob ret = uResultSet.getClob(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getClob", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public Array getArray(final String columnLabel) throws SQLException {
+        try {
+            final Array ret = uResultSet.getArray(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getArray", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public Date getDate(final int columnIndex, final Calendar cal) throws SQLException {
+        try {
+            final Date ret = uResultSet.getDate(columnIndex, cal);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getDate", new Object[] { columnIndex, cal }, e);
+        }
+    }
+
+    @Override
+    public Date getDate(final String columnLabel, final Calendar cal) throws SQLException {
+        try {
+            final Date ret = uResultSet.getDate(columnLabel, cal);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getDate", new Object[] { columnLabel, cal }, e);
+        }
+    }
+
+    @Override
+    public Time getTime(final int columnIndex, final Calendar cal) throws SQLException {
+        try {
+            final Time ret = uResultSet.getTime(columnIndex, cal);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getTime", new Object[] { columnIndex, cal }, e);
+        }
+    }
+
+    @Override
+    public Time getTime(final String columnLabel, final Calendar cal) throws SQLException {
+        try {
+            final Time ret = uResultSet.getTime(columnLabel, cal);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getTime", new Object[] { columnLabel, cal }, e);
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(final int columnIndex, final Calendar cal) throws SQLException {
+        try {
+            final Timestamp ret = uResultSet.getTimestamp(columnIndex, cal);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getTimestamp", new Object[] { columnIndex, cal }, e);
+        }
+    }
+
+    @Override
+    public Timestamp getTimestamp(final String columnLabel, final Calendar cal) throws SQLException {
+        try {
+            final Timestamp ret = uResultSet.getTimestamp(columnLabel, cal);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getTimestamp", new Object[] { columnLabel, cal }, e);
+        }
+    }
+
+    @Override
+    public URL getURL(final int columnIndex) throws SQLException {
+        try {
+            final URL ret = uResultSet.getURL(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getURL", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public URL getURL(final String columnLabel) throws SQLException {
+        try {
+            final URL ret = uResultSet.getURL(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getURL", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public void updateRef(final int columnIndex, final Ref x) throws SQLException {
+        try {
+            uResultSet.updateRef(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateRef", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateRef(final String columnLabel, final Ref x) throws SQLException {
+        try {
+            uResultSet.updateRef(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateRef", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateBlob(final int columnIndex, final Blob x) throws SQLException {
+        try {
+            uResultSet.updateBlob(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBlob", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateBlob(final String columnLabel, final Blob x) throws SQLException {
+        try {
+            uResultSet.updateBlob(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBlob", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateClob(final int columnIndex, final Clob x) throws SQLException {
+        try {
+            uResultSet.updateClob(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateClob", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateClob(final String columnLabel, final Clob x) throws SQLException {
+        try {
+            uResultSet.updateClob(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateClob", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateArray(final int columnIndex, final Array x) throws SQLException {
+        try {
+            uResultSet.updateArray(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateArray", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateArray(final String columnLabel, final Array x) throws SQLException {
+        try {
+            uResultSet.updateArray(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateArray", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public RowId getRowId(final int columnIndex) throws SQLException {
+        try {
+            final RowId ret = uResultSet.getRowId(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getRowId", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public RowId getRowId(final String columnLabel) throws SQLException {
+        try {
+            final RowId ret = uResultSet.getRowId(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getRowId", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public void updateRowId(final int columnIndex, final RowId x) throws SQLException {
+        try {
+            uResultSet.updateRowId(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateRowId", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateRowId(final String columnLabel, final RowId x) throws SQLException {
+        try {
+            uResultSet.updateRowId(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateRowId", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        try {
+            return uResultSet.getHoldability();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getHoldability", null, e);
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return mHandler.isClosed();
+    }
+
+    @Override
+    public void updateNString(final int columnIndex, final String nString) throws SQLException {
+        try {
+            uResultSet.updateNString(columnIndex, nString);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateNString", new Object[] { columnIndex, nString }, e);
+        }
+    }
+
+    @Override
+    public void updateNString(final String columnLabel, final String nString) throws SQLException {
+        try {
+            uResultSet.updateNString(columnLabel, nString);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateNString", new Object[] { columnLabel, nString }, e);
+        }
+    }
+
+    @Override
+    public void updateNClob(final int columnIndex, final NClob nClob) throws SQLException {
+        try {
+            uResultSet.updateNClob(columnIndex, nClob);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateNClob", new Object[] { columnIndex, nClob }, e);
+        }
+    }
+
+    @Override
+    public void updateNClob(final String columnLabel, final NClob nClob) throws SQLException {
+        try {
+            uResultSet.updateNClob(columnLabel, nClob);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateNClob", new Object[] { columnLabel, nClob }, e);
+        }
+    }
+
+    @Override
+    public NClob getNClob(final int columnIndex) throws SQLException {
+        try {
+            final NClob ret = uResultSet.getNClob(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getNClob", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public NClob getNClob(final String columnLabel) throws SQLException {
+        try {
+            final NClob ret = uResultSet.getNClob(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getNClob", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(final int columnIndex) throws SQLException {
+        try {
+            final SQLXML ret = uResultSet.getSQLXML(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getSQLXML", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public SQLXML getSQLXML(final String columnLabel) throws SQLException {
+        try {
+            final SQLXML ret = uResultSet.getSQLXML(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getSQLXML", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public void updateSQLXML(final int columnIndex, final SQLXML xmlObject) throws SQLException {
+        try {
+            uResultSet.updateSQLXML(columnIndex, xmlObject);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateSQLXML", new Object[] { columnIndex, xmlObject }, e);
+        }
+    }
+
+    @Override
+    public void updateSQLXML(final String columnLabel, final SQLXML xmlObject) throws SQLException {
+        try {
+            uResultSet.updateSQLXML(columnLabel, xmlObject);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateSQLXML", new Object[] { columnLabel, xmlObject }, e);
+        }
+    }
+
+    @Override
+    public String getNString(final int columnIndex) throws SQLException {
+        try {
+            final String ret = uResultSet.getNString(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getNString", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public String getNString(final String columnLabel) throws SQLException {
+        try {
+            final String ret = uResultSet.getNString(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getNString", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(final int columnIndex) throws SQLException {
+        try {
+            final Reader ret = uResultSet.getNCharacterStream(columnIndex);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getNCharacterStream", new Object[] { columnIndex }, e);
+        }
+    }
+
+    @Override
+    public Reader getNCharacterStream(final String columnLabel) throws SQLException {
+        try {
+            final Reader ret = uResultSet.getNCharacterStream(columnLabel);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getNCharacterStream", new Object[] { columnLabel }, e);
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(final int columnIndex, final Reader x, final long length) throws SQLException {
+        try {
+            uResultSet.updateNCharacterStream(columnIndex, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateNCharacterStream", new Object[] { columnIndex, x, length }, e);
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(final String columnLabel, final Reader reader, final long length) throws SQLException {
+        try {
+            uResultSet.updateNCharacterStream(columnLabel, reader, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateNCharacterStream", new Object[] { columnLabel, reader, length }, e);
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(final int columnIndex, final InputStream x, final long length) throws SQLException {
+        try {
+            uResultSet.updateAsciiStream(columnIndex, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateAsciiStream", new Object[] { columnIndex, x, length }, e);
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(final int columnIndex, final InputStream x, final long length) throws SQLException {
+        try {
+            uResultSet.updateBinaryStream(columnIndex, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBinaryStream", new Object[] { columnIndex, x, length }, e);
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(final int columnIndex, final Reader x, final long length) throws SQLException {
+        try {
+            uResultSet.updateCharacterStream(columnIndex, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateCharacterStream", new Object[] { columnIndex, x, length }, e);
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(final String columnLabel, final InputStream x, final long length) throws SQLException {
+        try {
+            uResultSet.updateAsciiStream(columnLabel, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateAsciiStream", new Object[] { columnLabel, x, length }, e);
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(final String columnLabel, final InputStream x, final long length) throws SQLException {
+        try {
+            uResultSet.updateBinaryStream(columnLabel, x, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBinaryStream", new Object[] { columnLabel, x, length }, e);
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(final String columnLabel, final Reader reader, final long length) throws SQLException {
+        try {
+            uResultSet.updateCharacterStream(columnLabel, reader, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateCharacterStream", new Object[] { columnLabel, reader, length }, e);
+        }
+    }
+
+    @Override
+    public void updateBlob(final int columnIndex, final InputStream inputStream, final long length) throws SQLException {
+        try {
+            uResultSet.updateBlob(columnIndex, inputStream, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBlob", new Object[] { columnIndex, inputStream, length }, e);
+        }
+    }
+
+    @Override
+    public void updateBlob(final String columnLabel, final InputStream inputStream, final long length) throws SQLException {
+        try {
+            uResultSet.updateBlob(columnLabel, inputStream, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBlob", new Object[] { columnLabel, inputStream, length }, e);
+        }
+    }
+
+    @Override
+    public void updateClob(final int columnIndex, final Reader reader, final long length) throws SQLException {
+        try {
+            uResultSet.updateClob(columnIndex, reader, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateClob", new Object[] { columnIndex, reader, length }, e);
+        }
+    }
+
+    @Override
+    public void updateClob(final String columnLabel, final Reader reader, final long length) throws SQLException {
+        try {
+            uResultSet.updateClob(columnLabel, reader, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateClob", new Object[] { columnLabel, reader, length }, e);
+        }
+    }
+
+    @Override
+    public void updateNClob(final int columnIndex, final Reader reader, final long length) throws SQLException {
+        try {
+            uResultSet.updateNClob(columnIndex, reader, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateNClob", new Object[] { columnIndex, reader, length }, e);
+        }
+    }
+
+    @Override
+    public void updateNClob(final String columnLabel, final Reader reader, final long length) throws SQLException {
+        try {
+            uResultSet.updateNClob(columnLabel, reader, length);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateNClob", new Object[] { columnLabel, reader, length }, e);
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(final int columnIndex, final Reader x) throws SQLException {
+        try {
+            uResultSet.updateNCharacterStream(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateNCharacterStream", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateNCharacterStream(final String columnLabel, final Reader reader) throws SQLException {
+        try {
+            uResultSet.updateNCharacterStream(columnLabel, reader);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateNCharacterStream", new Object[] { columnLabel, reader }, e);
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(final int columnIndex, final InputStream x) throws SQLException {
+        try {
+            uResultSet.updateAsciiStream(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateAsciiStream", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(final int columnIndex, final InputStream x) throws SQLException {
+        try {
+            uResultSet.updateBinaryStream(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBinaryStream", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(final int columnIndex, final Reader x) throws SQLException {
+        try {
+            uResultSet.updateCharacterStream(columnIndex, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateCharacterStream", new Object[] { columnIndex, x }, e);
+        }
+    }
+
+    @Override
+    public void updateAsciiStream(final String columnLabel, final InputStream x) throws SQLException {
+        try {
+            uResultSet.updateAsciiStream(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateAsciiStream", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateBinaryStream(final String columnLabel, final InputStream x) throws SQLException {
+        try {
+            uResultSet.updateBinaryStream(columnLabel, x);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBinaryStream", new Object[] { columnLabel, x }, e);
+        }
+    }
+
+    @Override
+    public void updateCharacterStream(final String columnLabel, final Reader reader) throws SQLException {
+        try {
+            uResultSet.updateCharacterStream(columnLabel, reader);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateCharacterStream", new Object[] { columnLabel, reader }, e);
+        }
+    }
+
+    @Override
+    public void updateBlob(final int columnIndex, final InputStream inputStream) throws SQLException {
+        try {
+            uResultSet.updateBlob(columnIndex, inputStream);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBlob", new Object[] { columnIndex, inputStream }, e);
+        }
+    }
+
+    @Override
+    public void updateBlob(final String columnLabel, final InputStream inputStream) throws SQLException {
+        try {
+            uResultSet.updateBlob(columnLabel, inputStream);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateBlob", new Object[] { columnLabel, inputStream }, e);
+        }
+    }
+
+    @Override
+    public void updateClob(final int columnIndex, final Reader reader) throws SQLException {
+        try {
+            uResultSet.updateClob(columnIndex, reader);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateClob", new Object[] { columnIndex, reader }, e);
+        }
+    }
+
+    @Override
+    public void updateClob(final String columnLabel, final Reader reader) throws SQLException {
+        try {
+            uResultSet.updateClob(columnLabel, reader);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateClob", new Object[] { columnLabel, reader }, e);
+        }
+    }
+
+    @Override
+    public void updateNClob(final int columnIndex, final Reader reader) throws SQLException {
+        try {
+            uResultSet.updateNClob(columnIndex, reader);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateNClob", new Object[] { columnIndex, reader }, e);
+        }
+    }
+
+    @Override
+    public void updateNClob(final String columnLabel, final Reader reader) throws SQLException {
+        try {
+            uResultSet.updateNClob(columnLabel, reader);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateNClob", new Object[] { columnLabel, reader }, e);
+        }
+    }
+
+    @Override
+    public <T> T getObject(final int columnIndex, final Class<T> type) throws SQLException {
+        try {
+            final T ret = uResultSet.getObject(columnIndex, type);
+            mHandler.handleValue(columnIndex, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getObject", new Object[] { columnIndex, type }, e);
+        }
+    }
+
+    @Override
+    public <T> T getObject(final String columnLabel, final Class<T> type) throws SQLException {
+        try {
+            final T ret = uResultSet.getObject(columnLabel, type);
+            mHandler.handleValue(columnLabel, ret);
+            return ret;
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("getObject", new Object[] { columnLabel, type }, e);
+        }
+    }
+
+    @Override
+    public void updateObject(final int columnIndex, final Object x, final SQLType targetSqlType, final int scaleOrLength) throws SQLException {
+        try {
+            uResultSet.updateObject(columnIndex, x, targetSqlType, scaleOrLength);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateObject", new Object[] { columnIndex, x, targetSqlType, scaleOrLength }, e);
+        }
+    }
+
+    @Override
+    public void updateObject(final String columnLabel, final Object x, final SQLType targetSqlType, final int scaleOrLength) throws SQLException {
+        try {
+            uResultSet.updateObject(columnLabel, x, targetSqlType, scaleOrLength);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateObject", new Object[] { columnLabel, x, targetSqlType, scaleOrLength }, e);
+        }
+    }
+
+    @Override
+    public void updateObject(final int columnIndex, final Object x, final SQLType targetSqlType) throws SQLException {
+        try {
+            uResultSet.updateObject(columnIndex, x, targetSqlType);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateObject", new Object[] { columnIndex, x, targetSqlType }, e);
+        }
+    }
+
+    @Override
+    public void updateObject(final String columnLabel, final Object x, final SQLType targetSqlType) throws SQLException {
+        try {
+            uResultSet.updateObject(columnLabel, x, targetSqlType);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("updateObject", new Object[] { columnLabel, x, targetSqlType }, e);
+        }
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        try {
+            return uResultSet.unwrap(iface);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("unwrap", new Object[] { iface }, e);
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        try {
+            return uResultSet.isWrapperFor(iface);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure("isWrapperFor", new Object[] { iface }, e);
+        }
+    }
+
+    @Override
+    public void checkClosed() {
+        mHandler.checkClosed(this);
+    }
+
+    @Override
+    public void closeImplicitly() {
+        mHandler.closeImplicitly();
+    }
+
+    @Override
+    public long getSize() {
+        return mHandler.getSize();
+    }
+
+    @Override
+    public int getItemCount() {
+        return mHandler.getItemCount();
+    }
+
+    @Override
+    public long getDuration() {
+        return mHandler.getDuration();
+    }
+
+    @Override
+    public long getDurationMicros() {
+        return mHandler.getDurationMicros();
+    }
+
+    @Override
+    public String dump() {
+        return mHandler.dump();
+    }
+
+    @Override
+    public String toString() {
+        return uResultSet.toString();
+    }
+
+}
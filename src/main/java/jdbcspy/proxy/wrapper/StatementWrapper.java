@@ -0,0 +1,681 @@
+package jdbcspy.proxy.wrapper;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+
+import jdbcspy.proxy.ProxyStatement;
+import jdbcspy.proxy.StatementStatistics;
+import jdbcspy.proxy.handler.AbstractStatementInvocationHandler;
+import jdbcspy.proxy.util.SqlFingerprint;
+
+/**
+ * The delegating statement wrapper. It calls the underlying statement directly and only calls into the
+ * {@link AbstractStatementInvocationHandler} where the statistics are gathered.
+ *
+ * @param <S> the type of the underlying statement
+ */
+public class StatementWrapper<S extends Statement> implements Statement, ProxyStatement, StatementStatistics {
+
+    /**
+     * the underlying statement
+     */
+    protected final S uStatement;
+    /**
+     * the statement handler
+     */
+    protected final AbstractStatementInvocationHandler mHandler;
+
+    /**
+     * Constructor.
+     *
+     * @param theStmt the original statement
+     * @param handler the statement handler
+     */
+    public StatementWrapper(final S theStmt, final AbstractStatementInvocationHandler handler) {
+        uStatement = theStmt;
+        mHandler = handler;
+    }
+
+    @Override
+    public ResultSet executeQuery(final String sql) throws SQLException {
+        try {
+            return (ResultSet) mHandler.handleExecute(this, "executeQuery", uStatement, sql, Statement::executeQuery);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "executeQuery", new Object[] { sql }, e);
+        }
+    }
+
+    @Override
+    public int executeUpdate(final String sql) throws SQLException {
+        try {
+            return (int) mHandler.handleExecute(this, "executeUpdate", uStatement, sql, Statement::executeUpdate);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "executeUpdate", new Object[] { sql }, e);
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            mHandler.handleClose(this, a -> {
+                uStatement.close();
+                return null;
+            }, null, true);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "close", null, e);
+        }
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        try {
+            return uStatement.getMaxFieldSize();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getMaxFieldSize", null, e);
+        }
+    }
+
+    @Override
+    public void setMaxFieldSize(final int max) throws SQLException {
+        try {
+            uStatement.setMaxFieldSize(max);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setMaxFieldSize", new Object[] { max }, e);
+        }
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        try {
+            return uStatement.getMaxRows();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getMaxRows", null, e);
+        }
+    }
+
+    @Override
+    public void setMaxRows(final int max) throws SQLException {
+        try {
+            uStatement.setMaxRows(max);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setMaxRows", new Object[] { max }, e);
+        }
+    }
+
+    @Override
+    public void setEscapeProcessing(final boolean enable) throws SQLException {
+        try {
+            uStatement.setEscapeProcessing(enable);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setEscapeProcessing", new Object[] { enable }, e);
+        }
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        try {
+            return uStatement.getQueryTimeout();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getQueryTimeout", null, e);
+        }
+    }
+
+    @Override
+    public void setQueryTimeout(final int seconds) throws SQLException {
+        try {
+            uStatement.setQueryTimeout(seconds);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setQueryTimeout", new Object[] { seconds }, e);
+        }
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        try {
+            uStatement.cancel();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "cancel", null, e);
+        }
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        try {
+            return uStatement.getWarnings();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getWarnings", null, e);
+        }
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        try {
+            uStatement.clearWarnings();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "clearWarnings", null, e);
+        }
+    }
+
+    @Override
+    public void setCursorName(final String name) throws SQLException {
+        try {
+            uStatement.setCursorName(name);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setCursorName", new Object[] { name }, e);
+        }
+    }
+
+    @Override
+    public boolean execute(final String sql) throws SQLException {
+        try {
+            return (boolean) mHandler.handleExecute(this, "execute", uStatement, sql, Statement::execute);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "execute", new Object[] { sql }, e);
+        }
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        try {
+            return (ResultSet) mHandler.handleExecute(this, "getResultSet", uStatement, null, (stmt, sql) -> stmt.getResultSet());
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getResultSet", null, e);
+        }
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        try {
+            return uStatement.getUpdateCount();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getUpdateCount", null, e);
+        }
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        try {
+            return uStatement.getMoreResults();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getMoreResults", null, e);
+        }
+    }
+
+    @Override
+    public void setFetchDirection(final int direction) throws SQLException {
+        try {
+            uStatement.setFetchDirection(direction);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setFetchDirection", new Object[] { direction }, e);
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        try {
+            return uStatement.getFetchDirection();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getFetchDirection", null, e);
+        }
+    }
+
+    @Override
+    public void setFetchSize(final int rows) throws SQLException {
+        try {
+            uStatement.setFetchSize(rows);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setFetchSize", new Object[] { rows }, e);
+        }
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        try {
+            return uStatement.getFetchSize();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getFetchSize", null, e);
+        }
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        try {
+            return uStatement.getResultSetConcurrency();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getResultSetConcurrency", null, e);
+        }
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        try {
+            return uStatement.getResultSetType();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getResultSetType", null, e);
+        }
+    }
+
+    @Override
+    public void addBatch(final String sql) throws SQLException {
+        try {
+            mHandler.handleAddBatch();
+            uStatement.addBatch(sql);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "addBatch", new Object[] { sql }, e);
+        }
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        try {
+            uStatement.clearBatch();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "clearBatch", null, e);
+        }
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        try {
+            return (int[]) mHandler.handleExecute(this, "executeBatch", uStatement, null, (stmt, sql) -> stmt.executeBatch());
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "executeBatch", null, e);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        try {
+            return uStatement.getConnection();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getConnection", null, e);
+        }
+    }
+
+    @Override
+    public boolean getMoreResults(final int current) throws SQLException {
+        try {
+            return uStatement.getMoreResults(current);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getMoreResults", new Object[] { current }, e);
+        }
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        try {
+            return uStatement.getGeneratedKeys();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getGeneratedKeys", null, e);
+        }
+    }
+
+    @Override
+    public int executeUpdate(final String sql, final int autoGeneratedKeys) throws SQLException {
+        try {
+            return (int) mHandler.handleExecute(this, "executeUpdate", uStatement, sql, (stmt, s) -> stmt.executeUpdate(s, autoGeneratedKeys));
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "executeUpdate", new Object[] { sql, autoGeneratedKeys }, e);
+        }
+    }
+
+    @Override
+    public int executeUpdate(final String sql, final int[] columnIndexes) throws SQLException {
+        try {
+            return (int) mHandler.handleExecute(this, "executeUpdate", uStatement, sql, (stmt, s) -> stmt.executeUpdate(s, columnIndexes));
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "executeUpdate", new Object[] { sql, columnIndexes }, e);
+        }
+    }
+
+    @Override
+    public int executeUpdate(final String sql, final String[] columnNames) throws SQLException {
+        try {
+            return (int) mHandler.handleExecute(this, "executeUpdate", uStatement, sql, (stmt, s) -> stmt.executeUpdate(s, columnNames));
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "executeUpdate", new Object[] { sql, columnNames }, e);
+        }
+    }
+
+    @Override
+    public boolean execute(final String sql, final int autoGeneratedKeys) throws SQLException {
+        try {
+            return (boolean) mHandler.handleExecute(this, "execute", uStatement, sql, (stmt, s) -> stmt.execute(s, autoGeneratedKeys));
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "execute", new Object[] { sql, autoGeneratedKeys }, e);
+        }
+    }
+
+    @Override
+    public boolean execute(final String sql, final int[] columnIndexes) throws SQLException {
+        try {
+            return (boolean) mHandler.handleExecute(this, "execute", uStatement, sql, (stmt, s) -> stmt.execute(s, columnIndexes));
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "execute", new Object[] { sql, columnIndexes }, e);
+        }
+    }
+
+    @Override
+    public boolean execute(final String sql, final String[] columnNames) throws SQLException {
+        try {
+            return (boolean) mHandler.handleExecute(this, "execute", uStatement, sql, (stmt, s) -> stmt.execute(s, columnNames));
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "execute", new Object[] { sql, columnNames }, e);
+        }
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        try {
+            return uStatement.getResultSetHoldability();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getResultSetHoldability", null, e);
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return mHandler.isClosed();
+    }
+
+    @Override
+    public void setPoolable(final boolean poolable) throws SQLException {
+        try {
+            uStatement.setPoolable(poolable);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setPoolable", new Object[] { poolable }, e);
+        }
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        try {
+            return uStatement.isPoolable();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "isPoolable", null, e);
+        }
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        try {
+            uStatement.closeOnCompletion();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "closeOnCompletion", null, e);
+        }
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        try {
+            return uStatement.isCloseOnCompletion();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "isCloseOnCompletion", null, e);
+        }
+    }
+
+    @Override
+    public long getLargeUpdateCount() throws SQLException {
+        try {
+            return uStatement.getLargeUpdateCount();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getLargeUpdateCount", null, e);
+        }
+    }
+
+    @Override
+    public void setLargeMaxRows(final long max) throws SQLException {
+        try {
+            uStatement.setLargeMaxRows(max);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "setLargeMaxRows", new Object[] { max }, e);
+        }
+    }
+
+    @Override
+    public long getLargeMaxRows() throws SQLException {
+        try {
+            return uStatement.getLargeMaxRows();
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "getLargeMaxRows", null, e);
+        }
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        try {
+            return (long[]) mHandler.handleExecute(this, "executeLargeBatch", uStatement, null, (stmt, sql) -> stmt.executeLargeBatch());
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "executeLargeBatch", null, e);
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(final String sql) throws SQLException {
+        try {
+            return (long) mHandler.handleExecute(this, "executeLargeUpdate", uStatement, sql, Statement::executeLargeUpdate);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "executeLargeUpdate", new Object[] { sql }, e);
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(final String sql, final int autoGeneratedKeys) throws SQLException {
+        try {
+            return (long) mHandler.handleExecute(this, "executeLargeUpdate", uStatement, sql, (stmt, s) -> stmt.executeLargeUpdate(s, autoGeneratedKeys));
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "executeLargeUpdate", new Object[] { sql, autoGeneratedKeys }, e);
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(final String sql, final int[] columnIndexes) throws SQLException {
+        try {
+            return (long) mHandler.handleExecute(this, "executeLargeUpdate", uStatement, sql, (stmt, s) -> stmt.executeLargeUpdate(s, columnIndexes));
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "executeLargeUpdate", new Object[] { sql, columnIndexes }, e);
+        }
+    }
+
+    @Override
+    public long executeLargeUpdate(final String sql, final String[] columnNames) throws SQLException {
+        try {
+            return (long) mHandler.handleExecute(this, "executeLargeUpdate", uStatement, sql, (stmt, s) -> stmt.executeLargeUpdate(s, columnNames));
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "executeLargeUpdate", new Object[] { sql, columnNames }, e);
+        }
+    }
+
+    @Override
+    public String enquoteLiteral(final String val) throws SQLException {
+        try {
+            return uStatement.enquoteLiteral(val);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "enquoteLiteral", new Object[] { val }, e);
+        }
+    }
+
+    @Override
+    public String enquoteIdentifier(final String identifier, final boolean alwaysQuote) throws SQLException {
+        try {
+            return uStatement.enquoteIdentifier(identifier, alwaysQuote);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "enquoteIdentifier", new Object[] { identifier, alwaysQuote }, e);
+        }
+    }
+
+    @Override
+    public boolean isSimpleIdentifier(final String identifier) throws SQLException {
+        try {
+            return uStatement.isSimpleIdentifier(identifier);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "isSimpleIdentifier", new Object[] { identifier }, e);
+        }
+    }
+
+    @Override
+    public String enquoteNCharLiteral(final String val) throws SQLException {
+        try {
+            return uStatement.enquoteNCharLiteral(val);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "enquoteNCharLiteral", new Object[] { val }, e);
+        }
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        try {
+            return uStatement.unwrap(iface);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "unwrap", new Object[] { iface }, e);
+        }
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        try {
+            return uStatement.isWrapperFor(iface);
+        }
+        catch (final SQLException e) {
+            throw mHandler.handleFailure(this, "isWrapperFor", new Object[] { iface }, e);
+        }
+    }
+
+    @Override
+    public void checkClosed() {
+        mHandler.checkClosed(this);
+    }
+
+    @Override
+    public boolean endTx() {
+        return mHandler.endTx(this);
+    }
+
+    @Override
+    public void closeImplicitly() {
+        mHandler.closeImplicitly(this);
+    }
+
+    @Override
+    public String getExecuteCaller() {
+        return mHandler.getExecuteCaller();
+    }
+
+    @Override
+    public long getExecutionTimeMicros() {
+        return mHandler.getExecutionTimeMicros();
+    }
+
+    @Override
+    public long getExecutionTime() {
+        return mHandler.getExecutionTime();
+    }
+
+    @Override
+    public long getExecutionStartTime() {
+        return mHandler.getExecutionStartTime();
+    }
+
+    @Override
+    public String getSQL() {
+        return mHandler.getSQL();
+    }
+
+    @Override
+    public String getSQLTemplate() {
+        return mHandler.getSQLTemplate();
+    }
+
+    @Override
+    public SqlFingerprint getFingerprint() {
+        return mHandler.getFingerprint();
+    }
+
+    @Override
+    public long getSize() {
+        return mHandler.getSize();
+    }
+
+    @Override
+    public int getItemCount() {
+        return mHandler.getItemCount();
+    }
+
+    @Override
+    public long getDuration() {
+        return mHandler.getDuration();
+    }
+
+    @Override
+    public long getDurationMicros() {
+        return mHandler.getDurationMicros();
+    }
+
+    @Override
+    public String dump() {
+        return mHandler.dump();
+    }
+
+    @Override
+    public String toString() {
+        return mHandler.toString();
+    }
+
+}
@@ -0,0 +1,114 @@
+package jdbcspy.proxy;
+
+import static org.testng.Assert.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import jdbcspy.ClientProperties;
+import jdbcspy.stub.StubDriver;
+
+/**
+ * A steady state executeQuery of an open prepared statement through the delegating wrappers allocates nothing, with the
+ * listeners of dbinit.xml and without the leak detection. The allocations are read from the thread allocation counter,
+ * the counter the gc profiler of the AllocationBenchmark reads.
+ */
+public class AllocationTest {
+
+    /**
+     * the executions before the measurement
+     */
+    private static final int WARMUP = 20_000;
+    /**
+     * the measured executions per round
+     */
+    private static final int COUNT = 10_000;
+    /**
+     * the measured rounds, the least allocating one counts
+     */
+    private static final int ROUNDS = 5;
+
+    /**
+     * the allocation counter
+     */
+    private ThreadMXBean mThreads;
+
+    /**
+     * Configure the delegating wrappers without the leak detection.
+     */
+    @BeforeMethod
+    public void configure() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threads) || !threads.isThreadAllocatedMemorySupported()) {
+            throw new SkipException("the thread allocation counter is not supported");
+        }
+        mThreads = threads;
+        mThreads.setThreadAllocatedMemoryEnabled(true);
+
+        ClientProperties.setProperty("DelegatingWrappers", true);
+        ClientProperties.setProperty("LeakDetection", false);
+    }
+
+    /**
+     * Restore the configuration.
+     */
+    @AfterMethod
+    public void reset() {
+        ClientProperties.setProperty("DelegatingWrappers", false);
+        ClientProperties.setProperty("LeakDetection", true);
+    }
+
+    /**
+     * Execute the prepared statement and read its row.
+     *
+     * @throws SQLException on error
+     */
+    @Test
+    public void executeQuery() throws SQLException {
+        try (Connection c = new ConnectionFactory().getProxyConnection(StubDriver.connect(1, 6));
+             PreparedStatement stmt = c.prepareStatement("select c1, c2, c3, c4, c5, c6 from stub where c1 = ?")) {
+            stmt.setInt(1, 42);
+
+            long rows = execute(stmt, WARMUP);
+            long allocated = Long.MAX_VALUE;
+            for (int i = 0; i < ROUNDS; i++) {
+                final long before = mThreads.getCurrentThreadAllocatedBytes();
+                rows += execute(stmt, COUNT);
+                allocated = Math.min(allocated, mThreads.getCurrentThreadAllocatedBytes() - before);
+            }
+
+            assertEquals(rows, WARMUP + (long) ROUNDS * COUNT);
+            assertEquals(allocated / COUNT, 0, "bytes per executeQuery");
+        }
+    }
+
+    /**
+     * Execute the prepared statement repeatedly.
+     *
+     * @param stmt  the statement
+     * @param count the number of executions
+     * @return the number of rows read
+     * @throws SQLException on error
+     */
+    private static long execute(final PreparedStatement stmt, final int count) throws SQLException {
+        long rows = 0;
+        for (int i = 0; i < count; i++) {
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rs.getInt(1);
+                    rows++;
+                }
+            }
+        }
+        return rows;
+    }
+}
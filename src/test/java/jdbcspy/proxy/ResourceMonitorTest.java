@@ -0,0 +1,137 @@
+package jdbcspy.proxy;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import jdbcspy.ClientProperties;
+
+/**
+ * The resources closed implicitly with their parent are no longer monitored, so they are not reported as leaks once
+ * they become unreachable. Without the LeakDetection nothing is monitored at all.
+ */
+public class ResourceMonitorTest {
+
+    /**
+     * the url of the proxied stub driver
+     */
+    private static final String URL = "proxy:jdbc:stub:rows=2";
+    /**
+     * the number of statements
+     */
+    private static final int COUNT = 10;
+
+    /**
+     * The reflective proxies and the delegating wrappers.
+     *
+     * @return the DelegatingWrappers values
+     */
+    @DataProvider(name = "wrappers")
+    public Object[][] wrappers() {
+        return new Object[][] { { false }, { true } };
+    }
+
+    /**
+     * Restore the configuration.
+     */
+    @AfterMethod
+    public void reset() {
+        ClientProperties.setProperty("DelegatingWrappers", false);
+        ClientProperties.setProperty("LeakDetection", true);
+    }
+
+    /**
+     * Closing a statement closes the result sets the application did not close.
+     *
+     * @param wrappers use the delegating wrappers
+     * @throws SQLException on error
+     */
+    @Test(dataProvider = "wrappers")
+    public void statementCloseClosesResultSets(final boolean wrappers) throws SQLException {
+        ClientProperties.setProperty("DelegatingWrappers", wrappers);
+        final int openResultSets = ResourceMonitor.getOpenCount(ResourceMonitor.Kind.RESULT_SET);
+
+        try (Connection c = DriverManager.getConnection(URL)) {
+            for (int i = 0; i < COUNT; i++) {
+                final Statement stmt = c.createStatement();
+                final ResultSet rs = stmt.executeQuery("select " + i);
+                rs.next();
+                assertEquals(ResourceMonitor.getOpenCount(ResourceMonitor.Kind.RESULT_SET), openResultSets + 1);
+
+                stmt.close();
+                assertTrue(rs.isClosed());
+                assertEquals(ResourceMonitor.getOpenCount(ResourceMonitor.Kind.RESULT_SET), openResultSets);
+            }
+        }
+    }
+
+    /**
+     * Closing a connection closes the statements and their result sets the application did not close.
+     *
+     * @param wrappers use the delegating wrappers
+     * @throws SQLException on error
+     */
+    @Test(dataProvider = "wrappers")
+    public void connectionCloseClosesStatements(final boolean wrappers) throws SQLException {
+        ClientProperties.setProperty("DelegatingWrappers", wrappers);
+        final int openStatements = ResourceMonitor.getOpenCount(ResourceMonitor.Kind.STATEMENT);
+        final int openResultSets = ResourceMonitor.getOpenCount(ResourceMonitor.Kind.RESULT_SET);
+        final PreparedStatement[] statements = new PreparedStatement[COUNT];
+        final ResultSet[] resultSets = new ResultSet[COUNT];
+
+        final Connection c = DriverManager.getConnection(URL);
+        for (int i = 0; i < COUNT; i++) {
+            statements[i] = c.prepareStatement("select ?");
+            statements[i].setInt(1, i);
+            resultSets[i] = statements[i].executeQuery();
+            if (i % 2 == 0) {
+                resultSets[i].close();
+            }
+        }
+        assertEquals(ResourceMonitor.getOpenCount(ResourceMonitor.Kind.STATEMENT), openStatements + COUNT);
+        assertEquals(ResourceMonitor.getOpenCount(ResourceMonitor.Kind.RESULT_SET), openResultSets + COUNT / 2);
+
+        c.close();
+        for (int i = 0; i < COUNT; i++) {
+            assertTrue(statements[i].isClosed());
+            assertTrue(resultSets[i].isClosed());
+        }
+        assertEquals(ResourceMonitor.getOpenCount(ResourceMonitor.Kind.STATEMENT), openStatements);
+        assertEquals(ResourceMonitor.getOpenCount(ResourceMonitor.Kind.RESULT_SET), openResultSets);
+    }
+
+    /**
+     * Without the leak detection nothing is registered at the monitor.
+     *
+     * @param wrappers use the delegating wrappers
+     * @throws SQLException on error
+     */
+    @Test(dataProvider = "wrappers")
+    public void leakDetectionOff(final boolean wrappers) throws SQLException {
+        ClientProperties.setProperty("DelegatingWrappers", wrappers);
+        ClientProperties.setProperty("LeakDetection", false);
+        final int openConnections = ResourceMonitor.getOpenCount(ResourceMonitor.Kind.CONNECTION);
+        final int openStatements = ResourceMonitor.getOpenCount(ResourceMonitor.Kind.STATEMENT);
+        final int openResultSets = ResourceMonitor.getOpenCount(ResourceMonitor.Kind.RESULT_SET);
+
+        try (Connection c = DriverManager.getConnection(URL); PreparedStatement stmt = c.prepareStatement("select ?")) {
+            stmt.setInt(1, 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                rs.next();
+                assertEquals(ResourceMonitor.getOpenCount(ResourceMonitor.Kind.CONNECTION), openConnections);
+                assertEquals(ResourceMonitor.getOpenCount(ResourceMonitor.Kind.STATEMENT), openStatements);
+                assertEquals(ResourceMonitor.getOpenCount(ResourceMonitor.Kind.RESULT_SET), openResultSets);
+            }
+        }
+    }
+}
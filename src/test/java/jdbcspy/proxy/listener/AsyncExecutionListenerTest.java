@@ -0,0 +1,137 @@
+package jdbcspy.proxy.listener;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+/**
+ * The asynchronous dispatch keeps the listeners consistent when it drops events and wakes its parked consumer.
+ */
+public class AsyncExecutionListenerTest {
+
+    /**
+     * the maximum wait for the consumer in ms
+     */
+    private static final long TIMEOUT = 5000;
+
+    /**
+     * An end is only dropped with its start and a close is never dropped.
+     *
+     * @throws InterruptedException on interrupt
+     */
+    @Test
+    public void dropStartWithEnd() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Set<ExecutionEvent> running = ConcurrentHashMap.newKeySet();
+        final AtomicInteger closed = new AtomicInteger();
+        final CountDownLatch cleared = new CountDownLatch(1);
+        final ExecutionEvent blocking = new ExecutionEvent(null);
+
+        final ExecutionListener recorder = new ExecutionAdapter() {
+
+            @Override
+            public void startExecution(final ExecutionEvent event) {
+                running.add(event);
+                if (event == blocking) {
+                    try {
+                        release.await();
+                    }
+                    catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+
+            @Override
+            public void endExecution(final ExecutionEvent event) {
+                running.remove(event);
+            }
+
+            @Override
+            public void closeStatement(final CloseEvent event) {
+                closed.incrementAndGet();
+            }
+
+            @Override
+            public void clearStatistics() {
+                cleared.countDown();
+            }
+        };
+        // 8 slots, 2 of them reserved
+        final AsyncExecutionListener async = new AsyncExecutionListener(List.of(recorder), 8, false);
+
+        async.startExecution(blocking);
+        awaitPending(async, 0);
+
+        // the consumer is blocked, the starts of three executions fit before the reserve
+        for (int i = 0; i < 3; i++) {
+            final ExecutionEvent event = new ExecutionEvent(null);
+            async.startExecution(event);
+            async.endExecution(event);
+        }
+        assertEquals(async.getDroppedCount(), 0);
+
+        final ExecutionEvent dropped = new ExecutionEvent(null);
+        async.startExecution(dropped);
+        async.endExecution(dropped);
+        async.closeStatement(new CloseEvent(null));
+        assertEquals(async.getDroppedCount(), 2);
+        assertEquals(async.getPendingCount(), 7);
+
+        release.countDown();
+        async.endExecution(blocking);
+        // the events are dispatched in order
+        async.clearStatistics();
+        assertTrue(cleared.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        assertTrue(running.isEmpty(), "running " + running);
+        assertEquals(closed.get(), 1);
+    }
+
+    /**
+     * An event published while the consumer is parked wakes it up.
+     *
+     * @throws InterruptedException on interrupt
+     */
+    @Test
+    public void wakeParkedConsumer() throws InterruptedException {
+        final CountDownLatch cleared = new CountDownLatch(1);
+        final ExecutionListener recorder = new ExecutionAdapter() {
+
+            @Override
+            public void clearStatistics() {
+                cleared.countDown();
+            }
+        };
+        final AsyncExecutionListener async = new AsyncExecutionListener(List.of(recorder), 8, false);
+
+        // the consumer parks after a few idle rounds
+        Thread.sleep(100);
+        async.clearStatistics();
+
+        assertTrue(cleared.await(TIMEOUT, TimeUnit.MILLISECONDS), "the parked consumer was not woken up");
+    }
+
+    /**
+     * Wait until the consumer has taken the events.
+     *
+     * @param async   the dispatcher
+     * @param pending the expected number of pending events
+     * @throws InterruptedException on interrupt
+     */
+    private static void awaitPending(final AsyncExecutionListener async, final long pending) throws InterruptedException {
+        final long end = System.currentTimeMillis() + TIMEOUT;
+        while (async.getPendingCount() != pending && System.currentTimeMillis() < end) {
+            Thread.sleep(1);
+        }
+        assertEquals(async.getPendingCount(), pending);
+    }
+}
@@ -0,0 +1,69 @@
+package jdbcspy.proxy.wrapper;
+
+import static org.testng.Assert.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import jdbcspy.ClientProperties;
+import jdbcspy.proxy.ResultSetStatistics;
+
+/**
+ * The delegating wrappers estimate the sizes of the primitive values from the column meta data, as the reflective
+ * proxies do.
+ */
+public class ResultSetWrapperTest {
+
+    /**
+     * the url of the proxied stub driver: a DECIMAL(12,2), an INTEGER and a VARCHAR(255) column named C1 to C3
+     */
+    private static final String URL = "proxy:jdbc:stub:rows=3;columns=3;types=DECIMAL,INTEGER,VARCHAR";
+
+    /**
+     * The reflective proxies and the delegating wrappers.
+     *
+     * @return the DelegatingWrappers values
+     */
+    @DataProvider(name = "wrappers")
+    public Object[][] wrappers() {
+        return new Object[][] { { false }, { true } };
+    }
+
+    /**
+     * Restore the configuration.
+     */
+    @AfterMethod
+    public void reset() {
+        ClientProperties.setProperty("DelegatingWrappers", false);
+        ClientProperties.setProperty("EnableSizeEvaluation", false);
+    }
+
+    /**
+     * A fixed size column is counted by its declared size, any other column by the size of the primitive type.
+     *
+     * @param wrappers use the delegating wrappers
+     * @throws SQLException on error
+     */
+    @Test(dataProvider = "wrappers")
+    public void primitiveSizes(final boolean wrappers) throws SQLException {
+        ClientProperties.setProperty("DelegatingWrappers", wrappers);
+        ClientProperties.setProperty("EnableSizeEvaluation", true);
+
+        try (Connection c = DriverManager.getConnection(URL); Statement stmt = c.createStatement(); ResultSet rs = stmt.executeQuery("select c1, c2, c3")) {
+            while (rs.next()) {
+                rs.getInt(1);
+                rs.getInt("C2");
+                rs.getLong(3);
+            }
+            // 3 rows of DECIMAL(12) 8 bytes, INTEGER 4 bytes and a long in a VARCHAR 8 bytes
+            assertEquals(((ResultSetStatistics) rs).getSize(), 3 * (8 + 4 + 8));
+        }
+    }
+}
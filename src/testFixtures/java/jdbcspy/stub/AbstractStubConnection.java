@@ -0,0 +1,307 @@
+package jdbcspy.stub;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * A connection implementing every method by throwing a SQLFeatureNotSupportedException.
+ */
+public abstract class AbstractStubConnection implements Connection {
+
+    /**
+     * Create the exception of an unsupported method.
+     *
+     * @param method the method
+     * @return the exception
+     */
+    static SQLFeatureNotSupportedException unsupported(final String method) {
+        return new SQLFeatureNotSupportedException(method + " is not supported by the stub driver");
+    }
+
+    @Override
+    public void abort(final Executor executor) throws SQLException {
+        throw unsupported("abort");
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        throw unsupported("clearWarnings");
+    }
+
+    @Override
+    public void close() throws SQLException {
+        throw unsupported("close");
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        throw unsupported("commit");
+    }
+
+    @Override
+    public Array createArrayOf(final String typeName, final Object[] elements) throws SQLException {
+        throw unsupported("createArrayOf");
+    }
+
+    @Override
+    public Blob createBlob() throws SQLException {
+        throw unsupported("createBlob");
+    }
+
+    @Override
+    public Clob createClob() throws SQLException {
+        throw unsupported("createClob");
+    }
+
+    @Override
+    public NClob createNClob() throws SQLException {
+        throw unsupported("createNClob");
+    }
+
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+        throw unsupported("createSQLXML");
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        throw unsupported("createStatement");
+    }
+
+    @Override
+    public Statement createStatement(final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability) throws SQLException {
+        throw unsupported("createStatement");
+    }
+
+    @Override
+    public Statement createStatement(final int resultSetType, final int resultSetConcurrency) throws SQLException {
+        throw unsupported("createStatement");
+    }
+
+    @Override
+    public Struct createStruct(final String typeName, final Object[] attributes) throws SQLException {
+        throw unsupported("createStruct");
+    }
+
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+        throw unsupported("getAutoCommit");
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+        throw unsupported("getCatalog");
+    }
+
+    @Override
+    public Properties getClientInfo() throws SQLException {
+        throw unsupported("getClientInfo");
+    }
+
+    @Override
+    public String getClientInfo(final String name) throws SQLException {
+        throw unsupported("getClientInfo");
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        throw unsupported("getHoldability");
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+        throw unsupported("getMetaData");
+    }
+
+    @Override
+    public int getNetworkTimeout() throws SQLException {
+        throw unsupported("getNetworkTimeout");
+    }
+
+    @Override
+    public String getSchema() throws SQLException {
+        throw unsupported("getSchema");
+    }
+
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+        throw unsupported("getTransactionIsolation");
+    }
+
+    @Override
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+        throw unsupported("getTypeMap");
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        throw unsupported("getWarnings");
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        throw unsupported("isClosed");
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        throw unsupported("isReadOnly");
+    }
+
+    @Override
+    public boolean isValid(final int timeout) throws SQLException {
+        throw unsupported("isValid");
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        throw unsupported("isWrapperFor");
+    }
+
+    @Override
+    public String nativeSQL(final String sql) throws SQLException {
+        throw unsupported("nativeSQL");
+    }
+
+    @Override
+    public CallableStatement prepareCall(final String sql, final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability) throws SQLException {
+        throw unsupported("prepareCall");
+    }
+
+    @Override
+    public CallableStatement prepareCall(final String sql, final int resultSetType, final int resultSetConcurrency) throws SQLException {
+        throw unsupported("prepareCall");
+    }
+
+    @Override
+    public CallableStatement prepareCall(final String sql) throws SQLException {
+        throw unsupported("prepareCall");
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql, final int[] columnIndexes) throws SQLException {
+        throw unsupported("prepareStatement");
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql, final String[] columnNames) throws SQLException {
+        throw unsupported("prepareStatement");
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql, final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability) throws SQLException {
+        throw unsupported("prepareStatement");
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql, final int resultSetType, final int resultSetConcurrency) throws SQLException {
+        throw unsupported("prepareStatement");
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql, final int autoGeneratedKeys) throws SQLException {
+        throw unsupported("prepareStatement");
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql) throws SQLException {
+        throw unsupported("prepareStatement");
+    }
+
+    @Override
+    public void releaseSavepoint(final Savepoint savepoint) throws SQLException {
+        throw unsupported("releaseSavepoint");
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        throw unsupported("rollback");
+    }
+
+    @Override
+    public void rollback(final Savepoint savepoint) throws SQLException {
+        throw unsupported("rollback");
+    }
+
+    @Override
+    public void setAutoCommit(final boolean autoCommit) throws SQLException {
+        throw unsupported("setAutoCommit");
+    }
+
+    @Override
+    public void setCatalog(final String catalog) throws SQLException {
+        throw unsupported("setCatalog");
+    }
+
+    @Override
+    public void setClientInfo(final String name, final String value) throws SQLClientInfoException {
+        throw new SQLClientInfoException("setClientInfo is not supported by the stub driver", null);
+    }
+
+    @Override
+    public void setClientInfo(final Properties properties) throws SQLClientInfoException {
+        throw new SQLClientInfoException("setClientInfo is not supported by the stub driver", null);
+    }
+
+    @Override
+    public void setHoldability(final int holdability) throws SQLException {
+        throw unsupported("setHoldability");
+    }
+
+    @Override
+    public void setNetworkTimeout(final Executor executor, final int milliseconds) throws SQLException {
+        throw unsupported("setNetworkTimeout");
+    }
+
+    @Override
+    public void setReadOnly(final boolean readOnly) throws SQLException {
+        throw unsupported("setReadOnly");
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        throw unsupported("setSavepoint");
+    }
+
+    @Override
+    public Savepoint setSavepoint(final String name) throws SQLException {
+        throw unsupported("setSavepoint");
+    }
+
+    @Override
+    public void setSchema(final String schema) throws SQLException {
+        throw unsupported("setSchema");
+    }
+
+    @Override
+    public void setTransactionIsolation(final int level) throws SQLException {
+        throw unsupported("setTransactionIsolation");
+    }
+
+    @Override
+    public void setTypeMap(final Map<String, Class<?>> map) throws SQLException {
+        throw unsupported("setTypeMap");
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        throw unsupported("unwrap");
+    }
+}
@@ -0,0 +1,314 @@
+package jdbcspy.stub;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+/**
+ * A prepared statement implementing every method of PreparedStatement that a plain statement lacks by throwing a
+ * SQLFeatureNotSupportedException.
+ */
+public abstract class AbstractStubPreparedStatement extends StubStatement implements PreparedStatement {
+
+    /**
+     * Constructor.
+     *
+     * @param connection the connection
+     * @param config     the settings
+     */
+    protected AbstractStubPreparedStatement(final StubConnection connection, final StubConfig config) {
+        super(connection, config);
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        throw unsupported("addBatch");
+    }
+
+    @Override
+    public void clearParameters() throws SQLException {
+        throw unsupported("clearParameters");
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        throw unsupported("execute");
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        throw unsupported("executeQuery");
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        throw unsupported("executeUpdate");
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        throw unsupported("getMetaData");
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData() throws SQLException {
+        throw unsupported("getParameterMetaData");
+    }
+
+    @Override
+    public void setArray(final int parameterIndex, final Array x) throws SQLException {
+        throw unsupported("setArray");
+    }
+
+    @Override
+    public void setAsciiStream(final int parameterIndex, final InputStream x, final int length) throws SQLException {
+        throw unsupported("setAsciiStream");
+    }
+
+    @Override
+    public void setAsciiStream(final int parameterIndex, final InputStream x, final long length) throws SQLException {
+        throw unsupported("setAsciiStream");
+    }
+
+    @Override
+    public void setAsciiStream(final int parameterIndex, final InputStream x) throws SQLException {
+        throw unsupported("setAsciiStream");
+    }
+
+    @Override
+    public void setBigDecimal(final int parameterIndex, final BigDecimal x) throws SQLException {
+        throw unsupported("setBigDecimal");
+    }
+
+    @Override
+    public void setBinaryStream(final int parameterIndex, final InputStream x, final int length) throws SQLException {
+        throw unsupported("setBinaryStream");
+    }
+
+    @Override
+    public void setBinaryStream(final int parameterIndex, final InputStream x, final long length) throws SQLException {
+        throw unsupported("setBinaryStream");
+    }
+
+    @Override
+    public void setBinaryStream(final int parameterIndex, final InputStream x) throws SQLException {
+        throw unsupported("setBinaryStream");
+    }
+
+    @Override
+    public void setBlob(final int parameterIndex, final InputStream inputStream, final long length) throws SQLException {
+        throw unsupported("setBlob");
+    }
+
+    @Override
+    public void setBlob(final int parameterIndex, final InputStream inputStream) throws SQLException {
+        throw unsupported("setBlob");
+    }
+
+    @Override
+    public void setBlob(final int parameterIndex, final Blob x) throws SQLException {
+        throw unsupported("setBlob");
+    }
+
+    @Override
+    public void setBoolean(final int parameterIndex, final boolean x) throws SQLException {
+        throw unsupported("setBoolean");
+    }
+
+    @Override
+    public void setByte(final int parameterIndex, final byte x) throws SQLException {
+        throw unsupported("setByte");
+    }
+
+    @Override
+    public void setBytes(final int parameterIndex, final byte[] x) throws SQLException {
+        throw unsupported("setBytes");
+    }
+
+    @Override
+    public void setCharacterStream(final int parameterIndex, final Reader reader, final int length) throws SQLException {
+        throw unsupported("setCharacterStream");
+    }
+
+    @Override
+    public void setCharacterStream(final int parameterIndex, final Reader reader, final long length) throws SQLException {
+        throw unsupported("setCharacterStream");
+    }
+
+    @Override
+    public void setCharacterStream(final int parameterIndex, final Reader reader) throws SQLException {
+        throw unsupported("setCharacterStream");
+    }
+
+    @Override
+    public void setClob(final int parameterIndex, final Reader reader, final long length) throws SQLException {
+        throw unsupported("setClob");
+    }
+
+    @Override
+    public void setClob(final int parameterIndex, final Reader reader) throws SQLException {
+        throw unsupported("setClob");
+    }
+
+    @Override
+    public void setClob(final int parameterIndex, final Clob x) throws SQLException {
+        throw unsupported("setClob");
+    }
+
+    @Override
+    public void setDate(final int parameterIndex, final Date x, final Calendar cal) throws SQLException {
+        throw unsupported("setDate");
+    }
+
+    @Override
+    public void setDate(final int parameterIndex, final Date x) throws SQLException {
+        throw unsupported("setDate");
+    }
+
+    @Override
+    public void setDouble(final int parameterIndex, final double x) throws SQLException {
+        throw unsupported("setDouble");
+    }
+
+    @Override
+    public void setFloat(final int parameterIndex, final float x) throws SQLException {
+        throw unsupported("setFloat");
+    }
+
+    @Override
+    public void setInt(final int parameterIndex, final int x) throws SQLException {
+        throw unsupported("setInt");
+    }
+
+    @Override
+    public void setLong(final int parameterIndex, final long x) throws SQLException {
+        throw unsupported("setLong");
+    }
+
+    @Override
+    public void setNCharacterStream(final int parameterIndex, final Reader value, final long length) throws SQLException {
+        throw unsupported("setNCharacterStream");
+    }
+
+    @Override
+    public void setNCharacterStream(final int parameterIndex, final Reader value) throws SQLException {
+        throw unsupported("setNCharacterStream");
+    }
+
+    @Override
+    public void setNClob(final int parameterIndex, final Reader reader, final long length) throws SQLException {
+        throw unsupported("setNClob");
+    }
+
+    @Override
+    public void setNClob(final int parameterIndex, final Reader reader) throws SQLException {
+        throw unsupported("setNClob");
+    }
+
+    @Override
+    public void setNClob(final int parameterIndex, final NClob value) throws SQLException {
+        throw unsupported("setNClob");
+    }
+
+    @Override
+    public void setNString(final int parameterIndex, final String value) throws SQLException {
+        throw unsupported("setNString");
+    }
+
+    @Override
+    public void setNull(final int parameterIndex, final int sqlType, final String typeName) throws SQLException {
+        throw unsupported("setNull");
+    }
+
+    @Override
+    public void setNull(final int parameterIndex, final int sqlType) throws SQLException {
+        throw unsupported("setNull");
+    }
+
+    @Override
+    public void setObject(final int parameterIndex, final Object x, final int targetSqlType, final int scaleOrLength) throws SQLException {
+        throw unsupported("setObject");
+    }
+
+    @Override
+    public void setObject(final int parameterIndex, final Object x, final int targetSqlType) throws SQLException {
+        throw unsupported("setObject");
+    }
+
+    @Override
+    public void setObject(final int parameterIndex, final Object x) throws SQLException {
+        throw unsupported("setObject");
+    }
+
+    @Override
+    public void setRef(final int parameterIndex, final Ref x) throws SQLException {
+        throw unsupported("setRef");
+    }
+
+    @Override
+    public void setRowId(final int parameterIndex, final RowId x) throws SQLException {
+        throw unsupported("setRowId");
+    }
+
+    @Override
+    public void setSQLXML(final int parameterIndex, final SQLXML xmlObject) throws SQLException {
+        throw unsupported("setSQLXML");
+    }
+
+    @Override
+    public void setShort(final int parameterIndex, final short x) throws SQLException {
+        throw unsupported("setShort");
+    }
+
+    @Override
+    public void setString(final int parameterIndex, final String x) throws SQLException {
+        throw unsupported("setString");
+    }
+
+    @Override
+    public void setTime(final int parameterIndex, final Time x, final Calendar cal) throws SQLException {
+        throw unsupported("setTime");
+    }
+
+    @Override
+    public void setTime(final int parameterIndex, final Time x) throws SQLException {
+        throw unsupported("setTime");
+    }
+
+    @Override
+    public void setTimestamp(final int parameterIndex, final Timestamp x, final Calendar cal) throws SQLException {
+        throw unsupported("setTimestamp");
+    }
+
+    @Override
+    public void setTimestamp(final int parameterIndex, final Timestamp x) throws SQLException {
+        throw unsupported("setTimestamp");
+    }
+
+    @Override
+    public void setURL(final int parameterIndex, final URL x) throws SQLException {
+        throw unsupported("setURL");
+    }
+
+    @Override
+    public void setUnicodeStream(final int parameterIndex, final InputStream x, final int length) throws SQLException {
+        throw unsupported("setUnicodeStream");
+    }
+}
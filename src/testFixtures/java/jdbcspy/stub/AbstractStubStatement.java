@@ -0,0 +1,244 @@
+package jdbcspy.stub;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+
+/**
+ * A statement implementing every method by throwing a SQLFeatureNotSupportedException.
+ */
+public abstract class AbstractStubStatement implements Statement {
+
+    /**
+     * Create the exception of an unsupported method.
+     *
+     * @param method the method
+     * @return the exception
+     */
+    static SQLFeatureNotSupportedException unsupported(final String method) {
+        return new SQLFeatureNotSupportedException(method + " is not supported by the stub driver");
+    }
+
+    @Override
+    public void addBatch(final String sql) throws SQLException {
+        throw unsupported("addBatch");
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        throw unsupported("cancel");
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        throw unsupported("clearBatch");
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        throw unsupported("clearWarnings");
+    }
+
+    @Override
+    public void close() throws SQLException {
+        throw unsupported("close");
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        throw unsupported("closeOnCompletion");
+    }
+
+    @Override
+    public boolean execute(final String sql, final int[] columnIndexes) throws SQLException {
+        throw unsupported("execute");
+    }
+
+    @Override
+    public boolean execute(final String sql, final String[] columnNames) throws SQLException {
+        throw unsupported("execute");
+    }
+
+    @Override
+    public boolean execute(final String sql, final int autoGeneratedKeys) throws SQLException {
+        throw unsupported("execute");
+    }
+
+    @Override
+    public boolean execute(final String sql) throws SQLException {
+        throw unsupported("execute");
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        throw unsupported("executeBatch");
+    }
+
+    @Override
+    public ResultSet executeQuery(final String sql) throws SQLException {
+        throw unsupported("executeQuery");
+    }
+
+    @Override
+    public int executeUpdate(final String sql, final int[] columnIndexes) throws SQLException {
+        throw unsupported("executeUpdate");
+    }
+
+    @Override
+    public int executeUpdate(final String sql, final String[] columnNames) throws SQLException {
+        throw unsupported("executeUpdate");
+    }
+
+    @Override
+    public int executeUpdate(final String sql, final int autoGeneratedKeys) throws SQLException {
+        throw unsupported("executeUpdate");
+    }
+
+    @Override
+    public int executeUpdate(final String sql) throws SQLException {
+        throw unsupported("executeUpdate");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        throw unsupported("getConnection");
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        throw unsupported("getFetchDirection");
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        throw unsupported("getFetchSize");
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        throw unsupported("getGeneratedKeys");
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        throw unsupported("getMaxFieldSize");
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        throw unsupported("getMaxRows");
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        throw unsupported("getMoreResults");
+    }
+
+    @Override
+    public boolean getMoreResults(final int current) throws SQLException {
+        throw unsupported("getMoreResults");
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        throw unsupported("getQueryTimeout");
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        throw unsupported("getResultSet");
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        throw unsupported("getResultSetConcurrency");
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        throw unsupported("getResultSetHoldability");
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        throw unsupported("getResultSetType");
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        throw unsupported("getUpdateCount");
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        throw unsupported("getWarnings");
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        throw unsupported("isCloseOnCompletion");
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        throw unsupported("isClosed");
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        throw unsupported("isPoolable");
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        throw unsupported("isWrapperFor");
+    }
+
+    @Override
+    public void setCursorName(final String name) throws SQLException {
+        throw unsupported("setCursorName");
+    }
+
+    @Override
+    public void setEscapeProcessing(final boolean enable) throws SQLException {
+        throw unsupported("setEscapeProcessing");
+    }
+
+    @Override
+    public void setFetchDirection(final int direction) throws SQLException {
+        throw unsupported("setFetchDirection");
+    }
+
+    @Override
+    public void setFetchSize(final int rows) throws SQLException {
+        throw unsupported("setFetchSize");
+    }
+
+    @Override
+    public void setMaxFieldSize(final int max) throws SQLException {
+        throw unsupported("setMaxFieldSize");
+    }
+
+    @Override
+    public void setMaxRows(final int max) throws SQLException {
+        throw unsupported("setMaxRows");
+    }
+
+    @Override
+    public void setPoolable(final boolean poolable) throws SQLException {
+        throw unsupported("setPoolable");
+    }
+
+    @Override
+    public void setQueryTimeout(final int seconds) throws SQLException {
+        throw unsupported("setQueryTimeout");
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        throw unsupported("unwrap");
+    }
+}
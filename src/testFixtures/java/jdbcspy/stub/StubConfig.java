@@ -0,0 +1,285 @@
+package jdbcspy.stub;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The settings of a stub connection.
+ * <p>
+ * The settings are given as key=value pairs separated by semicolons in the url after jdbc:stub: or as connection
+ * properties, which take precedence:
+ * <ul>
+ * <li>rows: the rows of each result set, default 1
+ * <li>columns: the columns of each result set, default 1
+ * <li>types: the comma separated column types, cycled through the columns: INTEGER, BIGINT, DOUBLE, DECIMAL, VARCHAR,
+ * TIMESTAMP; default INTEGER,VARCHAR,BIGINT,DECIMAL,TIMESTAMP,DOUBLE
+ * <li>fetchSize: the rows per simulated round trip unless the statement sets a fetch size, default 0 for all rows
+ * <li>connectLatency, executeLatency, nextLatency, fetchLatency: the {@link StubLatency} of opening a connection, of
+ * each execution, of each next call and of each round trip, default 0
+ * <li>failOn: the comma separated calls that fail: connect, execute, next; default execute
+ * <li>failEvery: every nth call fails, default 0 for never
+ * <li>failRate: the probability that a call fails, default 0
+ * <li>failSqlState: the SQLState of the failures, default 40001
+ * </ul>
+ */
+public final class StubConfig {
+
+    /**
+     * the default column types
+     */
+    private static final int[] DEFAULT_TYPES = { Types.INTEGER, Types.VARCHAR, Types.BIGINT, Types.DECIMAL, Types.TIMESTAMP, Types.DOUBLE };
+
+    /**
+     * the rows of each result set
+     */
+    private int mRows = 1;
+    /**
+     * the columns of each result set
+     */
+    private int mColumns = 1;
+    /**
+     * the column types
+     */
+    private int[] mTypes = DEFAULT_TYPES;
+    /**
+     * the rows per round trip, 0 for all
+     */
+    private int mFetchSize;
+    /**
+     * the latency of opening a connection
+     */
+    private StubLatency mConnectLatency = StubLatency.NONE;
+    /**
+     * the latency of each execution
+     */
+    private StubLatency mExecuteLatency = StubLatency.NONE;
+    /**
+     * the latency of each next call
+     */
+    private StubLatency mNextLatency = StubLatency.NONE;
+    /**
+     * the latency of each round trip
+     */
+    private StubLatency mFetchLatency = StubLatency.NONE;
+    /**
+     * the calls that fail
+     */
+    private final boolean[] mFailOn = new boolean[Call.values().length];
+    /**
+     * every nth call fails, 0 for never
+     */
+    private long mFailEvery;
+    /**
+     * the probability of a failure
+     */
+    private double mFailRate;
+    /**
+     * the SQLState of the failures
+     */
+    private String mFailSqlState = "40001";
+    /**
+     * the number of calls per call type
+     */
+    private final AtomicLongArray mCalls = new AtomicLongArray(Call.values().length);
+
+    private StubConfig() {
+        mFailOn[Call.EXECUTE.ordinal()] = true;
+    }
+
+    /**
+     * Parse the settings.
+     *
+     * @param settings the settings of the url
+     * @param info     the connection properties, may be null
+     * @return the configuration
+     * @throws SQLException on an invalid setting
+     */
+    public static StubConfig parse(final String settings, final Properties info) throws SQLException {
+        final StubConfig config = new StubConfig();
+        for (final String setting : settings.split(";")) {
+            final int i = setting.indexOf('=');
+            if (i > 0) {
+                config.set(setting.substring(0, i).trim(), setting.substring(i + 1).trim());
+            }
+            else if (!setting.isBlank()) {
+                throw new SQLException("invalid setting " + setting + " in " + settings);
+            }
+        }
+        if (info != null) {
+            for (final String key : info.stringPropertyNames()) {
+                if (config.isSetting(key)) {
+                    config.set(key, info.getProperty(key));
+                }
+            }
+        }
+        return config;
+    }
+
+    private boolean isSetting(final String key) {
+        return switch (key) {
+            case "rows", "columns", "types", "fetchSize", "connectLatency", "executeLatency", "nextLatency", "fetchLatency", "failOn", "failEvery", "failRate", "failSqlState" -> true;
+            default -> false;
+        };
+    }
+
+    private void set(final String key, final String value) throws SQLException {
+        try {
+            switch (key) {
+                case "rows" -> mRows = Integer.parseInt(value);
+                case "columns" -> mColumns = Integer.parseInt(value);
+                case "types" -> mTypes = parseTypes(value);
+                case "fetchSize" -> mFetchSize = Integer.parseInt(value);
+                case "connectLatency" -> mConnectLatency = StubLatency.parse(value);
+                case "executeLatency" -> mExecuteLatency = StubLatency.parse(value);
+                case "nextLatency" -> mNextLatency = StubLatency.parse(value);
+                case "fetchLatency" -> mFetchLatency = StubLatency.parse(value);
+                case "failOn" -> {
+                    Arrays.fill(mFailOn, false);
+                    for (final String call : value.split(",")) {
+                        mFailOn[Call.valueOf(call.trim().toUpperCase(Locale.ROOT)).ordinal()] = true;
+                    }
+                }
+                case "failEvery" -> mFailEvery = Long.parseLong(value);
+                case "failRate" -> mFailRate = Double.parseDouble(value);
+                case "failSqlState" -> mFailSqlState = value;
+                default -> throw new SQLException("unknown setting " + key);
+            }
+        }
+        catch (final IllegalArgumentException e) {
+            throw new SQLException("invalid setting " + key + "=" + value, e);
+        }
+        if (mRows < 0 || mColumns < 1 || mFetchSize < 0 || mFailEvery < 0 || mFailRate < 0 || mFailRate > 1) {
+            throw new SQLException("invalid setting " + key + "=" + value);
+        }
+    }
+
+    private static int[] parseTypes(final String value) {
+        final String[] names = value.split(",");
+        final int[] types = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            types[i] = switch (names[i].trim().toUpperCase(Locale.ROOT)) {
+                case "INTEGER" -> Types.INTEGER;
+                case "BIGINT" -> Types.BIGINT;
+                case "DOUBLE" -> Types.DOUBLE;
+                case "DECIMAL" -> Types.DECIMAL;
+                case "VARCHAR" -> Types.VARCHAR;
+                case "TIMESTAMP" -> Types.TIMESTAMP;
+                default -> throw new IllegalArgumentException("unsupported column type " + names[i]);
+            };
+        }
+        return types;
+    }
+
+    /**
+     * Get the rows of each result set.
+     *
+     * @return int
+     */
+    public int getRows() {
+        return mRows;
+    }
+
+    /**
+     * Get the columns of each result set.
+     *
+     * @return int
+     */
+    public int getColumns() {
+        return mColumns;
+    }
+
+    /**
+     * Get the type of a column.
+     *
+     * @param column the column index, starting with 1
+     * @return the type of {@link Types}
+     */
+    public int getColumnType(final int column) {
+        return mTypes[(column - 1) % mTypes.length];
+    }
+
+    /**
+     * Get the rows per round trip.
+     *
+     * @return the rows, 0 for all
+     */
+    public int getFetchSize() {
+        return mFetchSize;
+    }
+
+    /**
+     * Get the latency of opening a connection.
+     *
+     * @return the latency
+     */
+    public StubLatency getConnectLatency() {
+        return mConnectLatency;
+    }
+
+    /**
+     * Get the latency of each execution.
+     *
+     * @return the latency
+     */
+    public StubLatency getExecuteLatency() {
+        return mExecuteLatency;
+    }
+
+    /**
+     * Get the latency of each next call.
+     *
+     * @return the latency
+     */
+    public StubLatency getNextLatency() {
+        return mNextLatency;
+    }
+
+    /**
+     * Get the latency of each round trip.
+     *
+     * @return the latency
+     */
+    public StubLatency getFetchLatency() {
+        return mFetchLatency;
+    }
+
+    /**
+     * Count a call and throw the injected failure if it is due.
+     *
+     * @param call the call
+     * @throws SQLException the injected failure
+     */
+    void check(final Call call) throws SQLException {
+        if (!mFailOn[call.ordinal()] || mFailEvery == 0 && mFailRate == 0) {
+            return;
+        }
+        final long n = mCalls.incrementAndGet(call.ordinal());
+        if (mFailEvery > 0 && n % mFailEvery == 0 || mFailRate > 0 && ThreadLocalRandom.current().nextDouble() < mFailRate) {
+            throw new SQLException("injected failure of " + call.name().toLowerCase(Locale.ROOT) + " #" + n, mFailSqlState);
+        }
+    }
+
+    /**
+     * @see java.lang.Object#toString
+     */
+    @Override
+    public String toString() {
+        return "[StubConfig[rows=" + mRows + "; columns=" + mColumns + "; fetchSize=" + mFetchSize + "; connectLatency=" + mConnectLatency
+                + "; executeLatency=" + mExecuteLatency + "; nextLatency=" + mNextLatency + "; fetchLatency=" + mFetchLatency + "; failEvery="
+                + mFailEvery + "; failRate=" + mFailRate + "; failSqlState=" + mFailSqlState + "]]";
+    }
+
+    /**
+     * The calls that can fail.
+     */
+    enum Call {
+        CONNECT,
+        EXECUTE,
+        NEXT
+    }
+}
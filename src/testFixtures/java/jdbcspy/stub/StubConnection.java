@@ -0,0 +1,188 @@
+package jdbcspy.stub;
+
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+
+/**
+ * The connection of the stub driver.
+ */
+public class StubConnection extends AbstractStubConnection {
+
+    /**
+     * the settings
+     */
+    private final StubConfig mConfig;
+    /**
+     * is the connection closed
+     */
+    private boolean mClosed;
+    /**
+     * the auto commit mode
+     */
+    private boolean mAutoCommit = true;
+    /**
+     * the transaction isolation
+     */
+    private int mIsolation = TRANSACTION_READ_COMMITTED;
+
+    /**
+     * Constructor.
+     *
+     * @param config the settings
+     */
+    public StubConnection(final StubConfig config) {
+        mConfig = config;
+    }
+
+    /**
+     * Get the settings.
+     *
+     * @return the settings
+     */
+    public StubConfig getConfig() {
+        return mConfig;
+    }
+
+    private void checkOpen() throws SQLException {
+        if (mClosed) {
+            throw new SQLException("the connection is closed");
+        }
+    }
+
+    private StubStatement newStatement() throws SQLException {
+        checkOpen();
+        return new StubStatement(this, mConfig);
+    }
+
+    private StubPreparedStatement newPreparedStatement(final String sql) throws SQLException {
+        checkOpen();
+        return new StubPreparedStatement(this, sql, mConfig);
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        return newStatement();
+    }
+
+    @Override
+    public Statement createStatement(final int resultSetType, final int resultSetConcurrency) throws SQLException {
+        return newStatement();
+    }
+
+    @Override
+    public Statement createStatement(final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability) throws SQLException {
+        return newStatement();
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql) throws SQLException {
+        return newPreparedStatement(sql);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql, final int autoGeneratedKeys) throws SQLException {
+        return newPreparedStatement(sql);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql, final int resultSetType, final int resultSetConcurrency) throws SQLException {
+        return newPreparedStatement(sql);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql, final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability) throws SQLException {
+        return newPreparedStatement(sql);
+    }
+
+    @Override
+    public void close() {
+        mClosed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return mClosed;
+    }
+
+    @Override
+    public boolean isValid(final int timeout) {
+        return !mClosed;
+    }
+
+    @Override
+    public boolean getAutoCommit() {
+        return mAutoCommit;
+    }
+
+    @Override
+    public void setAutoCommit(final boolean autoCommit) {
+        mAutoCommit = autoCommit;
+    }
+
+    @Override
+    public void commit() {
+        // nothing to commit
+    }
+
+    @Override
+    public void rollback() {
+        // nothing to roll back
+    }
+
+    @Override
+    public int getTransactionIsolation() {
+        return mIsolation;
+    }
+
+    @Override
+    public void setTransactionIsolation(final int level) {
+        mIsolation = level;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    @Override
+    public void setReadOnly(final boolean readOnly) {
+        // ignored
+    }
+
+    @Override
+    public int getHoldability() {
+        return ResultSet.HOLD_CURSORS_OVER_COMMIT;
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() {
+        return null;
+    }
+
+    @Override
+    public SQLWarning getWarnings() {
+        return null;
+    }
+
+    @Override
+    public void clearWarnings() {
+        // no warnings
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("not a wrapper for " + iface.getName());
+    }
+}
@@ -0,0 +1,103 @@
+package jdbcspy.stub;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * An in-process driver without a database, the result sets return constant values.
+ * <p>
+ * The url has the form jdbc:stub:&lt;key&gt;=&lt;value&gt;;..., e.g.
+ * jdbc:stub:rows=100;columns=6;executeLatency=uniform:100us-2ms;fetchSize=50;fetchLatency=300us;failEvery=1000, see
+ * {@link StubConfig} for the settings. The proxy driver jdbcspy.vendor.StubProxyDriver wraps it for the urls
+ * proxy:jdbc:stub:....
+ */
+public class StubDriver implements Driver {
+
+    /**
+     * the url prefix
+     */
+    public static final String URL_PREFIX = "jdbc:stub:";
+
+    static {
+        try {
+            DriverManager.registerDriver(new StubDriver());
+        }
+        catch (final SQLException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Create a connection without the driver manager.
+     *
+     * @param rows    the rows of each result set
+     * @param columns the columns of each result set
+     * @return the connection
+     */
+    public static StubConnection connect(final int rows, final int columns) {
+        try {
+            return connect(StubConfig.parse("rows=" + rows + ";columns=" + columns, null));
+        }
+        catch (final SQLException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Create a connection without the driver manager.
+     *
+     * @param config the settings
+     * @return the connection
+     * @throws SQLException if the connect is failed by the settings
+     */
+    public static StubConnection connect(final StubConfig config) throws SQLException {
+        config.getConnectLatency().pause();
+        config.check(StubConfig.Call.CONNECT);
+        return new StubConnection(config);
+    }
+
+    @Override
+    public Connection connect(final String url, final Properties info) throws SQLException {
+        if (!acceptsURL(url)) {
+            return null;
+        }
+
+        return connect(StubConfig.parse(url.substring(URL_PREFIX.length()), info));
+    }
+
+    @Override
+    public boolean acceptsURL(final String url) {
+        return url != null && url.startsWith(URL_PREFIX);
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(final String url, final Properties info) {
+        return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        return false;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw AbstractStubStatement.unsupported("getParentLogger");
+    }
+}
@@ -0,0 +1,173 @@
+package jdbcspy.stub;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The simulated latency of a call of the stub driver.
+ * <p>
+ * The specification is a duration like 500us, 2ms or 1s for a fixed latency, uniform:100us-2ms for a latency equally
+ * distributed in the range or exponential:500us for an exponentially distributed latency with the given mean, capped at
+ * 20 times the mean. A duration without unit is in us.
+ */
+public final class StubLatency {
+
+    /**
+     * no latency
+     */
+    public static final StubLatency NONE = new StubLatency(Kind.FIXED, 0, 0);
+
+    /**
+     * the rest of a pause in ns that is spun instead of parked
+     */
+    private static final long SPIN_NANOS = 60_000;
+
+    /**
+     * the distribution
+     */
+    private final Kind mKind;
+    /**
+     * the fixed latency, the lower bound or the mean in ns
+     */
+    private final long mNanos;
+    /**
+     * the upper bound in ns
+     */
+    private final long mMaxNanos;
+
+    private StubLatency(final Kind kind, final long nanos, final long maxNanos) {
+        mKind = kind;
+        mNanos = nanos;
+        mMaxNanos = maxNanos;
+    }
+
+    /**
+     * Parse a latency.
+     *
+     * @param spec the specification
+     * @return the latency
+     */
+    public static StubLatency parse(final String spec) {
+        final String s = spec.trim();
+        if (s.startsWith("uniform:")) {
+            final String range = s.substring("uniform:".length());
+            final int i = range.indexOf('-');
+            if (i < 0) {
+                throw new IllegalArgumentException("the uniform latency " + spec + " has no range");
+            }
+            final long min = parseNanos(range.substring(0, i));
+            final long max = parseNanos(range.substring(i + 1));
+            if (max < min) {
+                throw new IllegalArgumentException("the uniform latency " + spec + " has an empty range");
+            }
+            return new StubLatency(Kind.UNIFORM, min, max);
+        }
+        if (s.startsWith("exponential:")) {
+            final long mean = parseNanos(s.substring("exponential:".length()));
+            return new StubLatency(Kind.EXPONENTIAL, mean, 20 * mean);
+        }
+        final long nanos = parseNanos(s);
+        return nanos == 0 ? NONE : new StubLatency(Kind.FIXED, nanos, nanos);
+    }
+
+    private static long parseNanos(final String duration) {
+        final String d = duration.trim();
+        final long factor;
+        final int len;
+        if (d.endsWith("ns")) {
+            factor = 1;
+            len = d.length() - 2;
+        }
+        else if (d.endsWith("us")) {
+            factor = 1_000;
+            len = d.length() - 2;
+        }
+        else if (d.endsWith("ms")) {
+            factor = 1_000_000;
+            len = d.length() - 2;
+        }
+        else if (d.endsWith("s")) {
+            factor = 1_000_000_000;
+            len = d.length() - 1;
+        }
+        else {
+            factor = 1_000;
+            len = d.length();
+        }
+        final long value = Long.parseLong(d.substring(0, len).trim());
+        if (value < 0) {
+            throw new IllegalArgumentException("the latency " + duration + " is negative");
+        }
+        return value * factor;
+    }
+
+    /**
+     * Is there any latency?
+     *
+     * @return boolean
+     */
+    public boolean isNone() {
+        return mMaxNanos == 0;
+    }
+
+    /**
+     * Draw the next latency.
+     *
+     * @return the latency in ns
+     */
+    public long nextNanos() {
+        return switch (mKind) {
+            case FIXED -> mNanos;
+            case UNIFORM -> mNanos == mMaxNanos ? mNanos : ThreadLocalRandom.current().nextLong(mNanos, mMaxNanos + 1);
+            case EXPONENTIAL -> Math.min(mMaxNanos, (long) (-mNanos * Math.log(1 - ThreadLocalRandom.current().nextDouble())));
+        };
+    }
+
+    /**
+     * Pause the current thread for the next latency.
+     */
+    public void pause() {
+        if (mMaxNanos != 0) {
+            sleep(nextNanos());
+        }
+    }
+
+    /**
+     * Pause the current thread. Long pauses are parked, the last few us are spun to keep short pauses accurate.
+     *
+     * @param nanos the pause in ns
+     */
+    static void sleep(final long nanos) {
+        final long end = System.nanoTime() + nanos;
+        long rest;
+        while ((rest = end - System.nanoTime()) > 0) {
+            if (rest > SPIN_NANOS) {
+                LockSupport.parkNanos(rest - SPIN_NANOS);
+            }
+            else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * @see java.lang.Object#toString
+     */
+    @Override
+    public String toString() {
+        return switch (mKind) {
+            case FIXED -> mNanos / 1000 + "us";
+            case UNIFORM -> "uniform:" + mNanos / 1000 + "us-" + mMaxNanos / 1000 + "us";
+            case EXPONENTIAL -> "exponential:" + mNanos / 1000 + "us";
+        };
+    }
+
+    /**
+     * The distributions.
+     */
+    private enum Kind {
+        FIXED,
+        UNIFORM,
+        EXPONENTIAL
+    }
+}
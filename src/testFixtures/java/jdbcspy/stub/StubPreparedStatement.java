@@ -0,0 +1,127 @@
+package jdbcspy.stub;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * The prepared statement of the stub driver. The parameters are ignored, the executions behave as those of the plain
+ * {@link StubStatement}.
+ */
+public class StubPreparedStatement extends AbstractStubPreparedStatement {
+
+    /**
+     * the sql of the statement
+     */
+    private final String mSql;
+
+    /**
+     * Constructor.
+     *
+     * @param connection the connection
+     * @param sql        the sql of the statement
+     * @param config     the settings
+     */
+    public StubPreparedStatement(final StubConnection connection, final String sql, final StubConfig config) {
+        super(connection, config);
+        mSql = sql;
+    }
+
+    /**
+     * Get the sql of the statement.
+     *
+     * @return the sql
+     */
+    public String getSql() {
+        return mSql;
+    }
+
+    @Override
+    public ResultSet executeQuery() throws SQLException {
+        return query();
+    }
+
+    @Override
+    public boolean execute() throws SQLException {
+        query();
+        return true;
+    }
+
+    @Override
+    public int executeUpdate() throws SQLException {
+        return update();
+    }
+
+    @Override
+    public void addBatch() throws SQLException {
+        batch();
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() {
+        return getStubResultSet().getMetaData();
+    }
+
+    @Override
+    public void setBigDecimal(final int parameterIndex, final BigDecimal x) {
+        // ignored
+    }
+
+    @Override
+    public void setBoolean(final int parameterIndex, final boolean x) {
+        // ignored
+    }
+
+    @Override
+    public void setDate(final int parameterIndex, final Date x) {
+        // ignored
+    }
+
+    @Override
+    public void setDouble(final int parameterIndex, final double x) {
+        // ignored
+    }
+
+    @Override
+    public void setInt(final int parameterIndex, final int x) {
+        // ignored
+    }
+
+    @Override
+    public void setLong(final int parameterIndex, final long x) {
+        // ignored
+    }
+
+    @Override
+    public void setNull(final int parameterIndex, final int sqlType) {
+        // ignored
+    }
+
+    @Override
+    public void setObject(final int parameterIndex, final Object x) {
+        // ignored
+    }
+
+    @Override
+    public void setObject(final int parameterIndex, final Object x, final int targetSqlType) {
+        // ignored
+    }
+
+    @Override
+    public void setString(final int parameterIndex, final String x) {
+        // ignored
+    }
+
+    @Override
+    public void setTimestamp(final int parameterIndex, final Timestamp x) {
+        // ignored
+    }
+
+    @Override
+    public void clearParameters() {
+        // no parameters are kept
+    }
+}
@@ -0,0 +1,339 @@
+package jdbcspy.stub;
+
+import java.math.BigDecimal;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * The result set of the stub driver. The columns are named C1 to Cn and their types cycle through the configured types;
+ * every row has the same constant values, so reading a row does not allocate. Each next call pauses for the nextLatency
+ * and may fail as configured, the first row and each further fetch size rows pause for the fetchLatency of a round
+ * trip.
+ */
+public class StubResultSet extends AbstractStubResultSet {
+
+    /**
+     * the string value of every column
+     */
+    private static final String STRING = "stub";
+    /**
+     * the decimal value of every column
+     */
+    private static final BigDecimal DECIMAL = new BigDecimal("4711.42");
+    /**
+     * the timestamp value of every column
+     */
+    private static final Timestamp TIMESTAMP = new Timestamp(1_000_000_000_000L);
+
+    /**
+     * the statement
+     */
+    private final StubStatement mStatement;
+    /**
+     * the settings
+     */
+    private final StubConfig mConfig;
+    /**
+     * the number of rows
+     */
+    private final int mRows;
+    /**
+     * the meta data
+     */
+    private final StubResultSetMetaData mMetaData;
+    /**
+     * the object value per column
+     */
+    private final Object[] mObjects;
+    /**
+     * the current row, 0 before the first row
+     */
+    private long mRow;
+    /**
+     * is the result set closed
+     */
+    private boolean mClosed = true;
+    /**
+     * the fetch size
+     */
+    private int mFetchSize;
+
+    /**
+     * Constructor.
+     *
+     * @param statement the statement
+     * @param config    the settings
+     */
+    public StubResultSet(final StubStatement statement, final StubConfig config) {
+        final int columns = config.getColumns();
+        mStatement = statement;
+        mConfig = config;
+        mRows = config.getRows();
+        mMetaData = new StubResultSetMetaData(config);
+        mObjects = new Object[columns];
+        for (int i = 0; i < columns; i++) {
+            mObjects[i] = switch (mMetaData.getColumnType(i + 1)) {
+                case Types.INTEGER -> i + 1;
+                case Types.BIGINT -> (long) i + 1;
+                case Types.DECIMAL -> DECIMAL;
+                case Types.TIMESTAMP -> TIMESTAMP;
+                case Types.DOUBLE -> i + 1.5;
+                default -> STRING;
+            };
+        }
+    }
+
+    /**
+     * Rewind the result set for a new execution.
+     *
+     * @param fetchSize the fetch size of the statement, 0 for the configured one
+     */
+    void open(final int fetchSize) {
+        mRow = 0;
+        mClosed = false;
+        mFetchSize = fetchSize > 0 ? fetchSize : mConfig.getFetchSize();
+    }
+
+    private int column(final int columnIndex) throws SQLException {
+        if (mClosed) {
+            throw new SQLException("the result set is closed");
+        }
+        if (mRow < 1 || mRow > mRows) {
+            throw new SQLException("the result set is not positioned on a row");
+        }
+        if (columnIndex < 1 || columnIndex > mObjects.length) {
+            throw new SQLException("invalid column index " + columnIndex);
+        }
+        return columnIndex - 1;
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        if (mClosed) {
+            throw new SQLException("the result set is closed");
+        }
+        if (mRow >= mRows) {
+            mRow = mRows + 1L;
+            return false;
+        }
+
+        mConfig.getNextLatency().pause();
+        if (mRow == 0 || mFetchSize > 0 && mRow % mFetchSize == 0) {
+            // the next round trip
+            mConfig.getFetchLatency().pause();
+        }
+        mConfig.check(StubConfig.Call.NEXT);
+        mRow++;
+        return true;
+    }
+
+    @Override
+    public int getRow() {
+        return mRow <= mRows ? (int) mRow : 0;
+    }
+
+    @Override
+    public boolean isBeforeFirst() {
+        return mRow == 0 && mRows > 0;
+    }
+
+    @Override
+    public boolean isAfterLast() {
+        return mRow > mRows && mRows > 0;
+    }
+
+    @Override
+    public boolean isFirst() {
+        return mRow == 1 && mRows > 0;
+    }
+
+    @Override
+    public boolean isLast() {
+        return mRow == mRows && mRows > 0;
+    }
+
+    @Override
+    public int findColumn(final String columnLabel) throws SQLException {
+        final int len = columnLabel.length();
+        if (len > 1 && (columnLabel.charAt(0) == 'C' || columnLabel.charAt(0) == 'c')) {
+            int index = 0;
+            for (int i = 1; i < len; i++) {
+                final char c = columnLabel.charAt(i);
+                if (c < '0' || c > '9') {
+                    index = 0;
+                    break;
+                }
+                index = index * 10 + c - '0';
+            }
+            if (index >= 1 && index <= mObjects.length) {
+                return index;
+            }
+        }
+        throw new SQLException("unknown column " + columnLabel);
+    }
+
+    @Override
+    public Object getObject(final int columnIndex) throws SQLException {
+        return mObjects[column(columnIndex)];
+    }
+
+    @Override
+    public Object getObject(final String columnLabel) throws SQLException {
+        return getObject(findColumn(columnLabel));
+    }
+
+    @Override
+    public String getString(final int columnIndex) throws SQLException {
+        final Object value = mObjects[column(columnIndex)];
+        return value instanceof String ? (String) value : value.toString();
+    }
+
+    @Override
+    public String getString(final String columnLabel) throws SQLException {
+        return getString(findColumn(columnLabel));
+    }
+
+    @Override
+    public int getInt(final int columnIndex) throws SQLException {
+        return column(columnIndex) + 1;
+    }
+
+    @Override
+    public int getInt(final String columnLabel) throws SQLException {
+        return getInt(findColumn(columnLabel));
+    }
+
+    @Override
+    public long getLong(final int columnIndex) throws SQLException {
+        return column(columnIndex) + 1;
+    }
+
+    @Override
+    public long getLong(final String columnLabel) throws SQLException {
+        return getLong(findColumn(columnLabel));
+    }
+
+    @Override
+    public double getDouble(final int columnIndex) throws SQLException {
+        return column(columnIndex) + 1.5;
+    }
+
+    @Override
+    public double getDouble(final String columnLabel) throws SQLException {
+        return getDouble(findColumn(columnLabel));
+    }
+
+    @Override
+    public boolean getBoolean(final int columnIndex) throws SQLException {
+        return column(columnIndex) % 2 == 0;
+    }
+
+    @Override
+    public boolean getBoolean(final String columnLabel) throws SQLException {
+        return getBoolean(findColumn(columnLabel));
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final int columnIndex) throws SQLException {
+        column(columnIndex);
+        return DECIMAL;
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(final String columnLabel) throws SQLException {
+        return getBigDecimal(findColumn(columnLabel));
+    }
+
+    @Override
+    public Timestamp getTimestamp(final int columnIndex) throws SQLException {
+        column(columnIndex);
+        return TIMESTAMP;
+    }
+
+    @Override
+    public Timestamp getTimestamp(final String columnLabel) throws SQLException {
+        return getTimestamp(findColumn(columnLabel));
+    }
+
+    @Override
+    public boolean wasNull() {
+        return false;
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() {
+        return mMetaData;
+    }
+
+    @Override
+    public Statement getStatement() {
+        return mStatement;
+    }
+
+    @Override
+    public void close() {
+        mClosed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return mClosed;
+    }
+
+    @Override
+    public int getFetchSize() {
+        return mFetchSize;
+    }
+
+    @Override
+    public void setFetchSize(final int rows) {
+        mFetchSize = rows;
+    }
+
+    @Override
+    public int getFetchDirection() {
+        return FETCH_FORWARD;
+    }
+
+    @Override
+    public int getType() {
+        return TYPE_FORWARD_ONLY;
+    }
+
+    @Override
+    public int getConcurrency() {
+        return CONCUR_READ_ONLY;
+    }
+
+    @Override
+    public int getHoldability() {
+        return HOLD_CURSORS_OVER_COMMIT;
+    }
+
+    @Override
+    public SQLWarning getWarnings() {
+        return null;
+    }
+
+    @Override
+    public void clearWarnings() {
+        // no warnings
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("not a wrapper for " + iface.getName());
+    }
+}
@@ -0,0 +1,176 @@
+package jdbcspy.stub;
+
+import java.math.BigDecimal;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * The meta data of the stub result sets.
+ */
+public class StubResultSetMetaData implements ResultSetMetaData {
+
+    /**
+     * the settings
+     */
+    private final StubConfig mConfig;
+    /**
+     * the column names
+     */
+    private final String[] mNames;
+
+    /**
+     * Constructor.
+     *
+     * @param config the settings
+     */
+    public StubResultSetMetaData(final StubConfig config) {
+        final int columns = config.getColumns();
+        mConfig = config;
+        mNames = new String[columns];
+        for (int i = 0; i < columns; i++) {
+            mNames[i] = "C" + (i + 1);
+        }
+    }
+
+    @Override
+    public int getColumnCount() {
+        return mNames.length;
+    }
+
+    @Override
+    public int getColumnType(final int column) {
+        return mConfig.getColumnType(column);
+    }
+
+    @Override
+    public String getColumnTypeName(final int column) {
+        return switch (getColumnType(column)) {
+            case Types.INTEGER -> "INTEGER";
+            case Types.BIGINT -> "BIGINT";
+            case Types.DECIMAL -> "DECIMAL";
+            case Types.TIMESTAMP -> "TIMESTAMP";
+            case Types.DOUBLE -> "DOUBLE";
+            default -> "VARCHAR";
+        };
+    }
+
+    @Override
+    public String getColumnClassName(final int column) {
+        return switch (getColumnType(column)) {
+            case Types.INTEGER -> Integer.class.getName();
+            case Types.BIGINT -> Long.class.getName();
+            case Types.DECIMAL -> BigDecimal.class.getName();
+            case Types.TIMESTAMP -> Timestamp.class.getName();
+            case Types.DOUBLE -> Double.class.getName();
+            default -> String.class.getName();
+        };
+    }
+
+    @Override
+    public String getColumnLabel(final int column) {
+        return mNames[column - 1];
+    }
+
+    @Override
+    public String getColumnName(final int column) {
+        return mNames[column - 1];
+    }
+
+    @Override
+    public int getColumnDisplaySize(final int column) {
+        return getPrecision(column);
+    }
+
+    @Override
+    public int getPrecision(final int column) {
+        return switch (getColumnType(column)) {
+            case Types.INTEGER -> 10;
+            case Types.BIGINT -> 19;
+            case Types.DECIMAL -> 12;
+            case Types.TIMESTAMP -> 26;
+            case Types.DOUBLE -> 15;
+            default -> 255;
+        };
+    }
+
+    @Override
+    public int getScale(final int column) {
+        return getColumnType(column) == Types.DECIMAL ? 2 : 0;
+    }
+
+    @Override
+    public boolean isSigned(final int column) {
+        final int type = getColumnType(column);
+        return type != Types.VARCHAR && type != Types.TIMESTAMP;
+    }
+
+    @Override
+    public boolean isCaseSensitive(final int column) {
+        return getColumnType(column) == Types.VARCHAR;
+    }
+
+    @Override
+    public int isNullable(final int column) {
+        return columnNoNulls;
+    }
+
+    @Override
+    public boolean isAutoIncrement(final int column) {
+        return false;
+    }
+
+    @Override
+    public boolean isSearchable(final int column) {
+        return true;
+    }
+
+    @Override
+    public boolean isCurrency(final int column) {
+        return false;
+    }
+
+    @Override
+    public boolean isReadOnly(final int column) {
+        return true;
+    }
+
+    @Override
+    public boolean isWritable(final int column) {
+        return false;
+    }
+
+    @Override
+    public boolean isDefinitelyWritable(final int column) {
+        return false;
+    }
+
+    @Override
+    public String getSchemaName(final int column) {
+        return "";
+    }
+
+    @Override
+    public String getTableName(final int column) {
+        return "STUB";
+    }
+
+    @Override
+    public String getCatalogName(final int column) {
+        return "";
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("not a wrapper for " + iface.getName());
+    }
+}
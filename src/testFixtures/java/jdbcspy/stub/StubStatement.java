@@ -0,0 +1,248 @@
+package jdbcspy.stub;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.util.Arrays;
+
+/**
+ * The plain statement of the stub driver. The sql code is ignored and every query returns the same result set, which is
+ * rewound on each execution. Each execution pauses for the executeLatency and may fail as configured.
+ */
+public class StubStatement extends AbstractStubStatement {
+
+    /**
+     * the connection
+     */
+    private final StubConnection mConnection;
+    /**
+     * the settings
+     */
+    private final StubConfig mConfig;
+    /**
+     * the result set of each query
+     */
+    private final StubResultSet mResultSet;
+    /**
+     * the number of batched statements
+     */
+    private int mBatchCount;
+    /**
+     * is the statement closed
+     */
+    private boolean mClosed;
+    /**
+     * the fetch size
+     */
+    private int mFetchSize;
+    /**
+     * the query timeout in s
+     */
+    private int mQueryTimeout;
+    /**
+     * the maximum number of rows
+     */
+    private int mMaxRows;
+
+    /**
+     * Constructor.
+     *
+     * @param connection the connection
+     * @param config     the settings
+     */
+    public StubStatement(final StubConnection connection, final StubConfig config) {
+        mConnection = connection;
+        mConfig = config;
+        mResultSet = new StubResultSet(this, config);
+    }
+
+    private void checkOpen() throws SQLException {
+        if (mClosed) {
+            throw new SQLException("the statement is closed");
+        }
+    }
+
+    private void execution() throws SQLException {
+        checkOpen();
+        mConfig.getExecuteLatency().pause();
+        mConfig.check(StubConfig.Call.EXECUTE);
+    }
+
+    /**
+     * Execute a query.
+     *
+     * @return the rewound result set
+     * @throws SQLException if the execution is failed by the settings
+     */
+    ResultSet query() throws SQLException {
+        execution();
+        mResultSet.open(mFetchSize);
+        return mResultSet;
+    }
+
+    /**
+     * Execute an update.
+     *
+     * @return the update count
+     * @throws SQLException if the execution is failed by the settings
+     */
+    int update() throws SQLException {
+        execution();
+        return 1;
+    }
+
+    /**
+     * Add a statement to the batch.
+     *
+     * @throws SQLException if the statement is closed
+     */
+    void batch() throws SQLException {
+        checkOpen();
+        mBatchCount++;
+    }
+
+    /**
+     * Get the result set of the queries.
+     *
+     * @return the result set
+     */
+    StubResultSet getStubResultSet() {
+        return mResultSet;
+    }
+
+    @Override
+    public ResultSet executeQuery(final String sql) throws SQLException {
+        return query();
+    }
+
+    @Override
+    public boolean execute(final String sql) throws SQLException {
+        query();
+        return true;
+    }
+
+    @Override
+    public int executeUpdate(final String sql) throws SQLException {
+        return update();
+    }
+
+    @Override
+    public void addBatch(final String sql) throws SQLException {
+        batch();
+    }
+
+    @Override
+    public void clearBatch() {
+        mBatchCount = 0;
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        execution();
+        final int[] result = new int[mBatchCount];
+        Arrays.fill(result, 1);
+        mBatchCount = 0;
+        return result;
+    }
+
+    @Override
+    public ResultSet getResultSet() {
+        return mResultSet.isClosed() ? null : mResultSet;
+    }
+
+    @Override
+    public int getUpdateCount() {
+        return -1;
+    }
+
+    @Override
+    public boolean getMoreResults() {
+        mResultSet.close();
+        return false;
+    }
+
+    @Override
+    public Connection getConnection() {
+        return mConnection;
+    }
+
+    @Override
+    public void close() {
+        mResultSet.close();
+        mClosed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return mClosed;
+    }
+
+    @Override
+    public int getFetchSize() {
+        return mFetchSize;
+    }
+
+    @Override
+    public void setFetchSize(final int rows) {
+        mFetchSize = rows;
+    }
+
+    @Override
+    public int getQueryTimeout() {
+        return mQueryTimeout;
+    }
+
+    @Override
+    public void setQueryTimeout(final int seconds) {
+        mQueryTimeout = seconds;
+    }
+
+    @Override
+    public int getMaxRows() {
+        return mMaxRows;
+    }
+
+    @Override
+    public void setMaxRows(final int max) {
+        mMaxRows = max;
+    }
+
+    @Override
+    public void setEscapeProcessing(final boolean enable) {
+        // ignored
+    }
+
+    @Override
+    public int getResultSetType() {
+        return ResultSet.TYPE_FORWARD_ONLY;
+    }
+
+    @Override
+    public int getResultSetConcurrency() {
+        return ResultSet.CONCUR_READ_ONLY;
+    }
+
+    @Override
+    public SQLWarning getWarnings() {
+        return null;
+    }
+
+    @Override
+    public void clearWarnings() {
+        // no warnings
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("not a wrapper for " + iface.getName());
+    }
+}